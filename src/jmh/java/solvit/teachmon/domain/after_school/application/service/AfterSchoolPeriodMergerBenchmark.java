@@ -0,0 +1,80 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import org.openjdk.jmh.annotations.*;
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolByTeacherResponseDto;
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolResponseDto;
+import solvit.teachmon.domain.after_school.presentation.dto.response.StudentInfo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 연속 교시 방과후 병합 비용
+ * byTeacher: 교사 한 명의 방과후 목록 병합 (mergeContinuousPeriods)
+ * search: 방과후 검색 결과 병합 (mergeContinuousPeriodsForSearch), 수업마다 학생 studentCount 명
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AfterSchoolPeriodMergerBenchmark {
+    private static final List<WeekDay> WEEK_DAYS = List.of(WeekDay.MON, WeekDay.TUE, WeekDay.WED, WeekDay.THU);
+
+    @Param({"20", "200"})
+    private int afterSchoolCount;
+
+    @Param({"15"})
+    private int studentCount;
+
+    private List<AfterSchoolByTeacherResponseDto> byTeacher;
+    private List<AfterSchoolResponseDto> search;
+
+    @Setup
+    public void setUp() {
+        byTeacher = new ArrayList<>();
+        search = new ArrayList<>();
+        // 같은 수업을 8~9교시, 10~11교시에 연달아 여는 경우가 절반
+        for (int i = 0; i < afterSchoolCount; i++) {
+            WeekDay weekDay = WEEK_DAYS.get(i % WEEK_DAYS.size());
+            SchoolPeriod period = i % 2 == 0 ? SchoolPeriod.EIGHT_AND_NINE_PERIOD : SchoolPeriod.TEN_AND_ELEVEN_PERIOD;
+            int lecture = i / 2;
+
+            byTeacher.add(new AfterSchoolByTeacherResponseDto(
+                    (long) i,
+                    weekDay.toKorean(),
+                    period.getPeriod(),
+                    "방과후" + lecture,
+                    new AfterSchoolByTeacherResponseDto.PlaceInfo((long) lecture, "실습실" + lecture),
+                    0
+            ));
+            search.add(new AfterSchoolResponseDto(
+                    String.valueOf(i),
+                    weekDay.toKorean(),
+                    period.getPeriod(),
+                    "방과후" + lecture,
+                    new AfterSchoolResponseDto.TeacherInfo((long) lecture, "선생님" + lecture),
+                    new AfterSchoolResponseDto.PlaceInfo((long) lecture, "실습실" + lecture),
+                    createStudents(lecture)
+            ));
+        }
+    }
+
+    @Benchmark
+    public List<AfterSchoolByTeacherResponseDto> byTeacher() {
+        return AfterSchoolPeriodMerger.mergeContinuousPeriods(byTeacher);
+    }
+
+    @Benchmark
+    public List<AfterSchoolResponseDto> search() {
+        return AfterSchoolPeriodMerger.mergeContinuousPeriodsForSearch(search);
+    }
+
+    private List<StudentInfo> createStudents(int lecture) {
+        return IntStream.range(0, studentCount)
+                .mapToObj(i -> new StudentInfo((long) lecture * 100 + i, 1101 + i, "학생" + i))
+                .toList();
+    }
+}
@@ -0,0 +1,73 @@
+package solvit.teachmon.domain.management.student.application.search;
+
+import org.openjdk.jmh.annotations.*;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.global.entity.BaseEntity;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 검색 비용 (한 학년도 전교생 기준)
+ * name: 이름 일부 검색, number: 학번 검색, numberWithName: "1103이름" 형태 검색
+ * build: 학생 변경 후 스냅샷을 다시 만드는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentSearchSnapshotBenchmark {
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+    private static final String[] FIRST_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "지민"};
+
+    private List<StudentEntity> students;
+    private StudentSearchSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Field idField = BaseEntity.class.getDeclaredField("id");
+        idField.setAccessible(true);
+
+        // 3개 학년 x 4개 반 x 20명
+        students = new ArrayList<>();
+        long id = 1;
+        for (int grade = 1; grade <= 3; grade++) {
+            for (int classNumber = 1; classNumber <= 4; classNumber++) {
+                for (int number = 1; number <= 20; number++) {
+                    String name = LAST_NAMES[(int) (id % LAST_NAMES.length)] + FIRST_NAMES[(int) (id / LAST_NAMES.length % FIRST_NAMES.length)];
+                    StudentEntity student = StudentEntity.builder()
+                            .year(2026)
+                            .grade(grade)
+                            .classNumber(classNumber)
+                            .number(number)
+                            .name(name)
+                            .build();
+                    idField.set(student, id++);
+                    students.add(student);
+                }
+            }
+        }
+        snapshot = StudentSearchSnapshot.from(students);
+    }
+
+    @Benchmark
+    public List<Long> name() {
+        return snapshot.search("민준");
+    }
+
+    @Benchmark
+    public List<Long> number() {
+        return snapshot.search("2-3-15");
+    }
+
+    @Benchmark
+    public List<Long> numberWithName() {
+        return snapshot.search("1103이");
+    }
+
+    @Benchmark
+    public StudentSearchSnapshot build() {
+        return StudentSearchSnapshot.from(students);
+    }
+}
@@ -0,0 +1,87 @@
+package solvit.teachmon.domain.student_schedule.application.mapper;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.dto.PeriodScheduleDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
+import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.presentation.dto.response.ClassStudentScheduleResponse;
+import solvit.teachmon.domain.student_schedule.presentation.dto.response.HistoryStudentScheduleResponse;
+import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStateResponse;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 스케줄 응답 매핑 비용 (MapStruct 생성 구현체)
+ * classResponse: 한 반 학생들의 한 교시 스케줄 응답
+ * history: 학생 한 명의 하루 교시별 이력 응답
+ * placeStates: 층별 장소 점유 응답
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentScheduleMapperBenchmark {
+    private static final ScheduleType[] TYPES = ScheduleType.values();
+
+    private StudentScheduleMapper studentScheduleMapper;
+    private PlaceStudentScheduleMapper placeStudentScheduleMapper;
+
+    private List<StudentScheduleDto> classSchedules;
+    private StudentEntity student;
+    private List<PeriodScheduleDto> periodSchedules;
+    private List<PlaceOccupancyDto> occupancies;
+
+    @Setup
+    public void setUp() {
+        studentScheduleMapper = Mappers.getMapper(StudentScheduleMapper.class);
+        placeStudentScheduleMapper = Mappers.getMapper(PlaceStudentScheduleMapper.class);
+
+        LocalDate day = LocalDate.of(2026, 3, 4);
+        classSchedules = new ArrayList<>();
+        for (int number = 1; number <= 20; number++) {
+            classSchedules.add(new StudentScheduleDto(
+                    (long) number, 1, 1, number, "학생" + number,
+                    day, SchoolPeriod.SEVEN_PERIOD, (long) number, TYPES[number % TYPES.length]
+            ));
+        }
+
+        student = StudentEntity.builder()
+                .year(2026)
+                .grade(1)
+                .classNumber(1)
+                .number(3)
+                .name("김학생")
+                .build();
+        periodSchedules = new ArrayList<>();
+        SchoolPeriod[] periods = SchoolPeriod.values();
+        for (int i = 0; i < periods.length; i++) {
+            periodSchedules.add(new PeriodScheduleDto((long) i, periods[i], TYPES[i % TYPES.length]));
+        }
+
+        occupancies = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            occupancies.add(new PlaceOccupancyDto((long) i, "장소" + i, i % 4 + 1, TYPES[i % TYPES.length], (long) i));
+        }
+    }
+
+    @Benchmark
+    public ClassStudentScheduleResponse classResponse() {
+        return studentScheduleMapper.toResponse(1, classSchedules);
+    }
+
+    @Benchmark
+    public HistoryStudentScheduleResponse history() {
+        return studentScheduleMapper.toHistoryResponse(student, periodSchedules);
+    }
+
+    @Benchmark
+    public List<PlaceStateResponse> placeStates() {
+        return placeStudentScheduleMapper.toPlaceStateResponsesFromOccupancies(occupancies);
+    }
+}
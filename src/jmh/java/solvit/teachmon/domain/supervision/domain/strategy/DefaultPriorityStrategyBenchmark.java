@@ -0,0 +1,65 @@
+package solvit.teachmon.domain.supervision.domain.strategy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동 배정 한 달치 우선순위 계산 비용
+ * 한 달의 평일마다 전체 교사 우선순위를 한 번씩 계산한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DefaultPriorityStrategyBenchmark {
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 3, 1);
+
+    @Param({"60"})
+    private int teacherCount;
+
+    private DefaultPriorityStrategy strategy;
+    private List<TeacherSupervisionInfo> teachers;
+    private List<LocalDate> days;
+
+    @Setup
+    public void setUp() {
+        strategy = new DefaultPriorityStrategy();
+
+        teachers = new ArrayList<>();
+        for (int i = 0; i < teacherCount; i++) {
+            // 다섯 명 중 한 명은 금요일 금지
+            List<WeekDay> banDays = i % 5 == 0 ? List.of(WeekDay.FRI) : List.of();
+            teachers.add(TeacherSupervisionInfo.builder()
+                    .teacherId((long) i)
+                    .teacherName("선생님" + i)
+                    .banDayMask(TeacherSupervisionInfo.toBanDayMask(banDays))
+                    .lastSupervisionDate(i % 7 == 0 ? null : MONTH_START.minusDays(i % 30))
+                    .totalSupervisionCount(i % 12)
+                    .sevenPeriodCount(i % 4)
+                    .eightElevenPeriodCount(i % 8)
+                    .supervisionCounts(Map.of(SupervisionType.SELF_STUDY_SUPERVISION, i % 8))
+                    .build());
+        }
+
+        days = MONTH_START.datesUntil(MONTH_START.plusMonths(1))
+                .filter(day -> day.getDayOfWeek().getValue() <= 5)
+                .toList();
+    }
+
+    @Benchmark
+    public void month(Blackhole blackhole) {
+        for (LocalDate day : days) {
+            for (TeacherSupervisionInfo teacher : teachers) {
+                blackhole.consume(strategy.calculatePriority(teacher, day));
+            }
+        }
+    }
+}
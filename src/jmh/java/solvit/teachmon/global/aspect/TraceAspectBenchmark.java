@@ -0,0 +1,101 @@
+package solvit.teachmon.global.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.Pointcut;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.global.annotation.Trace;
+import solvit.teachmon.global.properties.TraceProperties;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Trace 계측 비용 비교
+ * legacy: 매 호출마다 인자/결과를 toString 해서 INFO 로그 (기존 LoggingAspect)
+ * timerOnly: 샘플링을 끈 현재 LoggingAspect (타이머만 기록)
+ * sampled: 1% 샘플링한 현재 LoggingAspect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceAspectBenchmark {
+    private TraceTarget noAspect;
+    private TraceTarget legacy;
+    private TraceTarget timerOnly;
+    private TraceTarget sampled;
+    private TeacherEntity teacher;
+
+    @Setup
+    public void setUp() {
+        noAspect = new TraceTarget();
+        legacy = proxy(new LegacyLoggingAspect());
+        timerOnly = proxy(new LoggingAspect(new SimpleMeterRegistry(), new TraceProperties(0, 200)));
+        sampled = proxy(new LoggingAspect(new SimpleMeterRegistry(), new TraceProperties(0.01, 200)));
+        teacher = TeacherEntity.builder()
+                .name("김선생")
+                .mail("kim@teacher.com")
+                .profile("수학 선생님")
+                .providerId("google-12345")
+                .oAuth2Type(OAuth2Type.GOOGLE)
+                .build();
+    }
+
+    @Benchmark
+    public String baseline() {
+        return noAspect.issue("kim@teacher.com", teacher);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacy.issue("kim@teacher.com", teacher);
+    }
+
+    @Benchmark
+    public String timerOnly() {
+        return timerOnly.issue("kim@teacher.com", teacher);
+    }
+
+    @Benchmark
+    public String sampled() {
+        return sampled.issue("kim@teacher.com", teacher);
+    }
+
+    private TraceTarget proxy(Object aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TraceTarget());
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    @Trace
+    public static class TraceTarget {
+        public String issue(String mail, TeacherEntity teacher) {
+            return mail + ":" + teacher.getName();
+        }
+    }
+
+    // 변경 전 LoggingAspect 동작
+    @Slf4j
+    @Aspect
+    public static class LegacyLoggingAspect {
+        @Pointcut("@within(solvit.teachmon.global.annotation.Trace)")
+        public void tracePointcut() {}
+
+        @Before("tracePointcut()")
+        public void logBefore(JoinPoint joinPoint) {
+            log.info("[TRACE][{}][START] arguments={}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+        }
+
+        @AfterReturning(pointcut = "tracePointcut()", returning = "result")
+        public void logAfterReturning(JoinPoint joinPoint, Object result) {
+            log.info("[TRACE][{}][END] result={}", joinPoint.getSignature().getName(), result);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package solvit.teachmon.global.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시각 → 교시 변환 비용
+ * 첫 교시, 마지막 교시, 어느 교시에도 속하지 않는 시각(null) 을 나누어 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SchoolPeriodBenchmark {
+    private LocalTime morning;
+    private LocalTime night;
+    private LocalTime midnight;
+
+    @Setup
+    public void setUp() {
+        morning = LocalTime.of(8, 40);
+        night = LocalTime.of(20, 30);
+        midnight = LocalTime.of(23, 59, 59, 500_000_000);
+    }
+
+    @Benchmark
+    public SchoolPeriod firstPeriod() {
+        return SchoolPeriod.fromTime(morning);
+    }
+
+    @Benchmark
+    public SchoolPeriod lastPeriod() {
+        return SchoolPeriod.fromTime(night);
+    }
+
+    @Benchmark
+    public SchoolPeriod noPeriod() {
+        return SchoolPeriod.fromTime(midnight);
+    }
+}
@@ -0,0 +1,43 @@
+package solvit.teachmon.global.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import solvit.teachmon.domain.auth.infrastructure.jwt.JwtManager;
+import solvit.teachmon.global.constants.JwtConstants;
+import solvit.teachmon.global.properties.JwtProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행하는 JWT 검증 비용
+ * parseClaims: 서명 검증 + 발급자 확인
+ * authorizationHeader: Authorization 헤더에서 토큰을 꺼내 메일까지 읽는 필터 경로 전체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtValidatorBenchmark {
+    private static final String SECRET = "teachmon-benchmark-secret-key-must-be-at-least-32-bytes";
+
+    private JwtValidator jwtValidator;
+    private String token;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties(SECRET, 3_600_000L, 1_209_600_000L);
+        jwtValidator = new JwtValidator(jwtProperties);
+        // 토큰 발급에는 저장소가 필요 없다
+        token = new JwtManager(jwtProperties, null).createAccessToken("kim@teacher.com");
+        authorizationHeader = JwtConstants.AUTHORIZATION_HEADER_PREFIX + token;
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return jwtValidator.parseClaims(token);
+    }
+
+    @Benchmark
+    public String authorizationHeader() {
+        return jwtValidator.getMailFromAuthorizationHeader(authorizationHeader);
+    }
+}
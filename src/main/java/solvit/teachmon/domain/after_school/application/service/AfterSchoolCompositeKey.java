@@ -0,0 +1,33 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+/**
+ * 스프레드 시트 행과 기존 방과후를 매칭하는 키 (연도, 분기, 요일, 학년, 교시, 교사 메일, 장소, 이름)
+ */
+public record AfterSchoolCompositeKey(
+    Integer year,
+    Integer branch,
+    WeekDay weekDay,
+    Integer grade,
+    SchoolPeriod period,
+    String teacherMail,
+    String placeName,
+    String name
+) {
+
+    public static AfterSchoolCompositeKey from(AfterSchoolEntity afterSchool) {
+        return new AfterSchoolCompositeKey(
+            afterSchool.getYear(),
+            afterSchool.getBranch().getBranch(),
+            afterSchool.getWeekDay(),
+            afterSchool.getGrade(),
+            afterSchool.getPeriod(),
+            afterSchool.getTeacher().getMail(),
+            afterSchool.getPlace().getName(),
+            afterSchool.getName()
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Service;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolImportJobEntity;
+import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolImportJobRepository;
+import solvit.teachmon.domain.after_school.exception.AfterSchoolImportJobNotFoundException;
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolImportJobResponseDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 방과후 스프레드 시트 가져오기 작업
+ * 요청 스레드에서는 작업만 등록하고, 시트 조회 -> 전체 행 검증 -> 반영을 백그라운드에서 실행한다.
+ * 반영은 행 묶음마다 자체 트랜잭션으로 실행되며 진행 상황은 Redis 에 기록되어 조회할 수 있다.
+ * 가져오기는 모든 방과후를 종료시키므로 동시에 하나만 실행되도록 단일 스레드에서 순서대로 처리한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnBean(AfterSchoolSpreadSheetService.class)
+public class AfterSchoolImportJobService {
+    private static final int CHUNK_SIZE = 50;
+    private static final long JOB_TIME_TO_LIVE = 60L * 60 * 24;
+
+    private final AfterSchoolSpreadSheetService afterSchoolSpreadSheetService;
+    private final AfterSchoolImportJobRepository afterSchoolImportJobRepository;
+    private final Executor executor;
+
+    @Autowired
+    public AfterSchoolImportJobService(AfterSchoolSpreadSheetService afterSchoolSpreadSheetService,
+                                       AfterSchoolImportJobRepository afterSchoolImportJobRepository) {
+        this(afterSchoolSpreadSheetService, afterSchoolImportJobRepository, Executors.newSingleThreadExecutor());
+    }
+
+    AfterSchoolImportJobService(AfterSchoolSpreadSheetService afterSchoolSpreadSheetService,
+                                AfterSchoolImportJobRepository afterSchoolImportJobRepository,
+                                Executor executor) {
+        this.afterSchoolSpreadSheetService = afterSchoolSpreadSheetService;
+        this.afterSchoolImportJobRepository = afterSchoolImportJobRepository;
+        this.executor = executor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public AfterSchoolImportJobResponseDto start(String spreadSheetId) {
+        AfterSchoolImportJobEntity job = AfterSchoolImportJobEntity.builder()
+                .jobId(UUID.randomUUID().toString())
+                .spreadSheetId(spreadSheetId)
+                .timeToLive(JOB_TIME_TO_LIVE)
+                .build();
+        afterSchoolImportJobRepository.save(job);
+
+        // 작업 스레드가 상태를 바꾸기 전에 응답을 만든다
+        AfterSchoolImportJobResponseDto response = toResponse(job);
+        executor.execute(() -> run(job));
+        return response;
+    }
+
+    public AfterSchoolImportJobResponseDto getJob(String jobId) {
+        return afterSchoolImportJobRepository.findById(jobId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new AfterSchoolImportJobNotFoundException(jobId));
+    }
+
+    private void run(AfterSchoolImportJobEntity job) {
+        try {
+            job.fetching();
+            afterSchoolImportJobRepository.save(job);
+            List<List<Object>> rows = afterSchoolSpreadSheetService.loadSheetRows(job.getSpreadSheetId());
+
+            // 반영 중 실패할 수 있는 조건은 모두 여기서 검증하므로, 잘못된 시트는 기존 방과후를 종료하기 전에 걸러진다
+            job.validating(rows.size());
+            afterSchoolImportJobRepository.save(job);
+            ReferenceDataCache cache = afterSchoolSpreadSheetService.loadReferenceData();
+            afterSchoolSpreadSheetService.validateRows(rows, cache);
+
+            job.applying();
+            afterSchoolImportJobRepository.save(job);
+            Map<AfterSchoolCompositeKey, Long> afterSchoolIndex = afterSchoolSpreadSheetService.endAllAfterSchools();
+
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                int to = Math.min(from + CHUNK_SIZE, rows.size());
+                afterSchoolSpreadSheetService.applyRows(rows.subList(from, to), from, afterSchoolIndex, cache);
+
+                job.progress(to);
+                afterSchoolImportJobRepository.save(job);
+            }
+
+            job.complete();
+        }
+        catch (Exception e) {
+            log.warn("방과후 스프레드 시트 가져오기 실패: jobId={}, spreadSheetId={}", job.getJobId(), job.getSpreadSheetId(), e);
+            job.fail(e.getMessage());
+        }
+        afterSchoolImportJobRepository.save(job);
+    }
+
+    private AfterSchoolImportJobResponseDto toResponse(AfterSchoolImportJobEntity job) {
+        return AfterSchoolImportJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolByTeacherResponseDto;
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolResponseDto;
+import solvit.teachmon.domain.after_school.presentation.dto.response.StudentInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 요일의 8~9교시, 10~11교시 방과후를 8~11교시 하나로 합친다
+ * 상태가 없으므로 AfterSchoolService 응답 변환과 벤치마크에서 그대로 호출한다.
+ */
+final class AfterSchoolPeriodMerger {
+
+    private AfterSchoolPeriodMerger() {
+    }
+
+    static List<AfterSchoolByTeacherResponseDto> mergeContinuousPeriods(List<AfterSchoolByTeacherResponseDto> responseList) {
+        Map<String, List<AfterSchoolByTeacherResponseDto>> groupedByWeekDay = responseList.stream()
+                .collect(Collectors.groupingBy(AfterSchoolByTeacherResponseDto::weekDay));
+                
+        List<AfterSchoolByTeacherResponseDto> mergedList = new ArrayList<>();
+        
+        // 원본 순서를 유지하기 위해 원본 리스트를 순회
+        for (AfterSchoolByTeacherResponseDto dto : responseList) {
+            String weekDay = dto.weekDay();
+            List<AfterSchoolByTeacherResponseDto> dayGroup = groupedByWeekDay.get(weekDay);
+            
+            // 이미 처리한 요일은 건너뛰기
+            if (dayGroup == null) continue;
+            
+            boolean hasEightNine = dayGroup.stream().anyMatch(d -> "8~9교시".equals(d.period()));
+            boolean hasTenEleven = dayGroup.stream().anyMatch(d -> "10~11교시".equals(d.period()));
+            
+            if (hasEightNine && hasTenEleven) {
+                // 8~9교시와 10~11교시를 찾아서 8~11교시로 합치기
+                AfterSchoolByTeacherResponseDto eightNineDto = dayGroup.stream()
+                        .filter(d -> "8~9교시".equals(d.period()))
+                        .findFirst()
+                        .orElse(null);
+                
+                AfterSchoolByTeacherResponseDto tenElevenDto = dayGroup.stream()
+                        .filter(d -> "10~11교시".equals(d.period()))
+                        .findFirst()
+                        .orElse(null);
+                
+                if (eightNineDto != null && tenElevenDto != null) {
+                    // 8~11교시로 합친 DTO 생성 (8~9교시 기준으로)
+                    AfterSchoolByTeacherResponseDto mergedDto = new AfterSchoolByTeacherResponseDto(
+                            eightNineDto.id(),
+                            eightNineDto.weekDay(),
+                            "8~11교시",
+                            eightNineDto.name(),
+                            eightNineDto.place(),
+                            eightNineDto.reinforcementCount() + tenElevenDto.reinforcementCount()
+                    );
+                    
+                    mergedList.add(mergedDto);
+                    
+                    // 나머지 교시들 추가 (8~9교시, 10~11교시 제외)
+                    dayGroup.stream()
+                            .filter(d -> !"8~9교시".equals(d.period()) && !"10~11교시".equals(d.period()))
+                            .forEach(mergedList::add);
+                } else {
+                    mergedList.addAll(dayGroup);
+                }
+            } else {
+                // 연속 교시가 아니면 원본대로 추가
+                mergedList.add(dto);
+            }
+            
+            // 처리한 요일을 맵에서 제거하여 중복 처리 방지
+            groupedByWeekDay.remove(weekDay);
+        }
+        
+        return mergedList;
+    }
+    
+    static List<AfterSchoolResponseDto> mergeContinuousPeriodsForSearch(List<AfterSchoolResponseDto> responseList) {
+        Map<String, List<AfterSchoolResponseDto>> groupedByWeekDay = responseList.stream()
+                .collect(Collectors.groupingBy(AfterSchoolResponseDto::weekDay));
+                
+        List<AfterSchoolResponseDto> mergedList = new ArrayList<>();
+        
+        for (Map.Entry<String, List<AfterSchoolResponseDto>> entry : groupedByWeekDay.entrySet()) {
+            List<AfterSchoolResponseDto> dayGroup = entry.getValue();
+            List<AfterSchoolResponseDto> processedDtos = new ArrayList<>();
+            
+            // 각 방과후별로(이름+선생님+장소) 8~9교시와 10~11교시 쌍 찾기
+            for (AfterSchoolResponseDto dto : dayGroup) {
+                if (processedDtos.contains(dto)) continue;
+                
+                if ("8~9교시".equals(dto.period())) {
+                    AfterSchoolResponseDto pair = findMatchingPeriod(dto, "10~11교시", dayGroup, processedDtos);
+                    if (pair != null) {
+                        mergedList.add(createMergedDto(dto, pair, dto));
+                        processedDtos.add(dto);
+                        processedDtos.add(pair);
+                    } else {
+                        mergedList.add(dto);
+                        processedDtos.add(dto);
+                    }
+                } else if ("10~11교시".equals(dto.period())) {
+                    AfterSchoolResponseDto pair = findMatchingPeriod(dto, "8~9교시", dayGroup, processedDtos);
+                    if (pair != null) {
+                        mergedList.add(createMergedDto(pair, dto, pair));
+                        processedDtos.add(dto);
+                        processedDtos.add(pair);
+                    } else {
+                        mergedList.add(dto);
+                        processedDtos.add(dto);
+                    }
+                } else {
+                    // 다른 교시는 원본대로 추가
+                    mergedList.add(dto);
+                    processedDtos.add(dto);
+                }
+            }
+        }
+        
+        return mergedList;
+    }
+    
+    private static AfterSchoolResponseDto findMatchingPeriod(AfterSchoolResponseDto dto, String targetPeriod, 
+                                                            List<AfterSchoolResponseDto> dayGroup, 
+                                                            List<AfterSchoolResponseDto> processedDtos) {
+        return dayGroup.stream()
+                .filter(d -> targetPeriod.equals(d.period()) &&
+                           d.name().equals(dto.name()) &&
+                           d.teacher().id().equals(dto.teacher().id()) &&
+                           d.place().id().equals(dto.place().id()) &&
+                           hasSameStudents(d.students(), dto.students()) &&
+                           !processedDtos.contains(d))
+                .findFirst()
+                .orElse(null);
+    }
+    
+    private static boolean hasSameStudents(List<StudentInfo> students1, List<StudentInfo> students2) {
+        if (students1.size() != students2.size()) {
+            return false;
+        }
+        
+        // 학생 ID로 비교 (순서는 상관없음)
+        List<Long> ids1 = students1.stream()
+                .map(StudentInfo::id)
+                .sorted()
+                .toList();
+        List<Long> ids2 = students2.stream()
+                .map(StudentInfo::id)
+                .sorted()
+                .toList();
+                
+        return ids1.equals(ids2);
+    }
+    
+    private static AfterSchoolResponseDto createMergedDto(AfterSchoolResponseDto eightNineDto, 
+                                                         AfterSchoolResponseDto tenElevenDto, 
+                                                         AfterSchoolResponseDto baseDto) {
+        List<StudentInfo> mergedStudents = new ArrayList<>(eightNineDto.students());
+        tenElevenDto.students().forEach(student -> {
+            if (!mergedStudents.contains(student)) {
+                mergedStudents.add(student);
+            }
+        });
+        
+        // 두 ID를 "ID1,ID2" 형태로 합치기
+        String mergedId = eightNineDto.id() + "," + tenElevenDto.id();
+        
+        return new AfterSchoolResponseDto(
+                mergedId,
+                baseDto.weekDay(),
+                "8~11교시",
+                baseDto.name(),
+                baseDto.teacher(),
+                baseDto.place(),
+                mergedStudents
+        );
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import solvit.teachmon.domain.after_school.domain.enums.AfterSchoolSpreadSheetsColumn;
 import solvit.teachmon.domain.after_school.exception.AfterSchoolNameNullException;
+import solvit.teachmon.domain.after_school.exception.BranchNotExistException;
 import solvit.teachmon.domain.after_school.exception.BranchNullException;
 import solvit.teachmon.domain.after_school.exception.BranchRangeException;
 import solvit.teachmon.domain.after_school.exception.GradeNullException;
@@ -15,6 +16,8 @@ import solvit.teachmon.domain.after_school.exception.PlaceNullException;
 import solvit.teachmon.domain.after_school.exception.RowSizeMismatchException;
 import solvit.teachmon.domain.after_school.exception.StudentDataFormatException;
 import solvit.teachmon.domain.after_school.exception.StudentDataNullException;
+import solvit.teachmon.domain.after_school.exception.StudentDuplicatedException;
+import solvit.teachmon.domain.after_school.exception.StudentGradeMismatchException;
 import solvit.teachmon.domain.after_school.exception.StudentNotExistException;
 import solvit.teachmon.domain.after_school.exception.TeacherNotExistException;
 import solvit.teachmon.domain.after_school.exception.TeacherNullException;
@@ -22,9 +25,17 @@ import solvit.teachmon.domain.after_school.exception.WeekDayInvalidException;
 import solvit.teachmon.domain.after_school.exception.WeekDayNullException;
 import solvit.teachmon.domain.after_school.exception.YearInvalidException;
 import solvit.teachmon.domain.after_school.exception.YearNullException;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 스프레드 시트 행 검증
+ * 반영은 기존 방과후를 모두 종료한 뒤 행 묶음 단위로 나눠 커밋되므로,
+ * 반영 중 발생할 수 있는 오류(분기 미등록, 학생 중복, 학년 불일치 등)는 모두 여기서 먼저 걸러낸다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AfterSchoolRowValidator {
@@ -33,6 +44,7 @@ public class AfterSchoolRowValidator {
         validateColumnCount(row, rowNum);
         validateYear(row, rowNum);
         validateBranch(row, rowNum);
+        validateBranchExists(row, rowNum, cache);
         validateWeekday(row, rowNum);
         validateGrade(row, rowNum);
         validatePeriod(row, rowNum);
@@ -85,6 +97,15 @@ public class AfterSchoolRowValidator {
         }
     }
 
+    private void validateBranchExists(List<Object> row, long rowNum, ReferenceDataCache cache) {
+        Integer year = Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.YEAR.getIndex()).toString().trim());
+        Integer branch = Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.BRANCH.getIndex()).toString().trim());
+
+        if (!cache.hasBranch(year, branch)) {
+            throw new BranchNotExistException(rowNum, year, branch);
+        }
+    }
+
     private void validateWeekday(List<Object> row, long rowNum) {
         Object weekdayObj = row.get(AfterSchoolSpreadSheetsColumn.WEEKDAY.getIndex());
         
@@ -182,6 +203,9 @@ public class AfterSchoolRowValidator {
             throw new StudentDataFormatException(rowNum, studentData);
         }
         
+        Integer grade = Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.GRADE.getIndex()).toString().trim());
+        Set<Integer> studentNumbers = new HashSet<>();
+
         for (int i = 0; i < tokens.length; i += 2) {
             try {
                 long studentNumberLong = Long.parseLong(tokens[i]);
@@ -191,6 +215,14 @@ public class AfterSchoolRowValidator {
                 if (!cache.hasStudent(studentNumber)) {
                     throw new StudentNotExistException(rowNum, studentNumberLong, studentName);
                 }
+                if (!studentNumbers.add(studentNumber)) {
+                    throw new StudentDuplicatedException(rowNum, studentNumberLong, studentName);
+                }
+
+                StudentEntity student = cache.getStudent(studentNumber);
+                if (!student.getGrade().equals(grade)) {
+                    throw new StudentGradeMismatchException(rowNum, studentNumberLong, student.getGrade(), grade);
+                }
             } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
                 throw new StudentDataFormatException(rowNum, studentData);
             }
@@ -12,6 +12,8 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.*;
 import java.time.temporal.TemporalAdjusters;
@@ -23,6 +25,8 @@ public class AfterSchoolScheduleService {
     private final AfterSchoolScheduleRepository afterSchoolScheduleRepository;
     private final ScheduleRepository scheduleRepository;
     private final StudentScheduleRepository studentScheduleRepository;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
+    private final StackOrderAllocator stackOrderAllocator;
 
     public void save(List<StudentAssignmentResultVo> studentAssignmentResultVo) {
         studentAssignmentResultVo.forEach((assignmentResultVo) -> {
@@ -53,31 +57,27 @@ public class AfterSchoolScheduleService {
                     afterSchool.getPeriod()
             );
             List<ScheduleEntity> studentSchedules = saveSchedule(studentScheduleEntities);
-            for (ScheduleEntity scheduleEntity : studentSchedules) {
-                createAfterSchoolSchedule(scheduleEntity, afterSchool);
-            }
+            List<AfterSchoolScheduleEntity> afterSchoolSchedules = studentSchedules.stream()
+                    .map(scheduleEntity -> createAfterSchoolSchedule(scheduleEntity, afterSchool))
+                    .toList();
+            afterSchoolScheduleRepository.saveAll(afterSchoolSchedules);
         });
     }
 
-    private void createAfterSchoolSchedule(
+    private AfterSchoolScheduleEntity createAfterSchoolSchedule(
             ScheduleEntity schedule,
             AfterSchoolEntity afterSchool
     ) {
-        AfterSchoolScheduleEntity afterSchoolSchedule = AfterSchoolScheduleEntity.builder()
+        return AfterSchoolScheduleEntity.builder()
                 .schedule(schedule)
                 .afterSchool(afterSchool)
                 .build();
-
-        afterSchoolScheduleRepository.save(afterSchoolSchedule);
     }
 
     private List<ScheduleEntity> saveSchedule(List<StudentScheduleEntity> studentScheduleEntities) {
-        return studentScheduleEntities.stream().map((studentScheduleEntity) -> {
-            Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentScheduleEntity.getId());
-            ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentScheduleEntity, lastStackOrder, ScheduleType.AFTER_SCHOOL);
-            scheduleRepository.save(newSchedule);
-            return newSchedule;
-        }).toList();
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentScheduleEntities, ScheduleType.AFTER_SCHOOL);
+        scheduleRepository.saveAll(newSchedules);
+        return newSchedules;
     }
 
     private boolean checkUpdatableSchedule() {
@@ -112,6 +112,8 @@ public class AfterSchoolScheduleService {
                 afterSchoolScheduleRepository.deleteByScheduleIds(scheduleIds);
                 // schedule 테이블의 레코드들을 삭제
                 scheduleRepository.deleteByIds(scheduleIds);
+                // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 현재 스케줄 갱신 대상 직접 등록
+                currentScheduleDomainService.markChanged(studentSchedules);
             }
         }
     }
@@ -12,12 +12,12 @@ import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolBusiness
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolReinforcementRepository;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolRepository;
 import solvit.teachmon.domain.after_school.domain.service.AfterSchoolStudentDomainService;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolReinforcementCountVo;
 import solvit.teachmon.domain.after_school.domain.vo.StudentAssignmentResultVo;
 import solvit.teachmon.domain.after_school.exception.AfterSchoolNotFoundException;
 import solvit.teachmon.domain.after_school.exception.AfterSchoolBusinessTripScheduleNotFoundException;
 import solvit.teachmon.domain.after_school.exception.PlaceAlreadyBookedException;
 import solvit.teachmon.domain.after_school.presentation.dto.response.*;
-import solvit.teachmon.domain.after_school.presentation.dto.response.StudentInfo;
 import solvit.teachmon.domain.management.teacher.domain.entity.SupervisionBanDayEntity;
 import solvit.teachmon.domain.management.teacher.domain.repository.SupervisionBanDayRepository;
 import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
@@ -39,6 +39,8 @@ import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEnti
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
@@ -72,6 +74,8 @@ public class AfterSchoolService {
     private final ScheduleRepository scheduleRepository;
     private final AfterSchoolScheduleService afterSchoolScheduleService;
     private final AfterSchoolScheduleRepository afterSchoolScheduleRepository;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
+    private final StackOrderAllocator stackOrderAllocator;
 
     @Transactional
     public void createAfterSchool(AfterSchoolCreateRequestDto requestDto) {
@@ -181,7 +185,7 @@ public class AfterSchoolService {
     @Transactional(readOnly = true)
     public List<AfterSchoolResponseDto> searchAfterSchools(AfterSchoolSearchRequestDto searchRequest) {
         List<AfterSchoolResponseDto> results = afterSchoolRepository.findAfterSchoolsByConditions(searchRequest);
-        return mergeContinuousPeriodsForSearch(results);
+        return AfterSchoolPeriodMerger.mergeContinuousPeriodsForSearch(results);
     }
 
     @Transactional(readOnly = true)
@@ -191,15 +195,11 @@ public class AfterSchoolService {
 
     public List<AfterSchoolByTeacherResponseDto> getAfterSchoolsByTeacherId(Long teacherId) {
         List<AfterSchoolEntity> afterSchools = afterSchoolRepository.findByTeacherIdWithRelations(teacherId);
+        Map<Long, Long> reinforcementCounts = countRecentReinforcements(afterSchools);
         
         List<AfterSchoolByTeacherResponseDto> responseList = afterSchools.stream()
                 .map(afterSchool -> {
-                    // 보강 횟수 계산
-                    int reinforcementCount = afterSchoolReinforcementRepository
-                            .findAllByChangeDayBetween(LocalDate.now().minusMonths(1), LocalDate.now().plusDays(1))
-                            .stream()
-                            .mapToInt(reinforcement -> reinforcement.getAfterSchool().getId().equals(afterSchool.getId()) ? 1 : 0)
-                            .sum();
+                    int reinforcementCount = reinforcementCounts.getOrDefault(afterSchool.getId(), 0L).intValue();
 
                     return new AfterSchoolByTeacherResponseDto(
                             afterSchool.getId(),
@@ -215,171 +215,27 @@ public class AfterSchoolService {
                 })
                 .collect(Collectors.toList());
                 
-        return mergeContinuousPeriods(responseList);
+        return AfterSchoolPeriodMerger.mergeContinuousPeriods(responseList);
     }
-    
-    private List<AfterSchoolByTeacherResponseDto> mergeContinuousPeriods(List<AfterSchoolByTeacherResponseDto> responseList) {
-        Map<String, List<AfterSchoolByTeacherResponseDto>> groupedByWeekDay = responseList.stream()
-                .collect(Collectors.groupingBy(AfterSchoolByTeacherResponseDto::weekDay));
-                
-        List<AfterSchoolByTeacherResponseDto> mergedList = new ArrayList<>();
-        
-        // 원본 순서를 유지하기 위해 원본 리스트를 순회
-        for (AfterSchoolByTeacherResponseDto dto : responseList) {
-            String weekDay = dto.weekDay();
-            List<AfterSchoolByTeacherResponseDto> dayGroup = groupedByWeekDay.get(weekDay);
-            
-            // 이미 처리한 요일은 건너뛰기
-            if (dayGroup == null) continue;
-            
-            boolean hasEightNine = dayGroup.stream().anyMatch(d -> "8~9교시".equals(d.period()));
-            boolean hasTenEleven = dayGroup.stream().anyMatch(d -> "10~11교시".equals(d.period()));
-            
-            if (hasEightNine && hasTenEleven) {
-                // 8~9교시와 10~11교시를 찾아서 8~11교시로 합치기
-                AfterSchoolByTeacherResponseDto eightNineDto = dayGroup.stream()
-                        .filter(d -> "8~9교시".equals(d.period()))
-                        .findFirst()
-                        .orElse(null);
-                
-                AfterSchoolByTeacherResponseDto tenElevenDto = dayGroup.stream()
-                        .filter(d -> "10~11교시".equals(d.period()))
-                        .findFirst()
-                        .orElse(null);
-                
-                if (eightNineDto != null && tenElevenDto != null) {
-                    // 8~11교시로 합친 DTO 생성 (8~9교시 기준으로)
-                    AfterSchoolByTeacherResponseDto mergedDto = new AfterSchoolByTeacherResponseDto(
-                            eightNineDto.id(),
-                            eightNineDto.weekDay(),
-                            "8~11교시",
-                            eightNineDto.name(),
-                            eightNineDto.place(),
-                            eightNineDto.reinforcementCount() + tenElevenDto.reinforcementCount()
-                    );
-                    
-                    mergedList.add(mergedDto);
-                    
-                    // 나머지 교시들 추가 (8~9교시, 10~11교시 제외)
-                    dayGroup.stream()
-                            .filter(d -> !"8~9교시".equals(d.period()) && !"10~11교시".equals(d.period()))
-                            .forEach(mergedList::add);
-                } else {
-                    mergedList.addAll(dayGroup);
-                }
-            } else {
-                // 연속 교시가 아니면 원본대로 추가
-                mergedList.add(dto);
-            }
-            
-            // 처리한 요일을 맵에서 제거하여 중복 처리 방지
-            groupedByWeekDay.remove(weekDay);
-        }
-        
-        return mergedList;
-    }
-    
-    private List<AfterSchoolResponseDto> mergeContinuousPeriodsForSearch(List<AfterSchoolResponseDto> responseList) {
-        Map<String, List<AfterSchoolResponseDto>> groupedByWeekDay = responseList.stream()
-                .collect(Collectors.groupingBy(AfterSchoolResponseDto::weekDay));
-                
-        List<AfterSchoolResponseDto> mergedList = new ArrayList<>();
-        
-        for (Map.Entry<String, List<AfterSchoolResponseDto>> entry : groupedByWeekDay.entrySet()) {
-            List<AfterSchoolResponseDto> dayGroup = entry.getValue();
-            List<AfterSchoolResponseDto> processedDtos = new ArrayList<>();
-            
-            // 각 방과후별로(이름+선생님+장소) 8~9교시와 10~11교시 쌍 찾기
-            for (AfterSchoolResponseDto dto : dayGroup) {
-                if (processedDtos.contains(dto)) continue;
-                
-                if ("8~9교시".equals(dto.period())) {
-                    AfterSchoolResponseDto pair = findMatchingPeriod(dto, "10~11교시", dayGroup, processedDtos);
-                    if (pair != null) {
-                        mergedList.add(createMergedDto(dto, pair, dto));
-                        processedDtos.add(dto);
-                        processedDtos.add(pair);
-                    } else {
-                        mergedList.add(dto);
-                        processedDtos.add(dto);
-                    }
-                } else if ("10~11교시".equals(dto.period())) {
-                    AfterSchoolResponseDto pair = findMatchingPeriod(dto, "8~9교시", dayGroup, processedDtos);
-                    if (pair != null) {
-                        mergedList.add(createMergedDto(pair, dto, pair));
-                        processedDtos.add(dto);
-                        processedDtos.add(pair);
-                    } else {
-                        mergedList.add(dto);
-                        processedDtos.add(dto);
-                    }
-                } else {
-                    // 다른 교시는 원본대로 추가
-                    mergedList.add(dto);
-                    processedDtos.add(dto);
-                }
-            }
-        }
-        
-        return mergedList;
-    }
-    
-    private AfterSchoolResponseDto findMatchingPeriod(AfterSchoolResponseDto dto, String targetPeriod, 
-                                                     List<AfterSchoolResponseDto> dayGroup, 
-                                                     List<AfterSchoolResponseDto> processedDtos) {
-        return dayGroup.stream()
-                .filter(d -> targetPeriod.equals(d.period()) &&
-                           d.name().equals(dto.name()) &&
-                           d.teacher().id().equals(dto.teacher().id()) &&
-                           d.place().id().equals(dto.place().id()) &&
-                           hasSameStudents(d.students(), dto.students()) &&
-                           !processedDtos.contains(d))
-                .findFirst()
-                .orElse(null);
-    }
-    
-    private boolean hasSameStudents(List<StudentInfo> students1, List<StudentInfo> students2) {
-        if (students1.size() != students2.size()) {
-            return false;
+
+    /**
+     * 최근 한 달간 방과후별 보강 횟수를 한 번의 집계 쿼리로 조회한다
+     */
+    private Map<Long, Long> countRecentReinforcements(List<AfterSchoolEntity> afterSchools) {
+        if (afterSchools.isEmpty()) {
+            return Map.of();
         }
-        
-        // 학생 ID로 비교 (순서는 상관없음)
-        List<Long> ids1 = students1.stream()
-                .map(StudentInfo::id)
-                .sorted()
-                .toList();
-        List<Long> ids2 = students2.stream()
-                .map(StudentInfo::id)
-                .sorted()
+
+        List<Long> afterSchoolIds = afterSchools.stream()
+                .map(AfterSchoolEntity::getId)
                 .toList();
-                
-        return ids1.equals(ids2);
+
+        return afterSchoolReinforcementRepository
+                .countByAfterSchoolIdsAndChangeDayBetween(afterSchoolIds, LocalDate.now().minusMonths(1), LocalDate.now().plusDays(1))
+                .stream()
+                .collect(Collectors.toMap(AfterSchoolReinforcementCountVo::afterSchoolId, AfterSchoolReinforcementCountVo::count));
     }
     
-    private AfterSchoolResponseDto createMergedDto(AfterSchoolResponseDto eightNineDto, 
-                                                  AfterSchoolResponseDto tenElevenDto, 
-                                                  AfterSchoolResponseDto baseDto) {
-        List<StudentInfo> mergedStudents = new ArrayList<>(eightNineDto.students());
-        tenElevenDto.students().forEach(student -> {
-            if (!mergedStudents.contains(student)) {
-                mergedStudents.add(student);
-            }
-        });
-        
-        // 두 ID를 "ID1,ID2" 형태로 합치기
-        String mergedId = eightNineDto.id() + "," + tenElevenDto.id();
-        
-        return new AfterSchoolResponseDto(
-                mergedId,
-                baseDto.weekDay(),
-                "8~11교시",
-                baseDto.name(),
-                baseDto.teacher(),
-                baseDto.place(),
-                mergedStudents
-        );
-    }
-
     @Transactional(readOnly = true)
     public List<AfterSchoolTodayResponseDto> searchMyTodayAfterSchoolsToday(Long teacherId) {
         return afterSchoolRepository.findMyTodayAfterSchoolsByTeacherId(teacherId);
@@ -555,6 +411,8 @@ public class AfterSchoolService {
             afterSchoolScheduleRepository.deleteByScheduleIds(scheduleIds);
             // 마지막으로 schedule 테이블의 레코드들을 삭제
             scheduleRepository.deleteByIds(scheduleIds);
+            // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 현재 스케줄 갱신 대상 직접 등록
+            currentScheduleDomainService.markChanged(afterSchoolSchedules);
             log.info("스케줄 삭제 완료");
         } else {
             log.info("삭제할 방과후 타입 스케줄이 없음");
@@ -614,18 +472,10 @@ public class AfterSchoolService {
         log.info("StudentSchedule 저장 완료");
 
         // N+1 문제 해결: Schedule 들을 일괄 생성
-        List<ScheduleEntity> reinforcementSchedules = reinforcementStudentSchedules.stream()
-                .map(studentSchedule -> {
-                    Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-                    log.debug("학생 {}, StudentSchedule ID: {}, 마지막 stackOrder: {}", 
-                            studentSchedule.getStudent().getName(), studentSchedule.getId(), lastStackOrder);
-                    return ScheduleEntity.createNewStudentSchedule(
-                            studentSchedule,
-                            lastStackOrder,
-                            ScheduleType.AFTER_SCHOOL_REINFORCEMENT
-                    );
-                })
-                .toList();
+        List<ScheduleEntity> reinforcementSchedules = stackOrderAllocator.stackSchedules(
+                reinforcementStudentSchedules,
+                ScheduleType.AFTER_SCHOOL_REINFORCEMENT
+        );
 
         log.info("생성할 보강 Schedule 수: {}", reinforcementSchedules.size());
         
@@ -0,0 +1,98 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolSheetRowVo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 마지막으로 flush 한 시트 내용과 현재 방과후 행의 차이
+ * 삭제된 행 자리는 마지막 행을 옮겨 채워 시트 중간에 빈 행이 생기지 않게 하고,
+ * 내용이 바뀐 행, 옮겨진 행, 추가된 행만 다시 기록한다. 행 번호는 헤더를 제외한 0부터 시작한다.
+ *
+ * @param rowAfterSchoolIds 반영 후 행별 방과후 ID
+ * @param rowFingerprints   반영 후 행별 지문
+ * @param changedRows       다시 기록할 행 번호와 값
+ * @param clearedFrom       비울 행 범위의 시작 (포함)
+ * @param clearedTo         비울 행 범위의 끝 (미포함)
+ */
+public record AfterSchoolSheetDiff(
+    List<Long> rowAfterSchoolIds,
+    List<String> rowFingerprints,
+    SortedMap<Integer, List<Object>> changedRows,
+    int clearedFrom,
+    int clearedTo
+) {
+
+    public static AfterSchoolSheetDiff between(List<Long> flushedAfterSchoolIds,
+                                               List<String> flushedFingerprints,
+                                               List<AfterSchoolSheetRowVo> currentRows) {
+        Map<Long, AfterSchoolSheetRowVo> currentRowMap = currentRows.stream()
+            .collect(Collectors.toMap(AfterSchoolSheetRowVo::afterSchoolId, Function.identity(),
+                (first, second) -> first, LinkedHashMap::new));
+
+        List<Long> afterSchoolIds = new ArrayList<>(flushedAfterSchoolIds);
+        List<String> fingerprints = new ArrayList<>(flushedFingerprints);
+        Set<Integer> dirtyRows = new TreeSet<>();
+
+        // 삭제된 행은 마지막 행으로 채운다. 옮겨온 행도 삭제된 행일 수 있으므로 같은 자리를 다시 확인한다.
+        int index = 0;
+        while (index < afterSchoolIds.size()) {
+            if (currentRowMap.containsKey(afterSchoolIds.get(index))) {
+                index++;
+                continue;
+            }
+
+            int last = afterSchoolIds.size() - 1;
+            afterSchoolIds.set(index, afterSchoolIds.get(last));
+            fingerprints.set(index, fingerprints.get(last));
+            afterSchoolIds.remove(last);
+            fingerprints.remove(last);
+
+            if (index < last) {
+                dirtyRows.add(index);
+            }
+        }
+        int keptRowCount = afterSchoolIds.size();
+        dirtyRows.removeIf(row -> row >= keptRowCount);
+
+        for (int row = 0; row < afterSchoolIds.size(); row++) {
+            String fingerprint = currentRowMap.get(afterSchoolIds.get(row)).fingerprint();
+            if (!fingerprint.equals(fingerprints.get(row))) {
+                fingerprints.set(row, fingerprint);
+                dirtyRows.add(row);
+            }
+        }
+
+        Set<Long> placedIds = new HashSet<>(afterSchoolIds);
+        for (AfterSchoolSheetRowVo row : currentRowMap.values()) {
+            if (placedIds.add(row.afterSchoolId())) {
+                afterSchoolIds.add(row.afterSchoolId());
+                fingerprints.add(row.fingerprint());
+                dirtyRows.add(afterSchoolIds.size() - 1);
+            }
+        }
+
+        SortedMap<Integer, List<Object>> changedRows = new TreeMap<>();
+        for (Integer row : dirtyRows) {
+            changedRows.put(row, currentRowMap.get(afterSchoolIds.get(row)).values());
+        }
+
+        return new AfterSchoolSheetDiff(
+            afterSchoolIds, fingerprints, changedRows, afterSchoolIds.size(), flushedAfterSchoolIds.size()
+        );
+    }
+
+    public boolean isEmpty() {
+        return changedRows.isEmpty() && clearedFrom >= clearedTo;
+    }
+}
@@ -0,0 +1,77 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
+import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolRepository;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolSheetRowVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 방과후를 스프레드 시트 행으로 변환한다.
+ * 시트 API 호출 전에 짧은 읽기 전용 트랜잭션에서 스냅샷을 만들기 위해 별도 빈으로 분리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AfterSchoolSheetRowReader {
+    private static final String FINGERPRINT_DELIMITER = "\u001F";
+
+    private final AfterSchoolRepository afterSchoolRepository;
+
+    @Transactional(readOnly = true)
+    public List<AfterSchoolSheetRowVo> readActiveRows() {
+        return afterSchoolRepository.findActiveAfterSchoolsWithRelations().stream()
+                .map(this::toRow)
+                .toList();
+    }
+
+    private AfterSchoolSheetRowVo toRow(AfterSchoolEntity afterSchool) {
+        String weekDayKorean = WeekDay.convertWeekDayToKorean(afterSchool.getWeekDay());
+        String periodKorean = SchoolPeriod.convertPeriodToKorean(afterSchool.getPeriod());
+        String teacherData = afterSchool.getTeacher().getName() + "(" + afterSchool.getTeacher().getMail() + ")";
+        String studentsData = afterSchool.getAfterSchoolStudents().stream()
+                .map(ass -> ass.getStudent().getNumber() + " " + ass.getStudent().getName())
+                .collect(Collectors.joining(" "));
+
+        List<Object> values = Arrays.asList(
+                afterSchool.getYear(),
+                afterSchool.getBranch().getBranch(),
+                weekDayKorean,
+                afterSchool.getGrade(),
+                periodKorean,
+                teacherData,
+                afterSchool.getPlace().getName(),
+                afterSchool.getName(),
+                studentsData
+        );
+
+        return AfterSchoolSheetRowVo.builder()
+                .afterSchoolId(afterSchool.getId())
+                .values(values)
+                .fingerprint(fingerprint(values))
+                .build();
+    }
+
+    static String fingerprint(List<Object> values) {
+        String joined = values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(FINGERPRINT_DELIMITER));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package solvit.teachmon.domain.after_school.application.service;
 
 import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.BatchUpdateValuesRequest;
 import com.google.api.services.sheets.v4.model.ValueRange;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolSheetSnapshotEntity;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolStudentEntity;
 import solvit.teachmon.domain.after_school.domain.enums.AfterSchoolSpreadSheetsColumn;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolRepository;
+import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolSheetSnapshotRepository;
 import solvit.teachmon.domain.after_school.domain.service.AfterSchoolStudentDomainService;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolSheetRowVo;
 import solvit.teachmon.domain.after_school.domain.vo.StudentAssignmentResultVo;
 import solvit.teachmon.domain.after_school.exception.EmptySpreadSheetException;
 import solvit.teachmon.domain.after_school.exception.EmptySpreadSheetHeaderCellException;
@@ -39,6 +43,7 @@ import solvit.teachmon.global.properties.GoogleSpreadSheetProperties;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,11 +51,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @ConditionalOnBean(Sheets.class)
 @RequiredArgsConstructor
 public class AfterSchoolSpreadSheetService {
+    private static final long SNAPSHOT_TIME_TO_LIVE = 60L * 60 * 24 * 30;
+
     private final Sheets sheets;
     private final GoogleSpreadSheetProperties googleSpreadSheetProperties;
     private final SupervisionBanDayRepository supervisionBanDayRepository;
@@ -62,94 +70,119 @@ public class AfterSchoolSpreadSheetService {
     private final PlaceRepository placeRepository;
     private final AfterSchoolScheduleService afterSchoolScheduleService;
     private final AfterSchoolStudentDomainService afterSchoolStudentDomainService;
-
-    @Transactional
+    private final AfterSchoolSheetRowReader afterSchoolSheetRowReader;
+    private final AfterSchoolSheetSnapshotRepository afterSchoolSheetSnapshotRepository;
+
+    /**
+     * 진행 중인 방과후를 스프레드 시트에 기록한다.
+     * 마지막 flush 스냅샷이 있으면 바뀐 행만 batchUpdate 로 기록하고, 없으면 시트 전체를 기록한다.
+     * DB 조회는 시트 API 호출 전에 짧은 읽기 전용 트랜잭션에서 끝낸다.
+     */
     public void flushToSpreadSheet(String spreadSheetId) throws IOException {
-        List<AfterSchoolEntity> activeAfterSchools = afterSchoolRepository.findActiveAfterSchoolsWithRelations();
+        List<AfterSchoolSheetRowVo> rows = afterSchoolSheetRowReader.readActiveRows();
 
-        List<List<Object>> values = new ArrayList<>();
-
-        values.add(Arrays.asList(
-                AfterSchoolSpreadSheetsColumn.YEAR.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.BRANCH.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.WEEKDAY.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.GRADE.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.PERIOD.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.TEACHER.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.PLACE.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.NAME.getHeaderName(),
-                AfterSchoolSpreadSheetsColumn.STUDENTS.getHeaderName()
-        ));
-
-        for (AfterSchoolEntity afterSchool : activeAfterSchools) {
-            String weekDayKorean = WeekDay.convertWeekDayToKorean(afterSchool.getWeekDay());
-            String periodKorean = SchoolPeriod.convertPeriodToKorean(afterSchool.getPeriod());
-            String teacherData = afterSchool.getTeacher().getName() + "(" + afterSchool.getTeacher().getMail() + ")";
-            String studentsData = afterSchool.getAfterSchoolStudents().stream()
-                    .map(ass -> ass.getStudent().getNumber() + " " + ass.getStudent().getName())
-                    .collect(Collectors.joining(" "));
-
-            values.add(Arrays.asList(
-                    afterSchool.getYear(),
-                    afterSchool.getBranch().getBranch(),
-                    weekDayKorean,
-                    afterSchool.getGrade(),
-                    periodKorean,
-                    teacherData,
-                    afterSchool.getPlace().getName(),
-                    afterSchool.getName(),
-                    studentsData
-            ));
+        Optional<AfterSchoolSheetSnapshotEntity> snapshot = afterSchoolSheetSnapshotRepository.findById(spreadSheetId);
+        if (snapshot.isEmpty()) {
+            flushAll(spreadSheetId, rows);
+            return;
         }
 
-        ValueRange data = new ValueRange().setValues(values);
+        AfterSchoolSheetSnapshotEntity flushed = snapshot.get();
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(
+                flushed.getRowAfterSchoolIds(), flushed.getRowFingerprints(), rows);
+        if (diff.isEmpty()) {
+            return;
+        }
 
-        sheets.spreadsheets().values()
-                .update(spreadSheetId, googleSpreadSheetProperties.getPage(), data)
+        List<ValueRange> data = toValueRanges(diff);
+        BatchUpdateValuesRequest request = new BatchUpdateValuesRequest()
                 .setValueInputOption("RAW")
+                .setData(data);
+        sheets.spreadsheets().values()
+                .batchUpdate(spreadSheetId, request)
                 .execute();
+
+        flushed.update(diff.rowAfterSchoolIds(), diff.rowFingerprints());
+        afterSchoolSheetSnapshotRepository.save(flushed);
     }
 
-    @Transactional
-    public void uploadSpreadSheet(String spreadSheetId) throws IOException {
-        List<List<Object>> data = loadSheetRows(spreadSheetId);
+    private void flushAll(String spreadSheetId, List<AfterSchoolSheetRowVo> rows) throws IOException {
+        List<List<Object>> values = new ArrayList<>();
 
-        List<AfterSchoolEntity> allAfterSchools = afterSchoolRepository.findAllWithRelations();
-        allAfterSchools.forEach(AfterSchoolEntity::endAfterSchool);
+        values.add(Arrays.stream(AfterSchoolSpreadSheetsColumn.values())
+                .<Object>map(AfterSchoolSpreadSheetsColumn::getHeaderName)
+                .toList());
+        rows.forEach(row -> values.add(row.values()));
 
-        supervisionBanDayRepository.deleteAllByIsAfterschool();
-        
-        ReferenceDataCache cache = preloadReferenceData();
+        ValueRange data = new ValueRange().setValues(values);
 
-        long rowNumber = 0;
+        sheets.spreadsheets().values()
+                .update(spreadSheetId, googleSpreadSheetProperties.getPage(), data)
+                .setValueInputOption("RAW")
+                .execute();
 
-        List<StudentAssignmentResultVo> studentAssignmentResults = new ArrayList<>();
+        afterSchoolSheetSnapshotRepository.save(AfterSchoolSheetSnapshotEntity.builder()
+                .spreadSheetId(spreadSheetId)
+                .rowAfterSchoolIds(rows.stream().map(AfterSchoolSheetRowVo::afterSchoolId).toList())
+                .rowFingerprints(rows.stream().map(AfterSchoolSheetRowVo::fingerprint).toList())
+                .timeToLive(SNAPSHOT_TIME_TO_LIVE)
+                .build());
+    }
 
-        for (List<Object> row : data) {
-            validator.validate(row, rowNumber, cache);
+    /**
+     * 연속된 행은 하나의 범위로 묶고, 줄어든 만큼의 마지막 행은 빈 값으로 덮어쓴다.
+     */
+    private List<ValueRange> toValueRanges(AfterSchoolSheetDiff diff) {
+        List<ValueRange> ranges = new ArrayList<>();
+
+        int blockStart = -1;
+        List<List<Object>> block = new ArrayList<>();
+        for (Map.Entry<Integer, List<Object>> entry : diff.changedRows().entrySet()) {
+            if (blockStart >= 0 && entry.getKey() != blockStart + block.size()) {
+                ranges.add(toValueRange(blockStart, block));
+                block = new ArrayList<>();
+            }
+            if (block.isEmpty()) {
+                blockStart = entry.getKey();
+            }
+            block.add(entry.getValue());
+        }
+        if (!block.isEmpty()) {
+            ranges.add(toValueRange(blockStart, block));
+        }
 
-            List<StudentInfo> studentInfos = parseStudentInfos(row, rowNumber);
+        if (diff.clearedFrom() < diff.clearedTo()) {
+            List<Object> emptyRow = Collections.<Object>nCopies(AfterSchoolSpreadSheetsColumn.values().length, "");
+            ranges.add(toValueRange(diff.clearedFrom(),
+                    Collections.nCopies(diff.clearedTo() - diff.clearedFrom(), emptyRow)));
+        }
 
-            String compositeKey = generateCompositeKey(row);
+        return ranges;
+    }
 
-            Optional<AfterSchoolEntity> existingAfterSchool = findByCompositeKey(compositeKey, allAfterSchools);
+    private ValueRange toValueRange(int firstDataRow, List<List<Object>> rows) {
+        // 데이터 0번째 행은 헤더 다음인 시트 2번째 행
+        int firstSheetRow = firstDataRow + 2;
+        int lastSheetRow = firstSheetRow + rows.size() - 1;
+        char lastColumn = (char) ('A' + AfterSchoolSpreadSheetsColumn.values().length - 1);
 
-            if(existingAfterSchool.isPresent()) {
-                handleExistingAfterSchool(existingAfterSchool.get(), studentInfos, cache)
-                        .ifPresent(studentAssignmentResults::add);
-            }
-            else {
-                StudentAssignmentResultVo assignmentResultVo = createNewAfterSchool(row, studentInfos, cache, rowNumber);
-                studentAssignmentResults.add(assignmentResultVo);
-            }
+        return new ValueRange()
+                .setRange(sheetName() + "!A" + firstSheetRow + ":" + lastColumn + lastSheetRow)
+                .setValues(rows);
+    }
 
-            rowNumber++;
+    private String sheetName() {
+        String sheetName = googleSpreadSheetProperties.getPage().split("!")[0];
+        if (sheetName.startsWith("'")) {
+            return sheetName;
         }
-
-        afterSchoolScheduleService.save(studentAssignmentResults);
+        return "'" + sheetName.replace("'", "''") + "'";
     }
 
-    private List<List<Object>> loadSheetRows(String spreadsheetId) throws IOException {
+    /**
+     * 스프레드 시트의 헤더를 검증하고 데이터 행만 반환한다
+     */
+    public List<List<Object>> loadSheetRows(String spreadsheetId) throws IOException {
         ValueRange data = sheets.spreadsheets()
                 .values()
                 .get(spreadsheetId, googleSpreadSheetProperties.getPage())
@@ -163,9 +196,99 @@ public class AfterSchoolSpreadSheetService {
 
         validateHeader(values.getFirst());
 
+        // 시트를 직접 수정한 뒤 가져오는 것이므로 마지막 flush 스냅샷은 더 이상 시트와 일치하지 않는다
+        afterSchoolSheetSnapshotRepository.deleteById(spreadsheetId);
+
         return values.subList(1, values.size());
     }
 
+    @Transactional(readOnly = true)
+    public ReferenceDataCache loadReferenceData() {
+        return preloadReferenceData();
+    }
+
+    /**
+     * 모든 행을 병렬로 검증한다. 여러 행이 잘못된 경우 가장 앞 행의 예외를 던진다.
+     */
+    public void validateRows(List<List<Object>> rows, ReferenceDataCache cache) {
+        RuntimeException[] errors = new RuntimeException[rows.size()];
+
+        IntStream.range(0, rows.size()).parallel().forEach(rowNumber -> {
+            try {
+                validator.validate(rows.get(rowNumber), rowNumber, cache);
+            }
+            catch (RuntimeException e) {
+                errors[rowNumber] = e;
+            }
+        });
+
+        for (RuntimeException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * 모든 방과후를 종료하고 방과후로 인한 감독 금지 요일을 삭제한다.
+     * 행과 매칭할 수 있도록 복합 키 -> 방과후 ID 인덱스를 반환한다.
+     */
+    @Transactional
+    public Map<AfterSchoolCompositeKey, Long> endAllAfterSchools() {
+        List<AfterSchoolEntity> allAfterSchools = afterSchoolRepository.findAllWithRelations();
+        allAfterSchools.forEach(AfterSchoolEntity::endAfterSchool);
+
+        supervisionBanDayRepository.deleteAllByIsAfterschool();
+
+        return allAfterSchools.stream()
+            .collect(Collectors.toMap(AfterSchoolCompositeKey::from, AfterSchoolEntity::getId, (first, second) -> first));
+    }
+
+    /**
+     * 검증이 끝난 행 묶음을 반영한다. 기존 방과후는 재개하고 학생이 바뀐 경우만 다시 배정하며, 없으면 새로 생성한다.
+     *
+     * @param firstRowNumber 묶음 첫 행의 행 번호 (예외 메시지용)
+     * @param cache 검증에 사용한 기준 데이터 (작업마다 한 번만 읽는다)
+     */
+    @Transactional
+    public void applyRows(List<List<Object>> rows, long firstRowNumber, Map<AfterSchoolCompositeKey, Long> afterSchoolIndex, ReferenceDataCache cache) {
+        List<AfterSchoolCompositeKey> keys = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            keys.add(generateCompositeKey(rows.get(i), firstRowNumber + i));
+        }
+
+        Set<Long> matchedIds = keys.stream()
+            .map(afterSchoolIndex::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, AfterSchoolEntity> matchedAfterSchools = matchedIds.isEmpty()
+            ? Map.of()
+            : afterSchoolRepository.findAllWithRelationsByIdIn(matchedIds).stream()
+                .collect(Collectors.toMap(AfterSchoolEntity::getId, Function.identity()));
+
+        List<StudentAssignmentResultVo> studentAssignmentResults = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            List<Object> row = rows.get(i);
+            long rowNumber = firstRowNumber + i;
+
+            List<StudentInfo> studentInfos = parseStudentInfos(row, rowNumber);
+
+            Long existingAfterSchoolId = afterSchoolIndex.get(keys.get(i));
+
+            if(existingAfterSchoolId != null) {
+                handleExistingAfterSchool(matchedAfterSchools.get(existingAfterSchoolId), studentInfos, cache)
+                        .ifPresent(studentAssignmentResults::add);
+            }
+            else {
+                StudentAssignmentResultVo assignmentResultVo = createNewAfterSchool(row, studentInfos, cache, rowNumber);
+                studentAssignmentResults.add(assignmentResultVo);
+            }
+        }
+
+        afterSchoolScheduleService.save(studentAssignmentResults);
+    }
+
     private void validateHeader(List<Object> headerRow) {
         AfterSchoolSpreadSheetsColumn[] columns =
                 AfterSchoolSpreadSheetsColumn.values();
@@ -201,7 +324,10 @@ public class AfterSchoolSpreadSheetService {
         Map<Integer, StudentEntity> studentEntityMap = studentRepository.findAll().stream()
             .collect(Collectors.toMap(StudentEntity::getNumber, Function.identity()));
 
-        return new ReferenceDataCache(teacherEntityMap, placeEntityMap, studentEntityMap);
+        Map<String, BranchEntity> branchEntityMap = branchRepository.findAll().stream()
+            .collect(Collectors.toMap(branch -> ReferenceDataCache.branchKey(branch.getYear(), branch.getBranch()), Function.identity()));
+
+        return new ReferenceDataCache(teacherEntityMap, placeEntityMap, studentEntityMap, branchEntityMap);
     }
 
     private record StudentInfo(Long number, String name) {}
@@ -227,44 +353,20 @@ public class AfterSchoolSpreadSheetService {
         return studentInfos;
     }
 
-    private String generateCompositeKey(List<Object> row) {
-        StringBuilder keyBuilder = new StringBuilder();
-
-        for (int i = 0; i < 8; i++) {
-            if (i > 0) {
-                keyBuilder.append("|");
-            }
-            keyBuilder.append(row.get(i).toString().trim());
-        }
-
-        return keyBuilder.toString();
-    }
-
-    private Optional<AfterSchoolEntity> findByCompositeKey(String compositeKey, List<AfterSchoolEntity> allAfterSchools) {
-        String[] parts = compositeKey.split("\\|");
-
-        Integer year = Integer.valueOf(parts[0]);
-        Integer branchNumber = Integer.valueOf(parts[1]);
-        WeekDay weekDay = WeekDay.fromKorean(parts[2]);
-        Integer grade = Integer.valueOf(parts[3]);
-        SchoolPeriod period = convertToSchoolPeriod(parts[4], -1);
-        String teacherData = parts[5];
-        String placeName = parts[6];
-        String name = parts[7];
+    private AfterSchoolCompositeKey generateCompositeKey(List<Object> row, long rowNumber) {
+        String teacherData = row.get(AfterSchoolSpreadSheetsColumn.TEACHER.getIndex()).toString().trim();
+        TeacherDataParser.TeacherInfo teacherInfo = TeacherDataParser.parse(teacherData, rowNumber);
 
-        TeacherDataParser.TeacherInfo teacherInfo = TeacherDataParser.parse(teacherData, -1);
-        return allAfterSchools.stream()
-            .filter(as ->
-                Objects.equals(year, as.getYear()) &&
-                Objects.equals(branchNumber, as.getBranch().getBranch()) &&
-                weekDay == as.getWeekDay() &&
-                Objects.equals(grade, as.getGrade()) &&
-                period == as.getPeriod() &&
-                teacherInfo.email().equals(as.getTeacher().getMail()) &&
-                placeName.equals(as.getPlace().getName()) &&
-                name.equals(as.getName())
-            )
-            .findFirst();
+        return new AfterSchoolCompositeKey(
+            Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.YEAR.getIndex()).toString().trim()),
+            Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.BRANCH.getIndex()).toString().trim()),
+            WeekDay.fromKorean(row.get(AfterSchoolSpreadSheetsColumn.WEEKDAY.getIndex()).toString().trim()),
+            Integer.valueOf(row.get(AfterSchoolSpreadSheetsColumn.GRADE.getIndex()).toString().trim()),
+            convertToSchoolPeriod(row.get(AfterSchoolSpreadSheetsColumn.PERIOD.getIndex()).toString().trim(), rowNumber),
+            teacherInfo.email(),
+            row.get(AfterSchoolSpreadSheetsColumn.PLACE.getIndex()).toString().trim(),
+            row.get(AfterSchoolSpreadSheetsColumn.NAME.getIndex()).toString().trim()
+        );
     }
 
     private Optional<StudentAssignmentResultVo> handleExistingAfterSchool(AfterSchoolEntity existingAfterSchool, List<StudentInfo> studentInfos, ReferenceDataCache cache) {
@@ -303,8 +405,10 @@ public class AfterSchoolSpreadSheetService {
 
         TeacherDataParser.TeacherInfo teacherInfo = TeacherDataParser.parse(teacherData, rowNumber);
 
-        BranchEntity branch = branchRepository.findByYearAndBranch(year, branchNumber)
-            .orElseThrow(BranchNotFoundException::new);
+        BranchEntity branch = cache.getBranch(year, branchNumber);
+        if (branch == null) {
+            throw new BranchNotFoundException();
+        }
         TeacherEntity teacher = cache.getTeacher(teacherInfo.email());
         if (teacher == null) {
             throw new TeacherNotExistException(rowNumber, teacherInfo.email());
@@ -1,17 +1,27 @@
 package solvit.teachmon.domain.after_school.application.service;
 
+import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 
 import java.util.Map;
 
+/**
+ * 가져오기 작업 한 번 동안 검증과 반영에 함께 쓰는 기준 데이터
+ * 작업 시작 시 한 번 읽어 여러 트랜잭션에서 재사용하므로 엔티티는 연관관계 참조용으로만 사용한다.
+ */
 public record ReferenceDataCache(
     Map<String, TeacherEntity> teacherEntityMap,
     Map<String, PlaceEntity> placeEntityMap,
-    Map<Integer, StudentEntity> studentEntityMap
+    Map<Integer, StudentEntity> studentEntityMap,
+    Map<String, BranchEntity> branchEntityMap
 ) {
 
+    public static String branchKey(Integer year, Integer branch) {
+        return year + ":" + branch;
+    }
+
     public boolean hasTeacher(String email) {
         return teacherEntityMap.containsKey(email);
     }
@@ -24,6 +34,10 @@ public record ReferenceDataCache(
         return studentEntityMap.containsKey(number);
     }
 
+    public boolean hasBranch(Integer year, Integer branch) {
+        return branchEntityMap.containsKey(branchKey(year, branch));
+    }
+
     public TeacherEntity getTeacher(String email) {
         return teacherEntityMap.get(email);
     }
@@ -35,4 +49,8 @@ public record ReferenceDataCache(
     public StudentEntity getStudent(Integer number) {
         return studentEntityMap.get(number);
     }
+
+    public BranchEntity getBranch(Integer year, Integer branch) {
+        return branchEntityMap.get(branchKey(year, branch));
+    }
 }
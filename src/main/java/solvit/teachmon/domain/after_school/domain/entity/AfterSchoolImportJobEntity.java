@@ -0,0 +1,74 @@
+package solvit.teachmon.domain.after_school.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+import solvit.teachmon.domain.after_school.domain.enums.AfterSchoolImportJobStatus;
+
+/**
+ * 방과후 스프레드 시트 가져오기 작업 진행 상황
+ */
+@Getter
+@RedisHash("after_school_import_job")
+public class AfterSchoolImportJobEntity {
+    @Id
+    private final String jobId;
+
+    private final String spreadSheetId;
+
+    private AfterSchoolImportJobStatus status;
+
+    private Integer totalRows;
+
+    private Integer processedRows;
+
+    private String errorMessage;
+
+    @TimeToLive
+    private final Long timeToLive;
+
+    @Builder
+    public AfterSchoolImportJobEntity(String jobId, String spreadSheetId, AfterSchoolImportJobStatus status,
+                                      Integer totalRows, Integer processedRows, String errorMessage, Long timeToLive) {
+        this.jobId = jobId;
+        this.spreadSheetId = spreadSheetId;
+        this.status = status == null ? AfterSchoolImportJobStatus.PENDING : status;
+        this.totalRows = totalRows == null ? 0 : totalRows;
+        this.processedRows = processedRows == null ? 0 : processedRows;
+        this.errorMessage = errorMessage;
+        this.timeToLive = timeToLive;
+    }
+
+    public void fetching() {
+        this.status = AfterSchoolImportJobStatus.FETCHING;
+    }
+
+    public void validating(int totalRows) {
+        this.status = AfterSchoolImportJobStatus.VALIDATING;
+        this.totalRows = totalRows;
+    }
+
+    public void applying() {
+        this.status = AfterSchoolImportJobStatus.APPLYING;
+    }
+
+    public void progress(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public void complete() {
+        this.status = AfterSchoolImportJobStatus.COMPLETED;
+        this.processedRows = totalRows;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = AfterSchoolImportJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isFinished() {
+        return status == AfterSchoolImportJobStatus.COMPLETED || status == AfterSchoolImportJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,42 @@
+package solvit.teachmon.domain.after_school.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마지막으로 스프레드 시트에 flush 한 내용
+ * i 번째 데이터 행(헤더 제외)에 기록된 방과후 ID 와 그 행의 지문을 순서대로 보관한다.
+ */
+@Getter
+@RedisHash("after_school_sheet_snapshot")
+public class AfterSchoolSheetSnapshotEntity {
+    @Id
+    private final String spreadSheetId;
+
+    private List<Long> rowAfterSchoolIds;
+
+    private List<String> rowFingerprints;
+
+    @TimeToLive
+    private final Long timeToLive;
+
+    @Builder
+    public AfterSchoolSheetSnapshotEntity(String spreadSheetId, List<Long> rowAfterSchoolIds,
+                                          List<String> rowFingerprints, Long timeToLive) {
+        this.spreadSheetId = spreadSheetId;
+        this.rowAfterSchoolIds = rowAfterSchoolIds == null ? new ArrayList<>() : new ArrayList<>(rowAfterSchoolIds);
+        this.rowFingerprints = rowFingerprints == null ? new ArrayList<>() : new ArrayList<>(rowFingerprints);
+        this.timeToLive = timeToLive;
+    }
+
+    public void update(List<Long> rowAfterSchoolIds, List<String> rowFingerprints) {
+        this.rowAfterSchoolIds = new ArrayList<>(rowAfterSchoolIds);
+        this.rowFingerprints = new ArrayList<>(rowFingerprints);
+    }
+}
@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.after_school.domain.enums;
+
+public enum AfterSchoolImportJobStatus {
+    PENDING,        // 대기 중
+    FETCHING,       // 스프레드 시트 조회 중
+    VALIDATING,     // 행 검증 중
+    APPLYING,       // 방과후 반영 중
+    COMPLETED,      // 완료
+    FAILED          // 실패
+}
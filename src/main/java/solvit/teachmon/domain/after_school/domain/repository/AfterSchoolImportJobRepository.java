@@ -0,0 +1,9 @@
+package solvit.teachmon.domain.after_school.domain.repository;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolImportJobEntity;
+
+@Repository
+public interface AfterSchoolImportJobRepository extends CrudRepository<AfterSchoolImportJobEntity, String> {
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolReinforcementEntity;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolReinforcementCountVo;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +24,19 @@ public interface AfterSchoolReinforcementRepository extends JpaRepository<AfterS
             @Param("endDay") LocalDate endDay
     );
 
+    @Query("""
+        SELECT new solvit.teachmon.domain.after_school.domain.vo.AfterSchoolReinforcementCountVo(r.afterSchool.id, COUNT(r))
+        FROM AfterSchoolReinforcementEntity r
+        WHERE r.afterSchool.id IN :afterSchoolIds
+            AND r.changeDay BETWEEN :startDay AND :endDay
+        GROUP BY r.afterSchool.id
+    """)
+    List<AfterSchoolReinforcementCountVo> countByAfterSchoolIdsAndChangeDayBetween(
+            @Param("afterSchoolIds") List<Long> afterSchoolIds,
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
     @Query("SELECT r FROM AfterSchoolReinforcementEntity r WHERE r.afterSchool IN :afterSchools AND r.changeDay > :currentDate")
     List<AfterSchoolReinforcementEntity> findFutureReinforcementsByAfterSchools(@Param("afterSchools") List<AfterSchoolEntity> afterSchools, @Param("currentDate") LocalDate currentDate);
 
@@ -7,6 +7,7 @@ import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
 import solvit.teachmon.domain.after_school.domain.repository.querydsl.AfterSchoolQueryDslRepository;
 import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,6 +23,15 @@ public interface AfterSchoolRepository extends JpaRepository<AfterSchoolEntity,
            "LEFT JOIN FETCH ass.student")
     List<AfterSchoolEntity> findAllWithRelations();
 
+    @Query("SELECT DISTINCT a FROM AfterSchoolEntity a " +
+           "JOIN FETCH a.branch " +
+           "JOIN FETCH a.teacher " +
+           "JOIN FETCH a.place " +
+           "LEFT JOIN FETCH a.afterSchoolStudents ass " +
+           "LEFT JOIN FETCH ass.student " +
+           "WHERE a.id IN :ids")
+    List<AfterSchoolEntity> findAllWithRelationsByIdIn(Collection<Long> ids);
+
     @Query("SELECT DISTINCT a FROM AfterSchoolEntity a " +
            "JOIN FETCH a.branch " +
            "JOIN FETCH a.teacher " +
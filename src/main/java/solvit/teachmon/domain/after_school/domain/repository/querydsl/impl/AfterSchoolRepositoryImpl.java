@@ -66,16 +66,7 @@ public class AfterSchoolRepositoryImpl implements AfterSchoolQueryDslRepository
                 .fetch();
 
         // Bulk로 학생 정보 조회
-        List<Long> afterSchoolIds = entities.stream()
-                .map(AfterSchoolEntity::getId)
-                .toList();
-        
-        Map<Long, List<AfterSchoolStudentEntity>> studentsMap = afterSchoolIds.isEmpty() 
-                ? Map.of() 
-                : afterSchoolStudentRepository
-                    .findByAfterSchoolIdsWithStudent(afterSchoolIds)
-                    .stream()
-                    .collect(Collectors.groupingBy(ast -> ast.getAfterSchool().getId()));
+        Map<Long, List<StudentInfo>> studentsMap = findStudentsByAfterSchools(entities);
 
         return entities.stream()
                 .map(entity -> convertToAfterSchoolResponseDto(entity, studentsMap.getOrDefault(entity.getId(), List.of())))
@@ -136,9 +127,11 @@ public class AfterSchoolRepositoryImpl implements AfterSchoolQueryDslRepository
                 .where(whereCondition)
                 .fetch();
 
+        Map<Long, List<StudentInfo>> studentsMap = findStudentsByAfterSchools(entities);
+
         return entities.stream()
                 .map(entity -> {
-                    List<StudentInfo> students = getStudentsByAfterSchoolId(entity.getId());
+                    List<StudentInfo> students = studentsMap.getOrDefault(entity.getId(), List.of());
                     return new AfterSchoolMyResponseDto(
                             entity.getId(),
                             entity.getWeekDay().toKorean(),
@@ -179,10 +172,11 @@ public class AfterSchoolRepositoryImpl implements AfterSchoolQueryDslRepository
                 .fetch();
 
         String todayFormatted = formatTodayDate(today, todayWeekDay);
+        Map<Long, List<StudentInfo>> studentsMap = findStudentsByAfterSchools(entities);
 
         return entities.stream()
                 .map(entity -> {
-                    List<StudentInfo> students = getStudentsByAfterSchoolId(entity.getId());
+                    List<StudentInfo> students = studentsMap.getOrDefault(entity.getId(), List.of());
                     return new AfterSchoolTodayResponseDto(
                             entity.getId(),
                             entity.getBranch().getBranch(),
@@ -216,30 +210,37 @@ public class AfterSchoolRepositoryImpl implements AfterSchoolQueryDslRepository
         return dateStr + " " + weekDay.toKoreanFull();
     }
 
-    private List<StudentInfo> getStudentsByAfterSchoolId(Long afterSchoolId) {
-        List<AfterSchoolStudentEntity> studentEntities = afterSchoolStudentRepository
-                .findByAfterSchoolIdsWithStudent(List.of(afterSchoolId));
-        
-        return studentEntities.stream()
-                .map(ast -> new StudentInfo(
-                        ast.getStudent().getId(),
-                        Integer.parseInt(ast.getStudent().getGrade().toString() + ast.getStudent().getClassNumber().toString() + String.format("%02d", ast.getStudent().getNumber())),
-                        ast.getStudent().getName()
-                ))
-                .sorted(Comparator.comparingInt(StudentInfo::number))
+    /**
+     * 방과후별 학생 목록을 한 번의 쿼리로 조회해 학번 순으로 정렬한다
+     */
+    private Map<Long, List<StudentInfo>> findStudentsByAfterSchools(List<AfterSchoolEntity> entities) {
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> afterSchoolIds = entities.stream()
+                .map(AfterSchoolEntity::getId)
                 .toList();
+
+        return afterSchoolStudentRepository.findByAfterSchoolIdsWithStudent(afterSchoolIds).stream()
+                .collect(Collectors.groupingBy(
+                        ast -> ast.getAfterSchool().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), this::toStudentInfos)
+                ));
     }
 
-    private AfterSchoolResponseDto convertToAfterSchoolResponseDto(AfterSchoolEntity entity, List<AfterSchoolStudentEntity> studentEntities) {
-        List<StudentInfo> students = studentEntities.stream()
+    private List<StudentInfo> toStudentInfos(List<AfterSchoolStudentEntity> studentEntities) {
+        return studentEntities.stream()
                 .map(ast -> new StudentInfo(
                         ast.getStudent().getId(),
                         Integer.parseInt(ast.getStudent().getGrade().toString() + ast.getStudent().getClassNumber().toString() + String.format("%02d", ast.getStudent().getNumber())),
                         ast.getStudent().getName()
-                        ))
+                ))
                 .sorted(Comparator.comparingInt(StudentInfo::number))
                 .toList();
+    }
 
+    private AfterSchoolResponseDto convertToAfterSchoolResponseDto(AfterSchoolEntity entity, List<StudentInfo> students) {
         return new AfterSchoolResponseDto(
                 entity.getId().toString(),
                 entity.getWeekDay().toKorean(),
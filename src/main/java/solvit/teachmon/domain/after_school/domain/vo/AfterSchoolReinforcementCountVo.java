@@ -0,0 +1,4 @@
+package solvit.teachmon.domain.after_school.domain.vo;
+
+public record AfterSchoolReinforcementCountVo(Long afterSchoolId, Long count) {
+}
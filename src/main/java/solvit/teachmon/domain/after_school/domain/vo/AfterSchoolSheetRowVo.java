@@ -0,0 +1,12 @@
+package solvit.teachmon.domain.after_school.domain.vo;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 스프레드 시트에 기록할 방과후 한 행과 그 내용의 지문(hash)
+ */
+@Builder
+public record AfterSchoolSheetRowVo(Long afterSchoolId, List<Object> values, String fingerprint) {
+}
@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.after_school.exception;
+
+import org.springframework.http.HttpStatus;
+import solvit.teachmon.global.exception.TeachmonBusinessException;
+
+public class AfterSchoolImportJobNotFoundException extends TeachmonBusinessException {
+    public AfterSchoolImportJobNotFoundException(String jobId) {
+        super("ID " + jobId + "인 방과후 가져오기 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND);
+    }
+}
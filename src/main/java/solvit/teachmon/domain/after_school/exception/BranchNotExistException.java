@@ -0,0 +1,8 @@
+package solvit.teachmon.domain.after_school.exception;
+
+public class BranchNotExistException extends TeachmonSpreadSheetException {
+
+    public BranchNotExistException(long rowNum, Integer year, Integer branch) {
+        super(rowNum + "행의 " + year + "년 " + branch + "분기가 시스템에 등록되지 않았습니다. 분기 설정을 먼저 해주세요.");
+    }
+}
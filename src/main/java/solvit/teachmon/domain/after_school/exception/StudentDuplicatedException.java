@@ -0,0 +1,8 @@
+package solvit.teachmon.domain.after_school.exception;
+
+public class StudentDuplicatedException extends TeachmonSpreadSheetException {
+
+    public StudentDuplicatedException(long rowNum, Long studentNumber, String studentName) {
+        super(rowNum + "행에 같은 학생이 중복 등록되었습니다. 학번: " + studentNumber + ", 이름: '" + studentName + "'");
+    }
+}
@@ -0,0 +1,8 @@
+package solvit.teachmon.domain.after_school.exception;
+
+public class StudentGradeMismatchException extends TeachmonSpreadSheetException {
+
+    public StudentGradeMismatchException(long rowNum, Long studentNumber, Integer studentGrade, Integer grade) {
+        super(rowNum + "행의 학생 학년(" + studentGrade + ")이 방과후 대상 학년(" + grade + ")과 일치하지 않습니다. 학번: " + studentNumber);
+    }
+}
@@ -5,11 +5,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import solvit.teachmon.domain.after_school.application.service.AfterSchoolImportJobService;
 import solvit.teachmon.domain.after_school.application.service.AfterSchoolSpreadSheetService;
+import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolImportJobResponseDto;
 
 import java.io.IOException;
 
@@ -20,11 +23,16 @@ import java.io.IOException;
 @Validated
 public class AfterSchoolSpreadSheetController {
     private final AfterSchoolSpreadSheetService afterSchoolService;
+    private final AfterSchoolImportJobService afterSchoolImportJobService;
 
     @PostMapping("/upload/{spreadSheetId}")
-    public ResponseEntity<Void> uploadAfterSchool(@PathVariable @NotNull(message = "스프레드 시트 아이디는 필수입니다.") String spreadSheetId) throws IOException {
-        afterSchoolService.uploadSpreadSheet(spreadSheetId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<AfterSchoolImportJobResponseDto> uploadAfterSchool(@PathVariable @NotNull(message = "스프레드 시트 아이디는 필수입니다.") String spreadSheetId) {
+        return ResponseEntity.accepted().body(afterSchoolImportJobService.start(spreadSheetId));
+    }
+
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<AfterSchoolImportJobResponseDto> getUploadJob(@PathVariable @NotNull(message = "작업 아이디는 필수입니다.") String jobId) {
+        return ResponseEntity.ok(afterSchoolImportJobService.getJob(jobId));
     }
 
     @PostMapping("/flush/{spreadSheetId}")
@@ -0,0 +1,24 @@
+package solvit.teachmon.domain.after_school.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import solvit.teachmon.domain.after_school.domain.enums.AfterSchoolImportJobStatus;
+
+@Builder
+public record AfterSchoolImportJobResponseDto(
+        @JsonProperty("job_id")
+        String jobId,
+
+        @JsonProperty("status")
+        AfterSchoolImportJobStatus status,
+
+        @JsonProperty("total_rows")
+        Integer totalRows,
+
+        @JsonProperty("processed_rows")
+        Integer processedRows,
+
+        @JsonProperty("error_message")
+        String errorMessage
+) {
+}
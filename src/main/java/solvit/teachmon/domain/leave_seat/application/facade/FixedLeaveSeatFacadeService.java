@@ -7,6 +7,7 @@ import solvit.teachmon.domain.leave_seat.domain.entity.FixedLeaveSeatEntity;
 import solvit.teachmon.domain.leave_seat.domain.entity.FixedLeaveSeatStudentEntity;
 import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatRepository;
 import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatStudentRepository;
+import solvit.teachmon.domain.leave_seat.domain.repository.LeaveSeatRepository;
 import solvit.teachmon.domain.leave_seat.application.mapper.FixedLeaveSeatMapper;
 import solvit.teachmon.domain.leave_seat.exception.FixedLeaveSeatNotFoundException;
 import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatCreateRequest;
@@ -20,11 +21,16 @@ import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
 import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
-import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleSettingService;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
+import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleRecomputeService;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
+import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -32,25 +38,27 @@ public class FixedLeaveSeatFacadeService {
     private final PlaceRepository placeRepository;
     private final FixedLeaveSeatRepository fixedLeaveSeatRepository;
     private final FixedLeaveSeatStudentRepository fixedLeaveSeatStudentRepository;
+    private final LeaveSeatRepository leaveSeatRepository;
     private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
     private final FixedLeaveSeatMapper fixedLeaveSeatMapper;
-    private final StudentScheduleSettingService studentScheduleSettingService;
+    private final StudentScheduleRecomputeService studentScheduleRecomputeService;
 
     @Transactional
-    public void createStaticLeaveSeat(FixedLeaveSeatCreateRequest request, TeacherEntity teacher) {
+    public void createStaticLeaveSeat(FixedLeaveSeatCreateRequest request, Long teacherId) {
         PlaceEntity place = placeRepository.findById(request.placeId())
                 .orElseThrow(PlaceNotFoundException::new);
 
         List<StudentEntity> students = getStudents(request.students());
 
         // 고정 이석 저장
-        FixedLeaveSeatEntity fixedLeaveSeat = saveFixedLeaveSeat(request, teacher, place);
+        FixedLeaveSeatEntity fixedLeaveSeat = saveFixedLeaveSeat(request, teacherRepository.getReferenceById(teacherId), place);
 
         // 고정 이석 학생들 저장
         saveFixedLeaveSeatStudent(fixedLeaveSeat, students);
 
-        // 요일이 오늘 기준으로 아직 지나지 않았다면 스케줄 세팅
-        updateScheduleIfNotPassed(request.weekDay());
+        // 요일이 오늘 기준으로 아직 지나지 않았다면 고정 이석 학생들의 해당 교시 스케줄만 다시 쌓기
+        studentScheduleRecomputeService.recomputeStudents(students, request.weekDay(), request.period(), LocalDate.now());
     }
 
     @Transactional(readOnly = true)
@@ -82,7 +90,7 @@ public class FixedLeaveSeatFacadeService {
     }
 
     @Transactional
-    public void updateStaticLeaveSeat(Long fixedLeaveSeatId, FixedLeaveSeatUpdateRequest request, TeacherEntity teacher) {
+    public void updateStaticLeaveSeat(Long fixedLeaveSeatId, FixedLeaveSeatUpdateRequest request, Long teacherId) {
         FixedLeaveSeatEntity fixedLeaveSeat = fixedLeaveSeatRepository.findById(fixedLeaveSeatId)
                 .orElseThrow(FixedLeaveSeatNotFoundException::new);
 
@@ -91,12 +99,29 @@ public class FixedLeaveSeatFacadeService {
 
         List<StudentEntity> students = getStudents(request.students());
 
+        // 수정 전 학생, 장소, 요일, 교시 (빠진 학생과 바뀌기 전 교시에 남은 이석 스케줄도 다시 쌓아야 한다)
+        List<StudentEntity> previousStudents = fixedLeaveSeatStudentRepository.findAllByFixedLeaveSeat(fixedLeaveSeat);
+        PlaceEntity previousPlace = fixedLeaveSeat.getPlace();
+        WeekDay previousWeekDay = fixedLeaveSeat.getWeekDay();
+        SchoolPeriod previousPeriod = fixedLeaveSeat.getPeriod();
+        boolean sameSlot = previousWeekDay == request.weekDay() && previousPeriod == request.period();
+
+        // 요일이 오늘 기준으로 아직 지나지 않았다면 수정 전 교시의 스케줄 스택을 먼저 비운다
+        // (이석 스케줄이 이번 주 이석을 참조하므로 이석을 지우기 전에 비워야 한다)
+        LocalDate today = LocalDate.now();
+        List<StudentEntity> clearTargets = sameSlot ? union(previousStudents, students) : previousStudents;
+        StudentScheduleSettingScope previousScope = studentScheduleRecomputeService
+                .clearStudents(clearTargets, previousWeekDay, previousPeriod, today);
+
+        // 이번 주 이석은 수정 전 학생으로 이미 만들어져 있어 고정 이석 전략이 건너뛰므로, 지우고 다시 만들게 한다
+        deleteMaterializedLeaveSeat(previousPlace, previousWeekDay, previousPeriod, today);
+
         // 기존 학생 관계 삭제
         fixedLeaveSeatStudentRepository.deleteAllByFixedLeaveSeatId(fixedLeaveSeatId);
 
         // 고정 이석 정보 업데이트
         fixedLeaveSeat.updateFixedLeaveSeatInfo(
-                teacher,
+                teacherRepository.getReferenceById(teacherId),
                 place,
                 request.weekDay(),
                 request.period(),
@@ -106,8 +131,11 @@ public class FixedLeaveSeatFacadeService {
         // 새로운 학생 관계 저장
         saveFixedLeaveSeatStudent(fixedLeaveSeat, students);
 
-        // 요일이 오늘 기준으로 아직 지나지 않았다면 스케줄 세팅
-        updateScheduleIfNotPassed(request.weekDay());
+        // 비운 학생들의 스케줄을 다시 쌓고, 교시가 바뀌었다면 바뀐 교시의 새 학생도 다시 쌓기
+        studentScheduleRecomputeService.restack(previousScope, today);
+        if (!sameSlot) {
+            studentScheduleRecomputeService.recomputeStudents(students, request.weekDay(), request.period(), today);
+        }
     }
 
     @Transactional
@@ -119,6 +147,23 @@ public class FixedLeaveSeatFacadeService {
         fixedLeaveSeatRepository.delete(fixedLeaveSeat);
     }
 
+    private void deleteMaterializedLeaveSeat(PlaceEntity place, WeekDay weekDay, SchoolPeriod period, LocalDate today) {
+        LocalDate day = today.with(weekDay.toDayOfWeek());
+        if (day.isBefore(today)) {
+            return;
+        }
+
+        // 이석 학생, 이석 스케줄도 함께 삭제됨
+        leaveSeatRepository.findByPlaceAndDayAndPeriod(place, day, period)
+                .ifPresent(leaveSeatRepository::delete);
+    }
+
+    private List<StudentEntity> union(List<StudentEntity> previousStudents, List<StudentEntity> students) {
+        Set<StudentEntity> affectedStudents = new LinkedHashSet<>(previousStudents);
+        affectedStudents.addAll(students);
+        return List.copyOf(affectedStudents);
+    }
+
     private void saveFixedLeaveSeatStudent(FixedLeaveSeatEntity fixedLeaveSeat, List<StudentEntity> students) {
         List<FixedLeaveSeatStudentEntity> leaveSeatStudents = students.stream()
                 .map(student -> FixedLeaveSeatStudentEntity.builder()
@@ -149,14 +194,4 @@ public class FixedLeaveSeatFacadeService {
         }
         return students;
     }
-
-    private void updateScheduleIfNotPassed(WeekDay weekDay) {
-        LocalDate today = LocalDate.now();
-        LocalDate targetDate = today.with(weekDay.toDayOfWeek());
-
-        // 해당 요일이 오늘 기준으로 아직 지나지 않았다면 스케줄 세팅
-        if (!targetDate.isBefore(today)) {
-            studentScheduleSettingService.settingAllTypeSchedule(today);
-        }
-    }
 }
@@ -29,13 +29,17 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.LeaveSeatScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.exception.StudentScheduleNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,14 +47,17 @@ public class LeaveSeatFacadeService {
     private final PlaceRepository placeRepository;
     private final LeaveSeatRepository leaveSeatRepository;
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final StudentScheduleRepository studentScheduleRepository;
     private final LeaveSeatScheduleRepository leaveSeatScheduleRepository;
     private final LeaveSeatStudentRepository leaveSeatStudentRepository;
     private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
     private final LeaveSeatMapper leaveSeatMapper;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
 
     @Transactional
-    public void createLeaveSeat(LeaveSeatCreateRequest request, TeacherEntity teacher) {
+    public void createLeaveSeat(LeaveSeatCreateRequest request, Long teacherId) {
         PlaceEntity place = placeRepository.findById(request.placeId())
                 .orElseThrow(PlaceNotFoundException::new);
 
@@ -58,7 +65,7 @@ public class LeaveSeatFacadeService {
 
         // 기존 leaveSeat 이 있으면 가져오고, 없으면 새로 생성
         LeaveSeatEntity leaveSeat = leaveSeatRepository.findByPlaceAndDayAndPeriod(place, request.day(), request.period())
-                .orElseGet(() -> saveLeaveSeat(request, teacher, place));
+                .orElseGet(() -> saveLeaveSeat(request, teacherRepository.getReferenceById(teacherId), place));
 
         saveLeaveSeatRelatedData(leaveSeat, students, request.day(), request.period());
     }
@@ -97,12 +104,7 @@ public class LeaveSeatFacadeService {
 
     // LeaveSeatSchedule 및 Schedule 저장 메서드
     private void saveLeaveSeatSchedules(List<StudentScheduleEntity> studentSchedules, LeaveSeatEntity leaveSeat) {
-        List<ScheduleEntity> newSchedules = studentSchedules.stream()
-                .map(studentSchedule -> {
-                    Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-                    return ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.LEAVE_SEAT);
-                })
-                .toList();
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.LEAVE_SEAT);
         scheduleRepository.saveAll(newSchedules);
 
         List<LeaveSeatScheduleEntity> leaveSeatSchedules = newSchedules.stream()
@@ -118,12 +120,17 @@ public class LeaveSeatFacadeService {
     @Transactional(readOnly = true)
     public List<LeaveSeatListResponse> getLeaveSeatList(LocalDate day, SchoolPeriod period) {
         List<LeaveSeatEntity> leaveSeats = leaveSeatRepository.findAllByDayAndPeriodWithFetch(day, period);
+        if (leaveSeats.isEmpty()) {
+            return List.of();
+        }
+
+        // 이석별 학생을 한 번에 조회
+        Map<Long, List<LeaveSeatStudentEntity>> leaveSeatStudentsMap = leaveSeatStudentRepository.findAllByLeaveSeatsWithFetch(leaveSeats).stream()
+                .collect(Collectors.groupingBy(leaveSeatStudent -> leaveSeatStudent.getLeaveSeat().getId()));
 
         return leaveSeats.stream()
-                .map(leaveSeat -> {
-                    List<LeaveSeatStudentEntity> leaveSeatStudents = leaveSeatStudentRepository.findAllByLeaveSeatWithFetch(leaveSeat);
-                    return leaveSeatMapper.toListResponse(leaveSeat, leaveSeatStudents);
-                })
+                .map(leaveSeat -> leaveSeatMapper.toListResponse(
+                        leaveSeat, leaveSeatStudentsMap.getOrDefault(leaveSeat.getId(), List.of())))
                 .toList();
     }
 
@@ -145,7 +152,7 @@ public class LeaveSeatFacadeService {
     }
 
     @Transactional
-    public void updateLeaveSeat(Long leaveSeatId, LeaveSeatUpdateRequest request, TeacherEntity teacher) {
+    public void updateLeaveSeat(Long leaveSeatId, LeaveSeatUpdateRequest request, Long teacherId) {
         LeaveSeatEntity leaveSeat = leaveSeatRepository.findById(leaveSeatId)
                 .orElseThrow(() -> new LeaveSeatValueInvalidException("이석을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
@@ -159,7 +166,7 @@ public class LeaveSeatFacadeService {
 
         // LeaveSeat 정보 업데이트
         leaveSeat.changeLeaveSeatInfo(
-                teacher,
+                teacherRepository.getReferenceById(teacherId),
                 place,
                 request.day(),
                 request.period(),
@@ -194,19 +201,18 @@ public class LeaveSeatFacadeService {
 
     // leaveSeat 관련 데이터 삭제 메서드
     private void deleteLeaveSeatRelatedData(Long leaveSeatId) {
-        // LeaveSeatSchedule 조회
-        List<LeaveSeatScheduleEntity> leaveSeatSchedules = leaveSeatScheduleRepository.findAll().stream()
-                .filter(ls -> ls.getLeaveSeat().getId().equals(leaveSeatId))
-                .toList();
-
-        // Schedule 삭제
-        List<ScheduleEntity> schedules = leaveSeatSchedules.stream()
-                .map(LeaveSeatScheduleEntity::getSchedule)
-                .toList();
+        // 이석의 Schedule ID 만 조회 후 LeaveSeatSchedule -> Schedule 순서로 벌크 삭제
+        List<Long> scheduleIds = leaveSeatScheduleRepository.findScheduleIdsByLeaveSeatId(leaveSeatId);
+
+        if (!scheduleIds.isEmpty()) {
+            List<StudentScheduleEntity> studentSchedules = scheduleRepository.findStudentSchedulesByIds(scheduleIds);
+            leaveSeatScheduleRepository.deleteByScheduleIds(scheduleIds);
+            scheduleRepository.deleteByIds(scheduleIds);
+            // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 현재 스케줄 갱신 대상 직접 등록
+            currentScheduleDomainService.markChanged(studentSchedules);
+        }
 
-        leaveSeatScheduleRepository.deleteAll(leaveSeatSchedules);
         leaveSeatStudentRepository.deleteAllByLeaveSeatId(leaveSeatId);
-        scheduleRepository.deleteAll(schedules);
     }
 
     private List<StudentEntity> getStudents(List<Long> studentIds) {
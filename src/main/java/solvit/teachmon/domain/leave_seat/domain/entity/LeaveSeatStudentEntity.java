@@ -12,7 +12,7 @@ import solvit.teachmon.global.entity.BaseEntity;
 
 @Getter
 @Entity
-@Table(name = "leave_seat_student")
+@Table(name = "leave_seat_student", indexes = @Index(name = "idx_leave_seat_student_leave_seat_id", columnList = "leave_seat_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LeaveSeatStudentEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
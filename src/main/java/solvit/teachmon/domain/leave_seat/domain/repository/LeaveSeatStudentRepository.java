@@ -17,6 +17,11 @@ public interface LeaveSeatStudentRepository extends JpaRepository<LeaveSeatStude
            "WHERE ls.leaveSeat = :leaveSeat")
     List<LeaveSeatStudentEntity> findAllByLeaveSeatWithFetch(@Param("leaveSeat") LeaveSeatEntity leaveSeat);
 
+    @Query("SELECT ls FROM LeaveSeatStudentEntity ls " +
+           "JOIN FETCH ls.student " +
+           "WHERE ls.leaveSeat IN :leaveSeats")
+    List<LeaveSeatStudentEntity> findAllByLeaveSeatsWithFetch(@Param("leaveSeats") List<LeaveSeatEntity> leaveSeats);
+
     @Modifying
     @Query("DELETE FROM LeaveSeatStudentEntity ls WHERE ls.leaveSeat.id = :leaveSeatId")
     void deleteAllByLeaveSeatId(@Param("leaveSeatId") Long leaveSeatId);
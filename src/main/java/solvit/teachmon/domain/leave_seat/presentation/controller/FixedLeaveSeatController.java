@@ -12,7 +12,6 @@ import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeat
 import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatUpdateRequest;
 import solvit.teachmon.domain.leave_seat.presentation.dto.response.FixedLeaveSeatDetailResponse;
 import solvit.teachmon.domain.leave_seat.presentation.dto.response.FixedLeaveSeatListResponse;
-import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
 
 import java.util.List;
@@ -29,9 +28,7 @@ public class FixedLeaveSeatController {
             @RequestBody @Valid FixedLeaveSeatCreateRequest request,
             @AuthenticationPrincipal TeachmonUserDetails teachmonUserDetails
     ) {
-        TeacherEntity teacher = teachmonUserDetails.teacherEntity();
-
-        fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, teacher);
+        fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, teachmonUserDetails.getId());
 
         return ResponseEntity
                 .ok()
@@ -64,9 +61,7 @@ public class FixedLeaveSeatController {
             @Valid @RequestBody FixedLeaveSeatUpdateRequest request,
             @AuthenticationPrincipal TeachmonUserDetails teachmonUserDetails
     ) {
-        TeacherEntity teacher = teachmonUserDetails.teacherEntity();
-
-        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(staticLeaveSeatId, request, teacher);
+        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(staticLeaveSeatId, request, teachmonUserDetails.getId());
 
         return ResponseEntity
                 .ok()
@@ -14,7 +14,6 @@ import solvit.teachmon.domain.leave_seat.presentation.dto.request.LeaveSeatUpdat
 import solvit.teachmon.domain.leave_seat.presentation.dto.response.LeaveSeatDetailResponse;
 import solvit.teachmon.domain.leave_seat.presentation.dto.response.LeaveSeatListResponse;
 import solvit.teachmon.domain.leave_seat.presentation.dto.response.PlaceAvailabilityResponse;
-import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
 
@@ -33,9 +32,7 @@ public class LeaveSeatController {
             @Valid @RequestBody LeaveSeatCreateRequest request,
             @AuthenticationPrincipal TeachmonUserDetails teachmonUserDetails
     ) {
-        TeacherEntity teacher = teachmonUserDetails.teacherEntity();
-
-        leaveSeatFacadeService.createLeaveSeat(request, teacher);
+        leaveSeatFacadeService.createLeaveSeat(request, teachmonUserDetails.getId());
 
         return ResponseEntity
                 .ok()
@@ -71,9 +68,7 @@ public class LeaveSeatController {
             @Valid @RequestBody LeaveSeatUpdateRequest request,
             @AuthenticationPrincipal TeachmonUserDetails teachmonUserDetails
     ) {
-        TeacherEntity teacher = teachmonUserDetails.teacherEntity();
-
-        leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, teacher);
+        leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, teachmonUserDetails.getId());
 
         return ResponseEntity
                 .ok()
@@ -0,0 +1,47 @@
+package solvit.teachmon.domain.management.student.application.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import solvit.teachmon.domain.management.student.domain.event.StudentChangedEvent;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학년도별 학생 검색 색인을 메모리에 유지
+ * 처음 검색할 때 StudentRepository.findByYear 로 한 번 만들고, 이후에는 학생 변경 이벤트가 들어오면 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentSearchIndex {
+    private final StudentRepository studentRepository;
+    private final Map<Integer, StudentSearchSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 학년도 학생 중 검색어와 일치하는 학생 id 를 순위대로 반환합니다.
+     */
+    public List<Long> search(Integer year, String query) {
+        return snapshots.computeIfAbsent(year, this::load).search(query);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        // 학생 수가 적어 학년도 단위로 통째로 다시 만드는 편이 단순하고 충분히 빠르다
+        snapshots.replaceAll((year, snapshot) -> load(year));
+    }
+
+    private StudentSearchSnapshot load(Integer year) {
+        StudentSearchSnapshot snapshot = StudentSearchSnapshot.from(studentRepository.findByYear(year));
+        log.debug("학생 검색 색인 로드 - year: {}, students: {}", year, snapshot.size());
+        return snapshot;
+    }
+}
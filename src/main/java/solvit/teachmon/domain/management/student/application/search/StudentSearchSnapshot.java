@@ -0,0 +1,163 @@
+package solvit.teachmon.domain.management.student.application.search;
+
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 학년도 학생들의 n-gram 검색 색인 스냅샷
+ * 학생마다 이름, "1-1-3", "113", "1103", "1103이름" 형태를 검색 키로 두고
+ * 키의 1~3 글자 부분 문자열 → 학생 위치(BitSet) 포스팅을 만든다.
+ * 생성 이후 변경되지 않으므로 여러 요청에서 동시에 읽어도 안전하다.
+ */
+public class StudentSearchSnapshot {
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int CONTAINS_SCORE = 1;
+
+    // 학년, 반, 번호 순으로 정렬되어 있어 위치가 곧 동점일 때의 순서가 된다
+    private final long[] studentIds;
+    private final String[][] keys;
+    private final Map<String, BitSet> postings;
+
+    private StudentSearchSnapshot(long[] studentIds, String[][] keys, Map<String, BitSet> postings) {
+        this.studentIds = studentIds;
+        this.keys = keys;
+        this.postings = postings;
+    }
+
+    public static StudentSearchSnapshot from(List<StudentEntity> students) {
+        List<StudentEntity> sorted = students.stream()
+                .sorted(Comparator.comparing(StudentEntity::getGrade)
+                        .thenComparing(StudentEntity::getClassNumber)
+                        .thenComparing(StudentEntity::getNumber))
+                .toList();
+
+        long[] studentIds = new long[sorted.size()];
+        String[][] keys = new String[sorted.size()][];
+        Map<String, BitSet> postings = new HashMap<>();
+
+        for(int position = 0; position < sorted.size(); position++) {
+            StudentEntity student = sorted.get(position);
+            studentIds[position] = student.getId();
+            keys[position] = createKeys(student);
+
+            for(String key : keys[position]) {
+                addGrams(postings, key, position);
+            }
+        }
+
+        return new StudentSearchSnapshot(studentIds, keys, postings);
+    }
+
+    /**
+     * 검색어와 일치하는 학생 id 를 순위대로 반환합니다.
+     * 검색 키와 완전히 같으면 가장 앞, 검색 키로 시작하면 그 다음, 포함만 하면 마지막에 둡니다.
+     * 검색어가 비어 있으면 모든 학생을 학번 순으로 반환합니다.
+     */
+    public List<Long> search(String query) {
+        String normalizedQuery = normalize(query);
+        if(normalizedQuery.isEmpty()) {
+            List<Long> all = new ArrayList<>(studentIds.length);
+            for(long studentId : studentIds) {
+                all.add(studentId);
+            }
+            return all;
+        }
+
+        BitSet candidates = findCandidates(normalizedQuery);
+        List<ScoredPosition> matches = new ArrayList<>();
+        for(int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            int score = score(keys[position], normalizedQuery);
+            if(score > 0)
+                matches.add(new ScoredPosition(position, score));
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingInt(ScoredPosition::score).reversed()
+                        .thenComparingInt(ScoredPosition::position))
+                .map(match -> studentIds[match.position()])
+                .toList();
+    }
+
+    public int size() {
+        return studentIds.length;
+    }
+
+    // 3 글자 이하는 포스팅 자체가 답이고, 더 길면 3-gram 포스팅을 교집합한 뒤 score 에서 다시 확인한다
+    private BitSet findCandidates(String query) {
+        if(query.length() <= MAX_GRAM_LENGTH)
+            return copyOf(postings.get(query));
+
+        BitSet candidates = null;
+        for(int start = 0; start + MAX_GRAM_LENGTH <= query.length(); start++) {
+            BitSet posting = postings.get(query.substring(start, start + MAX_GRAM_LENGTH));
+            if(posting == null)
+                return new BitSet();
+
+            if(candidates == null)
+                candidates = copyOf(posting);
+            else
+                candidates.and(posting);
+
+            if(candidates.isEmpty())
+                break;
+        }
+        return candidates;
+    }
+
+    private static int score(String[] keys, String query) {
+        int score = 0;
+        for(String key : keys) {
+            if(key.equals(query))
+                return EXACT_SCORE;
+            if(key.startsWith(query))
+                score = Math.max(score, PREFIX_SCORE);
+            else if(key.contains(query))
+                score = Math.max(score, CONTAINS_SCORE);
+        }
+        return score;
+    }
+
+    private static String[] createKeys(StudentEntity student) {
+        String name = normalize(student.getName());
+        String paddedNumber = "" + student.getGrade() + student.getClassNumber() + String.format("%02d", student.getNumber());
+
+        return new String[]{
+                name,
+                student.getGrade() + "-" + student.getClassNumber() + "-" + student.getNumber(),
+                "" + student.getGrade() + student.getClassNumber() + student.getNumber(),
+                paddedNumber,
+                // 히스토리 검색은 "2115허온" 처럼 학번과 이름을 붙여서도 검색한다
+                paddedNumber + name
+        };
+    }
+
+    private static void addGrams(Map<String, BitSet> postings, String key, int position) {
+        for(int start = 0; start < key.length(); start++) {
+            for(int length = 1; length <= MAX_GRAM_LENGTH && start + length <= key.length(); length++) {
+                postings.computeIfAbsent(key.substring(start, start + length), gram -> new BitSet())
+                        .set(position);
+            }
+        }
+    }
+
+    private static BitSet copyOf(BitSet posting) {
+        return posting == null ? new BitSet() : (BitSet) posting.clone();
+    }
+
+    // 공백을 제거하고 소문자로 맞춘다
+    private static String normalize(String value) {
+        return value == null ? "" : value.replaceAll("\\s", "").toLowerCase();
+    }
+
+    private record ScoredPosition(int position, int score) {
+    }
+}
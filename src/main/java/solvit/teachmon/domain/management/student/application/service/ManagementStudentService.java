@@ -1,25 +1,32 @@
 package solvit.teachmon.domain.management.student.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import solvit.teachmon.domain.management.student.application.mapper.StudentMapper;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.event.StudentChangedEvent;
 import solvit.teachmon.domain.management.student.exception.StudentNotFoundException;
 import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
 import solvit.teachmon.domain.management.student.presentation.dto.request.StudentRequest;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 
 @Service
 @RequiredArgsConstructor
 public class ManagementStudentService {
     private final StudentRepository studentRepository;
+    private final StudentScheduleRepository studentScheduleRepository;
     private final StudentMapper studentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createStudent(StudentRequest request) {
         StudentEntity student = studentMapper.toEntity(request);
 
         studentRepository.save(student);
+
+        eventPublisher.publishEvent(new StudentChangedEvent(student.getId()));
     }
 
     @Transactional
@@ -28,6 +35,8 @@ public class ManagementStudentService {
                 .orElseThrow(StudentNotFoundException::new);
 
         student.changeInfo(request.grade(), request.classNumber(), request.number(), request.name());
+
+        eventPublisher.publishEvent(new StudentChangedEvent(studentId));
     }
 
     @Transactional
@@ -35,6 +44,10 @@ public class ManagementStudentService {
         if (!studentRepository.existsById(studentId)) {
             throw new StudentNotFoundException();
         }
+        // 학생 스케줄 -> 스케줄 cascade 는 하위 스케줄까지 이어지지 않으므로 먼저 삭제
+        studentScheduleRepository.bulkDeleteSchedulePayloadsByStudentId(studentId);
         studentRepository.deleteById(studentId);
+
+        eventPublisher.publishEvent(new StudentChangedEvent(studentId));
     }
 }
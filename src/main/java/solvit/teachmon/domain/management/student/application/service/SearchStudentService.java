@@ -2,17 +2,36 @@ package solvit.teachmon.domain.management.student.application.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import solvit.teachmon.domain.management.student.application.search.StudentSearchIndex;
 import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
 import solvit.teachmon.domain.management.student.presentation.dto.response.StudentSearchResponseDto;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchStudentService {
     private final StudentRepository studentRepository;
+    private final StudentSearchIndex studentSearchIndex;
 
     public List<StudentSearchResponseDto> searchStudentByQuery(String query) {
-        return studentRepository.searchStudentsByKeyword(query);
+        List<Long> studentIds = studentSearchIndex.search(LocalDate.now().getYear(), query);
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인에서 찾은 학생만 PK 로 조회하고 색인의 순위대로 정렬
+        Map<Long, StudentSearchResponseDto> students = studentRepository.findSearchResponsesByIdIn(studentIds).stream()
+                .collect(Collectors.toMap(StudentSearchResponseDto::id, Function.identity()));
+
+        return studentIds.stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
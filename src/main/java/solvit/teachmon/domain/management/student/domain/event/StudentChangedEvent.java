@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.management.student.domain.event;
+
+/**
+ * 학생이 추가, 수정, 삭제됨
+ * 트랜잭션 커밋 이후 학생 검색 색인을 다시 만드는 데 사용한다.
+ */
+public record StudentChangedEvent(
+        Long studentId
+) {
+}
@@ -2,8 +2,9 @@ package solvit.teachmon.domain.management.student.domain.repository.querydsl;
 
 import solvit.teachmon.domain.management.student.presentation.dto.response.StudentSearchResponseDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentQueryDslRepository {
-    List<StudentSearchResponseDto> searchStudentsByKeyword(String keyword);
-}
\ No newline at end of file
+    List<StudentSearchResponseDto> findSearchResponsesByIdIn(Collection<Long> studentIds);
+}
@@ -1,6 +1,7 @@
 package solvit.teachmon.domain.management.teacher.application.facade;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import solvit.teachmon.domain.management.teacher.domain.entity.SupervisionBanDayEntity;
@@ -9,6 +10,7 @@ import solvit.teachmon.domain.management.teacher.presentation.dto.request.Teache
 import solvit.teachmon.domain.management.teacher.presentation.dto.response.TeacherListResponse;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.event.TeacherChangedEvent;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
 import solvit.teachmon.global.enums.WeekDay;
@@ -22,6 +24,7 @@ public class ManagementTeacherFacadeService {
     private final TeacherRepository teacherRepository;
     private final SupervisionScheduleRepository supervisionScheduleRepository;
     private final SupervisionBanDayRepository supervisionBanDayRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<TeacherListResponse> getAllTeachers(String query) {
@@ -35,6 +38,9 @@ public class ManagementTeacherFacadeService {
 
         teacher.changeRole(updateRequest.role());
         teacher.changeName(updateRequest.name());
+
+        // 권한/이름이 바뀌었으므로 캐시된 인증 주체를 커밋 이후 무효화
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
     }
 
     @Transactional
@@ -43,6 +49,8 @@ public class ManagementTeacherFacadeService {
             throw new TeacherNotFoundException();
         }
         teacherRepository.deleteById(teacherId);
+
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
     }
 
     @Transactional
@@ -2,6 +2,7 @@ package solvit.teachmon.domain.place.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
@@ -36,6 +37,12 @@ public class PlaceEntity extends BaseEntity {
     @OneToMany(mappedBy = "place", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<AfterSchoolEntity> afterSchools = new ArrayList<>();
 
+    @Builder
+    public PlaceEntity(Integer floor, String name) {
+        this.floor = floor;
+        this.name = name;
+    }
+
     public static Integer calculateNextClassNumber(Integer classNumber) {
         return (classNumber % 4) + 1;
     }
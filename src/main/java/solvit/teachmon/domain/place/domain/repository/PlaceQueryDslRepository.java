@@ -5,12 +5,15 @@ import solvit.teachmon.domain.place.presentation.dto.response.PlaceSearchRespons
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface PlaceQueryDslRepository {
     Map<Integer, PlaceEntity> findAllByGradePrefix(Integer grade);
     Boolean checkPlaceAvailability(LocalDate day, SchoolPeriod period, PlaceEntity place);
+    Set<Long> findOccupiedPlaceIdsByDayAndPeriod(LocalDate day, SchoolPeriod period, Collection<PlaceEntity> places);
     List<PlaceSearchResponseDto> searchPlacesByKeyword(String keyword);
     Boolean existAfterSchoolPlaceByDayAndPeriodAndPlace(LocalDate day, SchoolPeriod period, PlaceEntity place);
 }
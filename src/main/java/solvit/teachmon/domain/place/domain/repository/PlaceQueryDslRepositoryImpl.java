@@ -1,10 +1,12 @@
 package solvit.teachmon.domain.place.domain.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
+import solvit.teachmon.domain.after_school.domain.entity.QAfterSchoolBusinessTripEntity;
 import solvit.teachmon.domain.after_school.domain.entity.QAfterSchoolEntity;
 import solvit.teachmon.domain.after_school.domain.entity.QAfterSchoolReinforcementEntity;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolBusinessTripRepository;
@@ -17,8 +19,11 @@ import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -52,6 +57,62 @@ public class PlaceQueryDslRepositoryImpl implements PlaceQueryDslRepository{
         return afterSchoolExist || leaveSeatExist || afterSchoolReinforcementExist;
     }
 
+    @Override
+    public Set<Long> findOccupiedPlaceIdsByDayAndPeriod(LocalDate day, SchoolPeriod period, Collection<PlaceEntity> places) {
+        if (places.isEmpty()) {
+            return Set.of();
+        }
+
+        QAfterSchoolEntity afterSchool = QAfterSchoolEntity.afterSchoolEntity;
+        QAfterSchoolBusinessTripEntity businessTrip = QAfterSchoolBusinessTripEntity.afterSchoolBusinessTripEntity;
+        QAfterSchoolReinforcementEntity afterSchoolReinforcement = QAfterSchoolReinforcementEntity.afterSchoolReinforcementEntity;
+        QLeaveSeatEntity leaveSeat = QLeaveSeatEntity.leaveSeatEntity;
+
+        Set<Long> occupiedPlaceIds = new HashSet<>();
+
+        // 이날 출장이 아닌 방과후가 사용하는 장소
+        occupiedPlaceIds.addAll(queryFactory
+                .select(afterSchool.place.id)
+                .from(afterSchool)
+                .where(
+                        afterSchool.weekDay.eq(WeekDay.fromLocalDate(day)),
+                        afterSchool.period.eq(period),
+                        afterSchool.place.in(places),
+                        JPAExpressions.selectOne()
+                                .from(businessTrip)
+                                .where(
+                                        businessTrip.afterSchool.eq(afterSchool),
+                                        businessTrip.day.eq(day)
+                                )
+                                .notExists()
+                )
+                .fetch());
+
+        // 이석이 사용하는 장소
+        occupiedPlaceIds.addAll(queryFactory
+                .select(leaveSeat.place.id)
+                .from(leaveSeat)
+                .where(
+                        leaveSeat.day.eq(day),
+                        leaveSeat.period.eq(period),
+                        leaveSeat.place.in(places)
+                )
+                .fetch());
+
+        // 방과후 보강이 사용하는 장소
+        occupiedPlaceIds.addAll(queryFactory
+                .select(afterSchoolReinforcement.place.id)
+                .from(afterSchoolReinforcement)
+                .where(
+                        afterSchoolReinforcement.changeDay.eq(day),
+                        afterSchoolReinforcement.changePeriod.eq(period),
+                        afterSchoolReinforcement.place.in(places)
+                )
+                .fetch());
+
+        return occupiedPlaceIds;
+    }
+
     @Override
     public Boolean existAfterSchoolPlaceByDayAndPeriodAndPlace(LocalDate day, SchoolPeriod period, PlaceEntity place) {
         QAfterSchoolEntity afterSchool = QAfterSchoolEntity.afterSchoolEntity;
@@ -10,7 +10,9 @@ import solvit.teachmon.domain.self_study.application.mapper.SelfStudyMapper;
 import solvit.teachmon.domain.self_study.domain.entity.SelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.SelfStudyRepository;
 import solvit.teachmon.domain.self_study.presentation.dto.common.WeekDaySelfStudyDto;
-import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleSettingService;
+import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleRecomputeService;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
@@ -23,7 +25,7 @@ public class SelfStudyFacadeService {
     private final SelfStudyRepository selfStudyRepository;
     private final BranchRepository branchRepository;
     private final SelfStudyMapper selfStudyMapper;
-    private final StudentScheduleSettingService studentScheduleSettingService;
+    private final StudentScheduleRecomputeService studentScheduleRecomputeService;
 
     @Transactional
     public void setSelfStudy(Integer year, Integer branch, Integer grade, List<WeekDaySelfStudyDto> request) {
@@ -31,17 +33,21 @@ public class SelfStudyFacadeService {
                 .orElseThrow(BranchNotFoundException::new);
 
         List<SelfStudyEntity> oldSelfStudies = selfStudyRepository.findAllByBranchAndGrade(branchEntity, grade);
-        selfStudyRepository.deleteAll(oldSelfStudies);
-
         List<SelfStudyEntity> selfStudyEntities = selfStudyMapper.toEntities(request, branchEntity, grade);
 
-        selfStudyRepository.saveAll(selfStudyEntities);
-
+        // 진행 중인 분기라면 바뀌기 전후 자습이 걸친 (날짜, 교시) 의 해당 학년 스케줄 스택만 먼저 비우기
         LocalDate today = LocalDate.now();
+        StudentScheduleSettingScope scope = StudentScheduleSettingScope.empty();
         if(today.isAfter(branchEntity.getStartDay()) && today.isBefore(branchEntity.getEndDay())) {
-            studentScheduleSettingService.createNewStudentSchedule(today);
-            studentScheduleSettingService.settingAllTypeSchedule(today);
+            Set<ScheduleSlotVo> slots = getSelfStudySlots(oldSelfStudies, selfStudyEntities, today);
+            scope = studentScheduleRecomputeService.clearGradeSlots(grade, slots, today);
         }
+
+        selfStudyRepository.deleteAll(oldSelfStudies);
+        selfStudyRepository.saveAll(selfStudyEntities);
+
+        // 비운 스케줄 스택만 다시 쌓기
+        studentScheduleRecomputeService.restack(scope, today);
     }
 
     public List<WeekDaySelfStudyDto> getSelfStudy(Integer year, Integer branch, Integer grade) {
@@ -52,4 +58,18 @@ public class SelfStudyFacadeService {
 
         return selfStudyMapper.toWeekDaySelfStudyDtos(groupedByWeekDay);
     }
+
+    private Set<ScheduleSlotVo> getSelfStudySlots(List<SelfStudyEntity> oldSelfStudies, List<SelfStudyEntity> newSelfStudies, LocalDate today) {
+        Set<ScheduleSlotVo> slots = new HashSet<>();
+        for(List<SelfStudyEntity> selfStudies : List.of(oldSelfStudies, newSelfStudies)) {
+            for(SelfStudyEntity selfStudy : selfStudies) {
+                LocalDate day = today.with(selfStudy.getWeekDay().toDayOfWeek());
+                // 이미 지난 요일은 건너뛰기
+                if(!day.isBefore(today)) {
+                    slots.add(new ScheduleSlotVo(day, selfStudy.getPeriod()));
+                }
+            }
+        }
+        return slots;
+    }
 }
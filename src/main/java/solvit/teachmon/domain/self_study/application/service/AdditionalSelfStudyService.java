@@ -3,12 +3,11 @@ package solvit.teachmon.domain.self_study.application.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
-import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.self_study.application.mapper.AdditionalSelfStudyMapper;
 import solvit.teachmon.domain.self_study.domain.entity.AdditionalSelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.AdditionalSelfStudyRepository;
+import solvit.teachmon.domain.self_study.domain.service.SelfStudyPlacePlanner;
 import solvit.teachmon.domain.self_study.exception.AdditionalSelfStudyNotFoundException;
 import solvit.teachmon.domain.self_study.presentation.dto.request.AdditionalSelfStudySetRequest;
 import solvit.teachmon.domain.self_study.presentation.dto.response.AdditionalSelfStudyGetResponse;
@@ -17,18 +16,17 @@ import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AdditionalSelfStudyScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
-import solvit.teachmon.domain.student_schedule.domain.exception.NoAvailablePlaceException;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AdditionalSelfStudyScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static solvit.teachmon.domain.place.domain.entity.PlaceEntity.calculateNextClassNumber;
-
 @Service
 @RequiredArgsConstructor
 public class AdditionalSelfStudyService {
@@ -36,8 +34,9 @@ public class AdditionalSelfStudyService {
     private final AdditionalSelfStudyMapper additionalSelfStudyMapper;
     private final StudentScheduleRepository studentScheduleRepository;
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final AdditionalSelfStudyScheduleRepository additionalSelfStudyScheduleRepository;
-    private final PlaceRepository placeRepository;
+    private final SelfStudyPlacePlanner selfStudyPlacePlanner;
     private final StudentScheduleGenerator studentScheduleGenerator;
 
     @Transactional
@@ -82,60 +81,32 @@ public class AdditionalSelfStudyService {
                     additionalSelfStudy.getPeriod()
             );
 
-            for (StudentScheduleEntity studentSchedule : studentSchedules) {
-                ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-                PlaceEntity place = findAdditionalSelfStudyPlace(studentSchedule);
-                createAdditionalSelfStudySchedule(newSchedule, additionalSelfStudy, place);
-            }
-        }
-    }
-
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(
-                studentSchedule,
-                lastStackOrder,
-                ScheduleType.ADDITIONAL_SELF_STUDY
-        );
-
-        return scheduleRepository.save(newSchedule);
-    }
-
-    private PlaceEntity findAdditionalSelfStudyPlace(StudentScheduleEntity studentSchedule) {
-        StudentEntity student = studentSchedule.getStudent();
-        Map<Integer, PlaceEntity> placesMap = placeRepository.findAllByGradePrefix(student.getGrade());
+            Map<StudentScheduleEntity, PlaceEntity> places = selfStudyPlacePlanner.plan(studentSchedules);
 
-        Integer targetPoint = student.getClassNumber();
-        for (int count = 0; count < 4; count++) {
-            PlaceEntity place = placesMap.get(targetPoint);
+            List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(
+                    studentSchedules,
+                    ScheduleType.ADDITIONAL_SELF_STUDY
+            );
+            scheduleRepository.saveAll(newSchedules);
 
-            // 해당 반 교실이 존재하지 않으면 다음 반으로 넘어감
-            if (place == null) {
-                targetPoint = calculateNextClassNumber(targetPoint);
-                continue;
+            List<AdditionalSelfStudyScheduleEntity> additionalSelfStudySchedules = new ArrayList<>(newSchedules.size());
+            for (ScheduleEntity newSchedule : newSchedules) {
+                PlaceEntity place = places.get(newSchedule.getStudentSchedule());
+                additionalSelfStudySchedules.add(createAdditionalSelfStudySchedule(newSchedule, additionalSelfStudy, place));
             }
-
-            if(!placeRepository.checkPlaceAvailability(
-                    studentSchedule.getDay(), studentSchedule.getPeriod(), place
-            ))
-                return place;
-            targetPoint = calculateNextClassNumber(targetPoint);
+            additionalSelfStudyScheduleRepository.saveAll(additionalSelfStudySchedules);
         }
-
-        throw new NoAvailablePlaceException();
     }
 
-    private void createAdditionalSelfStudySchedule(
+    private AdditionalSelfStudyScheduleEntity createAdditionalSelfStudySchedule(
             ScheduleEntity schedule,
             AdditionalSelfStudyEntity additionalSelfStudy,
             PlaceEntity place
     ) {
-        AdditionalSelfStudyScheduleEntity additionalSelfStudySchedule = AdditionalSelfStudyScheduleEntity.builder()
+        return AdditionalSelfStudyScheduleEntity.builder()
                 .schedule(schedule)
                 .place(place)
                 .additionalSelfStudy(additionalSelfStudy)
                 .build();
-
-        additionalSelfStudyScheduleRepository.save(additionalSelfStudySchedule);
     }
 }
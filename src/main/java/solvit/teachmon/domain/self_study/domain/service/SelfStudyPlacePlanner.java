@@ -0,0 +1,87 @@
+package solvit.teachmon.domain.self_study.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.exception.NoAvailablePlaceException;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static solvit.teachmon.domain.place.domain.entity.PlaceEntity.calculateNextClassNumber;
+
+/**
+ * 자습 장소 배정
+ * (날짜, 교시) 별로 학년 교실의 점유 현황을 한 번만 조회한 뒤,
+ * 자기 반 교실부터 다음 반 교실 순으로 비어 있는 교실을 메모리에서 찾아 배정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SelfStudyPlacePlanner {
+    private static final int CLASS_COUNT = 4;
+
+    private final PlaceRepository placeRepository;
+
+    public Map<StudentScheduleEntity, PlaceEntity> plan(List<StudentScheduleEntity> studentSchedules) {
+        Map<StudentScheduleEntity, PlaceEntity> assignments = new HashMap<>();
+        Map<Integer, Map<Integer, PlaceEntity>> placesByGrade = new HashMap<>();
+
+        Map<ScheduleSlotVo, List<StudentScheduleEntity>> studentSchedulesBySlot = studentSchedules.stream()
+                .collect(Collectors.groupingBy(
+                        studentSchedule -> new ScheduleSlotVo(studentSchedule.getDay(), studentSchedule.getPeriod()),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        studentSchedulesBySlot.forEach((slot, slotStudentSchedules) -> {
+            List<PlaceEntity> candidatePlaces = slotStudentSchedules.stream()
+                    .map(studentSchedule -> studentSchedule.getStudent().getGrade())
+                    .distinct()
+                    .map(grade -> placesByGrade.computeIfAbsent(grade, placeRepository::findAllByGradePrefix))
+                    .map(Map::values)
+                    .flatMap(Collection::stream)
+                    .toList();
+            Set<Long> occupiedPlaceIds = placeRepository.findOccupiedPlaceIdsByDayAndPeriod(
+                    slot.day(), slot.period(), candidatePlaces
+            );
+
+            // 같은 반 학생은 배정 결과가 같으므로 (학년, 반) 단위로 한 번만 계산
+            Map<Integer, Map<Integer, PlaceEntity>> resolvedPlaces = new HashMap<>();
+            for (StudentScheduleEntity studentSchedule : slotStudentSchedules) {
+                StudentEntity student = studentSchedule.getStudent();
+                PlaceEntity place = resolvedPlaces
+                        .computeIfAbsent(student.getGrade(), grade -> new HashMap<>())
+                        .computeIfAbsent(student.getClassNumber(), classNumber -> resolvePlace(
+                                placesByGrade.get(student.getGrade()), occupiedPlaceIds, classNumber
+                        ));
+                assignments.put(studentSchedule, place);
+            }
+        });
+
+        return assignments;
+    }
+
+    private PlaceEntity resolvePlace(Map<Integer, PlaceEntity> places, Set<Long> occupiedPlaceIds, Integer classNumber) {
+        Integer targetPoint = classNumber;
+        for (int count = 0; count < CLASS_COUNT; count++) {
+            PlaceEntity place = places.get(targetPoint);
+
+            // 해당 반 교실이 존재하지 않거나 사용 중이면 다음 반으로 넘어감
+            if (place != null && !occupiedPlaceIds.contains(place.getId())) {
+                return place;
+            }
+            targetPoint = calculateNextClassNumber(targetPoint);
+        }
+
+        throw new NoAvailablePlaceException();
+    }
+}
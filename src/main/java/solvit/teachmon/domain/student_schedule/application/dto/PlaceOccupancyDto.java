@@ -0,0 +1,13 @@
+package solvit.teachmon.domain.student_schedule.application.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+
+@QueryProjection
+public record PlaceOccupancyDto(
+        Long placeId,
+        String placeName,
+        Integer floor,
+        ScheduleType scheduleType,
+        Long headcount
+) {}
@@ -0,0 +1,18 @@
+package solvit.teachmon.domain.student_schedule.application.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+@QueryProjection
+public record PlacePlacementDto(
+        Long studentScheduleId,
+        LocalDate day,
+        SchoolPeriod period,
+        Long placeId,
+        String placeName,
+        Integer floor,
+        ScheduleType scheduleType
+) {}
@@ -2,8 +2,11 @@ package solvit.teachmon.domain.student_schedule.application.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
 import solvit.teachmon.domain.student_schedule.application.dto.PlaceScheduleDto;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.FloorStateResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStateResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStudentScheduleResponse;
@@ -34,6 +37,21 @@ public interface PlaceStudentScheduleMapper {
             List<PlaceScheduleDto> dtos
     );
 
+    @Mapping(target = "state", source = "scheduleType", qualifiedByName = "toPlaceState")
+    PlaceStateResponse toPlaceStateResponse(
+            PlaceOccupancyDto dto
+    );
+
+    List<PlaceStateResponse> toPlaceStateResponsesFromOccupancies(
+            List<PlaceOccupancyDto> dtos
+    );
+
+    // 보강도 장소 상태는 방과후로 표시
+    @Named("toPlaceState")
+    default ScheduleType toPlaceState(ScheduleType scheduleType) {
+        return scheduleType == ScheduleType.AFTER_SCHOOL_REINFORCEMENT ? ScheduleType.AFTER_SCHOOL : scheduleType;
+    }
+
     @Mapping(target = "placeId", source = "place.id")
     @Mapping(target = "placeName", source = "place.name")
     @Mapping(target = "students", source = "studentSchedules")
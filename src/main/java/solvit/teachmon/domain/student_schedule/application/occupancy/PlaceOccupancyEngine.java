@@ -0,0 +1,95 @@
+package solvit.teachmon.domain.student_schedule.application.occupancy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlacePlacementDto;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * (날짜, 교시) 별 장소 사용 현황을 메모리에 유지
+ * 처음 조회할 때 한 번 DB 에서 만들고, 이후에는 스케줄 변경 이벤트의 student_schedule 장소만 조회해 증분으로 반영한다.
+ * 변경분을 알 수 없는 일괄 변경(주간 스케줄 재생성 등)만 (날짜, 교시) 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceOccupancyEngine {
+    private final StudentScheduleRepository studentScheduleRepository;
+    private final Map<ScheduleSlotVo, PlaceOccupancySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public Map<Integer, Long> getFloorCounts(LocalDate day, SchoolPeriod period) {
+        return getSnapshot(new ScheduleSlotVo(day, period)).getFloorCounts();
+    }
+
+    public List<PlaceOccupancyDto> getPlaces(Integer floor, LocalDate day, SchoolPeriod period) {
+        return getSnapshot(new ScheduleSlotVo(day, period)).getPlaces(floor);
+    }
+
+    // 실시간 장소 현황 전송이 갱신된 스냅샷을 읽도록 가장 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudentScheduleChanged(StudentScheduleChangedEvent event) {
+        // 메모리에 올라와 있는 (날짜, 교시) 만 반영한다
+        List<ScheduleSlotVo> cachedSlots = event.slots().stream()
+                .filter(snapshots::containsKey)
+                .toList();
+        if (cachedSlots.isEmpty()) {
+            return;
+        }
+
+        if (event.studentScheduleIds().isEmpty()) {
+            for (ScheduleSlotVo slot : cachedSlots) {
+                snapshots.computeIfPresent(slot, (key, snapshot) -> load(key));
+            }
+            return;
+        }
+
+        // 바뀐 student_schedule 의 현재 장소만 조회해 이전 장소 인원은 빼고 새 장소 인원은 더한다
+        Map<ScheduleSlotVo, List<PlacePlacementDto>> placementsBySlot = studentScheduleRepository
+                .findPlacePlacementsByStudentScheduleIds(event.studentScheduleIds()).stream()
+                .collect(Collectors.groupingBy(placement -> new ScheduleSlotVo(placement.day(), placement.period())));
+        for (ScheduleSlotVo slot : cachedSlots) {
+            snapshots.computeIfPresent(slot, (key, snapshot) ->
+                    snapshot.apply(event.studentScheduleIds(), placementsBySlot.getOrDefault(key, List.of())));
+        }
+    }
+
+    private PlaceOccupancySnapshot getSnapshot(ScheduleSlotVo slot) {
+        PlaceOccupancySnapshot snapshot = snapshots.get(slot);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // 지난 날짜는 더 이상 조회되지 않으므로 정리
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        snapshots.keySet().removeIf(key -> key.day().isBefore(today));
+
+        return snapshots.computeIfAbsent(slot, this::load);
+    }
+
+    private PlaceOccupancySnapshot load(ScheduleSlotVo slot) {
+        log.debug("장소 사용 현황 로드 - day: {}, period: {}", slot.day(), slot.period());
+        return PlaceOccupancySnapshot.from(
+                studentScheduleRepository.findPlacePlacementsByDayAndPeriod(slot.day(), slot.period())
+        );
+    }
+}
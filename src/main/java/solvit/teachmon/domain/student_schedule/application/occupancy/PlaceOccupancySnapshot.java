@@ -0,0 +1,88 @@
+package solvit.teachmon.domain.student_schedule.application.occupancy;
+
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlacePlacementDto;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 특정 (날짜, 교시) 의 층 → 장소 → 스케줄 타입별 인원 스냅샷
+ * 생성 이후 변경되지 않으므로 여러 요청에서 동시에 읽어도 안전하다.
+ * 변경분은 apply 로 이전 장소 인원을 빼고 새 장소 인원을 더한 새 스냅샷을 만들어 반영한다.
+ */
+public class PlaceOccupancySnapshot {
+    // student_schedule → 현재 사용 장소 (변경분의 이전 장소를 찾기 위해 유지)
+    private final Map<Long, PlacePlacementDto> placements;
+    private final Map<OccupancyKey, Long> headcounts;
+    // 층 → 사용 중인 장소 수 (스케줄 타입별로 합산)
+    private final Map<Integer, Long> floorCounts;
+    private final Map<Integer, List<PlaceOccupancyDto>> placesByFloor;
+
+    private PlaceOccupancySnapshot(Map<Long, PlacePlacementDto> placements, Map<OccupancyKey, Long> headcounts) {
+        this.placements = placements;
+        this.headcounts = headcounts;
+        this.placesByFloor = Map.copyOf(headcounts.entrySet().stream()
+                .map(entry -> entry.getKey().toOccupancy(entry.getValue()))
+                .sorted(Comparator.comparing(PlaceOccupancyDto::scheduleType)
+                        .thenComparing(PlaceOccupancyDto::placeId))
+                .collect(Collectors.groupingBy(PlaceOccupancyDto::floor, Collectors.toUnmodifiableList())));
+        this.floorCounts = placesByFloor.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        entry -> (long) entry.getValue().size()
+                ));
+    }
+
+    public static PlaceOccupancySnapshot from(List<PlacePlacementDto> placements) {
+        return new PlaceOccupancySnapshot(Map.of(), Map.of()).apply(List.of(), placements);
+    }
+
+    /**
+     * 바뀐 student_schedule 을 이전 장소에서 빼고 새 장소에 더한 스냅샷을 반환합니다.
+     * 장소 기반 스케줄이 사라진 student_schedule 은 newPlacements 에 없으므로 빼기만 합니다.
+     */
+    public PlaceOccupancySnapshot apply(Collection<Long> changedStudentScheduleIds, List<PlacePlacementDto> newPlacements) {
+        Map<Long, PlacePlacementDto> nextPlacements = new HashMap<>(placements);
+        Map<OccupancyKey, Long> nextHeadcounts = new HashMap<>(headcounts);
+
+        for (Long studentScheduleId : changedStudentScheduleIds) {
+            PlacePlacementDto previous = nextPlacements.remove(studentScheduleId);
+            if (previous != null) {
+                nextHeadcounts.computeIfPresent(OccupancyKey.from(previous), (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+        for (PlacePlacementDto placement : newPlacements) {
+            PlacePlacementDto previous = nextPlacements.put(placement.studentScheduleId(), placement);
+            if (previous != null) {
+                nextHeadcounts.computeIfPresent(OccupancyKey.from(previous), (key, count) -> count > 1 ? count - 1 : null);
+            }
+            nextHeadcounts.merge(OccupancyKey.from(placement), 1L, Long::sum);
+        }
+
+        return new PlaceOccupancySnapshot(nextPlacements, nextHeadcounts);
+    }
+
+    public Map<Integer, Long> getFloorCounts() {
+        return floorCounts;
+    }
+
+    public List<PlaceOccupancyDto> getPlaces(Integer floor) {
+        return placesByFloor.getOrDefault(floor, List.of());
+    }
+
+    private record OccupancyKey(Long placeId, String placeName, Integer floor, ScheduleType scheduleType) {
+        private static OccupancyKey from(PlacePlacementDto placement) {
+            return new OccupancyKey(placement.placeId(), placement.placeName(), placement.floor(), placement.scheduleType());
+        }
+
+        private PlaceOccupancyDto toOccupancy(Long headcount) {
+            return new PlaceOccupancyDto(placeId, placeName, floor, scheduleType, headcount);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package solvit.teachmon.domain.student_schedule.application.pipeline;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 스케줄 빌드 실행 중 표시
+ * 체크포인트는 완료된 단계만 기록하므로, 빌드가 진행 중일 때 재개가 같은 baseDate 로 한 번 더 실행되면
+ * 완료되지 않은 단계(삭제, 학생 스케줄 생성, 전략)가 중복 실행된다.
+ * baseDate 별로 SETNX 로 실행 권한을 잡고, 서버가 죽어도 풀리도록 TTL 을 두되 빌드가 진행되는 동안 주기적으로 연장한다.
+ * 단계 하나(한 주 전체의 전략 실행 등)가 TTL 보다 오래 걸릴 수 있으므로 단계 경계가 아니라 heartbeat 로 연장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyScheduleBuildLock {
+    private static final String KEY_PREFIX = "weekly_schedule_build:running:";
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(20);
+    private static final Duration HEARTBEAT_INTERVAL = TIME_TO_LIVE.dividedBy(4);
+
+    // 다른 실행이 잡은 락을 지우거나 연장하지 않도록 소유자가 같을 때만 처리
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("weekly-schedule-build-heartbeat").daemon().factory()
+    );
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    /**
+     * 실행 권한을 얻으면 소유자 토큰을, 이미 다른 빌드가 실행 중이면 빈 값을 반환합니다.
+     */
+    public Optional<String> tryAcquire(LocalDate baseDate) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(toKey(baseDate), owner, TIME_TO_LIVE);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+    }
+
+    private void extend(LocalDate baseDate, String owner) {
+        redisTemplate.execute(EXTEND_SCRIPT, List.of(toKey(baseDate)), owner, TIME_TO_LIVE.toMillis());
+    }
+
+    /**
+     * 반환된 Heartbeat 를 닫을 때까지 TTL 의 1/4 마다 실행 중 표시를 연장합니다.
+     */
+    public Heartbeat keepAlive(LocalDate baseDate, String owner) {
+        ScheduledFuture<?> task = heartbeatScheduler.scheduleAtFixedRate(() -> {
+            // 예외가 나면 이후 연장이 모두 취소되므로 한 번의 실패는 로그만 남기고 다음 주기에 다시 시도
+            try {
+                extend(baseDate, owner);
+            } catch (RuntimeException e) {
+                log.warn("주간 스케줄 빌드 실행 중 표시 연장 실패 - baseDate: {}", baseDate, e);
+            }
+        }, HEARTBEAT_INTERVAL.toMillis(), HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        return () -> task.cancel(false);
+    }
+
+    public void release(LocalDate baseDate, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(toKey(baseDate)), owner);
+    }
+
+    private String toKey(LocalDate baseDate) {
+        return KEY_PREFIX + baseDate;
+    }
+
+    public interface Heartbeat extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
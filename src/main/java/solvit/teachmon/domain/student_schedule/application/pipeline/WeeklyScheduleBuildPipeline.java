@@ -0,0 +1,228 @@
+package solvit.teachmon.domain.student_schedule.application.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleGenerator;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategyComposite;
+import solvit.teachmon.domain.student_schedule.domain.entity.WeeklyScheduleBuildCheckpointEntity;
+import solvit.teachmon.domain.student_schedule.domain.repository.WeeklyScheduleBuildCheckpointRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 학생 스케줄 빌드 파이프라인
+ * 1. 기존 스케줄 삭제
+ * 2. (날짜, 학년) 청크별 학생 스케줄 생성 - 서로 독립적이므로 가상 스레드에서 병렬 실행
+ * 3. 타입별 스케줄 설정 - 스택 순서가 중요하므로 getAllStrategies 순서대로 실행
+ * 각 단계는 자체 트랜잭션으로 실행되고, 완료된 단계는 체크포인트에 기록되어 재실행 시 건너뛴다.
+ * 같은 baseDate 의 빌드는 WeeklyScheduleBuildLock 으로 한 번에 하나만 실행되고, 실행 중 표시는 빌드가 끝날 때까지 heartbeat 로 연장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyScheduleBuildPipeline {
+    private static final int MAX_CONCURRENT_CHUNKS = 4;
+    private static final long CHECKPOINT_TIME_TO_LIVE = 60L * 60 * 24 * 7;
+    private static final String METRIC_NAME = "teachmon.schedule.weekly-build";
+
+    private static final String RESET_STAGE = "reset";
+    private static final String STUDENT_SCHEDULE_STAGE = "student_schedule";
+    private static final String STRATEGY_STAGE = "strategy";
+
+    private final StudentScheduleSettingStrategyComposite studentScheduleSettingStrategyComposite;
+    private final StudentScheduleGenerator studentScheduleGenerator;
+    private final StudentRepository studentRepository;
+    private final WeeklyScheduleBuildCheckpointRepository weeklyScheduleBuildCheckpointRepository;
+    private final WeeklyScheduleBuildLock weeklyScheduleBuildLock;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 기존 진행 상황을 무시하고 처음부터 주간 스케줄을 빌드합니다.
+     */
+    public void build(LocalDate baseDate) {
+        Optional<String> owner = weeklyScheduleBuildLock.tryAcquire(baseDate);
+        if(owner.isEmpty()) {
+            log.warn("주간 스케줄 빌드가 이미 실행 중이라 건너뜀 - baseDate: {}", baseDate);
+            return;
+        }
+
+        try {
+            WeeklyScheduleBuildCheckpointEntity checkpoint = WeeklyScheduleBuildCheckpointEntity.builder()
+                    .baseDate(baseDate.toString())
+                    .timeToLive(CHECKPOINT_TIME_TO_LIVE)
+                    .build();
+            weeklyScheduleBuildCheckpointRepository.save(checkpoint);
+
+            run(baseDate, checkpoint, owner.get());
+        } finally {
+            weeklyScheduleBuildLock.release(baseDate, owner.get());
+        }
+    }
+
+    /**
+     * 중단된 빌드가 있으면 완료되지 않은 단계부터 이어서 실행합니다.
+     */
+    public void resume(LocalDate baseDate) {
+        // 진행 중인 빌드가 있으면 그 빌드가 남은 단계를 마저 실행한다
+        Optional<String> owner = weeklyScheduleBuildLock.tryAcquire(baseDate);
+        if(owner.isEmpty()) {
+            log.info("주간 스케줄 빌드가 실행 중이라 재개하지 않음 - baseDate: {}", baseDate);
+            return;
+        }
+
+        try {
+            // 락을 잡기 전에 끝난 빌드일 수 있으므로 락을 잡은 뒤에 체크포인트를 읽는다
+            weeklyScheduleBuildCheckpointRepository.findById(baseDate.toString())
+                    .filter(checkpoint -> !checkpoint.getFinished())
+                    .ifPresent(checkpoint -> run(baseDate, checkpoint, owner.get()));
+        } finally {
+            weeklyScheduleBuildLock.release(baseDate, owner.get());
+        }
+    }
+
+    private void run(LocalDate baseDate, WeeklyScheduleBuildCheckpointEntity checkpoint, String owner) {
+        // 한 주 전체를 처리하는 전략 단계는 실행 중 표시의 TTL 보다 오래 걸릴 수 있으므로 단계 도중에도 연장
+        try (WeeklyScheduleBuildLock.Heartbeat heartbeat = weeklyScheduleBuildLock.keepAlive(baseDate, owner)) {
+            long startedAt = System.nanoTime();
+            long deleted = runStage(checkpoint, RESET_STAGE, baseDate.toString(),
+                    () -> studentScheduleGenerator.bulkDeleteFutureStudentSchedules(baseDate));
+            reportThroughput(RESET_STAGE, deleted, startedAt);
+
+            buildStudentSchedules(baseDate, checkpoint);
+
+            for(StudentScheduleSettingStrategy strategy : studentScheduleSettingStrategyComposite.getAllStrategies()) {
+                runStage(checkpoint, STRATEGY_STAGE, strategy.getScheduleType().name(), () -> {
+                    strategy.settingSchedule(baseDate);
+                    return 0L;
+                });
+            }
+
+            checkpoint.finish();
+            weeklyScheduleBuildCheckpointRepository.save(checkpoint);
+        }
+    }
+
+    private void buildStudentSchedules(LocalDate baseDate, WeeklyScheduleBuildCheckpointEntity checkpoint) {
+        Map<Integer, List<StudentEntity>> studentsByGrade = studentRepository.findByYear(baseDate.getYear()).stream()
+                .collect(Collectors.groupingBy(StudentEntity::getGrade));
+
+        // 가상 스레드는 제한이 없으므로 커넥션 풀을 고갈시키지 않도록 동시 실행 청크 수를 제한
+        Semaphore semaphore = new Semaphore(MAX_CONCURRENT_CHUNKS);
+        List<Future<Long>> futures = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for(LocalDate day : studentScheduleGenerator.getWeekDays(baseDate)) {
+                studentsByGrade.forEach((grade, students) -> futures.add(executor.submit(() -> {
+                    semaphore.acquire();
+                    try {
+                        return runStage(checkpoint, STUDENT_SCHEDULE_STAGE, day.getDayOfWeek() + ":" + grade,
+                                () -> studentScheduleGenerator.createStudentSchedulesByDay(students, day));
+                    } finally {
+                        semaphore.release();
+                    }
+                })));
+            }
+        }
+
+        long inserted = awaitAll(futures);
+        reportThroughput(STUDENT_SCHEDULE_STAGE, inserted, startedAt);
+    }
+
+    private long awaitAll(List<Future<Long>> futures) {
+        long rows = 0;
+        RuntimeException failure = null;
+        for(Future<Long> future : futures) {
+            try {
+                rows += future.get();
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException(e.getCause());
+                if(failure == null)
+                    failure = cause;
+                else
+                    failure.addSuppressed(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // 다른 청크는 모두 커밋된 상태이므로 실패한 청크만 재실행하면 된다
+        if(failure != null)
+            throw failure;
+        return rows;
+    }
+
+    /**
+     * 단계를 자체 트랜잭션에서 실행하고 처리한 행 수를 반환합니다. 이미 완료된 단계는 0 을 반환합니다.
+     */
+    private long runStage(WeeklyScheduleBuildCheckpointEntity checkpoint, String stage, String chunk, LongSupplier task) {
+        String stageKey = stage + ":" + chunk;
+        if(isCompletedStage(checkpoint, stageKey)) {
+            meterRegistry.counter(METRIC_NAME + ".chunks", "stage", stage, "result", "skipped").increment();
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            Long rows = transactionTemplate.execute(status -> task.getAsLong());
+            completeStage(checkpoint, stageKey);
+            return rows == null ? 0 : rows;
+        } catch (RuntimeException e) {
+            result = "failure";
+            log.error("주간 스케줄 빌드 실패 - baseDate: {}, stage: {}", checkpoint.getBaseDate(), stageKey, e);
+            throw e;
+        } finally {
+            // 날짜는 매주 바뀌므로 태그에는 요일/학년/타입만 사용
+            sample.stop(meterRegistry.timer(METRIC_NAME, "stage", stage, "chunk", toChunkTag(stage, chunk), "result", result));
+            meterRegistry.counter(METRIC_NAME + ".chunks", "stage", stage, "result", result).increment();
+        }
+    }
+
+    // 학교 규모에 따라 처리량이 어떻게 변하는지 보기 위해 단계별 초당 처리 행 수를 기록
+    private void reportThroughput(String stage, long rows, long startedAt) {
+        if(rows == 0)
+            return;
+
+        double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1_000_000_000.0;
+        double rowsPerSecond = rows / seconds;
+        meterRegistry.counter(METRIC_NAME + ".rows", "stage", stage).increment(rows);
+        meterRegistry.summary(METRIC_NAME + ".rows-per-second", "stage", stage).record(rowsPerSecond);
+        log.info("주간 스케줄 빌드 {} - {} rows, {} rows/s", stage, rows, String.format("%.1f", rowsPerSecond));
+    }
+
+    private String toChunkTag(String stage, String chunk) {
+        return RESET_STAGE.equals(stage) ? "week" : chunk;
+    }
+
+    // 병렬 청크가 같은 체크포인트를 공유하므로 읽기/쓰기 모두 동기화
+    private synchronized boolean isCompletedStage(WeeklyScheduleBuildCheckpointEntity checkpoint, String stageKey) {
+        return checkpoint.isCompleted(stageKey);
+    }
+
+    private synchronized void completeStage(WeeklyScheduleBuildCheckpointEntity checkpoint, String stageKey) {
+        checkpoint.complete(stageKey);
+        weeklyScheduleBuildCheckpointRepository.save(checkpoint);
+    }
+}
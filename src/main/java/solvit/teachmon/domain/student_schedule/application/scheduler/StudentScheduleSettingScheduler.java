@@ -3,7 +3,7 @@ package solvit.teachmon.domain.student_schedule.application.scheduler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleSettingService;
+import solvit.teachmon.domain.student_schedule.application.pipeline.WeeklyScheduleBuildPipeline;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -11,15 +11,26 @@ import java.time.LocalDate;
 @Component
 @RequiredArgsConstructor
 public class StudentScheduleSettingScheduler {
-    private final StudentScheduleSettingService studentScheduleSettingService;
+    private final WeeklyScheduleBuildPipeline weeklyScheduleBuildPipeline;
 
     @Scheduled(
             cron = "0 0 0 * * SUN",
             zone = "Asia/Seoul"
     )
     public void settingStudentSchedule() {
-        LocalDate baseDate = LocalDate.now().with(DayOfWeek.MONDAY).plusWeeks(1);
-        studentScheduleSettingService.createNewStudentSchedule(baseDate);
-        studentScheduleSettingService.settingAllTypeSchedule(baseDate);
+        weeklyScheduleBuildPipeline.build(getNextMonday());
+    }
+
+    // 빌드가 중간에 실패했다면 일요일 동안 매시간 완료되지 않은 단계부터 이어서 실행
+    @Scheduled(
+            cron = "0 30 * * * SUN",
+            zone = "Asia/Seoul"
+    )
+    public void resumeStudentSchedule() {
+        weeklyScheduleBuildPipeline.resume(getNextMonday());
+    }
+
+    private LocalDate getNextMonday() {
+        return LocalDate.now().with(DayOfWeek.MONDAY).plusWeeks(1);
     }
 }
@@ -0,0 +1,44 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+
+import java.util.List;
+
+/**
+ * 스케줄이 있지만 current_schedule 행이 없는 학생 스케줄을 기존 schedule 로 채운다
+ * 프로젝션 테이블이 추가되기 전의 스케줄을 반영하기 위한 용도로, 이후에는 스케줄이 쌓이거나 지워질 때만 갱신된다.
+ * 조회 쿼리가 current_schedule 을 조인하므로 행이 없는 학생 스케줄은 학생 상태와 장소 현황에 보이지 않는다.
+ * 기동 중 일부 행만 먼저 채워질 수 있으므로(스택 순서 제약 적용 등) 테이블 전체가 비었는지가 아니라 빠진 행을 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CurrentScheduleInitializer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<Long> studentScheduleIds = scheduleRepository.findStudentScheduleIdsWithoutCurrentSchedule();
+        if (studentScheduleIds.isEmpty()) {
+            return;
+        }
+
+        // 학생 스케줄 수만큼 커지므로 청크마다 트랜잭션을 나눠 영속성 컨텍스트가 쌓이지 않도록 한다
+        for (int from = 0; from < studentScheduleIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = studentScheduleIds.subList(from, Math.min(from + CHUNK_SIZE, studentScheduleIds.size()));
+            transactionTemplate.executeWithoutResult(status -> currentScheduleDomainService.refresh(chunk));
+        }
+        log.info("현재 스케줄 초기화 완료 - student_schedules: {}", studentScheduleIds.size());
+    }
+}
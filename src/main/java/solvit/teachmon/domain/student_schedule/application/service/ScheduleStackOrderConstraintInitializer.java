@@ -0,0 +1,105 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * (student_schedule_id, stack_order) 유니크 제약 적용
+ * ddl-auto: update 는 이미 중복된 행이 있으면 제약 추가에 실패하고 로그만 남기므로,
+ * 제약이 없으면 중복된 학생 스케줄의 스택을 (stack_order, id) 순서대로 1 부터 다시 매긴 뒤 제약을 직접 추가한다.
+ * 제약이 없으면 StackOrderConflictRetrier 가 동시 변경을 감지할 수 없으므로 추가에 실패하면 기동을 중단한다.
+ * 스키마 갱신이 끝난 뒤, 요청을 받기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleStackOrderConstraintInitializer implements SmartInitializingSingleton {
+    private static final int BATCH_SIZE = 1000;
+    private static final String DUPLICATED_SCHEDULES_SQL = """
+            SELECT s.id, s.student_schedule_id
+            FROM schedule s
+            WHERE s.student_schedule_id IN (
+                SELECT d.student_schedule_id FROM schedule d
+                GROUP BY d.student_schedule_id, d.stack_order
+                HAVING COUNT(*) > 1
+            )
+            ORDER BY s.student_schedule_id, s.stack_order, s.id
+            """;
+    private static final String UPDATE_STACK_ORDER_SQL = "UPDATE schedule SET stack_order = ? WHERE id = ?";
+    private static final String ADD_CONSTRAINT_SQL = "ALTER TABLE schedule ADD CONSTRAINT "
+            + ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT + " UNIQUE (student_schedule_id, stack_order)";
+    private static final String CONSTRAINT_EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.table_constraints
+            WHERE LOWER(table_schema) = ? AND LOWER(table_name) = 'schedule' AND LOWER(constraint_name) = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (hasConstraint()) {
+            return;
+        }
+
+        int renumbered = transactionTemplate.execute(status -> renumberDuplicatedStacks());
+        try {
+            jdbcTemplate.execute(ADD_CONSTRAINT_SQL);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("schedule 스택 순서 유니크 제약을 추가하지 못했습니다.", e);
+        }
+
+        if (!hasConstraint()) {
+            throw new IllegalStateException("schedule 스택 순서 유니크 제약이 없습니다: " + ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT);
+        }
+        log.info("schedule 스택 순서 유니크 제약 추가 완료 - renumbered student_schedules: {}", renumbered);
+    }
+
+    /**
+     * 스택 순서가 겹친 학생 스케줄의 스케줄을 다시 번호 매기고, 바뀐 학생 스케줄 수를 반환합니다.
+     */
+    private int renumberDuplicatedStacks() {
+        List<Object[]> updates = new ArrayList<>();
+        Set<Long> studentScheduleIds = new LinkedHashSet<>();
+        jdbcTemplate.query(DUPLICATED_SCHEDULES_SQL, resultSet -> {
+            long studentScheduleId = resultSet.getLong("student_schedule_id");
+            // 같은 학생 스케줄 안에서 나중에 쌓인(id 가 큰) 스케줄이 위에 오도록 순서를 유지
+            int stackOrder = studentScheduleIds.add(studentScheduleId) ? 1 : nextStackOrder(updates);
+            updates.add(new Object[]{stackOrder, resultSet.getLong("id")});
+        });
+
+        for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPDATE_STACK_ORDER_SQL, updates.subList(from, Math.min(from + BATCH_SIZE, updates.size())));
+        }
+
+        // 최상단 스케줄의 stack_order 가 바뀌었으므로 프로젝션도 다시 계산
+        currentScheduleDomainService.refresh(studentScheduleIds);
+        return studentScheduleIds.size();
+    }
+
+    private int nextStackOrder(List<Object[]> updates) {
+        return (Integer) updates.getLast()[0] + 1;
+    }
+
+    private boolean hasConstraint() {
+        String schema = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getSchema() != null ? connection.getSchema() : connection.getCatalog());
+        Integer count = jdbcTemplate.queryForObject(CONSTRAINT_EXISTS_SQL, Integer.class,
+                schema.toLowerCase(Locale.ROOT), ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT);
+        return count != null && count > 0;
+    }
+}
@@ -1,11 +1,14 @@
 package solvit.teachmon.domain.student_schedule.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
@@ -13,12 +16,14 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class StudentScheduleGenerator {
     private final StudentScheduleRepository studentScheduleRepository;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 해당 학년, 날짜, 교시의 StudentSchedule을 찾거나 없으면 생성합니다.
@@ -68,8 +73,47 @@ public class StudentScheduleGenerator {
         studentScheduleRepository.saveAll(studentSchedules);
     }
 
+    /**
+     * 하루치 StudentSchedule을 JDBC 배치로 생성합니다.
+     * 주간 스케줄 빌드 파이프라인에서 (날짜, 학년) 단위 청크로 나누어 호출합니다.
+     *
+     * @param students 스케줄을 생성할 학생 목록
+     * @param day 날짜
+     * @return 생성된 행 수
+     */
+    public long createStudentSchedulesByDay(List<StudentEntity> students, LocalDate day) {
+        List<StudentScheduleEntity> studentSchedules = new ArrayList<>();
+        for(StudentEntity student : students) {
+            studentSchedules.addAll(getDayStudentSchedules(student, day));
+        }
+
+        return studentScheduleRepository.bulkInsert(studentSchedules);
+    }
+
     private List<StudentScheduleEntity> getWeekStudentSchedules(StudentEntity student, LocalDate baseDate) {
         List<StudentScheduleEntity> studentSchedules = new ArrayList<>();
+        for(LocalDate day : getWeekDays(baseDate)) {
+            studentSchedules.addAll(getDayStudentSchedules(student, day));
+        }
+
+        return studentSchedules;
+    }
+
+    private List<StudentScheduleEntity> getDayStudentSchedules(StudentEntity student, LocalDate day) {
+        return SchoolPeriod.getAfterActivityPeriod().stream()
+                .map(period -> StudentScheduleEntity.builder()
+                        .student(student)
+                        .day(day)
+                        .period(period)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * baseDate 가 속한 주의 평일 중 baseDate 이후(포함) 날짜를 반환합니다.
+     */
+    public List<LocalDate> getWeekDays(LocalDate baseDate) {
+        List<LocalDate> days = new ArrayList<>();
         for(WeekDay weekDay : WeekDay.values()) {
             LocalDate day = baseDate.with(weekDay.toDayOfWeek());
 
@@ -77,25 +121,40 @@ public class StudentScheduleGenerator {
             if (day.isBefore(baseDate)) {
                 continue;
             }
-
-            for(SchoolPeriod period : SchoolPeriod.getAfterActivityPeriod()) {
-                studentSchedules.add(
-                        StudentScheduleEntity.builder()
-                                .student(student)
-                                .day(day)
-                                .period(period)
-                                .build()
-                );
-            }
+            days.add(day);
         }
 
-        return studentSchedules;
+        return days;
     }
 
     public void deleteFutureStudentSchedules(LocalDate baseDate) {
         LocalDate endDay = baseDate.with(DayOfWeek.SUNDAY);
 
         List<StudentScheduleEntity> oldSchedules = studentScheduleRepository.findAllByDayBetween(baseDate, endDay);
+
+        // 스케줄은 하위 스케줄로 cascade 되지 않으므로 하위 스케줄을 먼저 삭제
+        studentScheduleRepository.bulkDeleteSchedulePayloadsByStudentScheduleIdIn(
+                oldSchedules.stream().map(StudentScheduleEntity::getId).toList()
+        );
         studentScheduleRepository.deleteAll(oldSchedules);
     }
+
+    /**
+     * baseDate 이후(포함) 스케줄을 엔티티 로딩 없이 집합 단위 DELETE 로 삭제합니다.
+     * 엔티티 리스너를 거치지 않으므로 current_schedule 은 함께 삭제하고, 바뀐 (날짜, 교시) 는 직접 이벤트로 발행합니다.
+     *
+     * @param baseDate 기준 날짜
+     * @return 삭제된 전체 행 수
+     */
+    public long bulkDeleteFutureStudentSchedules(LocalDate baseDate) {
+        LocalDate endDay = baseDate.with(DayOfWeek.SUNDAY);
+
+        Set<ScheduleSlotVo> slots = studentScheduleRepository.findSlotsByDayBetween(baseDate, endDay);
+        long deleted = studentScheduleRepository.bulkDeleteAllByDayBetween(baseDate, endDay);
+
+        if (!slots.isEmpty()) {
+            eventPublisher.publishEvent(new StudentScheduleChangedEvent(slots));
+        }
+        return deleted;
+    }
 }
@@ -0,0 +1,113 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategyComposite;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 원본 데이터(고정 이석, 학년 자습 등) 하나가 바뀌었을 때 영향받는 student_schedule 만 다시 쌓는 증분 재계산
+ * 주간 전체를 지우고 모든 전략을 다시 실행하는 대신, 바뀐 (학생, 날짜, 교시) 의 스케줄 스택만 비운 뒤
+ * 모든 세팅 전략을 전체 세팅과 같은 순서로 그 범위 안에서만 다시 실행한다. 그래서 스택 순서는 전체 세팅과 같다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentScheduleRecomputeService {
+    private final StudentScheduleSettingStrategyComposite studentScheduleSettingStrategyComposite;
+    private final StudentScheduleRepository studentScheduleRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CurrentScheduleDomainService currentScheduleDomainService;
+
+    /**
+     * 학생들의 해당 요일, 교시 스케줄을 다시 쌓습니다. 요일이 baseDate 기준으로 이미 지났다면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void recomputeStudents(List<StudentEntity> students, WeekDay weekDay, SchoolPeriod period, LocalDate baseDate) {
+        restack(clearStudents(students, weekDay, period, baseDate), baseDate);
+    }
+
+    /**
+     * 학생들의 해당 요일, 교시 스케줄 스택을 비우고 다시 쌓을 범위를 반환합니다.
+     * 원본 데이터를 바꾸기 전에 호출하고, 바꾼 뒤 restack 으로 다시 쌓습니다.
+     */
+    @Transactional
+    public StudentScheduleSettingScope clearStudents(List<StudentEntity> students, WeekDay weekDay, SchoolPeriod period, LocalDate baseDate) {
+        LocalDate day = baseDate.with(weekDay.toDayOfWeek());
+        if (students.isEmpty() || day.isBefore(baseDate)) {
+            return StudentScheduleSettingScope.empty();
+        }
+
+        List<StudentScheduleEntity> studentSchedules = studentScheduleRepository.findAllByStudentsAndDayAndPeriod(students, day, period);
+        return clear(studentSchedules, baseDate);
+    }
+
+    /**
+     * 학년의 (날짜, 교시) 스케줄 스택을 비우고 다시 쌓을 범위를 반환합니다.
+     * 원본 데이터를 바꾸기 전에 호출하고, 바꾼 뒤 restack 으로 다시 쌓습니다.
+     */
+    @Transactional
+    public StudentScheduleSettingScope clearGradeSlots(Integer grade, Set<ScheduleSlotVo> slots, LocalDate baseDate) {
+        if (slots.isEmpty()) {
+            return StudentScheduleSettingScope.empty();
+        }
+
+        List<StudentScheduleEntity> studentSchedules = studentScheduleRepository
+                .findAllByGradeAndDayBetween(grade, baseDate, baseDate.with(DayOfWeek.SUNDAY)).stream()
+                .filter(studentSchedule -> slots.contains(new ScheduleSlotVo(studentSchedule.getDay(), studentSchedule.getPeriod())))
+                .toList();
+        return clear(studentSchedules, baseDate);
+    }
+
+    /**
+     * baseDate 가 속한 주의 baseDate 이후(포함) student_schedule 에 쌓인 스케줄을 모두 삭제하고, 삭제한 범위를 반환합니다.
+     */
+    @Transactional
+    public StudentScheduleSettingScope clear(Collection<StudentScheduleEntity> studentSchedules, LocalDate baseDate) {
+        LocalDate endDay = baseDate.with(DayOfWeek.SUNDAY);
+        List<StudentScheduleEntity> targets = studentSchedules.stream()
+                .filter(studentSchedule -> !studentSchedule.getDay().isBefore(baseDate) && !studentSchedule.getDay().isAfter(endDay))
+                .toList();
+        if (targets.isEmpty()) {
+            return StudentScheduleSettingScope.empty();
+        }
+
+        // 하위 스케줄 -> 스케줄 순서로 벌크 삭제
+        List<Long> studentScheduleIds = targets.stream()
+                .map(StudentScheduleEntity::getId)
+                .toList();
+        studentScheduleRepository.bulkDeleteSchedulePayloadsByStudentScheduleIdIn(studentScheduleIds);
+        scheduleRepository.deleteByStudentScheduleIds(studentScheduleIds);
+
+        // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 현재 스케줄 갱신 대상 직접 등록
+        currentScheduleDomainService.markChanged(targets);
+
+        return StudentScheduleSettingScope.of(targets);
+    }
+
+    @Transactional
+    public void restack(StudentScheduleSettingScope scope, LocalDate baseDate) {
+        if (scope.isEmpty()) {
+            return;
+        }
+
+        for (StudentScheduleSettingStrategy settingStrategy : studentScheduleSettingStrategyComposite.getAllStrategies()) {
+            settingStrategy.settingSchedule(baseDate, scope);
+        }
+    }
+}
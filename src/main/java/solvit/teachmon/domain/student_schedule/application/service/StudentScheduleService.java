@@ -3,6 +3,7 @@ package solvit.teachmon.domain.student_schedule.application.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.management.student.application.search.StudentSearchIndex;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.student_schedule.application.dto.PeriodScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
@@ -11,15 +12,18 @@ import solvit.teachmon.domain.student_schedule.application.strategy.change.Stude
 import solvit.teachmon.domain.student_schedule.application.strategy.change.StudentScheduleChangeStrategyComposite;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderConflictRetrier;
 import solvit.teachmon.domain.student_schedule.exception.StudentScheduleNotFoundException;
 import solvit.teachmon.domain.student_schedule.presentation.dto.request.StudentScheduleCancelRequest;
 import solvit.teachmon.domain.student_schedule.presentation.dto.request.StudentScheduleUpdateRequest;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.ClassStudentScheduleResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.HistoryStudentScheduleResponse;
-import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +33,9 @@ public class StudentScheduleService {
     private final StudentScheduleMapper studentScheduleMapper;
     private final StudentScheduleRepository studentScheduleRepository;
     private final StudentScheduleChangeStrategyComposite studentScheduleChangeStrategyComposite;
+    private final StudentSearchIndex studentSearchIndex;
+    private final StackOrderConflictRetrier stackOrderConflictRetrier;
+    private final TeacherRepository teacherRepository;
 
     @Transactional(readOnly = true)
     public List<ClassStudentScheduleResponse> getGradeStudentSchedules(Integer grade, LocalDate day, SchoolPeriod period) {
@@ -39,13 +46,15 @@ public class StudentScheduleService {
                 .toList();
     }
 
-    @Transactional
-    public void updateStudentSchedule(Long scheduleId, StudentScheduleUpdateRequest request, TeacherEntity teacher) {
-        StudentScheduleEntity studentSchedule = studentScheduleRepository.findById(scheduleId)
-                .orElseThrow(StudentScheduleNotFoundException::new);
+    // 같은 학생을 동시에 변경하면 stackOrder 가 겹칠 수 있으므로 트랜잭션 단위로 재시도
+    public void updateStudentSchedule(Long scheduleId, StudentScheduleUpdateRequest request, Long teacherId) {
+        stackOrderConflictRetrier.execute(() -> {
+            StudentScheduleEntity studentSchedule = studentScheduleRepository.findById(scheduleId)
+                    .orElseThrow(StudentScheduleNotFoundException::new);
 
-        StudentScheduleChangeStrategy scheduleChanger = studentScheduleChangeStrategyComposite.getStrategy(request.state());
-        scheduleChanger.change(studentSchedule, teacher);
+            StudentScheduleChangeStrategy scheduleChanger = studentScheduleChangeStrategyComposite.getStrategy(request.state());
+            scheduleChanger.change(studentSchedule, teacherRepository.getReferenceById(teacherId));
+        });
     }
 
     @Transactional
@@ -59,9 +68,20 @@ public class StudentScheduleService {
 
     @Transactional(readOnly = true)
     public List<HistoryStudentScheduleResponse> getStudentScheduleHistory(String query, LocalDate day) {
-        Map<StudentEntity, List<PeriodScheduleDto>> studentSchedules = studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day);
+        // 검색어는 색인에서 학생 id 로 바꾸고, 스케줄은 찾은 학생만 조인해서 조회
+        List<Long> studentIds = studentSearchIndex.search(day.getYear(), query);
+        if(studentIds.isEmpty())
+            return List.of();
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for(int rank = 0; rank < studentIds.size(); rank++) {
+            ranks.put(studentIds.get(rank), rank);
+        }
+
+        Map<StudentEntity, List<PeriodScheduleDto>> studentSchedules = studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(studentIds, day);
 
         return studentSchedules.entrySet().stream()
+                .sorted(Comparator.comparingInt(entry -> ranks.getOrDefault(entry.getKey().getId(), Integer.MAX_VALUE)))
                 .map(entry -> studentScheduleMapper.toHistoryResponse(entry.getKey(), entry.getValue()))
                 .toList();
     }
@@ -11,6 +11,7 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.AwayRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AwayScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.exception.AwayScheduleNotFoundException;
 import solvit.teachmon.domain.student_schedule.exception.ScheduleNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
@@ -20,6 +21,7 @@ import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 public class AwayStudentScheduleChangeStrategy implements StudentScheduleChangeStrategy {
 
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final AwayRepository awayRepository;
     private final AwayScheduleRepository awayScheduleRepository;
 
@@ -35,8 +37,7 @@ public class AwayStudentScheduleChangeStrategy implements StudentScheduleChangeS
                 .ifPresent(awayRepository::delete);
 
         // 새로운 스케줄 엔티티 생성
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.AWAY);
+        ScheduleEntity newSchedule = stackOrderAllocator.stackSchedule(studentSchedule, ScheduleType.AWAY);
 
         // 조퇴 엔티티 생성
         AwayEntity away = AwayEntity.createAwayEntity(studentSchedule, teacher);
@@ -11,6 +11,7 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ExitRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.ExitScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.exception.ExitScheduleNotFoundException;
 import solvit.teachmon.domain.student_schedule.exception.ScheduleNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
@@ -20,6 +21,7 @@ import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 public class ExitStudentScheduleChangeStrategy implements StudentScheduleChangeStrategy {
 
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final ExitRepository exitRepository;
     private final ExitScheduleRepository exitScheduleRepository;
 
@@ -35,8 +37,7 @@ public class ExitStudentScheduleChangeStrategy implements StudentScheduleChangeS
                 .ifPresent(exitRepository::delete);
 
         // 새로운 스케줄 엔티티 생성
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.EXIT);
+        ScheduleEntity newSchedule = stackOrderAllocator.stackSchedule(studentSchedule, ScheduleType.EXIT);
 
         // 이탈 엔티티 생성
         ExitEntity exit = ExitEntity.createExitEntity(studentSchedule, teacher);
@@ -0,0 +1,85 @@
+package solvit.teachmon.domain.student_schedule.application.strategy.setting;
+
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스케줄 세팅 대상 범위
+ * 전체 범위면 주간 전체를 세팅하고, 아니면 범위에 속한 (학생, 날짜, 교시) 의 student_schedule 에만 스케줄을 쌓는다.
+ * 전략은 범위 밖 (날짜, 교시) 의 원본 데이터는 조회 전에 건너뛰어, 증분 재계산 비용이 바뀐 범위에 비례하도록 한다.
+ */
+public final class StudentScheduleSettingScope {
+    private static final StudentScheduleSettingScope ALL = new StudentScheduleSettingScope(null, null);
+    private static final StudentScheduleSettingScope EMPTY = new StudentScheduleSettingScope(Map.of(), Set.of());
+
+    // (날짜, 교시) 별 대상 학생 ID, 전체 범위면 null
+    private final Map<ScheduleSlotVo, Set<Long>> studentIdsBySlot;
+    private final Set<Long> studentScheduleIds;
+
+    private StudentScheduleSettingScope(Map<ScheduleSlotVo, Set<Long>> studentIdsBySlot, Set<Long> studentScheduleIds) {
+        this.studentIdsBySlot = studentIdsBySlot;
+        this.studentScheduleIds = studentScheduleIds;
+    }
+
+    public static StudentScheduleSettingScope all() {
+        return ALL;
+    }
+
+    public static StudentScheduleSettingScope empty() {
+        return EMPTY;
+    }
+
+    public static StudentScheduleSettingScope of(Collection<StudentScheduleEntity> studentSchedules) {
+        if (studentSchedules.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<ScheduleSlotVo, Set<Long>> studentIdsBySlot = new HashMap<>();
+        Set<Long> studentScheduleIds = new HashSet<>();
+        for (StudentScheduleEntity studentSchedule : studentSchedules) {
+            ScheduleSlotVo slot = new ScheduleSlotVo(studentSchedule.getDay(), studentSchedule.getPeriod());
+            studentIdsBySlot.computeIfAbsent(slot, key -> new HashSet<>()).add(studentSchedule.getStudent().getId());
+            studentScheduleIds.add(studentSchedule.getId());
+        }
+        return new StudentScheduleSettingScope(studentIdsBySlot, studentScheduleIds);
+    }
+
+    public boolean isAll() {
+        return studentIdsBySlot == null;
+    }
+
+    public boolean isEmpty() {
+        return !isAll() && studentScheduleIds.isEmpty();
+    }
+
+    public boolean covers(LocalDate day, SchoolPeriod period) {
+        return isAll() || studentIdsBySlot.containsKey(new ScheduleSlotVo(day, period));
+    }
+
+    public boolean covers(StudentEntity student, LocalDate day, SchoolPeriod period) {
+        if (isAll()) {
+            return true;
+        }
+        Set<Long> studentIds = studentIdsBySlot.get(new ScheduleSlotVo(day, period));
+        return studentIds != null && studentIds.contains(student.getId());
+    }
+
+    public List<StudentScheduleEntity> filter(List<StudentScheduleEntity> studentSchedules) {
+        if (isAll()) {
+            return studentSchedules;
+        }
+        return studentSchedules.stream()
+                .filter(studentSchedule -> studentScheduleIds.contains(studentSchedule.getId()))
+                .toList();
+    }
+}
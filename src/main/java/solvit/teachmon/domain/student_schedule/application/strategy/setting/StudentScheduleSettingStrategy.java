@@ -6,5 +6,13 @@ import java.time.LocalDate;
 
 public interface StudentScheduleSettingStrategy {
     ScheduleType getScheduleType();
-    void settingSchedule(LocalDate baseDate);
+
+    default void settingSchedule(LocalDate baseDate) {
+        settingSchedule(baseDate, StudentScheduleSettingScope.all());
+    }
+
+    /**
+     * baseDate 가 속한 주에서 scope 에 속한 student_schedule 에만 스케줄을 쌓는다.
+     */
+    void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope);
 }
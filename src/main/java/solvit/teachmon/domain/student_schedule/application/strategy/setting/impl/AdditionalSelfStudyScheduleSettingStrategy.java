@@ -2,35 +2,35 @@ package solvit.teachmon.domain.student_schedule.application.strategy.setting.imp
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
-import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.self_study.domain.entity.AdditionalSelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.AdditionalSelfStudyRepository;
+import solvit.teachmon.domain.self_study.domain.service.SelfStudyPlacePlanner;
 import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleGenerator;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AdditionalSelfStudyScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
-import solvit.teachmon.domain.student_schedule.domain.exception.NoAvailablePlaceException;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AdditionalSelfStudyScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static solvit.teachmon.domain.place.domain.entity.PlaceEntity.calculateNextClassNumber;
-
 @Component
 @RequiredArgsConstructor
 public class AdditionalSelfStudyScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final AdditionalSelfStudyRepository additionalSelfStudyRepository;
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final AdditionalSelfStudyScheduleRepository additionalSelfStudyScheduleRepository;
-    private final PlaceRepository placeRepository;
+    private final SelfStudyPlacePlanner selfStudyPlacePlanner;
     private final StudentScheduleGenerator studentScheduleGenerator;
 
     @Override
@@ -39,17 +39,19 @@ public class AdditionalSelfStudyScheduleSettingStrategy implements StudentSchedu
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<AdditionalSelfStudyEntity> additionalSelfStudies = findWeeklyAdditionalSelfStudies(baseDate);
 
         for(AdditionalSelfStudyEntity additionalSelfStudy : additionalSelfStudies) {
             if(isBeforeAdditionalSelfStudy(additionalSelfStudy, baseDate))
                 continue;
-            List<StudentScheduleEntity> studentSchedules = studentScheduleGenerator.findOrCreateStudentSchedules(
+            if(!scope.covers(additionalSelfStudy.getDay(), additionalSelfStudy.getPeriod()))
+                continue;
+            List<StudentScheduleEntity> studentSchedules = scope.filter(studentScheduleGenerator.findOrCreateStudentSchedules(
                     additionalSelfStudy.getGrade(),
                     additionalSelfStudy.getDay(),
                     additionalSelfStudy.getPeriod()
-            );
+            ));
             settingAdditionalSelfStudySchedule(studentSchedules, additionalSelfStudy);
         }
     }
@@ -70,54 +72,26 @@ public class AdditionalSelfStudyScheduleSettingStrategy implements StudentSchedu
             List<StudentScheduleEntity> studentSchedules,
             AdditionalSelfStudyEntity additionalSelfStudy
     ) {
-        for(StudentScheduleEntity studentSchedule : studentSchedules) {
-            ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-            createAdditionalSelfStudySchedule(newSchedule, additionalSelfStudy, findAdditionalSelfStudyPlace(studentSchedule));
-        }
-    }
+        // 장소를 먼저 배정해 두고 스케줄 일괄 생성
+        Map<StudentScheduleEntity, PlaceEntity> places = selfStudyPlacePlanner.plan(studentSchedules);
 
-    private PlaceEntity findAdditionalSelfStudyPlace(StudentScheduleEntity studentSchedule) {
-        StudentEntity student = studentSchedule.getStudent();
-        Map<Integer, PlaceEntity> placesMap = placeRepository.findAllByGradePrefix(student.getGrade());
-
-        Integer targetPoint = student.getClassNumber();
-        for(int count = 0; count < 4; count++) {
-            PlaceEntity place = placesMap.get(targetPoint);
-
-            // 해당 반 교실이 존재하지 않으면 다음 반으로 넘어감
-            if(place == null) {
-                targetPoint = calculateNextClassNumber(targetPoint);
-                continue;
-            }
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.ADDITIONAL_SELF_STUDY);
+        scheduleRepository.saveAll(newSchedules);
 
-            if(!placeRepository.checkPlaceAvailability(
-                    studentSchedule.getDay(), studentSchedule.getPeriod(), place
-            ))
-                return place;
-            targetPoint = calculateNextClassNumber(targetPoint);
+        List<AdditionalSelfStudyScheduleEntity> additionalSelfStudySchedules = new ArrayList<>(newSchedules.size());
+        for(ScheduleEntity newSchedule : newSchedules) {
+            PlaceEntity place = places.get(newSchedule.getStudentSchedule());
+            additionalSelfStudySchedules.add(createAdditionalSelfStudySchedule(newSchedule, additionalSelfStudy, place));
         }
-
-        throw new NoAvailablePlaceException();
+        additionalSelfStudyScheduleRepository.saveAll(additionalSelfStudySchedules);
     }
 
-    private void createAdditionalSelfStudySchedule(ScheduleEntity schedule, AdditionalSelfStudyEntity additionalSelfStudy, PlaceEntity place) {
+    private AdditionalSelfStudyScheduleEntity createAdditionalSelfStudySchedule(ScheduleEntity schedule, AdditionalSelfStudyEntity additionalSelfStudy, PlaceEntity place) {
         // 자습 스케줄 생성
-        AdditionalSelfStudyScheduleEntity additionalSelfStudySchedule = AdditionalSelfStudyScheduleEntity.builder()
+        return AdditionalSelfStudyScheduleEntity.builder()
                 .schedule(schedule)
                 .place(place)
                 .additionalSelfStudy(additionalSelfStudy)
                 .build();
-
-        additionalSelfStudyScheduleRepository.save(additionalSelfStudySchedule);
-    }
-
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        // 새로운 스케줄 생성
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.ADDITIONAL_SELF_STUDY);
-
-        scheduleRepository.save(newSchedule);
-
-        return newSchedule;
     }
 }
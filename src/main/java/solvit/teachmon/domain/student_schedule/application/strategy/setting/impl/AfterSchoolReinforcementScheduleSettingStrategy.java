@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolReinforcementEntity;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolReinforcementRepository;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
@@ -13,6 +14,7 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -22,6 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AfterSchoolReinforcementScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final AfterSchoolReinforcementRepository afterSchoolReinforcementRepository;
     private final AfterSchoolScheduleRepository afterSchoolScheduleRepository;
     private final StudentScheduleRepository studentScheduleRepository;
@@ -32,14 +35,16 @@ public class AfterSchoolReinforcementScheduleSettingStrategy implements StudentS
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<AfterSchoolReinforcementEntity> afterSchoolReinforcements = findWeeklyAfterSchoolReinforcements(baseDate);
 
         for(AfterSchoolReinforcementEntity reinforcement : afterSchoolReinforcements) {
             if(isBeforeAfterSchoolReinforcement(reinforcement, baseDate))
                 continue;
+            if(!scope.covers(reinforcement.getChangeDay(), reinforcement.getChangePeriod()))
+                continue;
             AfterSchoolEntity afterSchool = reinforcement.getAfterSchool();
-            List<StudentScheduleEntity> studentSchedules = findStudentScheduleByReinforcement(reinforcement);
+            List<StudentScheduleEntity> studentSchedules = scope.filter(findStudentScheduleByReinforcement(reinforcement));
             settingAfterSchoolReinforcementSchedule(studentSchedules, afterSchool);
         }
     }
@@ -67,32 +72,24 @@ public class AfterSchoolReinforcementScheduleSettingStrategy implements StudentS
             List<StudentScheduleEntity> studentSchedules,
             AfterSchoolEntity afterSchool
     ) {
-        for(StudentScheduleEntity studentSchedule : studentSchedules) {
-            ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-            createAfterSchoolSchedule(newSchedule, afterSchool);
-        }
+        // 새로운 스케줄 일괄 생성
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.AFTER_SCHOOL_REINFORCEMENT);
+        scheduleRepository.saveAll(newSchedules);
+
+        List<AfterSchoolScheduleEntity> afterSchoolSchedules = newSchedules.stream()
+                .map(newSchedule -> createAfterSchoolSchedule(newSchedule, afterSchool))
+                .toList();
+        afterSchoolScheduleRepository.saveAll(afterSchoolSchedules);
     }
 
-    private void createAfterSchoolSchedule(
+    private AfterSchoolScheduleEntity createAfterSchoolSchedule(
             ScheduleEntity schedule,
             AfterSchoolEntity afterSchool
     ) {
         // Create a regular after-school schedule (not a special reinforcement type)
-        AfterSchoolScheduleEntity afterSchoolSchedule = AfterSchoolScheduleEntity.builder()
+        return AfterSchoolScheduleEntity.builder()
                 .schedule(schedule)
                 .afterSchool(afterSchool)
                 .build();
-
-        afterSchoolScheduleRepository.save(afterSchoolSchedule);
-    }
-
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        // Create a regular AFTER_SCHOOL schedule (the "reinforcement" is just that it's on a different day/period)
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.AFTER_SCHOOL_REINFORCEMENT);
-
-        scheduleRepository.save(newSchedule);
-
-        return newSchedule;
     }
 }
@@ -8,6 +8,7 @@ import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolReposito
 import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
 import solvit.teachmon.domain.branch.domain.repository.BranchRepository;
 import solvit.teachmon.domain.branch.exception.BranchNotFoundException;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
@@ -16,6 +17,7 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AfterSchoolScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final AfterSchoolRepository afterSchoolRepository;
     private final AfterSchoolScheduleRepository afterSchoolScheduleRepository;
     private final StudentScheduleRepository studentScheduleRepository;
@@ -36,7 +39,7 @@ public class AfterSchoolScheduleSettingStrategy implements StudentScheduleSettin
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         BranchEntity branch = branchRepository.findByDay(baseDate)
                 .orElseThrow(BranchNotFoundException::new);
 
@@ -46,13 +49,16 @@ public class AfterSchoolScheduleSettingStrategy implements StudentScheduleSettin
             // 종료되었는지 확인
             if(afterSchool.getIsEnd())
                 continue;
+            // 재계산 범위 밖이면 넘어가기
+            else if(!scope.covers(calculateAfterSchoolDay(afterSchool, baseDate), afterSchool.getPeriod()))
+                continue;
             // 출장이면 넘어가기
             else if(afterSchoolBusinessTripRepository.existsByAfterSchoolAndDay(afterSchool, calculateAfterSchoolDay(afterSchool, baseDate)))
                 continue;
             // 이전 날짜면 넘어가기
             else if(isBeforeAfterSchool(afterSchool, baseDate))
                 continue;
-            List<StudentScheduleEntity> studentSchedules = findStudentScheduleByAfterSchool(afterSchool, baseDate);
+            List<StudentScheduleEntity> studentSchedules = scope.filter(findStudentScheduleByAfterSchool(afterSchool, baseDate));
             settingAfterSchoolSchedule(studentSchedules, afterSchool);
         }
     }
@@ -76,31 +82,23 @@ public class AfterSchoolScheduleSettingStrategy implements StudentScheduleSettin
             List<StudentScheduleEntity> studentSchedules,
             AfterSchoolEntity afterSchool
     ) {
-        for(StudentScheduleEntity studentSchedule : studentSchedules) {
-            ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-            createAfterSchoolSchedule(newSchedule, afterSchool);
-        }
+        // 새로운 스케줄 일괄 생성
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.AFTER_SCHOOL);
+        scheduleRepository.saveAll(newSchedules);
+
+        List<AfterSchoolScheduleEntity> afterSchoolSchedules = newSchedules.stream()
+                .map(newSchedule -> createAfterSchoolSchedule(newSchedule, afterSchool))
+                .toList();
+        afterSchoolScheduleRepository.saveAll(afterSchoolSchedules);
     }
 
-    private void createAfterSchoolSchedule(
+    private AfterSchoolScheduleEntity createAfterSchoolSchedule(
             ScheduleEntity schedule,
             AfterSchoolEntity afterSchool
     ) {
-        AfterSchoolScheduleEntity afterSchoolSchedule = AfterSchoolScheduleEntity.builder()
+        return AfterSchoolScheduleEntity.builder()
                 .schedule(schedule)
                 .afterSchool(afterSchool)
                 .build();
-
-        afterSchoolScheduleRepository.save(afterSchoolSchedule);
-    }
-
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        // 새로운 스케줄 생성
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.AFTER_SCHOOL);
-
-        scheduleRepository.save(newSchedule);
-
-        return newSchedule;
     }
 }
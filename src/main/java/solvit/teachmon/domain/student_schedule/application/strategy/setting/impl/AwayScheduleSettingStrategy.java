@@ -2,6 +2,7 @@ package solvit.teachmon.domain.student_schedule.application.strategy.setting.imp
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.AwayEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
@@ -12,14 +13,17 @@ import solvit.teachmon.domain.student_schedule.domain.repository.AwayRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AwayScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class AwayScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final StudentScheduleRepository studentScheduleRepository;
     private final AwayRepository awayRepository;
     private final AwayScheduleRepository awayScheduleRepository;
@@ -30,31 +34,37 @@ public class AwayScheduleSettingStrategy implements StudentScheduleSettingStrate
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<AwayEntity> aways = awayRepository.findAllFromDate(baseDate);
 
+        List<StudentScheduleEntity> studentSchedules = new ArrayList<>();
+        List<AwayEntity> targetAways = new ArrayList<>();
         for (AwayEntity away : aways) {
+            if (!scope.covers(away.getStudent(), away.getDay(), away.getPeriod()))
+                continue;
+
             studentScheduleRepository
                     .findByStudentAndDayAndPeriod(away.getStudent(), away.getDay(), away.getPeriod())
                     .ifPresent(studentSchedule -> {
-                        ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-                        createAwaySchedule(newSchedule, away);
+                        studentSchedules.add(studentSchedule);
+                        targetAways.add(away);
                     });
         }
-    }
 
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(
-                studentSchedule, lastStackOrder, ScheduleType.AWAY);
-        return scheduleRepository.save(newSchedule);
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.AWAY);
+        scheduleRepository.saveAll(newSchedules);
+
+        List<AwayScheduleEntity> awaySchedules = new ArrayList<>(newSchedules.size());
+        for (int i = 0; i < newSchedules.size(); i++) {
+            awaySchedules.add(createAwaySchedule(newSchedules.get(i), targetAways.get(i)));
+        }
+        awayScheduleRepository.saveAll(awaySchedules);
     }
 
-    private void createAwaySchedule(ScheduleEntity schedule, AwayEntity away) {
-        AwayScheduleEntity awaySchedule = AwayScheduleEntity.builder()
+    private AwayScheduleEntity createAwaySchedule(ScheduleEntity schedule, AwayEntity away) {
+        return AwayScheduleEntity.builder()
                 .schedule(schedule)
                 .away(away)
                 .build();
-        awayScheduleRepository.save(awaySchedule);
     }
 }
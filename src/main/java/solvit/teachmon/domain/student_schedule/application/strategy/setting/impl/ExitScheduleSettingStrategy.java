@@ -2,6 +2,7 @@ package solvit.teachmon.domain.student_schedule.application.strategy.setting.imp
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ExitEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
@@ -12,14 +13,17 @@ import solvit.teachmon.domain.student_schedule.domain.repository.ExitRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.ExitScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class ExitScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final StudentScheduleRepository studentScheduleRepository;
     private final ExitRepository exitRepository;
     private final ExitScheduleRepository exitScheduleRepository;
@@ -30,31 +34,37 @@ public class ExitScheduleSettingStrategy implements StudentScheduleSettingStrate
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<ExitEntity> exits = exitRepository.findAllFromDate(baseDate);
 
+        List<StudentScheduleEntity> studentSchedules = new ArrayList<>();
+        List<ExitEntity> targetExits = new ArrayList<>();
         for (ExitEntity exit : exits) {
+            if (!scope.covers(exit.getStudent(), exit.getDay(), exit.getPeriod()))
+                continue;
+
             studentScheduleRepository
                     .findByStudentAndDayAndPeriod(exit.getStudent(), exit.getDay(), exit.getPeriod())
                     .ifPresent(studentSchedule -> {
-                        ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-                        createExitSchedule(newSchedule, exit);
+                        studentSchedules.add(studentSchedule);
+                        targetExits.add(exit);
                     });
         }
-    }
 
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(
-                studentSchedule, lastStackOrder, ScheduleType.EXIT);
-        return scheduleRepository.save(newSchedule);
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.EXIT);
+        scheduleRepository.saveAll(newSchedules);
+
+        List<ExitScheduleEntity> exitSchedules = new ArrayList<>(newSchedules.size());
+        for (int i = 0; i < newSchedules.size(); i++) {
+            exitSchedules.add(createExitSchedule(newSchedules.get(i), targetExits.get(i)));
+        }
+        exitScheduleRepository.saveAll(exitSchedules);
     }
 
-    private void createExitSchedule(ScheduleEntity schedule, ExitEntity exit) {
-        ExitScheduleEntity exitSchedule = ExitScheduleEntity.builder()
+    private ExitScheduleEntity createExitSchedule(ScheduleEntity schedule, ExitEntity exit) {
+        return ExitScheduleEntity.builder()
                 .schedule(schedule)
                 .exit(exit)
                 .build();
-        exitScheduleRepository.save(exitSchedule);
     }
 }
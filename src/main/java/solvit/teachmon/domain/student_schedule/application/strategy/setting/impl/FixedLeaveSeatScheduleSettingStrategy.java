@@ -9,6 +9,7 @@ import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatReposit
 import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatStudentRepository;
 import solvit.teachmon.domain.leave_seat.domain.repository.LeaveSeatRepository;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 
@@ -28,7 +29,7 @@ public class FixedLeaveSeatScheduleSettingStrategy implements StudentScheduleSet
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<FixedLeaveSeatEntity> fixedLeaveSeats = fixedLeaveSeatRepository.findAll();
 
         for (FixedLeaveSeatEntity fixedLeaveSeat : fixedLeaveSeats) {
@@ -37,6 +38,9 @@ public class FixedLeaveSeatScheduleSettingStrategy implements StudentScheduleSet
             if (isBeforeLeaveSeat(fixedLeaveSeat, baseDate))
                 continue;
 
+            if (!scope.covers(leaveSeatDay, fixedLeaveSeat.getPeriod()))
+                continue;
+
             if (isAlreadyCreated(fixedLeaveSeat, leaveSeatDay))
                 continue;
 
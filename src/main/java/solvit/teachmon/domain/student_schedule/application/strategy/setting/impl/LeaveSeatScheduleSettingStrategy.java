@@ -6,6 +6,7 @@ import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatEntity;
 import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatStudentEntity;
 import solvit.teachmon.domain.leave_seat.domain.repository.LeaveSeatRepository;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
@@ -14,14 +15,17 @@ import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.LeaveSeatScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class LeaveSeatScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final StudentScheduleRepository studentScheduleRepository;
     private final LeaveSeatRepository leaveSeatRepository;
     private final LeaveSeatScheduleRepository leaveSeatScheduleRepository;
@@ -32,36 +36,42 @@ public class LeaveSeatScheduleSettingStrategy implements StudentScheduleSettingS
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         List<LeaveSeatEntity> leaveSeats = leaveSeatRepository.findAllFromDate(baseDate);
 
+        List<StudentScheduleEntity> studentSchedules = new ArrayList<>();
+        List<LeaveSeatEntity> targetLeaveSeats = new ArrayList<>();
         for (LeaveSeatEntity leaveSeat : leaveSeats) {
+            if (!scope.covers(leaveSeat.getDay(), leaveSeat.getPeriod()))
+                continue;
+
             List<StudentEntity> students = leaveSeat.getLeaveSeatStudents().stream()
                     .map(LeaveSeatStudentEntity::getStudent)
                     .toList();
 
-            List<StudentScheduleEntity> studentSchedules = studentScheduleRepository
-                    .findAllByStudentsAndDayAndPeriod(students, leaveSeat.getDay(), leaveSeat.getPeriod());
+            List<StudentScheduleEntity> leaveSeatStudentSchedules = scope.filter(studentScheduleRepository
+                    .findAllByStudentsAndDayAndPeriod(students, leaveSeat.getDay(), leaveSeat.getPeriod()));
 
-            for (StudentScheduleEntity studentSchedule : studentSchedules) {
-                ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-                createLeaveSeatSchedule(newSchedule, leaveSeat);
+            for (StudentScheduleEntity studentSchedule : leaveSeatStudentSchedules) {
+                studentSchedules.add(studentSchedule);
+                targetLeaveSeats.add(leaveSeat);
             }
         }
-    }
 
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(
-                studentSchedule, lastStackOrder, ScheduleType.LEAVE_SEAT);
-        return scheduleRepository.save(newSchedule);
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.LEAVE_SEAT);
+        scheduleRepository.saveAll(newSchedules);
+
+        List<LeaveSeatScheduleEntity> leaveSeatSchedules = new ArrayList<>(newSchedules.size());
+        for (int i = 0; i < newSchedules.size(); i++) {
+            leaveSeatSchedules.add(createLeaveSeatSchedule(newSchedules.get(i), targetLeaveSeats.get(i)));
+        }
+        leaveSeatScheduleRepository.saveAll(leaveSeatSchedules);
     }
 
-    private void createLeaveSeatSchedule(ScheduleEntity schedule, LeaveSeatEntity leaveSeat) {
-        LeaveSeatScheduleEntity leaveSeatSchedule = LeaveSeatScheduleEntity.builder()
+    private LeaveSeatScheduleEntity createLeaveSeatSchedule(ScheduleEntity schedule, LeaveSeatEntity leaveSeat) {
+        return LeaveSeatScheduleEntity.builder()
                 .schedule(schedule)
                 .leaveSeat(leaveSeat)
                 .build();
-        leaveSeatScheduleRepository.save(leaveSeatSchedule);
     }
 }
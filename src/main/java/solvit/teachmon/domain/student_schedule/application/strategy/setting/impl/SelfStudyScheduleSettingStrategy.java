@@ -5,36 +5,36 @@ import org.springframework.stereotype.Component;
 import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
 import solvit.teachmon.domain.branch.domain.repository.BranchRepository;
 import solvit.teachmon.domain.branch.exception.BranchNotFoundException;
-import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
-import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.self_study.domain.entity.SelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.SelfStudyRepository;
+import solvit.teachmon.domain.self_study.domain.service.SelfStudyPlacePlanner;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
 import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.SelfStudyScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
-import solvit.teachmon.domain.student_schedule.domain.exception.NoAvailablePlaceException;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.SelfStudyScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static solvit.teachmon.domain.place.domain.entity.PlaceEntity.calculateNextClassNumber;
-
 @Component
 @RequiredArgsConstructor
 public class SelfStudyScheduleSettingStrategy implements StudentScheduleSettingStrategy {
     private final ScheduleRepository scheduleRepository;
+    private final StackOrderAllocator stackOrderAllocator;
     private final SelfStudyRepository selfStudyRepository;
     private final SelfStudyScheduleRepository selfStudyScheduleRepository;
     private final StudentScheduleRepository studentScheduleRepository;
     private final BranchRepository branchRepository;
-    private final PlaceRepository placeRepository;
+    private final SelfStudyPlacePlanner selfStudyPlacePlanner;
 
     @Override
     public ScheduleType getScheduleType() {
@@ -42,7 +42,7 @@ public class SelfStudyScheduleSettingStrategy implements StudentScheduleSettingS
     }
 
     @Override
-    public void settingSchedule(LocalDate baseDate) {
+    public void settingSchedule(LocalDate baseDate, StudentScheduleSettingScope scope) {
         BranchEntity branch = branchRepository.findByDay(baseDate)
                 .orElseThrow(BranchNotFoundException::new);
 
@@ -53,8 +53,11 @@ public class SelfStudyScheduleSettingStrategy implements StudentScheduleSettingS
             // 이전 날짜면 넘어가기
             if(isBeforeSelfStudy(selfStudy, baseDate))
                 continue;
+            // 재계산 범위 밖이면 넘어가기
+            if(!scope.covers(calculateSelfStudyDay(selfStudy, baseDate), selfStudy.getPeriod()))
+                continue;
             // 각 자습별 학년들의 student schedule 가져오기
-            List<StudentScheduleEntity> studentSchedules = findStudentScheduleBySelfStudy(selfStudy, baseDate);
+            List<StudentScheduleEntity> studentSchedules = scope.filter(findStudentScheduleBySelfStudy(selfStudy, baseDate));
 
             // 각 student schedule 별로 self study 설정해주기
             settingSelfStudySchedule(studentSchedules, selfStudy);
@@ -77,48 +80,26 @@ public class SelfStudyScheduleSettingStrategy implements StudentScheduleSettingS
     }
 
     private void settingSelfStudySchedule(List<StudentScheduleEntity> studentSchedules, SelfStudyEntity selfStudy) {
-        for(StudentScheduleEntity studentSchedule : studentSchedules) {
-            ScheduleEntity newSchedule = createNewSchedule(studentSchedule);
-            createSelfStudySchedule(newSchedule, selfStudy, findSelfStudyPlace(studentSchedule));
-        }
-    }
-
-    private PlaceEntity findSelfStudyPlace(StudentScheduleEntity studentSchedule) {
-        StudentEntity student = studentSchedule.getStudent();
-        Map<Integer, PlaceEntity> placesMap = placeRepository.findAllByGradePrefix(student.getGrade());
+        // 장소를 먼저 배정해 두고 스케줄 일괄 생성
+        Map<StudentScheduleEntity, PlaceEntity> places = selfStudyPlacePlanner.plan(studentSchedules);
 
-        Integer targetPoint = student.getClassNumber();
-        for(int count = 0; count < 4; count++) {
-            PlaceEntity place = placesMap.get(targetPoint);
+        List<ScheduleEntity> newSchedules = stackOrderAllocator.stackSchedules(studentSchedules, ScheduleType.SELF_STUDY);
+        scheduleRepository.saveAll(newSchedules);
 
-            if(!placeRepository.checkPlaceAvailability(
-                    studentSchedule.getDay(), studentSchedule.getPeriod(), place
-            ))
-                return place;
-            targetPoint = calculateNextClassNumber(targetPoint);
+        List<SelfStudyScheduleEntity> selfStudySchedules = new ArrayList<>(newSchedules.size());
+        for(ScheduleEntity newSchedule : newSchedules) {
+            PlaceEntity place = places.get(newSchedule.getStudentSchedule());
+            selfStudySchedules.add(createSelfStudySchedule(newSchedule, selfStudy, place));
         }
-
-        throw new NoAvailablePlaceException();
+        selfStudyScheduleRepository.saveAll(selfStudySchedules);
     }
 
-    private void createSelfStudySchedule(ScheduleEntity schedule, SelfStudyEntity selfStudy, PlaceEntity place) {
+    private SelfStudyScheduleEntity createSelfStudySchedule(ScheduleEntity schedule, SelfStudyEntity selfStudy, PlaceEntity place) {
         // 자습 스케줄 생성
-        SelfStudyScheduleEntity selfStudySchedule = SelfStudyScheduleEntity.builder()
+        return SelfStudyScheduleEntity.builder()
                 .schedule(schedule)
                 .place(place)
                 .selfStudy(selfStudy)
                 .build();
-
-        selfStudyScheduleRepository.save(selfStudySchedule);
-    }
-
-    private ScheduleEntity createNewSchedule(StudentScheduleEntity studentSchedule) {
-        // 새로운 스케줄 생성
-        Integer lastStackOrder = scheduleRepository.findLastStackOrderByStudentScheduleId(studentSchedule.getId());
-        ScheduleEntity newSchedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, ScheduleType.SELF_STUDY);
-
-        scheduleRepository.save(newSchedule);
-
-        return newSchedule;
     }
 }
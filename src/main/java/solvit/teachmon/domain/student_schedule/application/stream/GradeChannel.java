@@ -0,0 +1,19 @@
+package solvit.teachmon.domain.student_schedule.application.stream;
+
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * 반별 학생 현황 구독 채널
+ */
+record GradeChannel(
+        Integer grade,
+        LocalDate day,
+        SchoolPeriod period
+) {
+    ScheduleSlotVo slot() {
+        return new ScheduleSlotVo(day, period);
+    }
+}
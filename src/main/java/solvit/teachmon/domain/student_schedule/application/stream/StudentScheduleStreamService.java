@@ -0,0 +1,195 @@
+package solvit.teachmon.domain.student_schedule.application.stream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import solvit.teachmon.domain.student_schedule.application.facade.PlaceStudentScheduleService;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleChangeVo;
+import solvit.teachmon.domain.student_schedule.presentation.dto.response.PeriodScheduleResponse;
+import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStateResponse;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 학생 상태 대시보드 실시간 전송 (SSE)
+ * 반별 현황은 (학년, 날짜, 교시), 장소 현황은 (층, 날짜, 교시) 채널로 구독하고,
+ * 스케줄 변경이 커밋되면 바뀐 student_schedule 의 (id, 타입) 변경분만 해당 채널로 보낸다.
+ */
+@Slf4j
+@Component
+public class StudentScheduleStreamService {
+    private static final long EMITTER_TIMEOUT = Duration.ofMinutes(30).toMillis();
+    private static final String METRIC_NAME = "teachmon.student-schedule.stream";
+
+    private static final String GRADE_CHANNEL = "grade";
+    private static final String FLOOR_CHANNEL = "floor";
+
+    private static final String SCHEDULE_CHANGED_EVENT = "schedule-changed";
+    private static final String PLACE_CHANGED_EVENT = "place-changed";
+    private static final String RELOAD_EVENT = "reload";
+
+    private final PlaceStudentScheduleService placeStudentScheduleService;
+    private final MeterRegistry meterRegistry;
+    private final Map<GradeChannel, Set<SseEmitter>> gradeEmitters = new ConcurrentHashMap<>();
+    private final Map<FloorChannel, Set<SseEmitter>> floorEmitters = new ConcurrentHashMap<>();
+    // 느린 클라이언트가 스케줄을 변경한 요청의 응답을 막지 않도록 전송은 가상 스레드에서 처리
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StudentScheduleStreamService(PlaceStudentScheduleService placeStudentScheduleService, MeterRegistry meterRegistry) {
+        this.placeStudentScheduleService = placeStudentScheduleService;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_NAME + ".connections", gradeEmitters, StudentScheduleStreamService::countEmitters)
+                .tag("channel", GRADE_CHANNEL)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".connections", floorEmitters, StudentScheduleStreamService::countEmitters)
+                .tag("channel", FLOOR_CHANNEL)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribeGrade(Integer grade, LocalDate day, SchoolPeriod period) {
+        return register(gradeEmitters, new GradeChannel(grade, day, period));
+    }
+
+    public SseEmitter subscribeFloor(Integer floor, LocalDate day, SchoolPeriod period) {
+        return register(floorEmitters, new FloorChannel(floor, day, period));
+    }
+
+    // 장소 현황은 PlaceOccupancyEngine 이 스냅샷을 갱신한 다음에 보내야 하므로 가장 마지막에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudentScheduleChanged(StudentScheduleChangedEvent event) {
+        if (gradeEmitters.isEmpty() && floorEmitters.isEmpty()) {
+            return;
+        }
+
+        long committedAt = System.nanoTime();
+        executor.execute(() -> {
+            fanOutGrade(event, committedAt);
+            fanOutFloor(event, committedAt);
+        });
+    }
+
+    @Scheduled(fixedRate = 30_000)
+    public void sendHeartbeat() {
+        // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+        Supplier<SseEmitter.SseEventBuilder> heartbeat = () -> SseEmitter.event().comment("heartbeat");
+        gradeEmitters.values().forEach(emitters -> emitters.removeIf(emitter -> !send(emitter, heartbeat.get())));
+        floorEmitters.values().forEach(emitters -> emitters.removeIf(emitter -> !send(emitter, heartbeat.get())));
+    }
+
+    private void fanOutGrade(StudentScheduleChangedEvent event, long committedAt) {
+        if (gradeEmitters.isEmpty()) {
+            return;
+        }
+
+        // 일괄 재생성처럼 변경분이 없는 경우 해당 시간 구독자에게 다시 조회하라고 알림
+        if (event.changes().isEmpty()) {
+            gradeEmitters.forEach((channel, emitters) -> {
+                if (event.slots().contains(channel.slot())) {
+                    sendAll(GRADE_CHANNEL, emitters, () -> SseEmitter.event().name(RELOAD_EVENT).data(channel.slot()), committedAt);
+                }
+            });
+            return;
+        }
+
+        Map<GradeChannel, List<PeriodScheduleResponse>> changesByChannel = event.changes().stream()
+                .collect(Collectors.groupingBy(
+                        change -> new GradeChannel(change.grade(), change.day(), change.period()),
+                        Collectors.mapping(StudentScheduleStreamService::toResponse, Collectors.toList())
+                ));
+
+        changesByChannel.forEach((channel, changes) -> {
+            Set<SseEmitter> emitters = gradeEmitters.get(channel);
+            if (emitters != null) {
+                sendAll(GRADE_CHANNEL, emitters, () -> SseEmitter.event().name(SCHEDULE_CHANGED_EVENT).data(changes), committedAt);
+            }
+        });
+    }
+
+    private void fanOutFloor(StudentScheduleChangedEvent event, long committedAt) {
+        // 장소 현황은 메모리의 장소 사용 현황에서 층 단위로 한 번만 만들어 구독자 전체에 보낸다
+        floorEmitters.forEach((channel, emitters) -> {
+            if (!event.slots().contains(channel.slot())) {
+                return;
+            }
+
+            List<PlaceStateResponse> places = placeStudentScheduleService.getPlaceStatesByFloor(channel.floor(), channel.day(), channel.period());
+            sendAll(FLOOR_CHANNEL, emitters, () -> SseEmitter.event().name(PLACE_CHANGED_EVENT).data(places), committedAt);
+        });
+    }
+
+    // SseEventBuilder 는 build 할 때 내부 상태가 바뀌므로 구독자마다 새로 만든다
+    private void sendAll(String channel, Set<SseEmitter> emitters, Supplier<SseEmitter.SseEventBuilder> event, long committedAt) {
+        emitters.removeIf(emitter -> {
+            boolean sent = send(emitter, event.get());
+            meterRegistry.counter(METRIC_NAME + ".events", "channel", channel, "result", sent ? "success" : "failure").increment();
+            return !sent;
+        });
+
+        // 커밋부터 마지막 구독자에게 보낼 때까지 걸린 시간
+        meterRegistry.timer(METRIC_NAME + ".fanout", "channel", channel)
+                .record(System.nanoTime() - committedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 구독 해제 - {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private <K> SseEmitter register(Map<K, Set<SseEmitter>> emittersByChannel, K channel) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        emittersByChannel.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        Runnable unregister = () -> emittersByChannel.computeIfPresent(channel, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(unregister);
+        emitter.onTimeout(unregister);
+        emitter.onError(e -> unregister.run());
+
+        // 연결 직후 이벤트를 하나 보내야 응답 헤더가 바로 나간다
+        send(emitter, SseEmitter.event().name("connected").data("connected"));
+        return emitter;
+    }
+
+    private static PeriodScheduleResponse toResponse(ScheduleChangeVo change) {
+        return PeriodScheduleResponse.builder()
+                .scheduleId(change.studentScheduleId())
+                .state(change.type())
+                .build();
+    }
+
+    private static double countEmitters(Map<?, Set<SseEmitter>> emittersByChannel) {
+        return emittersByChannel.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+}
@@ -0,0 +1,100 @@
+package solvit.teachmon.domain.student_schedule.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * student_schedule 별 현재(스택 최상단) 스케줄 프로젝션
+ * schedule 테이블의 (student_schedule_id, MAX(stack_order)) 서브쿼리 대신 조인 용도로 사용
+ */
+@Getter
+@Entity
+@Table(
+        name = "current_schedule",
+        indexes = {
+                @Index(name = "idx_current_schedule_day_period", columnList = "day, period"),
+                @Index(name = "idx_current_schedule_schedule_id", columnList = "schedule_id"),
+                @Index(name = "idx_current_schedule_place_schedule_id", columnList = "place_schedule_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CurrentScheduleEntity implements Persistable<Long> {
+    @Id
+    @Column(name = "student_schedule_id")
+    private Long studentScheduleId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false)
+    private SchoolPeriod period;
+
+    // 스택 최상단 스케줄
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ScheduleType type;
+
+    @Column(name = "stack_order", nullable = false)
+    private Integer stackOrder;
+
+    // EXIT/AWAY 를 제외한 가장 최근 스케줄 (장소 기반 조회용)
+    @Column(name = "place_schedule_id")
+    private Long placeScheduleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "place_schedule_type")
+    private ScheduleType placeScheduleType;
+
+    // student_schedule_id 를 직접 할당하므로 save 시 merge 조회가 일어나지 않도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private CurrentScheduleEntity(Long studentScheduleId, LocalDate day, SchoolPeriod period, Long scheduleId, ScheduleType type,
+                                  Integer stackOrder, Long placeScheduleId, ScheduleType placeScheduleType) {
+        this.studentScheduleId = studentScheduleId;
+        this.day = day;
+        this.period = period;
+        this.scheduleId = scheduleId;
+        this.type = type;
+        this.stackOrder = stackOrder;
+        this.placeScheduleId = placeScheduleId;
+        this.placeScheduleType = placeScheduleType;
+    }
+
+    @Override
+    public Long getId() {
+        return studentScheduleId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void update(CurrentScheduleEntity calculated) {
+        this.scheduleId = calculated.scheduleId;
+        this.type = calculated.type;
+        this.stackOrder = calculated.stackOrder;
+        this.placeScheduleId = calculated.placeScheduleId;
+        this.placeScheduleType = calculated.placeScheduleType;
+    }
+}
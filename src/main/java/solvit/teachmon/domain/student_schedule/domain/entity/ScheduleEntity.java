@@ -5,17 +5,31 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import solvit.teachmon.domain.student_schedule.domain.entity.schedules.*;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.global.entity.BaseEntity;
 
 import java.util.List;
 
+/**
+ * 학생 스케줄 스택에 쌓이는 스케줄
+ * 타입별 상세 정보는 하위 스케줄(self_study_schedule, leave_seat_schedule 등)이 id 를 공유하며 참조한다.
+ * 역방향 @OneToOne 은 지연 로딩이 되지 않아 스케줄 하나를 읽을 때마다 하위 스케줄 테이블 6개를 조회하므로 두지 않는다.
+ * 대신 스케줄을 엔티티로 삭제하기 전에 하위 스케줄을 먼저 삭제해야 한다. (StudentScheduleBulkRepository 참고)
+ */
 @Getter
 @Entity
-@Table(name = "schedule")
+@Table(
+        name = "schedule",
+        uniqueConstraints = {
+                // 같은 학생 스케줄에 같은 순서로 두 번 쌓이지 않도록 보장 (동시 변경 시 StackOrderConflictRetrier 가 재시도)
+                @UniqueConstraint(name = ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT, columnNames = {"student_schedule_id", "stack_order"})
+        }
+)
+@EntityListeners(ScheduleEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ScheduleEntity extends BaseEntity {
+    public static final String STACK_ORDER_UNIQUE_CONSTRAINT = "uk_schedule_student_schedule_stack_order";
+
     public final static List<ScheduleType> ALLOWED_CHANGE_TYPES = List.of(
             ScheduleType.EXIT,
             ScheduleType.AWAY
@@ -32,48 +46,6 @@ public class ScheduleEntity extends BaseEntity {
     @Column(name = "type", nullable = false)
     private ScheduleType type;
 
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private AdditionalSelfStudyScheduleEntity additionalSelfStudySchedule;
-
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private AfterSchoolScheduleEntity afterSchoolSchedule;
-
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private LeaveSeatScheduleEntity leaveSeatSchedule;
-
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private SelfStudyScheduleEntity selfStudySchedule;
-
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private ExitScheduleEntity exitSchedule;
-
-    @OneToOne(
-            mappedBy = "schedule",
-            cascade = CascadeType.REMOVE,
-            orphanRemoval = true
-    )
-    private AwayScheduleEntity awaySchedule;
-
     @Builder
     private ScheduleEntity(StudentScheduleEntity studentSchedule, Integer stackOrder, ScheduleType type) {
         this.studentSchedule = studentSchedule;
@@ -0,0 +1,24 @@
+package solvit.teachmon.domain.student_schedule.domain.entity;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+
+/**
+ * ScheduleEntity 추가/삭제 시 current_schedule 갱신 대상으로 등록
+ * cascade 로 삭제되는 스케줄도 함께 잡기 위해 엔티티 리스너로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleEntityListener {
+    private final ObjectProvider<CurrentScheduleDomainService> currentScheduleDomainService;
+
+    @PrePersist
+    @PreRemove
+    public void onScheduleChanged(ScheduleEntity schedule) {
+        currentScheduleDomainService.getObject().markChanged(schedule.getStudentSchedule());
+    }
+}
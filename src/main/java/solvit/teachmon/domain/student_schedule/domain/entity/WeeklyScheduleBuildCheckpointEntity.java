@@ -0,0 +1,48 @@
+package solvit.teachmon.domain.student_schedule.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 주간 스케줄 빌드 진행 상황
+ * 완료된 단계(청크)를 기록해 두고, 실패 후 재실행 시 완료된 단계는 건너뛴다.
+ */
+@Getter
+@RedisHash("weekly_schedule_build")
+public class WeeklyScheduleBuildCheckpointEntity {
+    @Id
+    private final String baseDate;
+
+    private final Set<String> completedStages;
+
+    private Boolean finished;
+
+    @TimeToLive
+    private final Long timeToLive;
+
+    @Builder
+    public WeeklyScheduleBuildCheckpointEntity(String baseDate, Set<String> completedStages, Boolean finished, Long timeToLive) {
+        this.baseDate = baseDate;
+        this.completedStages = completedStages == null ? new HashSet<>() : new HashSet<>(completedStages);
+        this.finished = finished != null && finished;
+        this.timeToLive = timeToLive;
+    }
+
+    public boolean isCompleted(String stage) {
+        return completedStages.contains(stage);
+    }
+
+    public void complete(String stage) {
+        completedStages.add(stage);
+    }
+
+    public void finish() {
+        this.finished = true;
+    }
+}
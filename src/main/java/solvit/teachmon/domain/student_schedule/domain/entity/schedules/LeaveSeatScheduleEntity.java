@@ -14,7 +14,7 @@ import solvit.teachmon.global.entity.BaseEntity;
 
 @Getter
 @Entity
-@Table(name = "leave_seat_schedule")
+@Table(name = "leave_seat_schedule", indexes = @Index(name = "idx_leave_seat_schedule_leave_seat_id", columnList = "leave_seat_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LeaveSeatScheduleEntity extends BaseEntity {
     @OneToOne(cascade = CascadeType.REMOVE, orphanRemoval = true)
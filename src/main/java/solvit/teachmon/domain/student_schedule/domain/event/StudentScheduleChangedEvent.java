@@ -0,0 +1,28 @@
+package solvit.teachmon.domain.student_schedule.domain.event;
+
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleChangeVo;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 현재 스케줄이 바뀐 (날짜, 교시) 목록과 student_schedule 별 변경분
+ * current_schedule 갱신 직후 발행되며, 트랜잭션 커밋 이후 리스너에서 사용한다.
+ * changes 는 현재 스케줄 타입이 바뀐 student_schedule 만, studentScheduleIds 는 장소만 바뀐 경우까지 포함해
+ * current_schedule 을 다시 계산한 student_schedule 전체를 담는다.
+ * 일괄 삭제처럼 변경분을 알 수 없는 경우 changes, studentScheduleIds 는 비어 있고 slots 만 채워진다.
+ */
+public record StudentScheduleChangedEvent(
+        Set<ScheduleSlotVo> slots,
+        List<ScheduleChangeVo> changes,
+        Set<Long> studentScheduleIds
+) {
+    public StudentScheduleChangedEvent(Set<ScheduleSlotVo> slots) {
+        this(slots, List.of(), Set.of());
+    }
+
+    public StudentScheduleChangedEvent(Set<ScheduleSlotVo> slots, List<ScheduleChangeVo> changes) {
+        this(slots, changes, Set.of());
+    }
+}
@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CurrentScheduleQueryDslRepository {
+    List<CurrentScheduleEntity> calculateByStudentScheduleIds(Collection<Long> studentScheduleIds);
+}
@@ -0,0 +1,73 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.QStudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CurrentScheduleQueryDslRepositoryImpl implements CurrentScheduleQueryDslRepository {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CurrentScheduleEntity> calculateByStudentScheduleIds(Collection<Long> studentScheduleIds) {
+        if (studentScheduleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
+        QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
+
+        // 엔티티 대신 필요한 컬럼만 조회 (역방향 OneToOne 로딩 방지)
+        // stack_order 내림차순이므로 student_schedule 별 첫 행이 최상단 스케줄
+        List<Tuple> rows = queryFactory
+                .select(studentSchedule.id, studentSchedule.day, studentSchedule.period, schedule.id, schedule.stackOrder, schedule.type)
+                .from(schedule)
+                .join(schedule.studentSchedule, studentSchedule)
+                .where(studentSchedule.id.in(studentScheduleIds))
+                .orderBy(studentSchedule.id.asc(), schedule.stackOrder.desc())
+                .fetch();
+
+        Map<Long, List<Tuple>> stacks = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            stacks.computeIfAbsent(row.get(studentSchedule.id), key -> new ArrayList<>()).add(row);
+        }
+
+        return stacks.entrySet().stream()
+                .map(entry -> toCurrentSchedule(entry.getKey(), entry.getValue(), schedule, studentSchedule))
+                .toList();
+    }
+
+    private CurrentScheduleEntity toCurrentSchedule(Long studentScheduleId, List<Tuple> stack,
+                                                    QScheduleEntity schedule, QStudentScheduleEntity studentSchedule) {
+        Tuple top = stack.getFirst();
+
+        // EXIT/AWAY 를 제외한 가장 최근 스케줄
+        Tuple placeBased = stack.stream()
+                .filter(row -> !ScheduleEntity.ALLOWED_CHANGE_TYPES.contains(row.get(schedule.type)))
+                .findFirst()
+                .orElse(null);
+
+        return CurrentScheduleEntity.builder()
+                .studentScheduleId(studentScheduleId)
+                .day(top.get(studentSchedule.day))
+                .period(top.get(studentSchedule.period))
+                .scheduleId(top.get(schedule.id))
+                .type(top.get(schedule.type))
+                .stackOrder(top.get(schedule.stackOrder))
+                .placeScheduleId(placeBased != null ? placeBased.get(schedule.id) : null)
+                .placeScheduleType(placeBased != null ? placeBased.get(schedule.type) : null)
+                .build();
+    }
+}
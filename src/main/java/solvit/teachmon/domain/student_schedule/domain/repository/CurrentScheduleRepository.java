@@ -0,0 +1,9 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+
+@Repository
+public interface CurrentScheduleRepository extends JpaRepository<CurrentScheduleEntity, Long>, CurrentScheduleQueryDslRepository {
+}
@@ -1,7 +1,11 @@
 package solvit.teachmon.domain.student_schedule.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ScheduleQueryDslRepository {
     void deleteTopSchedulesByStudentScheduleIds(List<Long> studentScheduleIds);
+
+    Map<Long, Integer> findLastStackOrdersByStudentScheduleIds(Collection<Long> studentScheduleIds);
 }
\ No newline at end of file
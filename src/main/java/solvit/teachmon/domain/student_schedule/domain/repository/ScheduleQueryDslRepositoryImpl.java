@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.student_schedule.domain.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -7,7 +8,10 @@ import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAfterSchoolScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -50,4 +54,27 @@ public class ScheduleQueryDslRepositoryImpl implements ScheduleQueryDslRepositor
                     .execute();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Long, Integer> findLastStackOrdersByStudentScheduleIds(Collection<Long> studentScheduleIds) {
+        if (studentScheduleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
+
+        // studentScheduleId별 가장 높은 stackOrder 를 한 번에 조회 (스케줄이 없는 학생 스케줄은 결과에 포함되지 않음)
+        List<Tuple> results = queryFactory
+                .select(schedule.studentSchedule.id, schedule.stackOrder.max())
+                .from(schedule)
+                .where(schedule.studentSchedule.id.in(studentScheduleIds))
+                .groupBy(schedule.studentSchedule.id)
+                .fetch();
+
+        Map<Long, Integer> lastStackOrders = new HashMap<>();
+        for (Tuple result : results) {
+            lastStackOrders.put(result.get(schedule.studentSchedule.id), result.get(schedule.stackOrder.max()));
+        }
+        return lastStackOrders;
+    }
+}
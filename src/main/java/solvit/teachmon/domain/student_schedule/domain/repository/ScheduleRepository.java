@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 
 import java.util.List;
@@ -13,9 +14,6 @@ import java.util.Optional;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<ScheduleEntity, Long>, ScheduleQueryDslRepository {
-    @Query("SELECT COALESCE(MAX(s.stackOrder), 0) FROM ScheduleEntity s WHERE s.studentSchedule.id = :studentScheduleId")
-    Integer findLastStackOrderByStudentScheduleId(@Param("studentScheduleId") Long studentScheduleId);
-
     @Modifying
     @Query("DELETE FROM ScheduleEntity s WHERE s.studentSchedule.id = :studentScheduleId AND s.type = :type")
     void deleteByStudentScheduleIdAndType(@Param("studentScheduleId") Long studentScheduleId, @Param("type") ScheduleType type);
@@ -26,7 +24,21 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, Long>,
     @Query("SELECT s.id FROM ScheduleEntity s WHERE s.studentSchedule.id IN :studentScheduleIds AND s.stackOrder = (SELECT MAX(s2.stackOrder) FROM ScheduleEntity s2 WHERE s2.studentSchedule.id = s.studentSchedule.id) AND s.type = :type")
     List<Long> findTopScheduleIdsByStudentScheduleIds(@Param("studentScheduleIds") List<Long> studentScheduleIds, @Param("type") ScheduleType type);
 
+    @Query("SELECT DISTINCT s.studentSchedule FROM ScheduleEntity s WHERE s.id IN :scheduleIds")
+    List<StudentScheduleEntity> findStudentSchedulesByIds(@Param("scheduleIds") List<Long> scheduleIds);
+
+    @Query("""
+            SELECT DISTINCT s.studentSchedule.id FROM ScheduleEntity s
+            WHERE NOT EXISTS (SELECT 1 FROM CurrentScheduleEntity c WHERE c.studentScheduleId = s.studentSchedule.id)
+            ORDER BY s.studentSchedule.id
+            """)
+    List<Long> findStudentScheduleIdsWithoutCurrentSchedule();
+
     @Modifying
     @Query("DELETE FROM ScheduleEntity s WHERE s.id IN :scheduleIds")
     void deleteByIds(@Param("scheduleIds") List<Long> scheduleIds);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleEntity s WHERE s.studentSchedule.id IN :studentScheduleIds")
+    void deleteByStudentScheduleIds(@Param("studentScheduleIds") List<Long> studentScheduleIds);
 }
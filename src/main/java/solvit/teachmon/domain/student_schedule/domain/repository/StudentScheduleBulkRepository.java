@@ -0,0 +1,43 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주간 학생 스케줄 재생성용 일괄 처리
+ * 엔티티를 하나씩 로딩/저장하지 않고 집합 단위 DELETE 와 배치 INSERT 로 처리한다.
+ * 엔티티 리스너를 거치지 않으므로 current_schedule 갱신과 이벤트 발행은 호출하는 쪽에서 처리해야 한다.
+ */
+public interface StudentScheduleBulkRepository {
+    Set<ScheduleSlotVo> findSlotsByDayBetween(LocalDate startDay, LocalDate endDay);
+
+    /**
+     * 기간 내 학생 스케줄과 하위 스케줄을 의존 순서대로 일괄 삭제
+     * @return 삭제된 전체 행 수
+     */
+    long bulkDeleteAllByDayBetween(LocalDate startDay, LocalDate endDay);
+
+    /**
+     * 학생 스케줄에 쌓인 스케줄의 하위 스케줄(자습, 이석, 방과후, 이탈, 외출 등)을 일괄 삭제
+     * ScheduleEntity 는 하위 스케줄을 참조하지 않으므로 학생 스케줄을 엔티티로 삭제하기 전에 먼저 호출해야 한다.
+     * @return 삭제된 행 수
+     */
+    long bulkDeleteSchedulePayloadsByStudentScheduleIdIn(Collection<Long> studentScheduleIds);
+
+    /**
+     * 학생의 모든 학생 스케줄에 대해 하위 스케줄을 일괄 삭제 (학생 삭제 전 호출)
+     * @return 삭제된 행 수
+     */
+    long bulkDeleteSchedulePayloadsByStudentId(Long studentId);
+
+    /**
+     * 아직 저장되지 않은 학생 스케줄을 JDBC 배치로 저장
+     * @return 저장된 행 수
+     */
+    long bulkInsert(List<StudentScheduleEntity> studentSchedules);
+}
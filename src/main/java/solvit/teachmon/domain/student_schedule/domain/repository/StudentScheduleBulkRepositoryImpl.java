@@ -0,0 +1,156 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.student_schedule.domain.entity.QCurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.QStudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAdditionalSelfStudyScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAfterSchoolScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAwayScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QExitScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QLeaveSeatScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QSelfStudyScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class StudentScheduleBulkRepositoryImpl implements StudentScheduleBulkRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = """
+            INSERT INTO student_schedule (id, student_id, day, period, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public Set<ScheduleSlotVo> findSlotsByDayBetween(LocalDate startDay, LocalDate endDay) {
+        QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
+
+        return queryFactory
+                .select(studentSchedule.day, studentSchedule.period)
+                .distinct()
+                .from(studentSchedule)
+                .where(studentSchedule.day.between(startDay, endDay))
+                .fetch()
+                .stream()
+                .map(tuple -> new ScheduleSlotVo(tuple.get(studentSchedule.day), tuple.get(studentSchedule.period)))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public long bulkDeleteAllByDayBetween(LocalDate startDay, LocalDate endDay) {
+        QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
+        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
+
+        // 영속성 컨텍스트의 변경 사항을 먼저 반영하고, 삭제 후에는 남아 있는 엔티티를 비운다
+        entityManager.flush();
+
+        SubQueryExpression<Long> studentScheduleIds = JPAExpressions
+                .select(studentSchedule.id)
+                .from(studentSchedule)
+                .where(studentSchedule.day.between(startDay, endDay));
+        SubQueryExpression<Long> scheduleIds = JPAExpressions
+                .select(schedule.id)
+                .from(schedule)
+                .where(schedule.studentSchedule.id.in(studentScheduleIds));
+
+        // 하위 스케줄 -> current_schedule -> schedule -> student_schedule 순으로 삭제
+        long deleted = deletePayloads(scheduleIds);
+        deleted += queryFactory.delete(currentSchedule).where(currentSchedule.day.between(startDay, endDay)).execute();
+        deleted += queryFactory.delete(schedule).where(schedule.studentSchedule.id.in(studentScheduleIds)).execute();
+        deleted += queryFactory.delete(studentSchedule).where(studentSchedule.day.between(startDay, endDay)).execute();
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public long bulkDeleteSchedulePayloadsByStudentScheduleIdIn(Collection<Long> studentScheduleIds) {
+        if (studentScheduleIds.isEmpty()) {
+            return 0;
+        }
+
+        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
+        return deletePayloads(JPAExpressions
+                .select(schedule.id)
+                .from(schedule)
+                .where(schedule.studentSchedule.id.in(studentScheduleIds)));
+    }
+
+    @Override
+    public long bulkDeleteSchedulePayloadsByStudentId(Long studentId) {
+        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
+        return deletePayloads(JPAExpressions
+                .select(schedule.id)
+                .from(schedule)
+                .where(schedule.studentSchedule.student.id.eq(studentId)));
+    }
+
+    // 하위 스케줄은 schedule 과 id 를 공유하므로 schedule id 목록으로 타입별 테이블을 모두 비운다
+    private long deletePayloads(SubQueryExpression<Long> scheduleIds) {
+        QAdditionalSelfStudyScheduleEntity additionalSelfStudySchedule = QAdditionalSelfStudyScheduleEntity.additionalSelfStudyScheduleEntity;
+        QAfterSchoolScheduleEntity afterSchoolSchedule = QAfterSchoolScheduleEntity.afterSchoolScheduleEntity;
+        QLeaveSeatScheduleEntity leaveSeatSchedule = QLeaveSeatScheduleEntity.leaveSeatScheduleEntity;
+        QSelfStudyScheduleEntity selfStudySchedule = QSelfStudyScheduleEntity.selfStudyScheduleEntity;
+        QExitScheduleEntity exitSchedule = QExitScheduleEntity.exitScheduleEntity;
+        QAwayScheduleEntity awaySchedule = QAwayScheduleEntity.awayScheduleEntity;
+
+        long deleted = 0;
+        deleted += queryFactory.delete(additionalSelfStudySchedule).where(additionalSelfStudySchedule.id.in(scheduleIds)).execute();
+        deleted += queryFactory.delete(afterSchoolSchedule).where(afterSchoolSchedule.id.in(scheduleIds)).execute();
+        deleted += queryFactory.delete(leaveSeatSchedule).where(leaveSeatSchedule.id.in(scheduleIds)).execute();
+        deleted += queryFactory.delete(selfStudySchedule).where(selfStudySchedule.id.in(scheduleIds)).execute();
+        deleted += queryFactory.delete(exitSchedule).where(exitSchedule.id.in(scheduleIds)).execute();
+        deleted += queryFactory.delete(awaySchedule).where(awaySchedule.id.in(scheduleIds)).execute();
+        return deleted;
+    }
+
+    @Override
+    public long bulkInsert(List<StudentScheduleEntity> studentSchedules) {
+        if (studentSchedules.isEmpty()) {
+            return 0;
+        }
+
+        // id 는 엔티티에 설정된 Sonyflake 생성기를 그대로 사용
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getEntityPersister(null, studentSchedules.getFirst()).getGenerator();
+        if (!(generator instanceof BeforeExecutionGenerator idGenerator)) {
+            throw new IllegalStateException("student_schedule id 는 애플리케이션에서 생성되어야 합니다.");
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, studentSchedules, BATCH_SIZE, (ps, studentSchedule) -> {
+            ps.setLong(1, (Long) idGenerator.generate(session, studentSchedule, null, EventType.INSERT));
+            ps.setLong(2, studentSchedule.getStudent().getId());
+            ps.setObject(3, studentSchedule.getDay());
+            ps.setString(4, studentSchedule.getPeriod().name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        return studentSchedules.size();
+    }
+}
@@ -2,18 +2,20 @@ package solvit.teachmon.domain.student_schedule.domain.repository;
 
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.student_schedule.application.dto.PeriodScheduleDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlacePlacementDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface StudentScheduleQueryDslRepository {
     Map<Integer, List<StudentScheduleDto>> findByGradeAndPeriodGroupByClass(Integer grade, LocalDate day, SchoolPeriod period);
-    Map<StudentEntity, List<PeriodScheduleDto>> findByQueryAndDayGroupByStudent(String query, LocalDate day);
+    Map<StudentEntity, List<PeriodScheduleDto>> findByStudentIdsAndDayGroupByStudent(Collection<Long> studentIds, LocalDate day);
     Map<ScheduleType, List<ScheduleEntity>> findAllByDayAndPeriodAndTypeIn(LocalDate day, SchoolPeriod period, List<ScheduleType> types);
     Map<Long, ScheduleType> findLastScheduleTypeByStudentsAndDayAndPeriod(List<StudentEntity> students, LocalDate day, SchoolPeriod period);
 
@@ -22,4 +24,14 @@ public interface StudentScheduleQueryDslRepository {
      * EXIT/AWAY인 경우 stackOrder-1의 장소 기반 스케줄도 함께 반환
      */
     Map<ScheduleType, List<ScheduleEntity>> findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(LocalDate day, SchoolPeriod period, List<ScheduleType> types);
+
+    /**
+     * 해당 시간의 student_schedule 별 사용 장소 조회 (EXIT/AWAY 인 경우 그 아래 장소 기반 스케줄 기준)
+     */
+    List<PlacePlacementDto> findPlacePlacementsByDayAndPeriod(LocalDate day, SchoolPeriod period);
+
+    /**
+     * student_schedule 들의 현재 사용 장소 조회 (장소 기반 스케줄이 없는 student_schedule 은 결과에 없음)
+     */
+    List<PlacePlacementDto> findPlacePlacementsByStudentScheduleIds(Collection<Long> studentScheduleIds);
 }
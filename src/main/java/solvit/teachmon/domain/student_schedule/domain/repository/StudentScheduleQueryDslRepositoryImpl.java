@@ -2,27 +2,36 @@ package solvit.teachmon.domain.student_schedule.domain.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import solvit.teachmon.domain.management.student.domain.entity.QStudentEntity;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.after_school.domain.entity.QAfterSchoolReinforcementEntity;
+import solvit.teachmon.domain.place.domain.entity.QPlaceEntity;
 import solvit.teachmon.domain.student_schedule.application.dto.PeriodScheduleDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlacePlacementDto;
+import solvit.teachmon.domain.student_schedule.application.dto.QPlacePlacementDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QPeriodScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QStudentScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
+import solvit.teachmon.domain.student_schedule.domain.entity.QCurrentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QStudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAdditionalSelfStudyScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QAfterSchoolScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QLeaveSeatScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.QSelfStudyScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.querydsl.core.group.GroupBy.groupBy;
 import static com.querydsl.core.group.GroupBy.list;
@@ -36,26 +45,13 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
     public Map<Integer, List<StudentScheduleDto>> findByGradeAndPeriodGroupByClass(Integer grade, LocalDate day, SchoolPeriod period) {
         QStudentEntity student = QStudentEntity.studentEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
-        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
-        // 최적화: 상관 서브쿼리를 비상관 서브쿼리로 변경
-        // 복합키 (student_schedule_id, stack_order)를 IN 절로 조회
-        // 이렇게 하면 서브쿼리가 한 번만 실행됨
+        // 최상단 스케줄은 current_schedule 프로젝션에서 바로 조인
         return queryFactory
                 .from(student)
                 .leftJoin(studentSchedule).on(studentSchedule.student.id.eq(student.id))
-                .leftJoin(schedule).on(
-                        studentSchedule.id.eq(schedule.studentSchedule.id)
-                        // stack_order 가 가장 높은 스케줄 가져오기
-                        // 복합키 IN 절 사용으로 성능 최적화
-                        .and(Expressions.list(schedule.studentSchedule.id, schedule.stackOrder).in(
-                                JPAExpressions
-                                        .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                        .from(scheduleSub)
-                                        .groupBy(scheduleSub.studentSchedule.id)
-                        ))
-                )
+                .leftJoin(currentSchedule).on(currentSchedule.studentScheduleId.eq(studentSchedule.id))
                 .where(
                         gradeEq(grade),
                         dayEq(day),
@@ -73,7 +69,7 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
                                                 studentSchedule.day,
                                                 studentSchedule.period,
                                                 studentSchedule.id,
-                                                schedule.type
+                                                currentSchedule.type
                                         )
                                 )
                         )
@@ -81,29 +77,17 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
     }
 
     @Override
-    public Map<StudentEntity, List<PeriodScheduleDto>> findByQueryAndDayGroupByStudent(String query, LocalDate day) {
+    public Map<StudentEntity, List<PeriodScheduleDto>> findByStudentIdsAndDayGroupByStudent(Collection<Long> studentIds, LocalDate day) {
         QStudentEntity student = QStudentEntity.studentEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
-        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
-        // 최적화: 상관 서브쿼리를 비상관 서브쿼리로 변경
         return queryFactory
                 .from(student)
                 .leftJoin(studentSchedule).on(studentSchedule.student.id.eq(student.id))
-                .leftJoin(schedule).on(
-                        studentSchedule.id.eq(schedule.studentSchedule.id)
-                                // stack_order 가 가장 높은 스케줄 가져오기
-                                // 복합키 IN 절 사용으로 성능 최적화
-                                .and(Expressions.list(schedule.studentSchedule.id, schedule.stackOrder).in(
-                                        JPAExpressions
-                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .groupBy(scheduleSub.studentSchedule.id)
-                                ))
-                )
+                .leftJoin(currentSchedule).on(currentSchedule.studentScheduleId.eq(studentSchedule.id))
                 .where(
-                        queryEq(query),
+                        student.id.in(studentIds),
                         dayEq(day)
                 )
                 .transform(
@@ -112,7 +96,7 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
                                         new QPeriodScheduleDto(
                                                 studentSchedule.id,
                                                 studentSchedule.period,
-                                                schedule.type
+                                                currentSchedule.type
                                         )
                                 )
                         )
@@ -123,26 +107,16 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
     public Map<ScheduleType, List<ScheduleEntity>> findAllByDayAndPeriodAndTypeIn(LocalDate day, SchoolPeriod period, List<ScheduleType> types) {
         QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
-        // 최적화: 상관 서브쿼리를 비상관 서브쿼리로 변경
         return queryFactory
                 .from(studentSchedule)
-                .join(schedule).on(
-                        studentSchedule.id.eq(schedule.studentSchedule.id)
-                                // stack_order 가 가장 높은 스케줄 가져오기
-                                // 복합키 IN 절 사용으로 성능 최적화
-                                .and(Expressions.list(schedule.studentSchedule.id, schedule.stackOrder).in(
-                                        JPAExpressions
-                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .groupBy(scheduleSub.studentSchedule.id)
-                                ))
-                )
+                .join(currentSchedule).on(currentSchedule.studentScheduleId.eq(studentSchedule.id))
+                .join(schedule).on(schedule.id.eq(currentSchedule.scheduleId))
                 .where(
                         studentSchedule.day.eq(day),
                         studentSchedule.period.eq(period),
-                        schedule.type.in(types)
+                        currentSchedule.type.in(types)
                 )
                 .transform(
                         groupBy(schedule.type).as(list(schedule))
@@ -153,30 +127,19 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
     public Map<Long, ScheduleType> findLastScheduleTypeByStudentsAndDayAndPeriod(List<StudentEntity> students, LocalDate day, SchoolPeriod period) {
         QStudentEntity student = QStudentEntity.studentEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
-        QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
         return queryFactory
                 .from(student)
                 .join(studentSchedule).on(studentSchedule.student.id.eq(student.id))
-                .join(schedule).on(
-                        studentSchedule.id.eq(schedule.studentSchedule.id)
-                                // stack_order 가 가장 높은 스케줄 가져오기
-                                // stack_order 가 가장 큰 스케줄이 최신 데이터
-                                .and(schedule.stackOrder.eq(
-                                        JPAExpressions
-                                                .select(scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .where(scheduleSub.studentSchedule.id.eq(studentSchedule.id))
-                                ))
-                )
+                .join(currentSchedule).on(currentSchedule.studentScheduleId.eq(studentSchedule.id))
                 .where(
                         student.in(students),
                         studentSchedule.day.eq(day),
                         studentSchedule.period.eq(period)
                 )
                 .transform(
-                        groupBy(student.id).as(schedule.type)
+                        groupBy(student.id).as(currentSchedule.type)
                 );
     }
 
@@ -184,62 +147,19 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
     public Map<ScheduleType, List<ScheduleEntity>> findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(LocalDate day, SchoolPeriod period, List<ScheduleType> types) {
         QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
-        QScheduleEntity scheduleMax = new QScheduleEntity("scheduleMax");
-        QScheduleEntity schedulePlaceBased = new QScheduleEntity("schedulePlaceBased");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
-        // 장소 기반 스케줄 조회 (EXIT/AWAY 특별 처리)
+        // 장소 기반 스케줄 조회
+        // place_schedule_id 는 최신 스케줄이 EXIT/AWAY 인 경우 그 아래의 가장 최근 스케줄, 아니면 최신 스케줄
         List<ScheduleEntity> placeBasedSchedules = queryFactory
                 .select(schedule)
                 .from(studentSchedule)
-                .join(schedule).on(
-                        studentSchedule.id.eq(schedule.studentSchedule.id)
-                                .and(
-                                        // 케이스 1: 최신 스케줄이 placeScheduleType에 포함되는 경우
-                                        schedule.type.in(types)
-                                                .and(Expressions.list(schedule.studentSchedule.id, schedule.stackOrder).in(
-                                                        JPAExpressions
-                                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                                .from(scheduleSub)
-                                                                .where(scheduleSub.studentSchedule.id.eq(studentSchedule.id))
-                                                                .groupBy(scheduleSub.studentSchedule.id)
-                                                ))
-                                        // 케이스 2: 최신 스케줄이 EXIT/AWAY이고,
-                                        //          현재 스케줄이 placeScheduleType에 포함되며,
-                                        //          EXIT/AWAY가 아닌 스케줄 중 가장 최근 스케줄
-                                        .or(
-                                                schedule.type.in(types)
-                                                        .and(schedule.type.notIn(ScheduleType.EXIT, ScheduleType.AWAY))
-                                                        .and(schedule.stackOrder.eq(
-                                                                JPAExpressions
-                                                                        .select(schedulePlaceBased.stackOrder.max())
-                                                                        .from(schedulePlaceBased)
-                                                                        .where(
-                                                                                schedulePlaceBased.studentSchedule.id.eq(studentSchedule.id),
-                                                                                schedulePlaceBased.type.notIn(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                                        )
-                                                        ))
-                                                        .and(JPAExpressions
-                                                                .selectOne()
-                                                                .from(scheduleMax)
-                                                                .where(
-                                                                        scheduleMax.studentSchedule.id.eq(studentSchedule.id),
-                                                                        scheduleMax.stackOrder.eq(
-                                                                                JPAExpressions
-                                                                                        .select(scheduleSub.stackOrder.max())
-                                                                                        .from(scheduleSub)
-                                                                                        .where(scheduleSub.studentSchedule.id.eq(studentSchedule.id))
-                                                                        ),
-                                                                        scheduleMax.type.in(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                                )
-                                                                .exists()
-                                                        )
-                                        )
-                                )
-                )
+                .join(currentSchedule).on(currentSchedule.studentScheduleId.eq(studentSchedule.id))
+                .join(schedule).on(schedule.id.eq(currentSchedule.placeScheduleId))
                 .where(
                         studentSchedule.day.eq(day),
-                        studentSchedule.period.eq(period)
+                        studentSchedule.period.eq(period),
+                        currentSchedule.placeScheduleType.in(types)
                 )
                 .fetch();
 
@@ -248,6 +168,100 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
                 .collect(Collectors.groupingBy(ScheduleEntity::getType));
     }
 
+    @Override
+    public List<PlacePlacementDto> findPlacePlacementsByDayAndPeriod(LocalDate day, SchoolPeriod period) {
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
+        return findPlacePlacements(currentSchedule.day.eq(day).and(currentSchedule.period.eq(period)));
+    }
+
+    @Override
+    public List<PlacePlacementDto> findPlacePlacementsByStudentScheduleIds(Collection<Long> studentScheduleIds) {
+        if (studentScheduleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
+        return findPlacePlacements(currentSchedule.studentScheduleId.in(studentScheduleIds));
+    }
+
+    private List<PlacePlacementDto> findPlacePlacements(BooleanExpression condition) {
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
+        QPlaceEntity place = QPlaceEntity.placeEntity;
+        QSelfStudyScheduleEntity selfStudySchedule = QSelfStudyScheduleEntity.selfStudyScheduleEntity;
+        QAdditionalSelfStudyScheduleEntity additionalSelfStudySchedule = QAdditionalSelfStudyScheduleEntity.additionalSelfStudyScheduleEntity;
+        QLeaveSeatScheduleEntity leaveSeatSchedule = QLeaveSeatScheduleEntity.leaveSeatScheduleEntity;
+        QAfterSchoolScheduleEntity afterSchoolSchedule = QAfterSchoolScheduleEntity.afterSchoolScheduleEntity;
+        QAfterSchoolReinforcementEntity afterSchoolReinforcement = QAfterSchoolReinforcementEntity.afterSchoolReinforcementEntity;
+
+        List<PlacePlacementDto> selfStudyPlacements = queryFactory
+                .select(placePlacement(place, currentSchedule, ScheduleType.SELF_STUDY))
+                .from(selfStudySchedule)
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(selfStudySchedule.schedule.id))
+                .join(selfStudySchedule.place, place)
+                .where(condition, currentSchedule.placeScheduleType.eq(ScheduleType.SELF_STUDY))
+                .fetch();
+
+        List<PlacePlacementDto> additionalSelfStudyPlacements = queryFactory
+                .select(placePlacement(place, currentSchedule, ScheduleType.ADDITIONAL_SELF_STUDY))
+                .from(additionalSelfStudySchedule)
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(additionalSelfStudySchedule.schedule.id))
+                .join(additionalSelfStudySchedule.place, place)
+                .where(condition, currentSchedule.placeScheduleType.eq(ScheduleType.ADDITIONAL_SELF_STUDY))
+                .fetch();
+
+        List<PlacePlacementDto> leaveSeatPlacements = queryFactory
+                .select(placePlacement(place, currentSchedule, ScheduleType.LEAVE_SEAT))
+                .from(leaveSeatSchedule)
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(leaveSeatSchedule.schedule.id))
+                .join(leaveSeatSchedule.leaveSeat.place, place)
+                .where(condition, currentSchedule.placeScheduleType.eq(ScheduleType.LEAVE_SEAT))
+                .fetch();
+
+        List<PlacePlacementDto> afterSchoolPlacements = queryFactory
+                .select(placePlacement(place, currentSchedule, ScheduleType.AFTER_SCHOOL))
+                .from(afterSchoolSchedule)
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(afterSchoolSchedule.schedule.id))
+                .join(afterSchoolSchedule.afterSchool.place, place)
+                .where(condition, currentSchedule.placeScheduleType.eq(ScheduleType.AFTER_SCHOOL))
+                .fetch();
+
+        // 보강은 해당 날짜/교시의 보강 장소 기준
+        List<PlacePlacementDto> afterSchoolReinforcementPlacements = queryFactory
+                .select(placePlacement(place, currentSchedule, ScheduleType.AFTER_SCHOOL_REINFORCEMENT))
+                .from(afterSchoolSchedule)
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(afterSchoolSchedule.schedule.id))
+                .join(afterSchoolReinforcement).on(
+                        afterSchoolReinforcement.afterSchool.id.eq(afterSchoolSchedule.afterSchool.id),
+                        afterSchoolReinforcement.changeDay.eq(currentSchedule.day),
+                        afterSchoolReinforcement.changePeriod.eq(currentSchedule.period)
+                )
+                .join(afterSchoolReinforcement.place, place)
+                .where(condition, currentSchedule.placeScheduleType.eq(ScheduleType.AFTER_SCHOOL_REINFORCEMENT))
+                .fetch();
+
+        return Stream.of(
+                        selfStudyPlacements,
+                        additionalSelfStudyPlacements,
+                        leaveSeatPlacements,
+                        afterSchoolPlacements,
+                        afterSchoolReinforcementPlacements
+                )
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private QPlacePlacementDto placePlacement(QPlaceEntity place, QCurrentScheduleEntity currentSchedule, ScheduleType type) {
+        return new QPlacePlacementDto(
+                currentSchedule.studentScheduleId,
+                currentSchedule.day,
+                currentSchedule.period,
+                place.id,
+                place.name,
+                place.floor,
+                Expressions.constant(type)
+        );
+    }
+
     private BooleanExpression gradeEq(Integer grade) {
         QStudentEntity student = QStudentEntity.studentEntity;
         return grade != null ? student.grade.eq(grade) : null;
@@ -262,24 +276,4 @@ public class StudentScheduleQueryDslRepositoryImpl implements StudentScheduleQue
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
         return period != null ? studentSchedule.period.eq(period) : null;
     }
-
-    private BooleanExpression queryEq(String query) {
-        QStudentEntity student = QStudentEntity.studentEntity;
-
-        if(query == null || query.isBlank()) {
-            return null;
-        }
-
-        // 공백 제거
-        String normalizedQuery = query.replace(" ", "");
-
-        // 학생 번호는 2자리로 맞춰서 검색
-        StringExpression paddedNumber = Expressions.stringTemplate("LPAD({0}, 2, '0')", student.number.stringValue());
-
-        return student.grade.stringValue()
-                .concat(student.classNumber.stringValue())
-                .concat(paddedNumber)
-                .concat(student.name)
-                .contains(normalizedQuery);
-    }
 }
@@ -15,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudentScheduleRepository extends JpaRepository<StudentScheduleEntity, Long>, StudentScheduleQueryDslRepository {
+public interface StudentScheduleRepository extends JpaRepository<StudentScheduleEntity, Long>, StudentScheduleQueryDslRepository, StudentScheduleBulkRepository {
     @Query("SELECT s FROM StudentScheduleEntity s JOIN FETCH s.student WHERE s.student IN :students AND s.day = :day AND s.period = :period")
     List<StudentScheduleEntity> findAllByStudentsAndDayAndPeriod(List<StudentEntity> students, LocalDate day, SchoolPeriod period);
 
@@ -69,6 +69,13 @@ public interface StudentScheduleRepository extends JpaRepository<StudentSchedule
             @Param("endDay") LocalDate endDay
     );
 
+    @Query("SELECT s FROM StudentScheduleEntity s JOIN FETCH s.student WHERE s.student.grade = :grade AND s.day BETWEEN :startDay AND :endDay")
+    List<StudentScheduleEntity> findAllByGradeAndDayBetween(
+            @Param("grade") Integer grade,
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
     @Query("SELECT s FROM StudentScheduleEntity s JOIN FETCH s.student WHERE s.student = :student AND s.day = :day AND s.period = :period")
     Optional<StudentScheduleEntity> findByStudentAndDayAndPeriod(
             @Param("student") StudentEntity student,
@@ -0,0 +1,9 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.student_schedule.domain.entity.WeeklyScheduleBuildCheckpointEntity;
+
+@Repository
+public interface WeeklyScheduleBuildCheckpointRepository extends CrudRepository<WeeklyScheduleBuildCheckpointEntity, String> {
+}
@@ -1,7 +1,6 @@
 package solvit.teachmon.domain.student_schedule.domain.repository.schedules;
 
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -13,6 +12,7 @@ import solvit.teachmon.domain.student_schedule.application.dto.PlaceScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QPlaceScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QStudentScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
+import solvit.teachmon.domain.student_schedule.domain.entity.QCurrentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QStudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
@@ -120,9 +120,7 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
         QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
         QStudentEntity student = QStudentEntity.studentEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
-        QScheduleEntity scheduleMax = new QScheduleEntity("scheduleMax");
-        QScheduleEntity schedulePlaceBased = new QScheduleEntity("schedulePlaceBased");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
         return queryFactory
                 .select(new QStudentScheduleDto(
@@ -134,7 +132,7 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
                         studentSchedule.day,
                         studentSchedule.period,
                         studentSchedule.id,
-                        scheduleMax.type
+                        currentSchedule.type
                 ))
                 .from(afterSchool)
                 .join(afterSchoolSchedule).on(afterSchoolSchedule.afterSchool.id.eq(afterSchool.id))
@@ -144,35 +142,13 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
                 )
                 .join(schedule.studentSchedule, studentSchedule)
                 .join(studentSchedule.student, student)
-                // 최신 스케줄 조인 (EXIT/AWAY 정보 표시용)
-                .join(scheduleMax).on(
-                        scheduleMax.studentSchedule.id.eq(studentSchedule.id)
-                                .and(Expressions.list(scheduleMax.studentSchedule.id, scheduleMax.stackOrder).in(
-                                        JPAExpressions
-                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .groupBy(scheduleSub.studentSchedule.id)
-                                ))
-                )
+                // 장소 기반 스케줄(최신 스케줄, 최신이 EXIT/AWAY 면 그 아래 가장 최근 스케줄)만 조인
+                // current_schedule.type 은 EXIT/AWAY 정보 표시용
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(schedule.id))
                 .where(
                         afterSchool.place.id.eq(placeId),
                         studentSchedule.day.eq(day),
-                        studentSchedule.period.eq(period),
-                        // 케이스 1: 최신 스케줄이 방과후인 경우
-                        schedule.id.eq(scheduleMax.id)
-                                // 케이스 2: 최신 스케줄이 EXIT/AWAY이고, 현재 스케줄이 EXIT/AWAY를 제외한 가장 최근 스케줄인 경우
-                                .or(
-                                        scheduleMax.type.in(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                .and(schedule.stackOrder.eq(
-                                                        JPAExpressions
-                                                                .select(schedulePlaceBased.stackOrder.max())
-                                                                .from(schedulePlaceBased)
-                                                                .where(
-                                                                        schedulePlaceBased.studentSchedule.id.eq(studentSchedule.id),
-                                                                        schedulePlaceBased.type.notIn(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                                )
-                                                ))
-                                )
+                        studentSchedule.period.eq(period)
                 )
                 .fetch();
     }
@@ -184,9 +160,7 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
         QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
         QStudentEntity student = QStudentEntity.studentEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
-        QScheduleEntity scheduleMax = new QScheduleEntity("scheduleMax");
-        QScheduleEntity schedulePlaceBased = new QScheduleEntity("schedulePlaceBased");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
         return queryFactory
                 .select(new QStudentScheduleDto(
@@ -198,7 +172,7 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
                         studentSchedule.day,
                         studentSchedule.period,
                         studentSchedule.id,
-                        scheduleMax.type
+                        currentSchedule.type
                 ))
                 .from(afterSchoolReinforcement)
                 .join(afterSchoolSchedule).on(afterSchoolSchedule.afterSchool.id.eq(afterSchoolReinforcement.afterSchool.id))
@@ -208,37 +182,15 @@ public class AfterSchoolScheduleQueryDslRepositoryImpl implements AfterSchoolSch
                 )
                 .join(schedule.studentSchedule, studentSchedule)
                 .join(studentSchedule.student, student)
-                // 최신 스케줄 조인 (EXIT/AWAY 정보 표시용)
-                .join(scheduleMax).on(
-                        scheduleMax.studentSchedule.id.eq(studentSchedule.id)
-                                .and(Expressions.list(scheduleMax.studentSchedule.id, scheduleMax.stackOrder).in(
-                                        JPAExpressions
-                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .groupBy(scheduleSub.studentSchedule.id)
-                                ))
-                )
+                // 장소 기반 스케줄(최신 스케줄, 최신이 EXIT/AWAY 면 그 아래 가장 최근 스케줄)만 조인
+                // current_schedule.type 은 EXIT/AWAY 정보 표시용
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(schedule.id))
                 .where(
                         afterSchoolReinforcement.place.id.eq(placeId),
                         afterSchoolReinforcement.changeDay.eq(day),
                         afterSchoolReinforcement.changePeriod.eq(period),
                         studentSchedule.day.eq(day),
-                        studentSchedule.period.eq(period),
-                        // 케이스 1: 최신 스케줄이 방과후인 경우
-                        schedule.id.eq(scheduleMax.id)
-                                // 케이스 2: 최신 스케줄이 EXIT/AWAY이고, 현재 스케줄이 EXIT/AWAY를 제외한 가장 최근 스케줄인 경우
-                                .or(
-                                        scheduleMax.type.in(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                .and(schedule.stackOrder.eq(
-                                                        JPAExpressions
-                                                                .select(schedulePlaceBased.stackOrder.max())
-                                                                .from(schedulePlaceBased)
-                                                                .where(
-                                                                        schedulePlaceBased.studentSchedule.id.eq(studentSchedule.id),
-                                                                        schedulePlaceBased.type.notIn(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                                )
-                                                ))
-                                )
+                        studentSchedule.period.eq(period)
                 )
                 .fetch();
     }
@@ -1,7 +1,6 @@
 package solvit.teachmon.domain.student_schedule.domain.repository.schedules;
 
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -12,6 +11,7 @@ import solvit.teachmon.domain.student_schedule.application.dto.PlaceScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QPlaceScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.QStudentScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
+import solvit.teachmon.domain.student_schedule.domain.entity.QCurrentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.QStudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
@@ -71,8 +71,7 @@ public class LeaveSeatScheduleQueryDslRepositoryImpl implements LeaveSeatSchedul
         QScheduleEntity schedule = QScheduleEntity.scheduleEntity;
         QStudentScheduleEntity studentSchedule = QStudentScheduleEntity.studentScheduleEntity;
         QStudentEntity student = QStudentEntity.studentEntity;
-        QScheduleEntity scheduleSub = new QScheduleEntity("scheduleSub");
-        QScheduleEntity scheduleMax = new QScheduleEntity("scheduleMax");
+        QCurrentScheduleEntity currentSchedule = QCurrentScheduleEntity.currentScheduleEntity;
 
         return queryFactory
                 .select(new QStudentScheduleDto(
@@ -84,40 +83,20 @@ public class LeaveSeatScheduleQueryDslRepositoryImpl implements LeaveSeatSchedul
                         studentSchedule.day,
                         studentSchedule.period,
                         studentSchedule.id,
-                        scheduleMax.type
+                        currentSchedule.type
                 ))
                 .from(leaveSeat)
                 .join(leaveSeatSchedule).on(leaveSeatSchedule.leaveSeat.id.eq(leaveSeat.id))
                 .join(schedule).on(leaveSeatSchedule.schedule.id.eq(schedule.id))
                 .join(schedule.studentSchedule, studentSchedule)
                 .join(studentSchedule.student, student)
-                // 최신 스케줄 조인 (EXIT/AWAY 정보 표시용)
-                .join(scheduleMax).on(
-                        scheduleMax.studentSchedule.id.eq(studentSchedule.id)
-                                .and(Expressions.list(scheduleMax.studentSchedule.id, scheduleMax.stackOrder).in(
-                                        JPAExpressions
-                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                .from(scheduleSub)
-                                                .groupBy(scheduleSub.studentSchedule.id)
-                                ))
-                )
+                // 장소 기반 스케줄(최신 스케줄, 최신이 EXIT/AWAY 면 그 아래 가장 최근 스케줄)만 조인
+                // current_schedule.type 은 EXIT/AWAY 정보 표시용
+                .join(currentSchedule).on(currentSchedule.placeScheduleId.eq(schedule.id))
                 .where(
                         leaveSeat.place.id.eq(placeId),
                         studentSchedule.day.eq(day),
-                        studentSchedule.period.eq(period),
-                        // 이석은 실제 장소 이동이므로, 최신 스케줄이 이석이거나
-                        // 최신이 EXIT/AWAY인데 그 아래가 이석인 경우 조회
-                        schedule.id.eq(scheduleMax.id)
-                                .or(
-                                        scheduleMax.type.in(ScheduleType.EXIT, ScheduleType.AWAY)
-                                                .and(Expressions.list(schedule.studentSchedule.id, schedule.stackOrder).in(
-                                                        JPAExpressions
-                                                                .select(scheduleSub.studentSchedule.id, scheduleSub.stackOrder.max())
-                                                                .from(scheduleSub)
-                                                                .where(scheduleSub.type.notIn(ScheduleType.EXIT, ScheduleType.AWAY))
-                                                                .groupBy(scheduleSub.studentSchedule.id)
-                                                ))
-                                )
+                        studentSchedule.period.eq(period)
                 )
                 .fetch();
     }
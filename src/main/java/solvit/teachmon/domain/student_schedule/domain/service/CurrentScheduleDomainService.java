@@ -0,0 +1,166 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
+import solvit.teachmon.domain.student_schedule.domain.repository.CurrentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleChangeVo;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * current_schedule 프로젝션 관리
+ * 스케줄이 추가/삭제된 student_schedule 을 트랜잭션 동안 모아두었다가 커밋 직전에 한 번에 갱신하고,
+ * 바뀐 (날짜, 교시) 를 StudentScheduleChangedEvent 로 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentScheduleDomainService {
+    private final CurrentScheduleRepository currentScheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void markChanged(StudentScheduleEntity studentSchedule) {
+        // 스케줄 추가/삭제는 항상 트랜잭션 안에서 일어나므로 트랜잭션 밖 호출은 무시
+        if (studentSchedule == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        getPendingStudentSchedules().add(studentSchedule);
+    }
+
+    public void markChanged(Collection<StudentScheduleEntity> studentSchedules) {
+        studentSchedules.forEach(this::markChanged);
+    }
+
+    public Set<ScheduleSlotVo> refresh(Collection<Long> studentScheduleIds) {
+        return refresh(studentScheduleIds, new HashMap<>());
+    }
+
+    /**
+     * current_schedule 을 다시 계산하고, 타입이 바뀐 student_schedule 의 새 타입을 changedTypes 에 담습니다.
+     */
+    private Set<ScheduleSlotVo> refresh(Collection<Long> studentScheduleIds, Map<Long, ScheduleType> changedTypes) {
+        if (studentScheduleIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, CurrentScheduleEntity> calculated = currentScheduleRepository.calculateByStudentScheduleIds(studentScheduleIds).stream()
+                .collect(Collectors.toMap(CurrentScheduleEntity::getStudentScheduleId, Function.identity()));
+        List<CurrentScheduleEntity> existing = currentScheduleRepository.findAllById(studentScheduleIds);
+
+        Set<ScheduleSlotVo> changedSlots = new HashSet<>();
+        calculated.values().forEach(currentSchedule -> changedSlots.add(toSlot(currentSchedule)));
+        existing.forEach(currentSchedule -> changedSlots.add(toSlot(currentSchedule)));
+
+        // 기존 프로젝션 갱신, 스케줄이 모두 사라진 경우 삭제
+        for (CurrentScheduleEntity currentSchedule : existing) {
+            CurrentScheduleEntity newCurrentSchedule = calculated.remove(currentSchedule.getStudentScheduleId());
+            if (newCurrentSchedule == null) {
+                changedTypes.put(currentSchedule.getStudentScheduleId(), null);
+                currentScheduleRepository.delete(currentSchedule);
+            } else {
+                if (currentSchedule.getType() != newCurrentSchedule.getType()) {
+                    changedTypes.put(currentSchedule.getStudentScheduleId(), newCurrentSchedule.getType());
+                }
+                currentSchedule.update(newCurrentSchedule);
+            }
+        }
+
+        // 새로 스케줄이 생긴 student_schedule
+        calculated.values().forEach(currentSchedule -> changedTypes.put(currentSchedule.getStudentScheduleId(), currentSchedule.getType()));
+        currentScheduleRepository.saveAll(calculated.values());
+
+        return changedSlots;
+    }
+
+    private Set<StudentScheduleEntity> getPendingStudentSchedules() {
+        @SuppressWarnings("unchecked")
+        Set<StudentScheduleEntity> pending = (Set<StudentScheduleEntity>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<StudentScheduleEntity> newPending = Collections.newSetFromMap(new IdentityHashMap<>());
+        TransactionSynchronizationManager.bindResource(this, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flushPending(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CurrentScheduleDomainService.this);
+            }
+        });
+        return newPending;
+    }
+
+    private void flushPending(Set<StudentScheduleEntity> pending) {
+        // flush 중 orphanRemoval 등으로 추가되는 변경까지 반영될 때까지 반복
+        currentScheduleRepository.flush();
+        Set<ScheduleSlotVo> changedSlots = new HashSet<>();
+        Map<Long, ScheduleType> changedTypes = new HashMap<>();
+        Map<Long, StudentScheduleEntity> studentSchedules = new HashMap<>();
+        while (!pending.isEmpty()) {
+            pending.stream()
+                    .filter(studentSchedule -> studentSchedule.getId() != null)
+                    .forEach(studentSchedule -> studentSchedules.putIfAbsent(studentSchedule.getId(), studentSchedule));
+            List<Long> studentScheduleIds = pending.stream()
+                    .map(StudentScheduleEntity::getId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            pending.clear();
+
+            changedSlots.addAll(refresh(studentScheduleIds, changedTypes));
+            currentScheduleRepository.flush();
+        }
+
+        if (!changedSlots.isEmpty()) {
+            eventPublisher.publishEvent(new StudentScheduleChangedEvent(
+                    changedSlots, toChanges(changedTypes, studentSchedules), Set.copyOf(studentSchedules.keySet())
+            ));
+        }
+    }
+
+    // 실시간 대시보드가 (학년, 날짜, 교시) 별로 나눠 보낼 수 있도록 학년과 시간을 함께 담는다
+    private List<ScheduleChangeVo> toChanges(Map<Long, ScheduleType> changedTypes, Map<Long, StudentScheduleEntity> studentSchedules) {
+        List<ScheduleChangeVo> changes = new ArrayList<>();
+        changedTypes.forEach((studentScheduleId, type) -> {
+            StudentScheduleEntity studentSchedule = studentSchedules.get(studentScheduleId);
+            if (studentSchedule == null) {
+                return;
+            }
+            changes.add(new ScheduleChangeVo(
+                    studentScheduleId,
+                    studentSchedule.getStudent().getGrade(),
+                    studentSchedule.getDay(),
+                    studentSchedule.getPeriod(),
+                    type
+            ));
+        });
+        return changes;
+    }
+
+    private ScheduleSlotVo toSlot(CurrentScheduleEntity currentSchedule) {
+        return new ScheduleSlotVo(currentSchedule.getDay(), currentSchedule.getPeriod());
+    }
+}
@@ -0,0 +1,51 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 학생 스케줄에 새 스케줄을 쌓을 때 stackOrder 할당
+ * 마지막 stackOrder 를 한 번의 쿼리로 가져온 뒤 다음 값은 메모리에서 증가시키며 나눠준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StackOrderAllocator {
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleEntity stackSchedule(StudentScheduleEntity studentSchedule, ScheduleType type) {
+        return stackSchedules(List.of(studentSchedule), type).get(0);
+    }
+
+    public List<ScheduleEntity> stackSchedules(Collection<StudentScheduleEntity> studentSchedules, ScheduleType type) {
+        if (studentSchedules.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> studentScheduleIds = studentSchedules.stream()
+                .map(StudentScheduleEntity::getId)
+                .distinct()
+                .toList();
+        Map<Long, Integer> lastStackOrders = new HashMap<>(
+                scheduleRepository.findLastStackOrdersByStudentScheduleIds(studentScheduleIds));
+
+        List<ScheduleEntity> schedules = new ArrayList<>(studentSchedules.size());
+        for (StudentScheduleEntity studentSchedule : studentSchedules) {
+            // 같은 학생 스케줄이 여러 번 들어와도 순서대로 쌓이도록 할당한 값을 바로 반영
+            Integer lastStackOrder = lastStackOrders.getOrDefault(studentSchedule.getId(), 0);
+            ScheduleEntity schedule = ScheduleEntity.createNewStudentSchedule(studentSchedule, lastStackOrder, type);
+            lastStackOrders.put(studentSchedule.getId(), schedule.getStackOrder());
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+}
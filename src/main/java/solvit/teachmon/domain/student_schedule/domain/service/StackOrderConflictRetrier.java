@@ -0,0 +1,73 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.exception.StackOrderConflictException;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄 쌓기 낙관적 동시성 제어
+ * stackOrder 는 잠금 없이 마지막 값 + 1 로 할당하고, 같은 student_schedule 에 동시에 쌓아
+ * (student_schedule_id, stack_order) 유니크 제약에 걸리면 트랜잭션을 처음부터 다시 실행한다.
+ * 서로 다른 학생의 변경은 서로 막지 않는다.
+ * 재시도가 의미 있으려면 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StackOrderConflictRetrier {
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_MILLIS = 10;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public void execute(Runnable task) {
+        execute(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> task.get());
+            } catch (DataIntegrityViolationException e) {
+                if (!isStackOrderConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("스케줄 쌓기 충돌 재시도 초과 - attempts: {}", attempt);
+                    throw new StackOrderConflictException();
+                }
+
+                log.debug("스케줄 쌓기 충돌, 재시도 - attempt: {}", attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private boolean isStackOrderConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT);
+    }
+
+    // 동시에 충돌한 요청들이 다시 같은 순간에 부딪히지 않도록 조금씩 다르게 대기
+    private void backoff(int attempt) {
+        long delay = BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StackOrderConflictException();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package solvit.teachmon.domain.student_schedule.domain.vo;
+
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * student_schedule 의 현재(스택 최상단) 스케줄 타입 변경분
+ * 스케줄이 모두 사라진 경우 type 은 null 이다.
+ */
+public record ScheduleChangeVo(
+        Long studentScheduleId,
+        Integer grade,
+        LocalDate day,
+        SchoolPeriod period,
+        ScheduleType type
+) {
+}
@@ -0,0 +1,11 @@
+package solvit.teachmon.domain.student_schedule.domain.vo;
+
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+public record ScheduleSlotVo(
+        LocalDate day,
+        SchoolPeriod period
+) {
+}
@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.student_schedule.exception;
+
+import org.springframework.http.HttpStatus;
+import solvit.teachmon.global.exception.TeachmonBusinessException;
+
+public class StackOrderConflictException extends TeachmonBusinessException {
+    public StackOrderConflictException() {
+        super("다른 선생님이 같은 학생의 상태를 변경하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+    }
+}
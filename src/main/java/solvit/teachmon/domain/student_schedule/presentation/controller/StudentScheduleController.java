@@ -3,11 +3,14 @@ package solvit.teachmon.domain.student_schedule.presentation.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import solvit.teachmon.domain.student_schedule.application.facade.PlaceStudentScheduleService;
+import solvit.teachmon.domain.student_schedule.application.stream.StudentScheduleStreamService;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.FloorStateResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStateResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.PlaceStudentScheduleResponse;
@@ -16,7 +19,6 @@ import solvit.teachmon.domain.student_schedule.presentation.dto.request.StudentS
 import solvit.teachmon.domain.student_schedule.presentation.dto.request.StudentScheduleUpdateRequest;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.ClassStudentScheduleResponse;
 import solvit.teachmon.domain.student_schedule.presentation.dto.response.HistoryStudentScheduleResponse;
-import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
 
@@ -30,6 +32,7 @@ import java.util.List;
 public class StudentScheduleController {
     private final StudentScheduleService studentScheduleService;
     private final PlaceStudentScheduleService placeStudentScheduleService;
+    private final StudentScheduleStreamService studentScheduleStreamService;
 
     @GetMapping
     public ResponseEntity<List<ClassStudentScheduleResponse>> getGradeStudentSchedules(
@@ -44,15 +47,22 @@ public class StudentScheduleController {
                 .body(results);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeGradeStudentSchedules(
+            @RequestParam("grade") @NotNull(message = "학년별 학생 스케줄 구독시 grade(학년)는 필수입니다.") Integer grade,
+            @RequestParam("day") @NotNull(message = "학년별 학생 스케줄 구독시 day(날짜)는 필수입니다.") LocalDate day,
+            @RequestParam("period") @NotNull(message = "학년별 학생 스케줄 구독시 period(교시)는 필수입니다.") SchoolPeriod period
+    ) {
+        return studentScheduleStreamService.subscribeGrade(grade, day, period);
+    }
+
     @PatchMapping("/{scheduleId}")
     public ResponseEntity<String> updateStudentSchedule(
             @PathVariable("scheduleId") @NotNull(message = "학생 상태 변경에서 scheduleId(스케줄 id)는 필수입니다.") Long scheduleId,
             @RequestBody @Valid StudentScheduleUpdateRequest request,
             @AuthenticationPrincipal TeachmonUserDetails teachmonUserDetails
     ) {
-        TeacherEntity teacher = teachmonUserDetails.teacherEntity();
-
-        studentScheduleService.updateStudentSchedule(scheduleId, request, teacher);
+        studentScheduleService.updateStudentSchedule(scheduleId, request, teachmonUserDetails.getId());
 
         return ResponseEntity
                 .ok()
@@ -112,6 +122,15 @@ public class StudentScheduleController {
                 .body(result);
     }
 
+    @GetMapping(value = "/place/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePlaceStatesByFloor(
+            @RequestParam("floor") @NotNull(message = "층별 장소 상태 구독에서 floor(층)는 필수입니다.") Integer floor,
+            @RequestParam(value = "day", required = false) LocalDate day,
+            @RequestParam(value = "period", required = false) SchoolPeriod period
+    ) {
+        return studentScheduleStreamService.subscribeFloor(floor, getDayOrDefault(day), getPeriodOrDefault(period));
+    }
+
     @GetMapping("/place/{placeId}")
     public ResponseEntity<PlaceStudentScheduleResponse> getPlaceStudents(
             @PathVariable("placeId") @NotNull(message = "장소별 학생 스케줄 조회에서 placeId(장소 ID)는 필수입니다.") Long placeId,
@@ -0,0 +1,65 @@
+package solvit.teachmon.domain.supervision.application.calendar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import solvit.teachmon.domain.supervision.domain.event.SupervisionScheduleChangedEvent;
+import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
+import solvit.teachmon.domain.user.domain.event.TeacherChangedEvent;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * 달 단위 감독 달력 캐시
+ * 처음 조회할 때 해당 달의 날짜 범위로 한 번 DB 에서 만들고, 감독 스케줄 변경 이벤트가 들어온 달만 비운다.
+ * 달력, 내 감독 날짜, 오늘 감독 조회가 모두 같은 달 스냅샷을 읽는다.
+ */
+@Slf4j
+@Component
+public class SupervisionCalendarCache {
+    private static final String CACHE_NAME = "supervisionCalendar";
+    private static final long MAXIMUM_SIZE = 36;
+    // 커밋 직전에 읽은 스냅샷이 무효화 이후에 들어가는 경우를 대비한 최대 유지 시간
+    private static final Duration MAXIMUM_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final SupervisionScheduleRepository supervisionScheduleRepository;
+    private final Cache<YearMonth, SupervisionMonthSnapshot> cache;
+
+    public SupervisionCalendarCache(SupervisionScheduleRepository supervisionScheduleRepository, MeterRegistry meterRegistry) {
+        this.supervisionScheduleRepository = supervisionScheduleRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(MAXIMUM_TIME_TO_LIVE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public SupervisionMonthSnapshot getSnapshot(YearMonth month) {
+        return cache.get(month, this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSupervisionScheduleChanged(SupervisionScheduleChangedEvent event) {
+        cache.invalidateAll(event.months());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeacherChanged(TeacherChangedEvent event) {
+        // 스냅샷에 선생님 이름이 담겨 있으므로 선생님 정보가 바뀌면 전체를 비운다
+        cache.invalidateAll();
+    }
+
+    private SupervisionMonthSnapshot load(YearMonth month) {
+        log.debug("감독 달력 로드 - month: {}", month);
+        return SupervisionMonthSnapshot.from(
+                supervisionScheduleRepository.findCalendarByDayBetween(month.atDay(1), month.atEndOfMonth())
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package solvit.teachmon.domain.supervision.application.calendar;
+
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionCalendarVo;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 특정 달의 감독 스케줄 스냅샷
+ * 생성 이후 변경되지 않으므로 여러 요청에서 동시에 읽어도 안전하다.
+ */
+public class SupervisionMonthSnapshot {
+    private final List<SupervisionCalendarVo> schedules;
+    private final Map<Long, List<SupervisionCalendarVo>> schedulesByTeacher;
+
+    private SupervisionMonthSnapshot(List<SupervisionCalendarVo> schedules, Map<Long, List<SupervisionCalendarVo>> schedulesByTeacher) {
+        this.schedules = schedules;
+        this.schedulesByTeacher = schedulesByTeacher;
+    }
+
+    public static SupervisionMonthSnapshot from(List<SupervisionCalendarVo> schedules) {
+        Map<Long, List<SupervisionCalendarVo>> schedulesByTeacher = schedules.stream()
+                .collect(Collectors.groupingBy(SupervisionCalendarVo::teacherId, Collectors.toUnmodifiableList()));
+
+        return new SupervisionMonthSnapshot(List.copyOf(schedules), Map.copyOf(schedulesByTeacher));
+    }
+
+    public List<SupervisionCalendarVo> getSchedules(String query) {
+        if (query == null || query.isBlank()) {
+            return schedules;
+        }
+
+        String keyword = query.toLowerCase(Locale.ROOT);
+        return schedules.stream()
+                .filter(schedule -> schedule.teacherName().toLowerCase(Locale.ROOT).contains(keyword))
+                .toList();
+    }
+
+    public List<LocalDate> getTeacherDays(Long teacherId) {
+        return schedulesByTeacher.getOrDefault(teacherId, List.of()).stream()
+                .map(SupervisionCalendarVo::day)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    public List<SupervisionType> getTeacherTypes(Long teacherId, LocalDate day) {
+        return schedulesByTeacher.getOrDefault(teacherId, List.of()).stream()
+                .filter(schedule -> schedule.day().equals(day))
+                .map(SupervisionCalendarVo::type)
+                .distinct()
+                .toList();
+    }
+}
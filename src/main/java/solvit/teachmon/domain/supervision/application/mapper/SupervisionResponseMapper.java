@@ -3,6 +3,8 @@ package solvit.teachmon.domain.supervision.application.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionCalendarVo;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionScheduleResponseDto;
 
 import java.time.LocalDate;
@@ -19,6 +21,35 @@ public interface SupervisionResponseMapper {
     @Mapping(target = "teacher.name", source = "teacher.name")
     SupervisionScheduleResponseDto.SupervisionInfo toSupervisionInfo(SupervisionScheduleEntity schedule);
 
+    @Mapping(target = "id", source = "scheduleId")
+    @Mapping(target = "teacher.id", source = "teacherId")
+    @Mapping(target = "teacher.name", source = "teacherName")
+    SupervisionScheduleResponseDto.SupervisionInfo toSupervisionInfo(SupervisionCalendarVo schedule);
+
+    default List<SupervisionScheduleResponseDto> convertCalendarToResponseDtos(List<SupervisionCalendarVo> schedules) {
+        Map<LocalDate, List<SupervisionCalendarVo>> schedulesByDay =
+                schedules.stream().collect(Collectors.groupingBy(SupervisionCalendarVo::day));
+
+        return schedulesByDay.entrySet().stream()
+                .map(entry -> SupervisionScheduleResponseDto.builder()
+                        .day(entry.getKey())
+                        .selfStudySupervision(findCalendarSupervisionByType(entry.getValue(), SupervisionType.SELF_STUDY_SUPERVISION))
+                        .leaveSeatSupervision(findCalendarSupervisionByType(entry.getValue(), SupervisionType.LEAVE_SEAT_SUPERVISION))
+                        .seventhPeriodSupervision(findCalendarSupervisionByType(entry.getValue(), SupervisionType.SEVENTH_PERIOD_SUPERVISION))
+                        .build())
+                .sorted(Comparator.comparing(SupervisionScheduleResponseDto::day))
+                .toList();
+    }
+
+    default SupervisionScheduleResponseDto.SupervisionInfo findCalendarSupervisionByType(
+            List<SupervisionCalendarVo> schedules, SupervisionType type) {
+        return schedules.stream()
+                .filter(schedule -> schedule.type() == type)
+                .findFirst()
+                .map(this::toSupervisionInfo)
+                .orElse(null);
+    }
+
     default List<SupervisionScheduleResponseDto> convertToResponseDtos(List<SupervisionScheduleEntity> schedules) {
         Map<LocalDate, List<SupervisionScheduleEntity>> schedulesByDay = 
                 schedules.stream().collect(Collectors.groupingBy(SupervisionScheduleEntity::getDay));
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionAssignmentMapper;
-import solvit.teachmon.domain.supervision.domain.vo.TeacherPriorityInfo;
 import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionCalculator;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
@@ -18,14 +17,23 @@ import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 날짜별 자습/이석 감독 교사 자동 배정
+ * 스케줄 존재 여부와 교사 엔티티는 각각 한 번만 조회하고,
+ * 날짜마다 배정 가능한 교사 중 우선순위 상위 2명을 한 번의 순회로 선택한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -36,95 +44,156 @@ public class SupervisionAssignmentProcessor {
     private final SupervisionPriorityStrategy priorityStrategy;
     private final SupervisionAssignmentMapper mapper;
 
-    public List<SupervisionScheduleEntity> processDateAssignments(List<LocalDate> targetDates, 
+    public List<SupervisionScheduleEntity> processDateAssignments(List<LocalDate> targetDates,
                                                                   List<TeacherSupervisionInfo> teacherInfos) {
-        List<SupervisionScheduleEntity> schedules = new ArrayList<>();
-        Map<Long, TeacherSupervisionInfo> teacherInfoMap = createTeacherInfoMap(teacherInfos);
+        List<DailySupervisionAssignment> assignments = planDateAssignments(targetDates, teacherInfos);
+        return toScheduleEntities(assignments, teacherInfos);
+    }
+
+    /**
+     * 이미 스케줄이 있는 날짜를 제외하고 날짜별 우선순위 상위 2명을 배정한다 (저장/엔티티 조회 없음)
+     */
+    public List<DailySupervisionAssignment> planDateAssignments(List<LocalDate> targetDates,
+                                                                List<TeacherSupervisionInfo> teacherInfos) {
+        if (targetDates.isEmpty()) {
+            return List.of();
+        }
 
+        Set<LocalDate> scheduledDays = findScheduledDays(targetDates);
+
+        // 배정 중 갱신되는 교사 정보는 인덱스로 접근해 배정된 2명만 교체한다
+        TeacherSupervisionInfo[] teachers = teacherInfos.toArray(TeacherSupervisionInfo[]::new);
+        Map<DayOfWeek, int[]> candidatesByDayOfWeek = new EnumMap<>(DayOfWeek.class);
+
+        List<DailySupervisionAssignment> assignments = new ArrayList<>(targetDates.size());
         for (LocalDate date : targetDates) {
-            if (isScheduleAlreadyExists(date)) {
+            if (scheduledDays.contains(date)) {
                 log.debug("이미 스케줄 존재하여 스킵: {}", date);
                 continue;
             }
 
-            processSingleDateAssignment(date, teacherInfoMap, schedules);
+            int[] candidates = candidatesByDayOfWeek.computeIfAbsent(
+                    date.getDayOfWeek(), dayOfWeek -> getAvailableTeacherIndexes(teachers, dayOfWeek, date));
+            assignments.add(assignSingleDate(date, teachers, candidates));
         }
-        
-        return schedules;
-    }
-
-    private void processSingleDateAssignment(LocalDate date, 
-                                           Map<Long, TeacherSupervisionInfo> teacherInfoMap,
-                                           List<SupervisionScheduleEntity> schedules) {
-        DailySupervisionAssignment assignment = assignDailySupervision(teacherInfoMap.values(), date);
-        
-        List<SupervisionScheduleEntity> dailySchedules = convertToScheduleEntities(assignment, date);
-        schedules.addAll(dailySchedules);
 
-        updateTeacherInfosAfterAssignment(teacherInfoMap, assignment, date);
-        logDailyAssignmentSuccess(date, assignment);
+        return assignments;
     }
 
-    private DailySupervisionAssignment assignDailySupervision(Collection<TeacherSupervisionInfo> teacherInfos, LocalDate date) {
-        List<TeacherSupervisionInfo> availableTeachers = getAvailableTeachers(teacherInfos, date);
-        List<TeacherPriorityInfo> prioritizedTeachers = getPrioritizedTeachers(availableTeachers, date);
-        
-        validateSufficientTeachers(prioritizedTeachers, date);
-        
-        return createDailyAssignment(prioritizedTeachers, date);
-    }
+    /**
+     * 배정안을 만든 뒤 이미 스케줄이 생긴 날짜의 배정을 제외한다
+     */
+    public List<DailySupervisionAssignment> excludeScheduledDays(List<DailySupervisionAssignment> assignments) {
+        if (assignments.isEmpty()) {
+            return assignments;
+        }
 
-    private List<TeacherSupervisionInfo> getAvailableTeachers(Collection<TeacherSupervisionInfo> teacherInfos, LocalDate date) {
-        List<TeacherSupervisionInfo> availableTeachers = teacherInfos.stream()
-                .filter(info -> !new TeacherSupervisionCalculator(info).isBanDay(date.getDayOfWeek()))
+        Set<LocalDate> scheduledDays = findScheduledDays(assignments.stream()
+                .map(DailySupervisionAssignment::date)
+                .toList());
+        return assignments.stream()
+                .filter(assignment -> !scheduledDays.contains(assignment.date()))
                 .toList();
+    }
 
-        if (availableTeachers.size() < 2) {
-            throw new InsufficientTeachersException(
-                    "배정 가능한 교사가 부족합니다. 날짜: " + date + ", 가능한 교사 수: " + availableTeachers.size());
+    /**
+     * 배정 결과를 감독 스케줄 엔티티로 변환한다. 교사 엔티티는 한 번에 조회한다.
+     */
+    public List<SupervisionScheduleEntity> toScheduleEntities(List<DailySupervisionAssignment> assignments,
+                                                              List<TeacherSupervisionInfo> teacherInfos) {
+        if (assignments.isEmpty()) {
+            return List.of();
         }
-        
-        return availableTeachers;
+
+        Map<Long, TeacherEntity> teacherEntities = findTeacherEntities(teacherInfos);
+        List<SupervisionScheduleEntity> schedules = new ArrayList<>(assignments.size() * 4);
+        for (DailySupervisionAssignment assignment : assignments) {
+            schedules.addAll(mapper.toScheduleEntities(
+                    assignment.date(),
+                    teacherEntities.get(assignment.selfStudyTeacher().teacherId()),
+                    teacherEntities.get(assignment.leaveSeatTeacher().teacherId())
+            ));
+        }
+        return schedules;
     }
 
-    private List<TeacherPriorityInfo> getPrioritizedTeachers(List<TeacherSupervisionInfo> availableTeachers, LocalDate date) {
-        List<TeacherPriorityInfo> allTeachers = availableTeachers.stream()
-                .map(info -> {
-                    double priority = priorityStrategy.calculatePriority(info, date);
-                    log.info("교사 {} 우선순위: {} (날짜: {})", info.teacherName(), priority, date);
-                    return new TeacherPriorityInfo(info, priority);
-                })
-                .sorted(Comparator.comparing(TeacherPriorityInfo::priority).reversed())
-                .toList();
-                
-        List<TeacherPriorityInfo> filtered = allTeachers.stream()
-                .filter(priorityInfo -> priorityInfo.priority() > 0)
-                .toList();
-                
-        log.info("전체 교사 수: {}, 우선순위 > 0 교사 수: {} (날짜: {})", 
-                allTeachers.size(), filtered.size(), date);
-        
-        return filtered;
+    private DailySupervisionAssignment assignSingleDate(LocalDate date,
+                                                        TeacherSupervisionInfo[] teachers,
+                                                        int[] candidates) {
+        int[] selected = selectTopTwoTeachers(teachers, candidates, date);
+        DailySupervisionAssignment assignment = DailySupervisionAssignment.builder()
+                .date(date)
+                .selfStudyTeacher(teachers[selected[0]])
+                .leaveSeatTeacher(teachers[selected[1]])
+                .build();
+        validateDifferentTeachers(assignment.selfStudyTeacher(), assignment.leaveSeatTeacher());
+
+        teachers[selected[0]] = new TeacherSupervisionCalculator(assignment.selfStudyTeacher())
+                .withUpdatedSupervision(date, SupervisionType.SELF_STUDY_SUPERVISION);
+        teachers[selected[1]] = new TeacherSupervisionCalculator(assignment.leaveSeatTeacher())
+                .withUpdatedSupervision(date, SupervisionType.LEAVE_SEAT_SUPERVISION);
+        logDailyAssignmentSuccess(date, assignment);
+        return assignment;
     }
 
-    private void validateSufficientTeachers(List<TeacherPriorityInfo> prioritizedTeachers, LocalDate date) {
-        if (prioritizedTeachers.size() < 2) {
+    /**
+     * 금지 요일은 배정 중에 바뀌지 않으므로 요일별 배정 가능 교사 인덱스를 한 번만 계산한다.
+     */
+    private int[] getAvailableTeacherIndexes(TeacherSupervisionInfo[] teachers, DayOfWeek dayOfWeek, LocalDate date) {
+        int banDayBit = TeacherSupervisionInfo.toBanDayBit(dayOfWeek);
+        int[] candidates = new int[teachers.length];
+        int count = 0;
+        for (int i = 0; i < teachers.length; i++) {
+            if ((teachers[i].banDayMask() & banDayBit) == 0) {
+                candidates[count++] = i;
+            }
+        }
+
+        if (count < 2) {
             throw new InsufficientTeachersException(
-                    "우선순위 계산 결과 배정 가능한 교사가 부족합니다. 날짜: " + date);
+                    "배정 가능한 교사가 부족합니다. 날짜: " + date + ", 가능한 교사 수: " + count);
         }
+
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
     }
 
-    private DailySupervisionAssignment createDailyAssignment(List<TeacherPriorityInfo> prioritizedTeachers, LocalDate date) {
-        TeacherSupervisionInfo selfStudyTeacher = prioritizedTeachers.get(0).teacherInfo();
-        TeacherSupervisionInfo leaveSeatTeacher = prioritizedTeachers.get(1).teacherInfo();
+    /**
+     * 우선순위 상위 2명의 인덱스를 반환한다. 우선순위가 같으면 먼저 조회된 교사를 우선한다.
+     * 점수가 배정 날짜에 따라 달라지므로 정렬 대신 날짜마다 한 번씩 순회한다.
+     */
+    private int[] selectTopTwoTeachers(TeacherSupervisionInfo[] teachers, int[] candidates, LocalDate date) {
+        int first = -1;
+        int second = -1;
+        double firstPriority = 0;
+        double secondPriority = 0;
+
+        for (int index : candidates) {
+            double priority = priorityStrategy.calculatePriority(teachers[index], date);
+            if (priority <= 0) {
+                continue;
+            }
 
-        validateDifferentTeachers(selfStudyTeacher, leaveSeatTeacher);
-        logAssignmentResult(date, prioritizedTeachers, selfStudyTeacher, leaveSeatTeacher);
+            if (first < 0 || priority > firstPriority) {
+                second = first;
+                secondPriority = firstPriority;
+                first = index;
+                firstPriority = priority;
+            } else if (second < 0 || priority > secondPriority) {
+                second = index;
+                secondPriority = priority;
+            }
+        }
 
-        return DailySupervisionAssignment.builder()
-                .selfStudyTeacher(selfStudyTeacher)
-                .leaveSeatTeacher(leaveSeatTeacher)
-                .build();
+        if (second < 0) {
+            throw new InsufficientTeachersException(
+                    "우선순위 계산 결과 배정 가능한 교사가 부족합니다. 날짜: " + date);
+        }
+
+        log.debug("날짜 {} 우선순위: 자습감독={}({}), 이석감독={}({})",
+                date,
+                teachers[first].teacherName(), firstPriority,
+                teachers[second].teacherName(), secondPriority);
+        return new int[]{first, second};
     }
 
     private void validateDifferentTeachers(TeacherSupervisionInfo selfStudyTeacher, TeacherSupervisionInfo leaveSeatTeacher) {
@@ -133,54 +202,31 @@ public class SupervisionAssignmentProcessor {
         }
     }
 
-    private void logAssignmentResult(LocalDate date, List<TeacherPriorityInfo> prioritizedTeachers, 
-                                   TeacherSupervisionInfo selfStudyTeacher, TeacherSupervisionInfo leaveSeatTeacher) {
-        log.debug("날짜 {} 우선순위: 자습감독={}({}), 이석감독={}({})", 
-                date, 
-                selfStudyTeacher.teacherName(), prioritizedTeachers.get(0).priority(),
-                leaveSeatTeacher.teacherName(), prioritizedTeachers.get(1).priority());
-    }
-
     private void logDailyAssignmentSuccess(LocalDate date, DailySupervisionAssignment assignment) {
-        log.debug("날짜 {} 배정 완료: 자습감독={}, 이석감독={}", 
-                date, 
-                assignment.selfStudyTeacher().teacherName(), 
+        log.debug("날짜 {} 배정 완료: 자습감독={}, 이석감독={}",
+                date,
+                assignment.selfStudyTeacher().teacherName(),
                 assignment.leaveSeatTeacher().teacherName());
     }
 
-    private boolean isScheduleAlreadyExists(LocalDate date) {
-        return autoAssignRepository.existsScheduleByDate(date);
+    private Set<LocalDate> findScheduledDays(List<LocalDate> targetDates) {
+        LocalDate startDate = Collections.min(targetDates);
+        LocalDate endDate = Collections.max(targetDates);
+        return autoAssignRepository.findScheduledDaysBetween(startDate, endDate);
     }
 
-    private Map<Long, TeacherSupervisionInfo> createTeacherInfoMap(List<TeacherSupervisionInfo> teacherInfos) {
-        return teacherInfos.stream()
-                .collect(Collectors.toMap(
-                        TeacherSupervisionInfo::teacherId,
-                        info -> info
-                ));
-    }
+    private Map<Long, TeacherEntity> findTeacherEntities(List<TeacherSupervisionInfo> teacherInfos) {
+        List<Long> teacherIds = teacherInfos.stream()
+                .map(TeacherSupervisionInfo::teacherId)
+                .distinct()
+                .toList();
+        Map<Long, TeacherEntity> teacherEntities = teacherRepository.findAllById(teacherIds).stream()
+                .collect(Collectors.toMap(TeacherEntity::getId, Function.identity()));
 
-    private void updateTeacherInfosAfterAssignment(Map<Long, TeacherSupervisionInfo> teacherInfoMap,
-                                                  DailySupervisionAssignment assignment, LocalDate date) {
-        // 자습 감독 교사 정보 업데이트
-        Long selfStudyTeacherId = assignment.selfStudyTeacher().teacherId();
-        TeacherSupervisionCalculator selfStudyCalculator = new TeacherSupervisionCalculator(assignment.selfStudyTeacher());
-        teacherInfoMap.put(selfStudyTeacherId,
-                selfStudyCalculator.withUpdatedSupervision(date, SupervisionType.SELF_STUDY_SUPERVISION));
-
-        // 이석 감독 교사 정보 업데이트
-        Long leaveSeatTeacherId = assignment.leaveSeatTeacher().teacherId();
-        TeacherSupervisionCalculator leaveSeatCalculator = new TeacherSupervisionCalculator(assignment.leaveSeatTeacher());
-        teacherInfoMap.put(leaveSeatTeacherId,
-                leaveSeatCalculator.withUpdatedSupervision(date, SupervisionType.LEAVE_SEAT_SUPERVISION));
-    }
+        if (teacherEntities.size() != teacherIds.size()) {
+            throw new TeacherNotFoundException();
+        }
 
-    private List<SupervisionScheduleEntity> convertToScheduleEntities(DailySupervisionAssignment assignment, LocalDate date) {
-        TeacherEntity selfStudyTeacherEntity = teacherRepository.findById(assignment.selfStudyTeacher().teacherId())
-                .orElseThrow(TeacherNotFoundException::new);
-        TeacherEntity leaveSeatTeacherEntity = teacherRepository.findById(assignment.leaveSeatTeacher().teacherId())
-                .orElseThrow(TeacherNotFoundException::new);
-                
-        return mapper.toScheduleEntities(date, selfStudyTeacherEntity, leaveSeatTeacherEntity);
+        return teacherEntities;
     }
-}
\ No newline at end of file
+}
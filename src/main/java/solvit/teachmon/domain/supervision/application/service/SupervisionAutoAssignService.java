@@ -2,60 +2,139 @@ package solvit.teachmon.domain.supervision.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionAssignMode;
+import solvit.teachmon.domain.supervision.domain.event.SupervisionScheduleChangedEvent;
+import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionFairnessMetrics;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionPlan;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
+import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionPlanComparisonResponseDto;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionScheduleResponseDto;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionResponseMapper;
 import solvit.teachmon.domain.supervision.exception.InsufficientTeachersException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 감독 일정 자동 배정 서비스
+ * 공정성 배정안 탐색은 수 초 동안 CPU 만 사용하므로 트랜잭션 밖에서 실행하고, 저장할 때만 트랜잭션을 연다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SupervisionAutoAssignService {
 
     private final SupervisionScheduleRepository scheduleRepository;
     private final TeacherSupervisionInfoService teacherSupervisionInfoService;
     private final SupervisionAssignmentProcessor assignmentProcessor;
+    private final SupervisionFairnessPlanner fairnessPlanner;
     private final SupervisionDateExtractor dateExtractor;
     private final SupervisionResponseMapper responseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 지정된 기간동안 감독 일정을 날짜별 우선순위 방식으로 자동 배정
+     */
+    public List<SupervisionScheduleResponseDto> autoAssignSupervisionSchedules(LocalDate startDate, LocalDate endDate) {
+        return autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY);
+    }
 
     /**
      * 지정된 기간동안 감독 일정을 자동 배정
      * 
      * @param startDate 배정 시작 날짜
      * @param endDate 배정 종료 날짜  
+     * @param mode 배정 방식 (날짜별 우선순위 / 기간 전체 공정성)
      * @return 생성된 감독 스케줄 목록
      * @throws IllegalArgumentException 시작일이 종료일보다 늦은 경우
      * @throws InsufficientTeachersException 배정 가능한 교사가 부족한 경우
      */
-    @Transactional
-    public List<SupervisionScheduleResponseDto> autoAssignSupervisionSchedules(LocalDate startDate, LocalDate endDate) {
+    public List<SupervisionScheduleResponseDto> autoAssignSupervisionSchedules(LocalDate startDate, LocalDate endDate,
+                                                                               SupervisionAssignMode mode) {
         validateDateRange(startDate, endDate);
         
-        log.info("감독 자동 배정 시작: startDate={}, endDate={}", startDate, endDate);
+        log.info("감독 자동 배정 시작: startDate={}, endDate={}, mode={}", startDate, endDate, mode);
 
         List<TeacherSupervisionInfo> teacherInfos = teacherSupervisionInfoService.getTeacherSupervisionInfos();
         List<LocalDate> targetDates = dateExtractor.extractWeekdays(startDate, endDate);
         
         logInitialInfo(teacherInfos, targetDates);
-        
-        List<SupervisionScheduleEntity> schedules = assignmentProcessor.processDateAssignments(targetDates, teacherInfos);
+
+        if (mode == SupervisionAssignMode.FAIRNESS) {
+            List<DailySupervisionAssignment> assignments = planFairly(targetDates, teacherInfos).assignments();
+            // 탐색하는 동안 다른 요청이 먼저 배정한 날짜는 저장 트랜잭션 안에서 제외한다
+            return transactionTemplate.execute(status -> saveSchedules(assignmentProcessor.toScheduleEntities(
+                    assignmentProcessor.excludeScheduledDays(assignments), teacherInfos)));
+        }
+        return transactionTemplate.execute(status ->
+                saveSchedules(assignmentProcessor.processDateAssignments(targetDates, teacherInfos)));
+    }
+
+    private List<SupervisionScheduleResponseDto> saveSchedules(List<SupervisionScheduleEntity> schedules) {
         List<SupervisionScheduleEntity> savedSchedules = scheduleRepository.saveAll(schedules);
+        eventPublisher.publishEvent(new SupervisionScheduleChangedEvent(toMonths(savedSchedules)));
         
         log.info("감독 자동 배정 완료: 총 {}개 스케줄 생성", savedSchedules.size());
         return responseMapper.convertToResponseDtos(savedSchedules);
     }
 
+    /**
+     * 저장하지 않고 날짜별 우선순위 배정안과 공정성 배정안을 지표와 함께 비교
+     */
+    public SupervisionPlanComparisonResponseDto compareAssignmentPlans(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+
+        List<TeacherSupervisionInfo> teacherInfos = teacherSupervisionInfoService.getTeacherSupervisionInfos();
+        List<LocalDate> targetDates = dateExtractor.extractWeekdays(startDate, endDate);
+
+        List<DailySupervisionAssignment> greedyAssignments = assignmentProcessor.planDateAssignments(targetDates, teacherInfos);
+        SupervisionFairnessMetrics greedyMetrics = fairnessPlanner.evaluate(greedyAssignments, teacherInfos);
+        SupervisionPlan fairnessPlan = fairnessPlanner.plan(greedyAssignments, teacherInfos);
+
+        return SupervisionPlanComparisonResponseDto.builder()
+                .greedy(toPlanInfo(greedyAssignments, greedyMetrics, teacherInfos))
+                .fairness(toPlanInfo(fairnessPlan.assignments(), fairnessPlan.metrics(), teacherInfos))
+                .build();
+    }
+
+    private SupervisionPlan planFairly(List<LocalDate> targetDates, List<TeacherSupervisionInfo> teacherInfos) {
+        List<DailySupervisionAssignment> greedyAssignments = assignmentProcessor.planDateAssignments(targetDates, teacherInfos);
+        return fairnessPlanner.plan(greedyAssignments, teacherInfos);
+    }
+
+    private SupervisionPlanComparisonResponseDto.PlanInfo toPlanInfo(List<DailySupervisionAssignment> assignments,
+                                                                     SupervisionFairnessMetrics metrics,
+                                                                     List<TeacherSupervisionInfo> teacherInfos) {
+        List<SupervisionScheduleEntity> schedules = assignmentProcessor.toScheduleEntities(assignments, teacherInfos);
+        return SupervisionPlanComparisonResponseDto.PlanInfo.builder()
+                .metrics(SupervisionPlanComparisonResponseDto.MetricsInfo.builder()
+                        .loadVariance(metrics.loadVariance())
+                        .loadSpread(metrics.loadSpread())
+                        .periodSkew(metrics.periodSkew())
+                        .minSpacingDays(metrics.minSpacingDays())
+                        .spacingPenalty(metrics.spacingPenalty())
+                        .objective(metrics.objective())
+                        .build())
+                .schedules(responseMapper.convertToResponseDtos(schedules))
+                .build();
+    }
+
+    private Set<YearMonth> toMonths(List<SupervisionScheduleEntity> schedules) {
+        return schedules.stream()
+                .map(schedule -> YearMonth.from(schedule.getDay()))
+                .collect(Collectors.toSet());
+    }
+
     private void logInitialInfo(List<TeacherSupervisionInfo> teacherInfos, List<LocalDate> targetDates) {
         log.info("배정 가능한 교사 수: {}", teacherInfos.size());
         log.info("배정 대상 날짜 수: {}", targetDates.size());
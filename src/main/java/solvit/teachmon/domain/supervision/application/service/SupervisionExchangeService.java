@@ -1,11 +1,13 @@
 package solvit.teachmon.domain.supervision.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionExchangeResponseMapper;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionExchangeEntity;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.event.SupervisionScheduleChangedEvent;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionExchangeRepository;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
 import solvit.teachmon.domain.supervision.exception.SupervisionExchangeNotFoundException;
@@ -19,7 +21,11 @@ import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +36,7 @@ public class SupervisionExchangeService {
     private final SupervisionScheduleRepository supervisionScheduleRepository;
     private final TeacherRepository teacherRepository;
     private final SupervisionExchangeResponseMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createSupervisionExchangeRequest(SupervisionExchangeRequestDto requestDto, Long requesterId) {
@@ -76,6 +83,12 @@ public class SupervisionExchangeService {
 
         // 교체 요청 수락
         exchangeEntity.accept();
+
+        // 교체된 두 감독 일정이 속한 달의 감독 달력 캐시 무효화
+        Set<YearMonth> months = Stream.of(exchangeEntity.getSenderSchedule(), exchangeEntity.getRecipientSchedule())
+                .map(schedule -> YearMonth.from(schedule.getDay()))
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new SupervisionScheduleChangedEvent(months));
     }
 
     @Transactional
@@ -0,0 +1,443 @@
+package solvit.teachmon.domain.supervision.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionFairnessMetrics;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionPlan;
+import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
+import solvit.teachmon.global.properties.SupervisionPlannerProperties;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 기간 전체를 한 번에 보는 공정성 감독 배정
+ * 날짜별 우선순위 배정(greedy) 결과에서 출발해 담금질 기법(simulated annealing)으로
+ * 교사별 8~11교시 감독 횟수 분산, 7교시와 8~11교시 사이의 쏠림, 짧은 감독 간격을 함께 줄인다.
+ * 자동 배정은 8~11교시만 만들기 때문에 7교시 이력은 고정값으로 두고 쏠림 계산에만 쓴다.
+ * 서로 다른 시드의 탐색을 ForkJoin 풀에서 동시에 돌리고, 시간 예산 안에서 가장 좋은 배정안을 고른다.
+ */
+@Slf4j
+@Component
+public class SupervisionFairnessPlanner {
+
+    private static final double INITIAL_TEMPERATURE = 0.5;
+    private static final double MIN_TEMPERATURE = 1e-4;
+    private static final int TIME_CHECK_INTERVAL = 256;
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private static final int SELF_STUDY = 0;
+    private static final int LEAVE_SEAT = 1;
+
+    private final SupervisionPlannerProperties properties;
+    private final ForkJoinPool pool;
+
+    public SupervisionFairnessPlanner(SupervisionPlannerProperties properties) {
+        this.properties = properties;
+        this.pool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 배정안의 공정성 지표를 계산한다.
+     */
+    public SupervisionFairnessMetrics evaluate(List<DailySupervisionAssignment> assignments,
+                                               List<TeacherSupervisionInfo> teacherInfos) {
+        return new Problem(assignments, teacherInfos).initialState().toMetrics();
+    }
+
+    /**
+     * 초기 배정안보다 공정한 배정안을 찾는다. 더 나은 배정안이 없으면 초기 배정안을 그대로 반환한다.
+     */
+    public SupervisionPlan plan(List<DailySupervisionAssignment> initialAssignments,
+                                List<TeacherSupervisionInfo> teacherInfos) {
+        Problem problem = new Problem(initialAssignments, teacherInfos);
+        PlanState best = problem.initialState();
+        if (problem.dayCount() == 0) {
+            return new SupervisionPlan(List.of(), best.toMetrics());
+        }
+
+        double initialObjective = best.objective();
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        List<ForkJoinTask<PlanState>> searches = new ArrayList<>();
+        for (int chain = 0; chain < pool.getParallelism(); chain++) {
+            long seed = (chain + 1) * SEED_INCREMENT;
+            searches.add(pool.submit(() -> anneal(problem, seed, deadline)));
+        }
+
+        for (ForkJoinTask<PlanState> search : searches) {
+            PlanState candidate = search.join();
+            if (candidate.objective() < best.objective()) {
+                best = candidate;
+            }
+        }
+
+        SupervisionFairnessMetrics metrics = best.toMetrics();
+        log.info("공정성 감독 배정 완료: 날짜 수={}, 목적 함수 {} -> {}",
+                problem.dayCount(), String.format("%.4f", initialObjective), String.format("%.4f", metrics.objective()));
+        return new SupervisionPlan(problem.toAssignments(best), metrics);
+    }
+
+    private PlanState anneal(Problem problem, long seed, long deadline) {
+        SplittableRandom random = new SplittableRandom(seed);
+        PlanState current = problem.initialState();
+        PlanState best = current.copy();
+        double currentObjective = current.objective();
+
+        long startedAt = System.nanoTime();
+        double duration = Math.max(1, deadline - startedAt);
+        double temperature = INITIAL_TEMPERATURE;
+        for (long iteration = 0; ; iteration++) {
+            if (iteration % TIME_CHECK_INTERVAL == 0) {
+                long now = System.nanoTime();
+                if (now >= deadline || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                temperature = Math.max(MIN_TEMPERATURE, INITIAL_TEMPERATURE * (1 - (now - startedAt) / duration));
+            }
+
+            boolean moved = random.nextBoolean() ? current.tryReplace(random) : current.trySwap(random);
+            if (!moved) {
+                continue;
+            }
+
+            double nextObjective = current.objective();
+            double delta = nextObjective - currentObjective;
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                currentObjective = nextObjective;
+                if (currentObjective < best.objective()) {
+                    best = current.copy();
+                }
+            } else {
+                current.undo();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 탐색 중 바뀌지 않는 입력 (교사, 날짜, 금지 요일, 기존 감독 이력)
+     */
+    private static final class Problem {
+        private final TeacherSupervisionInfo[] teachers;
+        private final LocalDate[] dates;
+        private final long[] epochDays;
+        private final long[] sevenLoads;
+        private final long[] baseLoads;
+        private final long[] lastEpochDays;
+        private final int[][] candidatesByDay;
+        private final int[][] initialSlots;
+
+        private Problem(List<DailySupervisionAssignment> assignments, List<TeacherSupervisionInfo> teacherInfos) {
+            this.teachers = teacherInfos.toArray(TeacherSupervisionInfo[]::new);
+            Map<Long, Integer> indexByTeacherId = new HashMap<>();
+            for (int i = 0; i < teachers.length; i++) {
+                indexByTeacherId.put(teachers[i].teacherId(), i);
+            }
+
+            List<DailySupervisionAssignment> sorted = assignments.stream()
+                    .sorted(Comparator.comparing(DailySupervisionAssignment::date))
+                    .toList();
+            int dayCount = sorted.size();
+            this.dates = new LocalDate[dayCount];
+            this.epochDays = new long[dayCount];
+            this.candidatesByDay = new int[dayCount][];
+            this.initialSlots = new int[2][dayCount];
+            for (int day = 0; day < dayCount; day++) {
+                DailySupervisionAssignment assignment = sorted.get(day);
+                dates[day] = assignment.date();
+                epochDays[day] = assignment.date().toEpochDay();
+                candidatesByDay[day] = findCandidates(assignment.date());
+                initialSlots[SELF_STUDY][day] = indexOf(indexByTeacherId, assignment.selfStudyTeacher());
+                initialSlots[LEAVE_SEAT][day] = indexOf(indexByTeacherId, assignment.leaveSeatTeacher());
+            }
+
+            // 기간 이전의 마지막 감독만 간격 계산에 포함한다
+            long firstEpochDay = dayCount == 0 ? Long.MAX_VALUE : epochDays[0];
+            this.sevenLoads = new long[teachers.length];
+            this.baseLoads = new long[teachers.length];
+            this.lastEpochDays = new long[teachers.length];
+            for (int i = 0; i < teachers.length; i++) {
+                sevenLoads[i] = teachers[i].sevenPeriodCount();
+                baseLoads[i] = teachers[i].eightElevenPeriodCount();
+                LocalDate lastSupervisionDate = teachers[i].lastSupervisionDate();
+                lastEpochDays[i] = lastSupervisionDate != null && lastSupervisionDate.toEpochDay() < firstEpochDay
+                        ? lastSupervisionDate.toEpochDay()
+                        : Long.MIN_VALUE;
+            }
+        }
+
+        private int dayCount() {
+            return dates.length;
+        }
+
+        private PlanState initialState() {
+            return new PlanState(this, initialSlots[SELF_STUDY].clone(), initialSlots[LEAVE_SEAT].clone());
+        }
+
+        private List<DailySupervisionAssignment> toAssignments(PlanState state) {
+            List<DailySupervisionAssignment> assignments = new ArrayList<>(dates.length);
+            for (int day = 0; day < dates.length; day++) {
+                assignments.add(DailySupervisionAssignment.builder()
+                        .date(dates[day])
+                        .selfStudyTeacher(teachers[state.slots[SELF_STUDY][day]])
+                        .leaveSeatTeacher(teachers[state.slots[LEAVE_SEAT][day]])
+                        .build());
+            }
+            return assignments;
+        }
+
+        private boolean isAvailable(int teacher, int day) {
+            int banDayBit = TeacherSupervisionInfo.toBanDayBit(dates[day].getDayOfWeek());
+            return (teachers[teacher].banDayMask() & banDayBit) == 0;
+        }
+
+        private int[] findCandidates(LocalDate date) {
+            int banDayBit = TeacherSupervisionInfo.toBanDayBit(date.getDayOfWeek());
+            int[] candidates = new int[teachers.length];
+            int count = 0;
+            for (int i = 0; i < teachers.length; i++) {
+                if ((teachers[i].banDayMask() & banDayBit) == 0) {
+                    candidates[count++] = i;
+                }
+            }
+            return Arrays.copyOf(candidates, count);
+        }
+
+        private int indexOf(Map<Long, Integer> indexByTeacherId, TeacherSupervisionInfo teacher) {
+            Integer index = indexByTeacherId.get(teacher.teacherId());
+            if (index == null) {
+                throw new IllegalArgumentException("배정안에 감독 대상이 아닌 교사가 포함되어 있습니다. teacherId: " + teacher.teacherId());
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 탐색 중인 배정안. 교사별 8~11교시 감독 횟수, 7교시 대비 8~11교시 차이, 간격 점수를 증분으로 유지하고,
+     * 직전 이동을 되돌릴 수 있다.
+     */
+    private static final class PlanState {
+        private final Problem problem;
+        private final int[][] slots;
+        private final long[] loads;
+        private final double[] spacingPenalties;
+        private long loadSum;
+        private long loadSquareSum;
+        private long skewSum;
+        private long skewSquareSum;
+        private double spacingPenaltySum;
+
+        // 직전 이동 (되돌리기용)
+        private final int[] undoDays = new int[2];
+        private final int[] undoRoles = new int[2];
+        private final int[] undoTeachers = new int[2];
+        private int undoCount;
+
+        private PlanState(Problem problem, int[] selfStudySlots, int[] leaveSeatSlots) {
+            this.problem = problem;
+            this.slots = new int[][]{selfStudySlots, leaveSeatSlots};
+            this.loads = problem.baseLoads.clone();
+            this.spacingPenalties = new double[loads.length];
+            for (int[] roleSlots : slots) {
+                for (int teacher : roleSlots) {
+                    loads[teacher]++;
+                }
+            }
+            for (int teacher = 0; teacher < loads.length; teacher++) {
+                long skew = skewOf(teacher);
+                loadSum += loads[teacher];
+                loadSquareSum += loads[teacher] * loads[teacher];
+                skewSum += skew;
+                skewSquareSum += skew * skew;
+                spacingPenalties[teacher] = calculateSpacingPenalty(teacher);
+                spacingPenaltySum += spacingPenalties[teacher];
+            }
+        }
+
+        private PlanState(PlanState source) {
+            this.problem = source.problem;
+            this.slots = new int[][]{source.slots[SELF_STUDY].clone(), source.slots[LEAVE_SEAT].clone()};
+            this.loads = source.loads.clone();
+            this.spacingPenalties = source.spacingPenalties.clone();
+            this.loadSum = source.loadSum;
+            this.loadSquareSum = source.loadSquareSum;
+            this.skewSum = source.skewSum;
+            this.skewSquareSum = source.skewSquareSum;
+            this.spacingPenaltySum = source.spacingPenaltySum;
+        }
+
+        private PlanState copy() {
+            return new PlanState(this);
+        }
+
+        private double objective() {
+            int teacherCount = loads.length;
+            return variance(loadSum, loadSquareSum, teacherCount)
+                    + variance(skewSum, skewSquareSum, teacherCount)
+                    + spacingPenaltySum / teacherCount;
+        }
+
+        /**
+         * 임의 날짜의 감독 한 자리를 배정 가능한 다른 교사로 바꾼다.
+         */
+        private boolean tryReplace(SplittableRandom random) {
+            int day = random.nextInt(slots[SELF_STUDY].length);
+            int role = random.nextInt(2);
+            int[] candidates = problem.candidatesByDay[day];
+            int teacher = candidates[random.nextInt(candidates.length)];
+            if (teacher == slots[role][day] || teacher == slots[1 - role][day]) {
+                return false;
+            }
+
+            undoCount = 0;
+            assign(day, role, teacher);
+            return true;
+        }
+
+        /**
+         * 서로 다른 두 날짜의 감독 교사를 맞바꾼다. 감독 횟수는 그대로이고 간격만 바뀐다.
+         */
+        private boolean trySwap(SplittableRandom random) {
+            int dayCount = slots[SELF_STUDY].length;
+            int firstDay = random.nextInt(dayCount);
+            int secondDay = random.nextInt(dayCount);
+            int firstRole = random.nextInt(2);
+            int secondRole = random.nextInt(2);
+            int firstTeacher = slots[firstRole][firstDay];
+            int secondTeacher = slots[secondRole][secondDay];
+            if (firstDay == secondDay || firstTeacher == secondTeacher
+                    || !canTake(secondTeacher, firstDay, firstRole)
+                    || !canTake(firstTeacher, secondDay, secondRole)) {
+                return false;
+            }
+
+            undoCount = 0;
+            assign(firstDay, firstRole, secondTeacher);
+            assign(secondDay, secondRole, firstTeacher);
+            return true;
+        }
+
+        private void undo() {
+            for (int i = undoCount - 1; i >= 0; i--) {
+                setSlot(undoDays[i], undoRoles[i], undoTeachers[i]);
+            }
+            undoCount = 0;
+        }
+
+        private boolean canTake(int teacher, int day, int role) {
+            return problem.isAvailable(teacher, day) && slots[1 - role][day] != teacher;
+        }
+
+        private void assign(int day, int role, int teacher) {
+            undoDays[undoCount] = day;
+            undoRoles[undoCount] = role;
+            undoTeachers[undoCount] = slots[role][day];
+            undoCount++;
+            setSlot(day, role, teacher);
+        }
+
+        private void setSlot(int day, int role, int teacher) {
+            int previous = slots[role][day];
+            slots[role][day] = teacher;
+            changeLoad(previous, -1);
+            changeLoad(teacher, 1);
+            refreshSpacingPenalty(previous);
+            refreshSpacingPenalty(teacher);
+        }
+
+        private void changeLoad(int teacher, int amount) {
+            long skew = skewOf(teacher);
+            loadSquareSum -= loads[teacher] * loads[teacher];
+            skewSquareSum -= skew * skew;
+            loads[teacher] += amount;
+            skew += amount;
+            loadSquareSum += loads[teacher] * loads[teacher];
+            skewSquareSum += skew * skew;
+            loadSum += amount;
+            skewSum += amount;
+        }
+
+        // 7교시 이력이 많은 교사일수록 값이 작아져 8~11교시 감독을 더 받게 된다
+        private long skewOf(int teacher) {
+            return loads[teacher] - problem.sevenLoads[teacher];
+        }
+
+        private static double variance(long sum, long squareSum, int count) {
+            double mean = (double) sum / count;
+            return Math.max(0, (double) squareSum / count - mean * mean);
+        }
+
+        private void refreshSpacingPenalty(int teacher) {
+            double penalty = calculateSpacingPenalty(teacher);
+            spacingPenaltySum += penalty - spacingPenalties[teacher];
+            spacingPenalties[teacher] = penalty;
+        }
+
+        private double calculateSpacingPenalty(int teacher) {
+            double penalty = 0;
+            long previous = problem.lastEpochDays[teacher];
+            for (int day = 0; day < problem.epochDays.length; day++) {
+                if (slots[SELF_STUDY][day] == teacher || slots[LEAVE_SEAT][day] == teacher) {
+                    if (previous != Long.MIN_VALUE) {
+                        penalty += 1.0 / Math.max(1, problem.epochDays[day] - previous);
+                    }
+                    previous = problem.epochDays[day];
+                }
+            }
+            return penalty;
+        }
+
+        // 증분 계산의 부동소수점 오차가 지표에 섞이지 않도록 처음부터 다시 계산한다
+        private SupervisionFairnessMetrics toMetrics() {
+            long minLoad = Long.MAX_VALUE;
+            long maxLoad = Long.MIN_VALUE;
+            for (long load : loads) {
+                minLoad = Math.min(minLoad, load);
+                maxLoad = Math.max(maxLoad, load);
+            }
+
+            long minSpacing = Long.MAX_VALUE;
+            double spacingPenaltySum = 0;
+            for (int teacher = 0; teacher < loads.length; teacher++) {
+                spacingPenaltySum += calculateSpacingPenalty(teacher);
+                long previous = problem.lastEpochDays[teacher];
+                for (int day = 0; day < problem.epochDays.length; day++) {
+                    if (slots[SELF_STUDY][day] == teacher || slots[LEAVE_SEAT][day] == teacher) {
+                        if (previous != Long.MIN_VALUE) {
+                            minSpacing = Math.min(minSpacing, problem.epochDays[day] - previous);
+                        }
+                        previous = problem.epochDays[day];
+                    }
+                }
+            }
+
+            int teacherCount = loads.length;
+            double spacingPenalty = spacingPenaltySum / teacherCount;
+            double loadVariance = variance(loadSum, loadSquareSum, teacherCount);
+            double periodSkew = variance(skewSum, skewSquareSum, teacherCount);
+            return SupervisionFairnessMetrics.builder()
+                    .loadVariance(loadVariance)
+                    .loadSpread((int) (maxLoad - minLoad))
+                    .periodSkew(periodSkew)
+                    .minSpacingDays(minSpacing == Long.MAX_VALUE ? null : (int) minSpacing)
+                    .spacingPenalty(spacingPenalty)
+                    .objective(loadVariance + periodSkew + spacingPenalty)
+                    .build();
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package solvit.teachmon.domain.supervision.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import solvit.teachmon.domain.supervision.application.calendar.SupervisionCalendarCache;
+import solvit.teachmon.domain.supervision.application.calendar.SupervisionMonthSnapshot;
+import solvit.teachmon.domain.supervision.application.mapper.SupervisionResponseMapper;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionScheduleRequestMapper;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.event.SupervisionScheduleChangedEvent;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionExchangeRepository;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleCreateRequestDto;
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleDeleteRequestDto;
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleUpdateRequestDto;
@@ -23,8 +29,10 @@ import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -35,20 +43,27 @@ public class SupervisionScheduleService {
     private final SupervisionExchangeRepository supervisionExchangeRepository;
     private final TeacherRepository teacherRepository;
     private final SupervisionScheduleRequestMapper mapper;
+    private final TeacherSupervisionStatsDomainService teacherSupervisionStatsDomainService;
+    private final SupervisionCalendarCache supervisionCalendarCache;
+    private final SupervisionResponseMapper responseMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createSupervisionSchedule(SupervisionScheduleCreateRequestDto requestDto) {
         createSupervisionSchedulesInternal(requestDto);
+        publishChanged(requestDto.day());
     }
 
     @Transactional
     public void updateSupervisionSchedule(SupervisionScheduleUpdateRequestDto requestDto) {
         // 해당 날짜의 기존 감독 일정들을 모두 삭제
+        teacherSupervisionStatsDomainService.markChanged(supervisionScheduleRepository.findTeacherIdsByDay(requestDto.day()));
         supervisionExchangeRepository.deleteExchangeByDay(requestDto.day());
         supervisionScheduleRepository.deleteByDay(requestDto.day());
         
         // 새로운 감독 일정 생성
         createSupervisionSchedulesInternal(mapper.toCreateRequest(requestDto));
+        publishChanged(requestDto.day());
     }
     
 
@@ -108,29 +123,44 @@ public class SupervisionScheduleService {
 
     @Transactional
     public void deleteSupervisionSchedule(SupervisionScheduleDeleteRequestDto requestDto) {
+        // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 감독 통계 갱신 대상 직접 등록
         if (requestDto.type().isAll()) {
+            teacherSupervisionStatsDomainService.markChanged(supervisionScheduleRepository.findTeacherIdsByDay(requestDto.day()));
             supervisionExchangeRepository.deleteExchangeByDay(requestDto.day());
             supervisionScheduleRepository.deleteByDay(requestDto.day());
         } else {
+            teacherSupervisionStatsDomainService.markChanged(
+                    supervisionScheduleRepository.findTeacherIdsByDayAndType(requestDto.day(), requestDto.type().toSupervisionType()));
             supervisionExchangeRepository.deleteExchangeByDayAndType(requestDto.day(), requestDto.type().toSupervisionType());
             supervisionScheduleRepository.deleteByDayAndType(requestDto.day(), requestDto.type().toSupervisionType());
         }
+        publishChanged(requestDto.day());
+    }
+
+    private void publishChanged(LocalDate day) {
+        eventPublisher.publishEvent(new SupervisionScheduleChangedEvent(Set.of(YearMonth.from(day))));
     }
 
     @Transactional(readOnly = true)
-    public List<SupervisionScheduleResponseDto> searchSupervisionSchedules(Integer month, String query) {
-        return supervisionScheduleRepository.findSchedulesGroupedByDayAndQuery(month, query);
+    public List<SupervisionScheduleResponseDto> searchSupervisionSchedules(Integer year, Integer month, String query) {
+        // 달을 지정하지 않으면 전체 기간 조회 (캐시하지 않음)
+        if (month == null) {
+            return supervisionScheduleRepository.findSchedulesGroupedByDayAndQuery(null, query);
+        }
+
+        SupervisionMonthSnapshot snapshot = supervisionCalendarCache.getSnapshot(toYearMonth(year, month));
+        return responseMapper.convertCalendarToResponseDtos(snapshot.getSchedules(query));
     }
 
     @Transactional(readOnly = true)
-    public List<LocalDate> getMySupervisionDays(Long teacherId, Integer month) {
-        return supervisionScheduleRepository.findSupervisionDaysByTeacherAndMonth(teacherId, month);
+    public List<LocalDate> getMySupervisionDays(Long teacherId, Integer year, Integer month) {
+        return supervisionCalendarCache.getSnapshot(toYearMonth(year, month)).getTeacherDays(teacherId);
     }
 
     @Transactional(readOnly = true)
     public SupervisionTodayResponseDto getMyTodaySupervisionType(Long teacherId) {
         LocalDate today = LocalDate.now();
-        List<SupervisionType> todayTypes = supervisionScheduleRepository.findTodaySupervisionTypesByTeacher(teacherId, today);
+        List<SupervisionType> todayTypes = supervisionCalendarCache.getSnapshot(YearMonth.from(today)).getTeacherTypes(teacherId, today);
         
         boolean hasSelfStudy = todayTypes.contains(SupervisionType.SELF_STUDY_SUPERVISION);
         boolean hasLeaveSeat = todayTypes.contains(SupervisionType.LEAVE_SEAT_SUPERVISION);
@@ -153,4 +183,9 @@ public class SupervisionScheduleService {
         
         return supervisionScheduleRepository.findSupervisionRankings(searchQuery, sortOrder);
     }
+
+    // 연도를 지정하지 않으면 올해로 조회
+    private YearMonth toYearMonth(Integer year, Integer month) {
+        return YearMonth.of(year != null ? year : LocalDate.now().getYear(), month);
+    }
 }
\ No newline at end of file
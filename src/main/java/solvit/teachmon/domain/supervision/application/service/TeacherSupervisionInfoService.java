@@ -7,12 +7,10 @@ import solvit.teachmon.domain.supervision.domain.vo.SupervisionBanDayVo;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfoVo;
 import solvit.teachmon.domain.supervision.exception.InsufficientTeachersException;
-import solvit.teachmon.global.enums.WeekDay;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,9 +24,9 @@ public class TeacherSupervisionInfoService {
                 getTeacherProjections();
         
         List<Long> teacherIds = extractTeacherIds(teacherProjections);
-        Map<Long, Set<WeekDay>> banDaysByTeacher = getBanDaysByTeacher(teacherIds);
+        Map<Long, Integer> banDayMasksByTeacher = getBanDayMasksByTeacher(teacherIds);
         
-        return buildTeacherSupervisionInfos(teacherProjections, banDaysByTeacher);
+        return buildTeacherSupervisionInfos(teacherProjections, banDayMasksByTeacher);
     }
 
     private List<TeacherSupervisionInfoVo> getTeacherProjections() {
@@ -48,35 +46,34 @@ public class TeacherSupervisionInfoService {
                 .toList();
     }
 
-    private Map<Long, Set<WeekDay>> getBanDaysByTeacher(List<Long> teacherIds) {
+    private Map<Long, Integer> getBanDayMasksByTeacher(List<Long> teacherIds) {
         List<SupervisionBanDayVo> banDayProjections =
                 autoAssignRepository.findBanDaysByTeacherIds(teacherIds);
 
+        // 배정 중에는 요일 판별만 하므로 금지 요일을 비트마스크로 합쳐 둔다
         return banDayProjections.stream()
-                .collect(Collectors.groupingBy(
+                .collect(Collectors.toMap(
                         SupervisionBanDayVo::teacherId,
-                        Collectors.mapping(
-                                SupervisionBanDayVo::weekDay,
-                                Collectors.toSet()
-                        )
+                        projection -> TeacherSupervisionInfo.toBanDayBit(projection.weekDay().toDayOfWeek()),
+                        (left, right) -> left | right
                 ));
     }
 
     private List<TeacherSupervisionInfo> buildTeacherSupervisionInfos(
             List<TeacherSupervisionInfoVo> projections,
-            Map<Long, Set<WeekDay>> banDaysByTeacher) {
+            Map<Long, Integer> banDayMasksByTeacher) {
         return projections.stream()
-                .map(projection -> createTeacherSupervisionInfo(projection, banDaysByTeacher))
+                .map(projection -> createTeacherSupervisionInfo(projection, banDayMasksByTeacher))
                 .toList();
     }
 
     private TeacherSupervisionInfo createTeacherSupervisionInfo(
             TeacherSupervisionInfoVo projection,
-            Map<Long, Set<WeekDay>> banDaysByTeacher) {
+            Map<Long, Integer> banDayMasksByTeacher) {
         return TeacherSupervisionInfo.builder()
                 .teacherId(projection.teacherId())
                 .teacherName(projection.teacherName())
-                .banDays(banDaysByTeacher.getOrDefault(projection.teacherId(), Set.of()))
+                .banDayMask(banDayMasksByTeacher.getOrDefault(projection.teacherId(), 0))
                 .lastSupervisionDate(projection.lastSupervisionDate())
                 .totalSupervisionCount(getSupervisionCount(projection))
                 .sevenPeriodCount(getSevenPeriodCount(projection))
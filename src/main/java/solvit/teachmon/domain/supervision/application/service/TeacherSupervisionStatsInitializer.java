@@ -0,0 +1,38 @@
+package solvit.teachmon.domain.supervision.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
+import solvit.teachmon.domain.supervision.domain.repository.TeacherSupervisionStatsRepository;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
+
+import java.util.List;
+
+/**
+ * 교사 감독 통계가 비어 있으면 기존 감독 이력으로 한 번 채운다
+ * 통계 테이블이 추가되기 전의 감독 이력을 반영하기 위한 용도로, 이후에는 감독 스케줄 변경 시점에만 갱신된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeacherSupervisionStatsInitializer {
+    private final SupervisionScheduleRepository supervisionScheduleRepository;
+    private final TeacherSupervisionStatsRepository teacherSupervisionStatsRepository;
+    private final TeacherSupervisionStatsDomainService teacherSupervisionStatsDomainService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (teacherSupervisionStatsRepository.count() > 0) {
+            return;
+        }
+
+        List<Long> teacherIds = supervisionScheduleRepository.findAllTeacherIds();
+        teacherSupervisionStatsDomainService.refresh(teacherIds);
+        log.info("교사 감독 통계 초기화 완료 - teachers: {}", teacherIds.size());
+    }
+}
@@ -17,7 +17,8 @@ import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "supervision_schedule")
+@Table(name = "supervision_schedule", indexes = @Index(name = "idx_supervision_schedule_day", columnList = "`day`"))
+@EntityListeners(SupervisionScheduleEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SupervisionScheduleEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,24 @@
+package solvit.teachmon.domain.supervision.domain.entity;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
+
+/**
+ * SupervisionScheduleEntity 추가/삭제 시 교사 감독 통계 갱신 대상으로 등록
+ * 교사 삭제 cascade 로 삭제되는 감독 스케줄도 함께 잡기 위해 엔티티 리스너로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SupervisionScheduleEntityListener {
+    private final ObjectProvider<TeacherSupervisionStatsDomainService> teacherSupervisionStatsDomainService;
+
+    @PrePersist
+    @PreRemove
+    public void onSupervisionScheduleChanged(SupervisionScheduleEntity schedule) {
+        teacherSupervisionStatsDomainService.getObject().markChanged(schedule.getTeacher().getId());
+    }
+}
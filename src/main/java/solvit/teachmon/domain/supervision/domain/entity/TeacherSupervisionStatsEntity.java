@@ -0,0 +1,99 @@
+package solvit.teachmon.domain.supervision.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+
+/**
+ * 교사별 감독 통계 프로젝션
+ * 랭킹, 교사 목록, 자동 배정이 supervision_schedule 전체 이력을 매번 집계하지 않고 교사 수만큼만 읽도록 미리 집계해 둔다.
+ * 감독 스케줄이 없는 교사는 행이 없으며, 조회 시 0 으로 취급한다.
+ */
+@Getter
+@Entity
+@Table(name = "teacher_supervision_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeacherSupervisionStatsEntity implements Persistable<Long> {
+    @Id
+    @Column(name = "teacher_id")
+    private Long teacherId;
+
+    // 감독 타입별 감독한 날짜 수
+    @Column(name = "self_study_count", nullable = false)
+    private Integer selfStudyCount;
+
+    @Column(name = "leave_seat_count", nullable = false)
+    private Integer leaveSeatCount;
+
+    @Column(name = "seventh_period_count", nullable = false)
+    private Integer seventhPeriodCount;
+
+    // 타입과 관계없이 감독한 날짜 수
+    @Column(name = "supervision_day_count", nullable = false)
+    private Integer supervisionDayCount;
+
+    // 감독 스케줄 행 수 (자동 배정 우선순위 계산용)
+    @Column(name = "schedule_count", nullable = false)
+    private Integer scheduleCount;
+
+    @Column(name = "seven_period_schedule_count", nullable = false)
+    private Integer sevenPeriodScheduleCount;
+
+    // 8~9교시, 10~11교시를 합쳐 1회로 센 횟수
+    @Column(name = "eight_eleven_period_count", nullable = false)
+    private Integer eightElevenPeriodCount;
+
+    @Column(name = "last_supervision_date")
+    private LocalDate lastSupervisionDate;
+
+    // teacher_id 를 직접 할당하므로 save 시 merge 조회가 일어나지 않도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private TeacherSupervisionStatsEntity(Long teacherId, Integer selfStudyCount, Integer leaveSeatCount, Integer seventhPeriodCount,
+                                          Integer supervisionDayCount, Integer scheduleCount, Integer sevenPeriodScheduleCount,
+                                          Integer eightElevenPeriodCount, LocalDate lastSupervisionDate) {
+        this.teacherId = teacherId;
+        this.selfStudyCount = selfStudyCount;
+        this.leaveSeatCount = leaveSeatCount;
+        this.seventhPeriodCount = seventhPeriodCount;
+        this.supervisionDayCount = supervisionDayCount;
+        this.scheduleCount = scheduleCount;
+        this.sevenPeriodScheduleCount = sevenPeriodScheduleCount;
+        this.eightElevenPeriodCount = eightElevenPeriodCount;
+        this.lastSupervisionDate = lastSupervisionDate;
+    }
+
+    @Override
+    public Long getId() {
+        return teacherId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void update(TeacherSupervisionStatsEntity calculated) {
+        this.selfStudyCount = calculated.selfStudyCount;
+        this.leaveSeatCount = calculated.leaveSeatCount;
+        this.seventhPeriodCount = calculated.seventhPeriodCount;
+        this.supervisionDayCount = calculated.supervisionDayCount;
+        this.scheduleCount = calculated.scheduleCount;
+        this.sevenPeriodScheduleCount = calculated.sevenPeriodScheduleCount;
+        this.eightElevenPeriodCount = calculated.eightElevenPeriodCount;
+        this.lastSupervisionDate = calculated.lastSupervisionDate;
+    }
+}
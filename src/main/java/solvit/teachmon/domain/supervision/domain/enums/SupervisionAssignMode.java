@@ -0,0 +1,6 @@
+package solvit.teachmon.domain.supervision.domain.enums;
+
+public enum SupervisionAssignMode {
+    GREEDY,     // 날짜별 우선순위 상위 2명 배정
+    FAIRNESS    // 기간 전체의 감독 횟수 편차와 감독 간격을 함께 최적화
+}
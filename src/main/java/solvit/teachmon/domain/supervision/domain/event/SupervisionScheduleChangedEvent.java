@@ -0,0 +1,13 @@
+package solvit.teachmon.domain.supervision.domain.event;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * 감독 스케줄이 추가/삭제되거나 교체된 달 목록
+ * 트랜잭션 커밋 이후 감독 달력 캐시를 무효화하는 데 사용한다.
+ */
+public record SupervisionScheduleChangedEvent(
+        Set<YearMonth> months
+) {
+}
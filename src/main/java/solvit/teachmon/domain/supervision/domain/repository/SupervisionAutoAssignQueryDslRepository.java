@@ -5,6 +5,7 @@ import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfoVo;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 감독 자동 배정을 위한 Repository (QueryDSL 구현)
@@ -24,7 +25,7 @@ public interface SupervisionAutoAssignQueryDslRepository {
     List<SupervisionBanDayVo> findBanDaysByTeacherIds(List<Long> teacherIds);
 
     /**
-     * 특정 날짜에 이미 스케줄이 존재하는지 확인
+     * 기간 내 이미 감독 스케줄이 존재하는 날짜 조회
      */
-    boolean existsScheduleByDate(LocalDate date);
+    Set<LocalDate> findScheduledDaysBetween(LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
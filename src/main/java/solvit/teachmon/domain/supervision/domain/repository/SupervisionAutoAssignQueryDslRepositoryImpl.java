@@ -1,20 +1,21 @@
 package solvit.teachmon.domain.supervision.domain.repository;
 
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import solvit.teachmon.domain.management.teacher.domain.entity.QSupervisionBanDayEntity;
 import solvit.teachmon.domain.supervision.domain.entity.QSupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.entity.QTeacherSupervisionStatsEntity;
 import solvit.teachmon.domain.supervision.domain.vo.SupervisionBanDayVo;
 import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfoVo;
 import solvit.teachmon.domain.user.domain.entity.QTeacherEntity;
 import solvit.teachmon.domain.user.domain.enums.Role;
-import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 감독 자동 배정을 위한 Repository 구현체
@@ -28,28 +29,24 @@ public class SupervisionAutoAssignQueryDslRepositoryImpl implements SupervisionA
     @Override
     public List<TeacherSupervisionInfoVo> findEligibleTeacherSupervisionInfo() {
         QTeacherEntity teacher = QTeacherEntity.teacherEntity;
-        QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
+        QTeacherSupervisionStatsEntity stats = QTeacherSupervisionStatsEntity.teacherSupervisionStatsEntity;
 
+        // 감독 이력 전체를 집계하지 않고 교사별 감독 통계에서 교사 수만큼만 읽는다
         return queryFactory
                 .select(Projections.constructor(
                         TeacherSupervisionInfoVo.class,
                         teacher.id,
                         teacher.name,
-                        schedule.day.max(),
-                        schedule.id.count(),
-                        Expressions.numberTemplate(Long.class, 
-                                "SUM(CASE WHEN {0} = {1} THEN 1 ELSE 0 END)", 
-                                schedule.period, SchoolPeriod.SEVEN_PERIOD),
-                        Expressions.numberTemplate(Long.class, 
-                                "SUM(CASE WHEN {0} IN ({1}, {2}) THEN 1 ELSE 0 END) / 2", 
-                                schedule.period, SchoolPeriod.EIGHT_AND_NINE_PERIOD, SchoolPeriod.TEN_AND_ELEVEN_PERIOD)
+                        stats.lastSupervisionDate,
+                        stats.scheduleCount.coalesce(0).longValue(),
+                        stats.sevenPeriodScheduleCount.coalesce(0).longValue(),
+                        stats.eightElevenPeriodCount.coalesce(0).longValue()
                 ))
                 .from(teacher)
-                .leftJoin(schedule).on(schedule.teacher.eq(teacher))
+                .leftJoin(stats).on(stats.teacherId.eq(teacher.id))
                 .where(teacher.role.ne(Role.VIEWER)
                         .and(teacher.mail.endsWith("@bssm.hs.kr"))
                         .and(teacher.isActive.eq(true)))
-                .groupBy(teacher.id, teacher.name)
                 .fetch();
     }
 
@@ -69,15 +66,14 @@ public class SupervisionAutoAssignQueryDslRepositoryImpl implements SupervisionA
     }
 
     @Override
-    public boolean existsScheduleByDate(LocalDate date) {
+    public Set<LocalDate> findScheduledDaysBetween(LocalDate startDate, LocalDate endDate) {
         QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
 
-        Integer count = queryFactory
-                .selectOne()
+        return new HashSet<>(queryFactory
+                .select(schedule.day)
+                .distinct()
                 .from(schedule)
-                .where(schedule.day.eq(date))
-                .fetchFirst();
-
-        return count != null;
+                .where(schedule.day.between(startDate, endDate))
+                .fetch());
     }
 }
\ No newline at end of file
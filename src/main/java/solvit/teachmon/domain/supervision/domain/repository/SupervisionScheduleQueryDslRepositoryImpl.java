@@ -1,6 +1,8 @@
 package solvit.teachmon.domain.supervision.domain.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -8,13 +10,16 @@ import solvit.teachmon.domain.management.teacher.presentation.dto.response.QTeac
 import solvit.teachmon.domain.management.teacher.presentation.dto.response.TeacherListResponse;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionResponseMapper;
 import solvit.teachmon.domain.supervision.domain.entity.QSupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.entity.QTeacherSupervisionStatsEntity;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
-import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionSortOrder;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionCalendarVo;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionRankResponseDto;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionScheduleResponseDto;
 import solvit.teachmon.domain.user.domain.entity.QTeacherEntity;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,25 +32,25 @@ public class SupervisionScheduleQueryDslRepositoryImpl implements SupervisionSch
     @Override
     public List<TeacherListResponse> countTeacherSupervision(String query) {
         QTeacherEntity teacher = QTeacherEntity.teacherEntity;
-        QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
+        QTeacherSupervisionStatsEntity stats = QTeacherSupervisionStatsEntity.teacherSupervisionStatsEntity;
 
+        // 감독 이력 전체를 집계하지 않고 교사별 감독 통계에서 교사 수만큼만 읽는다
         return queryFactory
                 .select(new QTeacherListResponse(
                         teacher.id,
                         teacher.role,
                         teacher.name,
                         teacher.mail,
-                        schedule.day.countDistinct().intValue()
+                        stats.supervisionDayCount.coalesce(0)
                 ))
                 .from(teacher)
-                .leftJoin(schedule).on(schedule.teacher.eq(teacher))
+                .leftJoin(stats).on(stats.teacherId.eq(teacher.id))
                 .where(teacherNameContains(teacher, query))
-                .groupBy(teacher.id)
                 .fetch();
     }
 
     @Override
-    public List<SupervisionScheduleEntity> findByMonthAndQuery(Integer month, String query) {
+    public List<SupervisionScheduleEntity> findByMonthAndQuery(YearMonth month, String query) {
         QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
         QTeacherEntity teacher = QTeacherEntity.teacherEntity;
 
@@ -53,7 +58,7 @@ public class SupervisionScheduleQueryDslRepositoryImpl implements SupervisionSch
                 .selectFrom(schedule)
                 .join(schedule.teacher, teacher).fetchJoin()
                 .where(
-                    monthEquals(month),
+                    dayInMonth(month),
                     teacherNameContains(teacher, query)
                 )
                 .orderBy(schedule.day.asc(), schedule.period.asc(), schedule.type.asc())
@@ -61,7 +66,7 @@ public class SupervisionScheduleQueryDslRepositoryImpl implements SupervisionSch
     }
 
     @Override
-    public List<SupervisionScheduleResponseDto> findSchedulesGroupedByDayAndQuery(Integer month, String query) {
+    public List<SupervisionScheduleResponseDto> findSchedulesGroupedByDayAndQuery(YearMonth month, String query) {
         // 먼저 데이터를 조회
         List<SupervisionScheduleEntity> schedules = findByMonthAndQuery(month, query);
         
@@ -69,56 +74,62 @@ public class SupervisionScheduleQueryDslRepositoryImpl implements SupervisionSch
         return mapper.convertToResponseDtos(schedules);
     }
 
+    @Override
+    public List<SupervisionCalendarVo> findCalendarByDayBetween(LocalDate startDay, LocalDate endDay) {
+        QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
+        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
 
-    private BooleanExpression monthEquals(Integer month) {
+        return queryFactory
+                .select(Projections.constructor(
+                        SupervisionCalendarVo.class,
+                        schedule.id,
+                        teacher.id,
+                        teacher.name,
+                        schedule.day,
+                        schedule.period,
+                        schedule.type
+                ))
+                .from(schedule)
+                .join(schedule.teacher, teacher)
+                .where(schedule.day.between(startDay, endDay))
+                .orderBy(schedule.day.asc(), schedule.period.asc(), schedule.type.asc())
+                .fetch();
+    }
+
+    // day 컬럼을 함수로 감싸지 않도록 달을 날짜 범위로 바꿔 조회
+    private BooleanExpression dayInMonth(YearMonth month) {
         QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
         return month != null 
-                ? schedule.day.month().eq(month)
+                ? schedule.day.between(month.atDay(1), month.atEndOfMonth())
                 : null;
     }
 
-
-
-
     @Override
     public List<SupervisionRankResponseDto> findSupervisionRankings(String query, SupervisionSortOrder sortOrder) {
         QTeacherEntity teacher = QTeacherEntity.teacherEntity;
-        QSupervisionScheduleEntity selfStudySchedule = new QSupervisionScheduleEntity("selfStudySchedule");
-        QSupervisionScheduleEntity leaveSeatSchedule = new QSupervisionScheduleEntity("leaveSeatSchedule");
-        QSupervisionScheduleEntity seventhPeriodSchedule = new QSupervisionScheduleEntity("seventhPeriodSchedule");
+        QTeacherSupervisionStatsEntity stats = QTeacherSupervisionStatsEntity.teacherSupervisionStatsEntity;
 
-        var totalCount = selfStudySchedule.day.countDistinct().add(leaveSeatSchedule.day.countDistinct()).add(seventhPeriodSchedule.day.countDistinct());
-        
+        NumberExpression<Integer> selfStudyCount = stats.selfStudyCount.coalesce(0);
+        NumberExpression<Integer> leaveSeatCount = stats.leaveSeatCount.coalesce(0);
+        NumberExpression<Integer> seventhPeriodCount = stats.seventhPeriodCount.coalesce(0);
+        NumberExpression<Integer> totalCount = selfStudyCount.add(leaveSeatCount).add(seventhPeriodCount);
+
+        // 감독 이력을 타입별로 세 번 조인해 집계하지 않고 교사별 감독 통계에서 교사 수만큼만 읽는다
         var results = queryFactory
-                .select(
-                    teacher.name,
-                    selfStudySchedule.day.countDistinct().coalesce(0L),
-                    leaveSeatSchedule.day.countDistinct().coalesce(0L),
-                    seventhPeriodSchedule.day.countDistinct().coalesce(0L)
-                )
+                .select(teacher.name, selfStudyCount, leaveSeatCount, seventhPeriodCount)
                 .from(teacher)
-                .leftJoin(selfStudySchedule).on(selfStudySchedule.teacher.eq(teacher)
-                    .and(selfStudySchedule.type.eq(SupervisionType.SELF_STUDY_SUPERVISION)))
-                .leftJoin(leaveSeatSchedule).on(leaveSeatSchedule.teacher.eq(teacher)
-                    .and(leaveSeatSchedule.type.eq(SupervisionType.LEAVE_SEAT_SUPERVISION)))
-                .leftJoin(seventhPeriodSchedule).on(seventhPeriodSchedule.teacher.eq(teacher)
-                    .and(seventhPeriodSchedule.type.eq(SupervisionType.SEVENTH_PERIOD_SUPERVISION)))
+                .leftJoin(stats).on(stats.teacherId.eq(teacher.id))
                 .where(teacherNameContains(teacher, query))
-                .groupBy(teacher.id, teacher.name)
-                .orderBy(sortOrder == SupervisionSortOrder.DESC ? 
+                .orderBy(sortOrder == SupervisionSortOrder.DESC ?
                     totalCount.desc() : totalCount.asc())
                 .fetch();
 
         List<SupervisionRankResponseDto> rankList = new ArrayList<>();
         for (int i = 0; i < results.size(); i++) {
             var tuple = results.get(i);
-            Long selfStudyCount = tuple.get(1, Long.class);
-            Long leaveSeatCount = tuple.get(2, Long.class);
-            Long seventhPeriodCount = tuple.get(3, Long.class);
-            
-            int selfStudy = selfStudyCount != null ? selfStudyCount.intValue() : 0;
-            int leaveSeat = leaveSeatCount != null ? leaveSeatCount.intValue() : 0;
-            int seventhPeriod = seventhPeriodCount != null ? seventhPeriodCount.intValue() : 0;
+            int selfStudy = toCount(tuple.get(selfStudyCount));
+            int leaveSeat = toCount(tuple.get(leaveSeatCount));
+            int seventhPeriod = toCount(tuple.get(seventhPeriodCount));
             
             SupervisionRankResponseDto dto = SupervisionRankResponseDto.builder()
                     .rank(i + 1)
@@ -133,6 +144,10 @@ public class SupervisionScheduleQueryDslRepositoryImpl implements SupervisionSch
         
         return rankList;
     }
+
+    private int toCount(Integer count) {
+        return count != null ? count : 0;
+    }
     
     private BooleanExpression teacherNameContains(QTeacherEntity teacher, String query) {
         return query != null && !query.isBlank() 
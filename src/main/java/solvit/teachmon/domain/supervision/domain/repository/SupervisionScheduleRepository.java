@@ -18,12 +18,15 @@ public interface SupervisionScheduleRepository extends JpaRepository<Supervision
     @Modifying
     @Query("DELETE FROM SupervisionScheduleEntity s WHERE s.day = :day AND s.type = :type")
     void deleteByDayAndType(@Param("day") LocalDate day, @Param("type") SupervisionType type);
-    
-    @Query("SELECT DISTINCT s.type FROM SupervisionScheduleEntity s WHERE s.teacher.id = :teacherId AND s.day = :day")
-    List<SupervisionType> findTodaySupervisionTypesByTeacher(@Param("teacherId") Long teacherId, @Param("day") LocalDate day);
-    
-    @Query("SELECT DISTINCT s.day FROM SupervisionScheduleEntity s WHERE s.teacher.id = :teacherId AND MONTH(s.day) = :month ORDER BY s.day")
-    List<LocalDate> findSupervisionDaysByTeacherAndMonth(@Param("teacherId") Long teacherId, @Param("month") Integer month);
+
+    @Query("SELECT DISTINCT s.teacher.id FROM SupervisionScheduleEntity s WHERE s.day = :day")
+    List<Long> findTeacherIdsByDay(@Param("day") LocalDate day);
+
+    @Query("SELECT DISTINCT s.teacher.id FROM SupervisionScheduleEntity s WHERE s.day = :day AND s.type = :type")
+    List<Long> findTeacherIdsByDayAndType(@Param("day") LocalDate day, @Param("type") SupervisionType type);
+
+    @Query("SELECT DISTINCT s.teacher.id FROM SupervisionScheduleEntity s")
+    List<Long> findAllTeacherIds();
     
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM SupervisionScheduleEntity s WHERE s.day = :day")
     boolean existsByDay(@Param("day") LocalDate day);
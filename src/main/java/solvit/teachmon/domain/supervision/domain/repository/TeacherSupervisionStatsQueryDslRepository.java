@@ -0,0 +1,13 @@
+package solvit.teachmon.domain.supervision.domain.repository;
+
+import solvit.teachmon.domain.supervision.domain.entity.TeacherSupervisionStatsEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TeacherSupervisionStatsQueryDslRepository {
+    /**
+     * supervision_schedule 에서 교사별 감독 통계를 다시 계산합니다. 감독 스케줄이 없는 교사는 결과에 포함되지 않습니다.
+     */
+    List<TeacherSupervisionStatsEntity> calculateByTeacherIds(Collection<Long> teacherIds);
+}
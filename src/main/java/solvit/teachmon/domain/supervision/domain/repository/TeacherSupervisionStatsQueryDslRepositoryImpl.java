@@ -0,0 +1,97 @@
+package solvit.teachmon.domain.supervision.domain.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.supervision.domain.entity.QSupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.entity.TeacherSupervisionStatsEntity;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class TeacherSupervisionStatsQueryDslRepositoryImpl implements TeacherSupervisionStatsQueryDslRepository {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<TeacherSupervisionStatsEntity> calculateByTeacherIds(Collection<Long> teacherIds) {
+        if (teacherIds.isEmpty()) {
+            return List.of();
+        }
+
+        QSupervisionScheduleEntity schedule = QSupervisionScheduleEntity.supervisionScheduleEntity;
+
+        // 엔티티 대신 필요한 컬럼만 조회해 교사별로 모은 뒤 메모리에서 집계
+        List<Tuple> rows = queryFactory
+                .select(schedule.teacher.id, schedule.day, schedule.period, schedule.type)
+                .from(schedule)
+                .where(schedule.teacher.id.in(teacherIds))
+                .orderBy(schedule.teacher.id.asc())
+                .fetch();
+
+        Map<Long, List<Tuple>> schedulesByTeacher = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            schedulesByTeacher.computeIfAbsent(row.get(schedule.teacher.id), key -> new ArrayList<>()).add(row);
+        }
+
+        return schedulesByTeacher.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue(), schedule))
+                .toList();
+    }
+
+    private TeacherSupervisionStatsEntity toStats(Long teacherId, List<Tuple> schedules, QSupervisionScheduleEntity schedule) {
+        Set<LocalDate> selfStudyDays = new HashSet<>();
+        Set<LocalDate> leaveSeatDays = new HashSet<>();
+        Set<LocalDate> seventhPeriodDays = new HashSet<>();
+        Set<LocalDate> supervisionDays = new HashSet<>();
+        int sevenPeriodScheduleCount = 0;
+        int eightElevenPeriodScheduleCount = 0;
+        LocalDate lastSupervisionDate = null;
+
+        for (Tuple row : schedules) {
+            LocalDate day = row.get(schedule.day);
+            SchoolPeriod period = row.get(schedule.period);
+            SupervisionType type = row.get(schedule.type);
+
+            supervisionDays.add(day);
+            switch (type) {
+                case SELF_STUDY_SUPERVISION -> selfStudyDays.add(day);
+                case LEAVE_SEAT_SUPERVISION -> leaveSeatDays.add(day);
+                case SEVENTH_PERIOD_SUPERVISION -> seventhPeriodDays.add(day);
+            }
+
+            if (period == SchoolPeriod.SEVEN_PERIOD) {
+                sevenPeriodScheduleCount++;
+            } else if (period == SchoolPeriod.EIGHT_AND_NINE_PERIOD || period == SchoolPeriod.TEN_AND_ELEVEN_PERIOD) {
+                eightElevenPeriodScheduleCount++;
+            }
+
+            if (lastSupervisionDate == null || day.isAfter(lastSupervisionDate)) {
+                lastSupervisionDate = day;
+            }
+        }
+
+        return TeacherSupervisionStatsEntity.builder()
+                .teacherId(teacherId)
+                .selfStudyCount(selfStudyDays.size())
+                .leaveSeatCount(leaveSeatDays.size())
+                .seventhPeriodCount(seventhPeriodDays.size())
+                .supervisionDayCount(supervisionDays.size())
+                .scheduleCount(schedules.size())
+                .sevenPeriodScheduleCount(sevenPeriodScheduleCount)
+                // 8~9교시와 10~11교시를 합쳐 1회로 계산
+                .eightElevenPeriodCount(eightElevenPeriodScheduleCount / 2)
+                .lastSupervisionDate(lastSupervisionDate)
+                .build();
+    }
+}
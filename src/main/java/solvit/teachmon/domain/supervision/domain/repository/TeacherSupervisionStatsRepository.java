@@ -0,0 +1,9 @@
+package solvit.teachmon.domain.supervision.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import solvit.teachmon.domain.supervision.domain.entity.TeacherSupervisionStatsEntity;
+
+@Repository
+public interface TeacherSupervisionStatsRepository extends JpaRepository<TeacherSupervisionStatsEntity, Long>, TeacherSupervisionStatsQueryDslRepository {
+}
@@ -0,0 +1,94 @@
+package solvit.teachmon.domain.supervision.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import solvit.teachmon.domain.supervision.domain.entity.TeacherSupervisionStatsEntity;
+import solvit.teachmon.domain.supervision.domain.repository.TeacherSupervisionStatsRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * teacher_supervision_stats 프로젝션 관리
+ * 감독 스케줄이 추가/삭제된 교사를 트랜잭션 동안 모아두었다가 커밋 직전에 한 번에 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeacherSupervisionStatsDomainService {
+    private final TeacherSupervisionStatsRepository teacherSupervisionStatsRepository;
+
+    public void markChanged(Long teacherId) {
+        // 감독 스케줄 추가/삭제는 항상 트랜잭션 안에서 일어나므로 트랜잭션 밖 호출은 무시
+        if (teacherId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        getPendingTeacherIds().add(teacherId);
+    }
+
+    public void markChanged(Collection<Long> teacherIds) {
+        teacherIds.forEach(this::markChanged);
+    }
+
+    public void refresh(Collection<Long> teacherIds) {
+        if (teacherIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, TeacherSupervisionStatsEntity> calculated = teacherSupervisionStatsRepository.calculateByTeacherIds(teacherIds).stream()
+                .collect(Collectors.toMap(TeacherSupervisionStatsEntity::getTeacherId, Function.identity()));
+        List<TeacherSupervisionStatsEntity> existing = teacherSupervisionStatsRepository.findAllById(teacherIds);
+
+        // 기존 통계 갱신, 감독 스케줄이 모두 사라진 경우 삭제
+        for (TeacherSupervisionStatsEntity stats : existing) {
+            TeacherSupervisionStatsEntity newStats = calculated.remove(stats.getTeacherId());
+            if (newStats == null) {
+                teacherSupervisionStatsRepository.delete(stats);
+            } else {
+                stats.update(newStats);
+            }
+        }
+
+        // 처음 감독 스케줄이 생긴 교사
+        teacherSupervisionStatsRepository.saveAll(calculated.values());
+    }
+
+    private Set<Long> getPendingTeacherIds() {
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<Long> newPending = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flushPending(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TeacherSupervisionStatsDomainService.this);
+            }
+        });
+        return newPending;
+    }
+
+    private void flushPending(Set<Long> pending) {
+        // 교사 삭제 cascade 등 flush 중 추가되는 변경까지 반영되도록 먼저 flush
+        teacherSupervisionStatsRepository.flush();
+        List<Long> teacherIds = List.copyOf(pending);
+        pending.clear();
+
+        refresh(teacherIds);
+        teacherSupervisionStatsRepository.flush();
+    }
+}
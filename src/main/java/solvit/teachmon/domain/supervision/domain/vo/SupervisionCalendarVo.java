@@ -0,0 +1,19 @@
+package solvit.teachmon.domain.supervision.domain.vo;
+
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * 감독 달력 조회 값 객체
+ */
+public record SupervisionCalendarVo(
+        Long scheduleId,
+        Long teacherId,
+        String teacherName,
+        LocalDate day,
+        SchoolPeriod period,
+        SupervisionType type
+) {
+}
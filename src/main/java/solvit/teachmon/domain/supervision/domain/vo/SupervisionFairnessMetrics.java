@@ -0,0 +1,17 @@
+package solvit.teachmon.domain.supervision.domain.vo;
+
+import lombok.Builder;
+
+/**
+ * 감독 배정안의 공정성 지표 (감독 횟수는 기존 이력 + 배정안 기준, 자동 배정 대상인 8~11교시 기준)
+ */
+@Builder
+public record SupervisionFairnessMetrics(
+        double loadVariance,        // 교사별 8~11교시 감독 횟수 분산
+        int loadSpread,             // 최대 8~11교시 감독 횟수 - 최소 8~11교시 감독 횟수
+        double periodSkew,          // 교사별 (8~11교시 감독 횟수 - 7교시 감독 횟수) 분산
+        Integer minSpacingDays,     // 같은 교사의 연속된 두 감독 사이 최소 일수 (간격이 없으면 null)
+        double spacingPenalty,      // 교사당 평균 (1 / 감독 간격 일수) 합
+        double objective            // loadVariance + periodSkew + spacingPenalty (낮을수록 공정)
+) {
+}
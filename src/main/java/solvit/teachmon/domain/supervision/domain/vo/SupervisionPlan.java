@@ -0,0 +1,12 @@
+package solvit.teachmon.domain.supervision.domain.vo;
+
+import java.util.List;
+
+/**
+ * 저장 전 감독 배정안과 공정성 지표
+ */
+public record SupervisionPlan(
+        List<DailySupervisionAssignment> assignments,
+        SupervisionFairnessMetrics metrics
+) {
+}
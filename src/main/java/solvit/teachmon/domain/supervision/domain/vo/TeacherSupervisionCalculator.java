@@ -1,7 +1,6 @@
 package solvit.teachmon.domain.supervision.domain.vo;
 
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
-import solvit.teachmon.global.enums.WeekDay;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -24,8 +23,7 @@ public class TeacherSupervisionCalculator {
      * 해당 요일이 금지요일인지 확인
      */
     public boolean isBanDay(DayOfWeek dayOfWeek) {
-        WeekDay weekDay = WeekDay.fromDayOfWeek(dayOfWeek);
-        return teacherInfo.banDays().contains(weekDay);
+        return (teacherInfo.banDayMask() & TeacherSupervisionInfo.toBanDayBit(dayOfWeek)) != 0;
     }
     
     /**
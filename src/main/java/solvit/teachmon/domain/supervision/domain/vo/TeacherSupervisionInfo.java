@@ -4,9 +4,10 @@ import lombok.Builder;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
 import solvit.teachmon.global.enums.WeekDay;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 교사별 감독 정보를 담는 값 객체 (순수 데이터)
@@ -15,11 +16,22 @@ import java.util.Set;
 public record TeacherSupervisionInfo(
         Long teacherId,
         String teacherName,
-        Set<WeekDay> banDays,                           // 금지 요일들
+        int banDayMask,                                 // 금지 요일 비트마스크 (DayOfWeek.ordinal() 번째 비트)
         LocalDate lastSupervisionDate,                  // 최근 감독 날짜
         int totalSupervisionCount,                      // 총 감독 횟수
         int sevenPeriodCount,                          // 7교시 감독 횟수
         int eightElevenPeriodCount,                    // 8~11교시 감독 횟수
         Map<SupervisionType, Integer> supervisionCounts // 감독 타입별 횟수
 ) {
-}
\ No newline at end of file
+    public static int toBanDayMask(Collection<WeekDay> banDays) {
+        int mask = 0;
+        for (WeekDay banDay : banDays) {
+            mask |= toBanDayBit(banDay.toDayOfWeek());
+        }
+        return mask;
+    }
+
+    public static int toBanDayBit(DayOfWeek dayOfWeek) {
+        return 1 << dayOfWeek.ordinal();
+    }
+}
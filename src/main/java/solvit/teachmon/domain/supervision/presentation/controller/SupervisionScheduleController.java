@@ -17,9 +17,11 @@ import solvit.teachmon.domain.supervision.application.service.SupervisionSchedul
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleCreateRequestDto;
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleDeleteRequestDto;
 import solvit.teachmon.domain.supervision.presentation.dto.request.SupervisionScheduleUpdateRequestDto;
+import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionPlanComparisonResponseDto;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionScheduleResponseDto;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionTodayResponseDto;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionRankResponseDto;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionAssignMode;
 import solvit.teachmon.domain.supervision.exception.InvalidDateRangeException;
 import solvit.teachmon.domain.supervision.exception.InvalidSupervisionScheduleException;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
@@ -60,19 +62,21 @@ public class SupervisionScheduleController {
 
     @GetMapping
     public ResponseEntity<List<SupervisionScheduleResponseDto>> searchSupervisionSchedules(
+            @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) String query) {
         validateMonth(month);
-        List<SupervisionScheduleResponseDto> responses = supervisionScheduleService.searchSupervisionSchedules(month, query);
+        List<SupervisionScheduleResponseDto> responses = supervisionScheduleService.searchSupervisionSchedules(year, month, query);
         return ResponseEntity.ok(responses);
     }
 
     @GetMapping("/me")
     public ResponseEntity<List<LocalDate>> getMySupervisionDays(
+            @RequestParam(required = false) Integer year,
             @RequestParam Integer month,
             @AuthenticationPrincipal TeachmonUserDetails userDetails) {
         validateMonth(month);
-        List<LocalDate> supervisionDays = supervisionScheduleService.getMySupervisionDays(userDetails.getId(), month);
+        List<LocalDate> supervisionDays = supervisionScheduleService.getMySupervisionDays(userDetails.getId(), year, month);
         return ResponseEntity.ok(supervisionDays);
     }
 
@@ -93,20 +97,36 @@ public class SupervisionScheduleController {
     /**
      * 감독 일정 자동 배정 API
      * 우선순위 알고리즘을 적용하여 월~목 평일에 감독 일정을 자동 생성
+     * mode=FAIRNESS 이면 기간 전체의 감독 횟수 편차와 간격을 최적화한 배정안으로 생성
      */
     @PostMapping("/schedule/auto")
     public ResponseEntity<List<SupervisionScheduleResponseDto>> autoAssignSupervisionSchedules(
             @RequestParam("start_day") LocalDate startDay,
-            @RequestParam("end_day") LocalDate endDay) {
+            @RequestParam("end_day") LocalDate endDay,
+            @RequestParam(value = "mode", defaultValue = "GREEDY") SupervisionAssignMode mode) {
         
         validateDateRange(startDay, endDay);
         
         List<SupervisionScheduleResponseDto> responses = 
-            supervisionAutoAssignService.autoAssignSupervisionSchedules(startDay, endDay);
+            supervisionAutoAssignService.autoAssignSupervisionSchedules(startDay, endDay, mode);
         
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 감독 일정 자동 배정 미리보기 API
+     * 저장하지 않고 우선순위 배정안과 공정성 배정안을 지표와 함께 반환
+     */
+    @PostMapping("/schedule/auto/dry-run")
+    public ResponseEntity<SupervisionPlanComparisonResponseDto> compareAutoAssignPlans(
+            @RequestParam("start_day") LocalDate startDay,
+            @RequestParam("end_day") LocalDate endDay) {
+
+        validateDateRange(startDay, endDay);
+
+        return ResponseEntity.ok(supervisionAutoAssignService.compareAssignmentPlans(startDay, endDay));
+    }
+
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
             throw new InvalidDateRangeException("시작 날짜가 종료 날짜보다 늦을 수 없습니다.");
@@ -0,0 +1,45 @@
+package solvit.teachmon.domain.supervision.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record SupervisionPlanComparisonResponseDto(
+        @JsonProperty("greedy")
+        PlanInfo greedy,
+
+        @JsonProperty("fairness")
+        PlanInfo fairness
+) {
+    @Builder
+    public record PlanInfo(
+            @JsonProperty("metrics")
+            MetricsInfo metrics,
+
+            @JsonProperty("schedules")
+            List<SupervisionScheduleResponseDto> schedules
+    ) {}
+
+    @Builder
+    public record MetricsInfo(
+            @JsonProperty("load_variance")
+            Double loadVariance,
+
+            @JsonProperty("load_spread")
+            Integer loadSpread,
+
+            @JsonProperty("period_skew")
+            Double periodSkew,
+
+            @JsonProperty("min_spacing_days")
+            Integer minSpacingDays,
+
+            @JsonProperty("spacing_penalty")
+            Double spacingPenalty,
+
+            @JsonProperty("objective")
+            Double objective
+    ) {}
+}
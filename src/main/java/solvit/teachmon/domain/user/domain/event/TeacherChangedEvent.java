@@ -0,0 +1,10 @@
+package solvit.teachmon.domain.user.domain.event;
+
+/**
+ * 선생님의 권한, 이름 등 인증 주체에 담기는 정보가 바뀌었거나 삭제됨
+ * 트랜잭션 커밋 이후 인증 주체 캐시를 무효화하는 데 사용한다.
+ */
+public record TeacherChangedEvent(
+        Long teacherId
+) {
+}
@@ -1,36 +1,88 @@
 package solvit.teachmon.global.aspect;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import solvit.teachmon.global.properties.TraceProperties;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * @Trace 메서드 계측
+ * 모든 호출은 메서드별 타이머(teachmon.trace)에 결과 태그와 함께 기록하고,
+ * 인자/결과 로그는 trace.sample-rate 비율로만 남긴다. 샘플링이 꺼져 있으면 문자열을 만들지 않는다.
+ */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
+    private static final String METRIC_NAME = "teachmon.trace";
+
+    private final MeterRegistry meterRegistry;
+    private final TraceProperties traceProperties;
+    // 성공 호출마다 태그를 만들어 레지스트리를 조회하지 않도록 메서드별로 캐싱
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
 
     @Pointcut("@annotation(solvit.teachmon.global.annotation.Trace) || @within(solvit.teachmon.global.annotation.Trace)")
     public void loggingTraceAnnotationPointcut() {}
 
-    @Before("loggingTraceAnnotationPointcut()")
-    public void logBefore(final JoinPoint joinPoint) {
-        log.info("[TRACE][{}][START] arguments={}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+    @Around("loggingTraceAnnotationPointcut()")
+    public Object trace(final ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        boolean sampled = isSampled();
+        if (sampled) {
+            log.info("[TRACE][{}][START] arguments={}", method.getName(),
+                    TraceValueRenderer.renderArguments(joinPoint.getArgs(), traceProperties.getMaxValueLength()));
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, key -> timer(key, "success", "none"))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            if (sampled) {
+                log.info("[TRACE][{}][END] result={}", method.getName(),
+                        TraceValueRenderer.render(result, traceProperties.getMaxValueLength()));
+            }
+            return result;
+        } catch (Throwable e) {
+            timer(method, "error", e.getClass().getSimpleName())
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            log.warn("[TRACE][{}][ERROR] exClass={}, exMessage={}",
+                    method.getName(),
+                    e.getClass().getSimpleName(),
+                    e.getMessage(),
+                    e);
+            throw e;
+        }
     }
 
-    @AfterReturning(pointcut = "loggingTraceAnnotationPointcut()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        log.info("[TRACE][{}][END] result={}", joinPoint.getSignature().getName(), result);
+    private boolean isSampled() {
+        double sampleRate = traceProperties.getSampleRate();
+        if (sampleRate <= 0) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
     }
 
-    @AfterThrowing(pointcut = "loggingTraceAnnotationPointcut()", throwing = "e")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        log.warn("[TRACE][{}][ERROR] exClass={}, exMessage={}",
-                joinPoint.getSignature().getName(),
-                e.getClass().getSimpleName(),
-                e.getMessage(),
-                e);
+    private Timer timer(Method method, String outcome, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
     }
 }
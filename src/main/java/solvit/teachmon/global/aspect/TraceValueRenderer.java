@@ -0,0 +1,67 @@
+package solvit.teachmon.global.aspect;
+
+import org.hibernate.Hibernate;
+import solvit.teachmon.global.entity.BaseEntity;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * @Trace 로그용 값 문자열 변환
+ * 엔티티는 toString 이나 연관관계를 건드리지 않고 (타입, id) 만 남기고,
+ * 초기화되지 않은 프록시/컬렉션은 로딩하지 않은 채 타입만 남긴다.
+ */
+final class TraceValueRenderer {
+    private TraceValueRenderer() {
+    }
+
+    static String renderArguments(Object[] args, int maxLength) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object arg : args) {
+            joiner.add(render(arg, maxLength));
+        }
+        return joiner.toString();
+    }
+
+    static String render(Object value, int maxLength) {
+        String rendered = renderValue(value);
+        if (rendered.length() <= maxLength) {
+            return rendered;
+        }
+        return rendered.substring(0, maxLength) + "...(" + rendered.length() + ")";
+    }
+
+    private static String renderValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (!Hibernate.isInitialized(value)) {
+            return Hibernate.getClassLazy(value).getSimpleName() + "(uninitialized)";
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof UUID) {
+            return value.toString();
+        }
+        if (value instanceof BaseEntity entity) {
+            return Hibernate.getClassLazy(entity).getSimpleName() + "(id=" + entity.getId() + ")";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "(size=" + map.size() + ")";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        // 요청/응답 DTO 는 그대로, 그 외 객체는 toString 비용을 알 수 없으므로 타입만 남긴다
+        if (value instanceof Record) {
+            return value.toString();
+        }
+        return value.getClass().getSimpleName();
+    }
+}
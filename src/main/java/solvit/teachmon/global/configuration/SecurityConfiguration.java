@@ -1,5 +1,6 @@
 package solvit.teachmon.global.configuration;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,7 +23,7 @@ import solvit.teachmon.global.properties.WebProperties;
 import solvit.teachmon.global.security.filter.JwtAuthenticationExceptionFilter;
 import solvit.teachmon.global.security.filter.JwtAuthenticationFilter;
 import solvit.teachmon.global.security.jwt.JwtValidator;
-import solvit.teachmon.global.security.user.TeachmonUserDetailsService;
+import solvit.teachmon.global.security.user.TeachmonPrincipalCache;
 import tools.jackson.databind.ObjectMapper;
 
 @Configuration
@@ -34,7 +35,7 @@ public class SecurityConfiguration {
     private final ObjectMapper objectMapper;
     private final JwtValidator jwtValidator;
     private final WebProperties webProperties;
-    private final TeachmonUserDetailsService teachmonUserDetailsService;
+    private final TeachmonPrincipalCache teachmonPrincipalCache;
     private final TeachmonOAuth2UserFacade teachmonOAuth2UserFacade;
     private final TeachmonOAuth2SuccessHandler teachmonOAuth2SuccessHandler;
     private final TeachmonOAuth2FailureHandler teachmonOAuth2FailureHandler;
@@ -57,6 +58,8 @@ public class SecurityConfiguration {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 는 최초 요청에서 인가를 마치고, 이후 비동기 디스패치로 이벤트를 보낸다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(EXCLUDED_PATHS).permitAll()
 
                         .requestMatchers("/student-schedule/setting/**").hasRole("ADMIN")
@@ -72,6 +75,7 @@ public class SecurityConfiguration {
 
                         .requestMatchers(HttpMethod.GET, "/student/search").hasAnyRole("ADMIN", "TEACHER", "VIEWER")
                         .requestMatchers("/self-study/**", "/teacher/**", "/student/**").hasRole("ADMIN")
+                        .requestMatchers("/supervision/schedule/auto/dry-run").hasRole("ADMIN")
 
                         // 6. 나머지는 인증만 필요
                         .anyRequest().authenticated()
@@ -93,7 +97,7 @@ public class SecurityConfiguration {
                                 .userService(teachmonOAuth2UserFacade)
                         )
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtValidator, teachmonUserDetailsService, antPathMatcher(), EXCLUDED_PATHS), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtValidator, teachmonPrincipalCache, antPathMatcher(), EXCLUDED_PATHS), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new JwtAuthenticationExceptionFilter(objectMapper, antPathMatcher(), EXCLUDED_PATHS), JwtAuthenticationFilter.class);
 
         return http.build();
@@ -4,13 +4,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import solvit.teachmon.global.infra.sql.SqlStatementInterceptor;
 import solvit.teachmon.global.properties.WebProperties;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfiguration implements WebMvcConfigurer {
     private final WebProperties webProperties;
+    private final SqlStatementInterceptor sqlStatementInterceptor;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -27,4 +30,9 @@ public class WebConfiguration implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatementInterceptor);
+    }
 }
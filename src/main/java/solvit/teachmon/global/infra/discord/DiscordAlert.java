@@ -0,0 +1,58 @@
+package solvit.teachmon.global.infra.discord;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전송 대기 중인 디스코드 에러 알림
+ * 요청 객체는 응답 이후 재사용되므로 요청 스레드에서 필요한 값을 모두 꺼내 담아둔다.
+ *
+ * @param fingerprint 같은 알림인지 판단하는 키 (요청 URI + 예외 클래스)
+ * @param fields      embed 필드 목록
+ */
+public record DiscordAlert(
+        String fingerprint,
+        List<Map<String, Object>> fields
+) {
+    private static final String TITLE = "🚨 서버 에러 발생";
+    private static final int COLOR = 16711680;
+
+    public static String fingerprint(String requestUri, Throwable exception) {
+        return requestUri + " " + exception.getClass().getName();
+    }
+
+    /**
+     * 같은 알림이 여러 번 들어왔으면 제목과 필드에 발생 횟수를 함께 표시합니다.
+     * 여러 알림을 한 메시지로 보낼 수 있도록 메시지가 아닌 embed 하나를 반환합니다.
+     */
+    public Map<String, Object> toEmbed(int count) {
+        List<Map<String, Object>> embedFields = new ArrayList<>(fields);
+        if (count > 1) {
+            Map<String, Object> countField = new LinkedHashMap<>();
+            countField.put("name", "발생 횟수");
+            countField.put("value", count + "회 (첫 발생 정보만 표시)");
+            countField.put("inline", false);
+            embedFields.add(countField);
+        }
+
+        Map<String, Object> embed = new LinkedHashMap<>();
+        embed.put("title", count > 1 ? TITLE + " x" + count : TITLE);
+        embed.put("color", COLOR);
+        embed.put("fields", embedFields);
+        return embed;
+    }
+
+    /**
+     * 디스코드가 메시지당 제한하는 embed 글자 수 (제목 + 필드 이름 + 필드 값)
+     */
+    public static int textLength(Map<String, Object> embed) {
+        int length = String.valueOf(embed.get("title")).length();
+        for (Object field : (List<?>) embed.get("fields")) {
+            Map<?, ?> map = (Map<?, ?>) field;
+            length += String.valueOf(map.get("name")).length() + String.valueOf(map.get("value")).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,225 @@
+package solvit.teachmon.global.infra.discord;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import solvit.teachmon.global.properties.DiscordProperties;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 디스코드 에러 알림 대기열
+ * 요청 스레드는 대기열에 넣기만 하고, 웹훅 전송은 스케줄러가 FLUSH_INTERVAL 마다 모아서 처리한다.
+ * 같은 (URI, 예외 클래스) 알림은 한 주기 안에서 하나로 합쳐 발생 횟수만 늘리고,
+ * 서로 다른 알림이 CAPACITY 를 넘으면 가장 오래된 알림부터 버린다.
+ * 웹훅 제한(2초에 약 5회)을 넘지 않도록 알림은 메시지당 최대 10개 embed 로 묶고, 한 주기에 MAX_MESSAGES_PER_FLUSH 개까지만 보낸다.
+ * 429 를 받으면 남은 알림을 다시 대기열에 넣고 retry_after 가 지날 때까지 전송을 미룬다.
+ */
+@Slf4j
+@Component
+public class DiscordAlertQueue {
+    static final int CAPACITY = 15;
+    static final int MAX_EMBEDS_PER_MESSAGE = 10;
+    private static final int MAX_EMBED_TEXT_PER_MESSAGE = 6000;
+    private static final int MAX_MESSAGES_PER_FLUSH = 4;
+    private static final long FLUSH_INTERVAL = 30_000;
+    private static final long DEFAULT_RETRY_AFTER = 5_000;
+    private static final Pattern RETRY_AFTER_PATTERN = Pattern.compile("\"retry_after\"\\s*:\\s*([0-9.]+)");
+    private static final String METRIC_NAME = "teachmon.discord.alert";
+
+    private final RestClient restClient;
+    private final DiscordProperties discordProperties;
+    private final MeterRegistry meterRegistry;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    // 삽입 순서를 유지해 가장 오래된 알림을 먼저 버린다 (this 로 동기화)
+    private final LinkedHashMap<String, PendingAlert> pending = new LinkedHashMap<>();
+    // 429 응답의 retry_after 가 끝나는 시각 (epoch millis)
+    private volatile long retryAt;
+
+    public DiscordAlertQueue(RestClient restClient, DiscordProperties discordProperties, MeterRegistry meterRegistry) {
+        this.restClient = restClient;
+        this.discordProperties = discordProperties;
+        this.meterRegistry = meterRegistry;
+        this.droppedCounter = meterRegistry.counter(METRIC_NAME + ".dropped");
+        this.coalescedCounter = meterRegistry.counter(METRIC_NAME + ".coalesced");
+
+        Gauge.builder(METRIC_NAME + ".queue.size", this, DiscordAlertQueue::size)
+                .register(meterRegistry);
+    }
+
+    public synchronized void offer(DiscordAlert alert) {
+        PendingAlert existing = pending.get(alert.fingerprint());
+        if (existing != null) {
+            existing.count++;
+            coalescedCounter.increment();
+            return;
+        }
+
+        if (pending.size() >= CAPACITY) {
+            dropEldest();
+        }
+        pending.put(alert.fingerprint(), new PendingAlert(alert));
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL)
+    public void flush() {
+        List<PendingAlert> alerts;
+        synchronized (this) {
+            if (pending.isEmpty() || System.currentTimeMillis() < retryAt) {
+                return;
+            }
+            alerts = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        List<List<PendingAlert>> messages = pack(alerts);
+        for (int i = 0; i < messages.size(); i++) {
+            if (i == MAX_MESSAGES_PER_FLUSH || !send(messages.get(i))) {
+                requeue(messages.subList(i, messages.size()).stream().flatMap(List::stream).toList());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 메시지당 embed 개수와 글자 수 제한 안에서 알림을 순서대로 묶습니다.
+     */
+    private List<List<PendingAlert>> pack(List<PendingAlert> alerts) {
+        List<List<PendingAlert>> messages = new ArrayList<>();
+        List<PendingAlert> message = new ArrayList<>();
+        int textLength = 0;
+        for (PendingAlert alert : alerts) {
+            int length = DiscordAlert.textLength(alert.toEmbed());
+            if (!message.isEmpty()
+                    && (message.size() == MAX_EMBEDS_PER_MESSAGE || textLength + length > MAX_EMBED_TEXT_PER_MESSAGE)) {
+                messages.add(message);
+                message = new ArrayList<>();
+                textLength = 0;
+            }
+            message.add(alert);
+            textLength += length;
+        }
+        if (!message.isEmpty()) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    /**
+     * 전송 제한(429)에 걸리면 false 를 반환합니다. 그 외 실패는 다시 보내도 같은 결과이므로 기록만 하고 버립니다.
+     */
+    private boolean send(List<PendingAlert> alerts) {
+        Map<String, Object> payload = Map.of("embeds", alerts.stream().map(PendingAlert::toEmbed).toList());
+        try {
+            restClient.post()
+                    .uri(discordProperties.getWebhook())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(payload)
+                    .retrieve()
+                    .toBodilessEntity();
+            meterRegistry.counter(METRIC_NAME + ".sent", "result", "success").increment();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                long retryAfter = retryAfterMillis(e);
+                retryAt = System.currentTimeMillis() + retryAfter;
+                meterRegistry.counter(METRIC_NAME + ".sent", "result", "rate_limited").increment();
+                log.warn("디스코드 웹훅 전송 제한 - {}ms 후 다시 전송합니다. 대기 알림: {}", retryAfter, alerts.size());
+                return false;
+            }
+            recordFailure(e);
+        } catch (RuntimeException e) {
+            // 알림 실패가 다른 알림 전송을 막지 않도록 기록만 하고 넘어간다
+            recordFailure(e);
+        }
+        return true;
+    }
+
+    private void recordFailure(RuntimeException e) {
+        meterRegistry.counter(METRIC_NAME + ".sent", "result", "failure").increment();
+        log.error("디스코드 알림 전송 실패", e);
+    }
+
+    /**
+     * 429 응답 본문의 retry_after(초), 없으면 Retry-After 헤더를 사용합니다.
+     */
+    private long retryAfterMillis(HttpClientErrorException e) {
+        Matcher matcher = RETRY_AFTER_PATTERN.matcher(e.getResponseBodyAsString());
+        if (matcher.find()) {
+            return (long) Math.ceil(Double.parseDouble(matcher.group(1)) * 1000);
+        }
+
+        HttpHeaders headers = e.getResponseHeaders();
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignored) {
+                // 날짜 형식이면 기본값을 사용한다
+            }
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+
+    /**
+     * 보내지 못한 알림을 대기열 앞에 되돌립니다. 그 사이 같은 알림이 들어왔으면 발생 횟수를 합칩니다.
+     */
+    private synchronized void requeue(List<PendingAlert> alerts) {
+        LinkedHashMap<String, PendingAlert> merged = new LinkedHashMap<>();
+        alerts.forEach(alert -> merged.put(alert.alert.fingerprint(), alert));
+        pending.forEach((fingerprint, alert) -> {
+            PendingAlert existing = merged.get(fingerprint);
+            if (existing != null) {
+                existing.count += alert.count;
+            } else {
+                merged.put(fingerprint, alert);
+            }
+        });
+
+        pending.clear();
+        pending.putAll(merged);
+        while (pending.size() > CAPACITY) {
+            dropEldest();
+        }
+    }
+
+    private void dropEldest() {
+        Iterator<PendingAlert> eldest = pending.values().iterator();
+        PendingAlert dropped = eldest.next();
+        eldest.remove();
+        droppedCounter.increment(dropped.count);
+        log.warn("디스코드 알림 대기열이 가득 차 오래된 알림을 버립니다 - fingerprint: {}, count: {}",
+                dropped.alert.fingerprint(), dropped.count);
+    }
+
+    private static final class PendingAlert {
+        private final DiscordAlert alert;
+        private int count = 1;
+
+        private PendingAlert(DiscordAlert alert) {
+            this.alert = alert;
+        }
+
+        private Map<String, Object> toEmbed() {
+            return alert.toEmbed(count);
+        }
+    }
+}
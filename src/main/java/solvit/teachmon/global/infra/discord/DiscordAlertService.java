@@ -2,17 +2,13 @@ package solvit.teachmon.global.infra.discord;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.WebUtils;
-import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.global.exception.ErrorResponse;
-import solvit.teachmon.global.properties.DiscordProperties;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
 
 import java.nio.charset.Charset;
@@ -22,32 +18,26 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 서버 에러 디스코드 알림
+ * 요청 정보는 요청 스레드에서 추출하고, 전송은 DiscordAlertQueue 에 맡겨 응답 지연과 무관하게 처리한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class DiscordAlertService {
-    private final RestClient restClient;
-    private final DiscordProperties discordProperties;
-
-    public void alertError(HttpServletRequest request, ErrorResponse errorResponse) {
-        Map<String, Object> payload = prepareDiscordPayload(request, errorResponse);
-
-        restClient.post()
-                .uri(discordProperties.getWebhook())
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(payload)
-                .retrieve()
-                .toBodilessEntity();
-    }
+    private final DiscordAlertQueue discordAlertQueue;
 
+    public void alertError(HttpServletRequest request, ErrorResponse errorResponse, Throwable exception) {
+        discordAlertQueue.offer(new DiscordAlert(
+                DiscordAlert.fingerprint(request.getRequestURI(), exception),
+                prepareFields(request, errorResponse)
+        ));
+    }
 
-    private Map<String, Object> prepareDiscordPayload(HttpServletRequest request, ErrorResponse errorResponse) {
+    private List<Map<String, Object>> prepareFields(HttpServletRequest request, ErrorResponse errorResponse) {
         RequesterInfo requester = resolveRequester();
 
-        Map<String, Object> embed = new LinkedHashMap<>();
-        embed.put("title", "🚨 서버 에러 발생");
-        embed.put("color", 16711680);
-
-        embed.put("fields", Arrays.asList(
+        return List.of(
                 field("발생시각", LocalDateTime.now(ZoneId.of("Asia/Seoul")).toString(), false),
                 field("요청자", requester.toMap().toString(), false),
                 field("요청 URI", request.getRequestURI(), false),
@@ -57,12 +47,7 @@ public class DiscordAlertService {
                 field("요청 파라미터", extractRequestParams(request), false),
                 field("요청 본문", limit(extractRequestBody(request)), false),
                 field("응답 본문", limit(errorResponse.getMessage()), false)
-        ));
-
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("embeds", List.of(embed));
-
-        return payload;
+        );
     }
 
     private Map<String, Object> field(String name, String value, boolean inline) {
@@ -85,9 +70,8 @@ public class DiscordAlertService {
         }
 
         Object principal = authentication.getPrincipal();
-        if (principal instanceof TeachmonUserDetails) {
-            TeacherEntity teacher = ((TeachmonUserDetails) principal).teacherEntity();
-            return new RequesterInfo(teacher.getName(), teacher.getMail(), teacher.getRole().getValue());
+        if (principal instanceof TeachmonUserDetails userDetails) {
+            return new RequesterInfo(userDetails.name(), userDetails.mail(), userDetails.role().getValue());
         }
 
         return new RequesterInfo(authentication.getName(), "unknown", joinAuthorities(authentication));
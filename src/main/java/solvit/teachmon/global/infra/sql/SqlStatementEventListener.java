@@ -0,0 +1,32 @@
+package solvit.teachmon.global.infra.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행(배치 포함) 시간을 진행 중인 측정 구간에 기록한다
+ * hibernate.session.events.auto 로 등록하며 세션마다 새로 만들어진다.
+ */
+public class SqlStatementEventListener implements SessionEventListener {
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.recordJdbcTime(System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.recordJdbcTime(System.nanoTime() - batchStartedAt);
+    }
+}
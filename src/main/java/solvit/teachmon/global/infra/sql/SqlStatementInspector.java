@@ -0,0 +1,16 @@
+package solvit.teachmon.global.infra.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 진행 중인 측정 구간에 기록한다 (SQL 은 바꾸지 않는다)
+ * hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,95 @@
+package solvit.teachmon.global.infra.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import solvit.teachmon.global.properties.SqlInspectionProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 계측
+ * 컨트롤러 핸들러 단위로 SQL 문 수(teachmon.sql.statements), JDBC 실행 시간(teachmon.sql.jdbc) 히스토그램을 기록하고,
+ * 같은 모양의 SQL 이 반복된 요청은 N+1 후보로 로그와 카운터(teachmon.sql.repeated)를 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+    private static final String STATS_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlInspectionProperties sqlInspectionProperties;
+    // 요청마다 태그를 만들어 레지스트리를 조회하지 않도록 핸들러별로 캐싱
+    private final Map<String, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STATS_ATTRIBUTE, SqlStatementRecorder.start());
+        }
+        return true;
+    }
+
+    // SSE 등 비동기 요청은 처리 스레드가 바뀌므로 요청 스레드의 측정만 정리하고 기록하지 않는다
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (request.getAttribute(STATS_ATTRIBUTE) instanceof SqlStatementStats stats) {
+            SqlStatementRecorder.stop(stats);
+            request.removeAttribute(STATS_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
+        if (!(request.getAttribute(STATS_ATTRIBUTE) instanceof SqlStatementStats stats) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        SqlStatementRecorder.stop(stats);
+
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        HandlerMeters meters = handlerMeters.computeIfAbsent(handlerName, this::createMeters);
+        meters.statements().record(stats.getStatementCount());
+        meters.jdbcTime().record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeatedShapes = stats.getRepeatedShapes(sqlInspectionProperties.getRepeatedStatementThreshold());
+        if (!repeatedShapes.isEmpty()) {
+            meters.repeated().increment();
+            repeatedShapes.forEach((shape, count) ->
+                    log.warn("[SQL][N+1] handler={}, uri={}, count={}, sql={}", handlerName, request.getRequestURI(), count, shape));
+        }
+    }
+
+    private HandlerMeters createMeters(String handlerName) {
+        return new HandlerMeters(
+                DistributionSummary.builder("teachmon.sql.statements")
+                        .description("요청 하나에서 실행한 SQL 문 수")
+                        .tag("handler", handlerName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("teachmon.sql.jdbc")
+                        .description("요청 하나에서 JDBC 실행에 쓴 시간")
+                        .tag("handler", handlerName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("teachmon.sql.repeated")
+                        .description("같은 모양의 SQL 이 반복 실행된(N+1 후보) 요청 수")
+                        .tag("handler", handlerName)
+                        .register(meterRegistry)
+        );
+    }
+
+    private record HandlerMeters(DistributionSummary statements, Timer jdbcTime, Counter repeated) {
+    }
+}
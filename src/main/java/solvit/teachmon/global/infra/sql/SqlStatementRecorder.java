@@ -0,0 +1,52 @@
+package solvit.teachmon.global.infra.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별로 진행 중인 SQL 측정 구간을 관리한다
+ * StatementInspector, SessionEventListener 는 Hibernate 가 직접 생성하므로 스프링 빈 대신 정적 진입점으로 연결한다.
+ * 구간은 중첩될 수 있으며(테스트 안의 요청 등) 문장은 진행 중인 모든 구간에 기록된다.
+ */
+public final class SqlStatementRecorder {
+    private static final ThreadLocal<Deque<SqlStatementStats>> ACTIVE = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static SqlStatementStats start() {
+        Deque<SqlStatementStats> active = ACTIVE.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            ACTIVE.set(active);
+        }
+        SqlStatementStats stats = new SqlStatementStats();
+        active.push(stats);
+        return stats;
+    }
+
+    public static void stop(SqlStatementStats stats) {
+        Deque<SqlStatementStats> active = ACTIVE.get();
+        if (active == null) {
+            return;
+        }
+        active.remove(stats);
+        if (active.isEmpty()) {
+            ACTIVE.remove();
+        }
+    }
+
+    static void recordStatement(String sql) {
+        Deque<SqlStatementStats> active = ACTIVE.get();
+        if (active != null) {
+            active.forEach(stats -> stats.addStatement(sql));
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        Deque<SqlStatementStats> active = ACTIVE.get();
+        if (active != null) {
+            active.forEach(stats -> stats.addJdbcTime(nanos));
+        }
+    }
+}
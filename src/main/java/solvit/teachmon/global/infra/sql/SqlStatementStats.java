@@ -0,0 +1,61 @@
+package solvit.teachmon.global.infra.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 한 측정 구간(요청, 테스트) 동안 실행된 SQL 문 수, JDBC 실행 시간, 문장별 횟수
+ * 측정을 시작한 스레드에서만 기록되므로 동기화하지 않는다.
+ */
+public class SqlStatementStats {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount;
+    private long jdbcNanos;
+    // 정규화는 보고할 때만 하도록 원본 SQL 로 센다
+    private final Map<String, Integer> statements = new HashMap<>();
+
+    void addStatement(String sql) {
+        statementCount++;
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    void addJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * 리터럴과 IN 목록 길이를 무시했을 때 threshold 번 이상 반복된 문장 모양과 횟수 (N+1 후보)
+     */
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> shapes = new HashMap<>();
+        statements.forEach((sql, count) -> shapes.merge(toShape(sql), count, Integer::sum));
+
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    static String toShape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
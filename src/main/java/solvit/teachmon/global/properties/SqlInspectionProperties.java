@@ -0,0 +1,16 @@
+package solvit.teachmon.global.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "sql.inspection")
+public class SqlInspectionProperties {
+    // 한 요청에서 같은 모양의 SQL 이 이 횟수 이상 실행되면 N+1 후보로 로그를 남긴다
+    private final int repeatedStatementThreshold;
+
+    public SqlInspectionProperties(@DefaultValue("5") int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+}
@@ -0,0 +1,21 @@
+package solvit.teachmon.global.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "supervision.planner")
+public class SupervisionPlannerProperties {
+    // 공정성 배정안 탐색에 쓰는 최대 시간
+    private final Duration timeBudget;
+    // 동시에 탐색하는 후보 배정안 수 (ForkJoin 풀 크기)
+    private final int parallelism;
+
+    public SupervisionPlannerProperties(@DefaultValue("2s") Duration timeBudget, @DefaultValue("4") int parallelism) {
+        this.timeBudget = timeBudget;
+        this.parallelism = parallelism;
+    }
+}
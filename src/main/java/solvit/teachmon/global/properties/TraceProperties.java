@@ -0,0 +1,19 @@
+package solvit.teachmon.global.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "trace")
+public class TraceProperties {
+    // @Trace 호출 중 인자/결과를 로그로 남길 비율 (0 이면 로그 없이 타이머만 기록)
+    private final double sampleRate;
+    // 로그에 남기는 인자/결과 하나의 최대 길이
+    private final int maxValueLength;
+
+    public TraceProperties(@DefaultValue("0") double sampleRate, @DefaultValue("200") int maxValueLength) {
+        this.sampleRate = sampleRate;
+        this.maxValueLength = maxValueLength;
+    }
+}
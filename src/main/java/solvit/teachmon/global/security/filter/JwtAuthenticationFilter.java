@@ -12,8 +12,8 @@ import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import solvit.teachmon.global.constants.JwtConstants;
 import solvit.teachmon.global.security.jwt.JwtValidator;
+import solvit.teachmon.global.security.user.TeachmonPrincipalCache;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
-import solvit.teachmon.global.security.user.TeachmonUserDetailsService;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -21,7 +21,7 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtValidator jwtValidator;
-    private final TeachmonUserDetailsService teachmonUserDetailsService;
+    private final TeachmonPrincipalCache teachmonPrincipalCache;
     private final PathMatcher pathMatcher;
     private final String[] excludedPaths;
 
@@ -34,8 +34,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String mail = jwtValidator.getMailFromAuthorizationHeader(authHeader);
-        TeachmonUserDetails teachmonUserDetails = teachmonUserDetailsService.loadUserByUsername(mail);
+        String token = jwtValidator.getTokenFromAuthorizationHeader(authHeader);
+        TeachmonUserDetails teachmonUserDetails = teachmonPrincipalCache.getUserDetails(token);
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(teachmonUserDetails, null, teachmonUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
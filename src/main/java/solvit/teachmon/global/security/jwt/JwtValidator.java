@@ -1,5 +1,7 @@
 package solvit.teachmon.global.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -13,39 +15,48 @@ import java.nio.charset.StandardCharsets;
 
 @Component
 public class JwtValidator {
-    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     @Autowired
     public JwtValidator(JwtProperties jwtProperties) {
-        this.secretKey = new SecretKeySpec(
+        SecretKey secretKey = new SecretKeySpec(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        // 파서는 불변이고 스레드 안전하므로 한 번만 생성
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
-    public String getMailFromToken(String token) {
-        validateToken(token);
+    /**
+     * 서명을 한 번만 검증하고 발급자까지 확인한 claims 를 반환합니다.
+     */
+    public Claims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        validateMadeBy(claims);
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return claims;
+    }
+
+    public String getMailFromToken(String token) {
+        return parseClaims(token).getSubject();
     }
 
     public String getMailFromAuthorizationHeader(String authorizationHeader) {
-        String accessToken = authorizationHeader.substring(JwtConstants.AUTHORIZATION_HEADER_PREFIX.length());
+        return getMailFromToken(getTokenFromAuthorizationHeader(authorizationHeader));
+    }
 
-        return getMailFromToken(accessToken);
+    public String getTokenFromAuthorizationHeader(String authorizationHeader) {
+        return authorizationHeader.substring(JwtConstants.AUTHORIZATION_HEADER_PREFIX.length());
     }
 
     public boolean isInvalidAuthorizationHeader(String authorizationHeader) {
         return authorizationHeader == null || !authorizationHeader.startsWith(JwtConstants.AUTHORIZATION_HEADER_PREFIX);
     }
 
-    private void validateToken(String token) {
-        String madeBy = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get(JwtConstants.CLAIM_MADE_BY_KEY, String.class);
-        if(!madeBy.equals(JwtConstants.CLAIM_MADE_BY_VALUE)) throw new InvalidJsonWebTokenException();
+    private void validateMadeBy(Claims claims) {
+        String madeBy = claims.get(JwtConstants.CLAIM_MADE_BY_KEY, String.class);
+        if(!JwtConstants.CLAIM_MADE_BY_VALUE.equals(madeBy)) throw new InvalidJsonWebTokenException();
     }
 }
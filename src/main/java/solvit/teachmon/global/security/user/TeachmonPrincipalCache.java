@@ -0,0 +1,74 @@
+package solvit.teachmon.global.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import solvit.teachmon.domain.user.domain.event.TeacherChangedEvent;
+import solvit.teachmon.global.security.jwt.JwtValidator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 액세스 토큰별 인증 주체 캐시
+ * 캐시에 있으면 서명 검증과 DB 조회 없이 인증하고, 없으면 서명 검증 1회 + 선생님 조회 1회로 적재한다.
+ * 항목은 토큰 만료 시각과 최대 TTL 중 먼저 오는 시점에 제거된다.
+ * 캐시된 주체는 여러 요청이 동시에 공유하므로 엔티티가 아닌 값(TeachmonUserDetails)만 담는다.
+ */
+@Component
+public class TeachmonPrincipalCache {
+    private static final String CACHE_NAME = "principal";
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration MAXIMUM_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final JwtValidator jwtValidator;
+    private final TeachmonUserDetailsService teachmonUserDetailsService;
+    private final Cache<String, CachedPrincipal> cache;
+
+    public TeachmonPrincipalCache(JwtValidator jwtValidator, TeachmonUserDetailsService teachmonUserDetailsService, MeterRegistry meterRegistry) {
+        this.jwtValidator = jwtValidator;
+        this.teachmonUserDetailsService = teachmonUserDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfter(Expiry.creating((String token, CachedPrincipal principal) -> principal.timeToLive()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public TeachmonUserDetails getUserDetails(String token) {
+        return cache.get(token, this::load).userDetails();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeacherChanged(TeacherChangedEvent event) {
+        // 선생님 정보 변경은 드물기 때문에 전체 항목을 훑어 해당 선생님의 토큰을 모두 제거
+        cache.asMap().values()
+                .removeIf(principal -> principal.userDetails().getId().equals(event.teacherId()));
+    }
+
+    private CachedPrincipal load(String token) {
+        Claims claims = jwtValidator.parseClaims(token);
+        TeachmonUserDetails userDetails = teachmonUserDetailsService.loadUserByUsername(claims.getSubject());
+
+        return new CachedPrincipal(claims, userDetails);
+    }
+
+    private record CachedPrincipal(Claims claims, TeachmonUserDetails userDetails) {
+        private Duration timeToLive() {
+            if(claims.getExpiration() == null)
+                return MAXIMUM_TIME_TO_LIVE;
+
+            Duration untilExpiration = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+            if(untilExpiration.isNegative())
+                return Duration.ZERO;
+            return untilExpiration.compareTo(MAXIMUM_TIME_TO_LIVE) < 0 ? untilExpiration : MAXIMUM_TIME_TO_LIVE;
+        }
+    }
+}
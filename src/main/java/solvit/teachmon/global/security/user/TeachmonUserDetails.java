@@ -5,16 +5,26 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.Role;
 
 import java.util.Collection;
 import java.util.Collections;
 
-public record TeachmonUserDetails(TeacherEntity teacherEntity) implements UserDetails {
+/**
+ * 인증 주체
+ * 토큰별로 캐시되어 여러 요청이 동시에 공유하므로 영속성 컨텍스트에 묶인 TeacherEntity 대신 값만 담는다.
+ * 엔티티가 필요하면 트랜잭션 안에서 id 로 참조를 얻어 사용한다.
+ */
+public record TeachmonUserDetails(Long id, String mail, String name, Role role, Boolean active) implements UserDetails {
+
+    public TeachmonUserDetails(TeacherEntity teacher) {
+        this(teacher.getId(), teacher.getMail(), teacher.getName(), teacher.getRole(), teacher.getIsActive());
+    }
 
     @NonNull
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singleton(new SimpleGrantedAuthority(teacherEntity.getRole().getValue()));
+        return Collections.singleton(new SimpleGrantedAuthority(role.getValue()));
     }
 
     @Override
@@ -25,15 +35,15 @@ public record TeachmonUserDetails(TeacherEntity teacherEntity) implements UserDe
     @NonNull
     @Override
     public String getUsername() {
-        return teacherEntity.getName();
+        return name;
     }
 
     public Long getId() {
-        return teacherEntity.getId();
+        return id;
     }
 
     @Override
     public boolean isEnabled() {
-        return teacherEntity.getIsActive();
+        return Boolean.TRUE.equals(active);
     }
 }
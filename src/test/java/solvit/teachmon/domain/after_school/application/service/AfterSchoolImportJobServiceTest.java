@@ -0,0 +1,116 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolImportJobEntity;
+import solvit.teachmon.domain.after_school.domain.enums.AfterSchoolImportJobStatus;
+import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolImportJobRepository;
+import solvit.teachmon.domain.after_school.exception.AfterSchoolImportJobNotFoundException;
+import solvit.teachmon.domain.after_school.exception.TeacherNotExistException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("방과후 스프레드 시트 가져오기 작업 테스트")
+class AfterSchoolImportJobServiceTest {
+
+    private static final String SPREAD_SHEET_ID = "sheet-id";
+
+    private final AfterSchoolSpreadSheetService afterSchoolSpreadSheetService = mock(AfterSchoolSpreadSheetService.class);
+    private final AfterSchoolImportJobRepository afterSchoolImportJobRepository = mock(AfterSchoolImportJobRepository.class);
+    private final ReferenceDataCache cache = new ReferenceDataCache(Map.of(), Map.of(), Map.of(), Map.of());
+
+    // 작업을 호출 스레드에서 바로 실행한다
+    private final AfterSchoolImportJobService afterSchoolImportJobService = new AfterSchoolImportJobService(
+            afterSchoolSpreadSheetService, afterSchoolImportJobRepository, Runnable::run
+    );
+
+    @Test
+    @DisplayName("기준 데이터를 한 번 읽어 전체 행을 검증한 뒤 행 묶음 단위로 반영하고 작업을 완료 처리한다")
+    void shouldApplyRowsInChunksAfterValidation() throws Exception {
+        // Given: 120개 행과 기존 방과후 인덱스
+        List<List<Object>> rows = createRows(120);
+        Map<AfterSchoolCompositeKey, Long> afterSchoolIndex = Map.of();
+        given(afterSchoolSpreadSheetService.loadSheetRows(SPREAD_SHEET_ID)).willReturn(rows);
+        given(afterSchoolSpreadSheetService.loadReferenceData()).willReturn(cache);
+        given(afterSchoolSpreadSheetService.endAllAfterSchools()).willReturn(afterSchoolIndex);
+
+        // When: 가져오기를 시작하면
+        afterSchoolImportJobService.start(SPREAD_SHEET_ID);
+
+        // Then: 검증에 쓴 기준 데이터로 50개씩 3번 반영되고 작업이 완료된다
+        verify(afterSchoolSpreadSheetService, times(1)).loadReferenceData();
+        verify(afterSchoolSpreadSheetService).validateRows(rows, cache);
+        verify(afterSchoolSpreadSheetService).applyRows(rows.subList(0, 50), 0, afterSchoolIndex, cache);
+        verify(afterSchoolSpreadSheetService).applyRows(rows.subList(50, 100), 50, afterSchoolIndex, cache);
+        verify(afterSchoolSpreadSheetService).applyRows(rows.subList(100, 120), 100, afterSchoolIndex, cache);
+
+        AfterSchoolImportJobEntity job = captureLastSavedJob();
+        assertThat(job.getSpreadSheetId()).isEqualTo(SPREAD_SHEET_ID);
+        assertThat(job.getStatus()).isEqualTo(AfterSchoolImportJobStatus.COMPLETED);
+        assertThat(job.getTotalRows()).isEqualTo(120);
+        assertThat(job.getProcessedRows()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 기존 방과후를 변경하지 않고 작업을 실패 처리한다")
+    void shouldFailWithoutApplyingWhenValidationFails() throws Exception {
+        // Given: 3번째 행의 교사가 존재하지 않을 때
+        List<List<Object>> rows = createRows(5);
+        given(afterSchoolSpreadSheetService.loadSheetRows(SPREAD_SHEET_ID)).willReturn(rows);
+        given(afterSchoolSpreadSheetService.loadReferenceData()).willReturn(cache);
+        willThrow(new TeacherNotExistException(2, "none@teacher.com"))
+                .given(afterSchoolSpreadSheetService).validateRows(rows, cache);
+
+        // When: 가져오기를 시작하면
+        afterSchoolImportJobService.start(SPREAD_SHEET_ID);
+
+        // Then: 반영 단계는 실행되지 않고 실패 메시지가 기록된다
+        verify(afterSchoolSpreadSheetService, never()).endAllAfterSchools();
+        verify(afterSchoolSpreadSheetService, never()).applyRows(anyList(), anyLong(), anyMap(), any());
+
+        AfterSchoolImportJobEntity job = captureLastSavedJob();
+        assertThat(job.getStatus()).isEqualTo(AfterSchoolImportJobStatus.FAILED);
+        assertThat(job.getProcessedRows()).isZero();
+        assertThat(job.getErrorMessage()).contains("none@teacher.com");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업을 조회하면 예외가 발생한다")
+    void shouldThrowWhenJobNotFound() {
+        // Given
+        given(afterSchoolImportJobRepository.findById("unknown")).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> afterSchoolImportJobService.getJob("unknown"))
+                .isInstanceOf(AfterSchoolImportJobNotFoundException.class);
+    }
+
+    private AfterSchoolImportJobEntity captureLastSavedJob() {
+        ArgumentCaptor<AfterSchoolImportJobEntity> captor = ArgumentCaptor.forClass(AfterSchoolImportJobEntity.class);
+        verify(afterSchoolImportJobRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<List<Object>> createRows(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> List.<Object>of("row" + index))
+                .toList();
+    }
+}
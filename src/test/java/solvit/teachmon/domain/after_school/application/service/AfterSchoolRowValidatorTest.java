@@ -0,0 +1,94 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solvit.teachmon.domain.after_school.exception.BranchNotExistException;
+import solvit.teachmon.domain.after_school.exception.StudentDuplicatedException;
+import solvit.teachmon.domain.after_school.exception.StudentGradeMismatchException;
+import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("방과후 스프레드 시트 행 검증 테스트")
+class AfterSchoolRowValidatorTest {
+
+    private final AfterSchoolRowValidator validator = new AfterSchoolRowValidator();
+
+    private final ReferenceDataCache cache = new ReferenceDataCache(
+            Map.of("teacher@teachmon.com", mock(TeacherEntity.class)),
+            Map.of("컴퓨터실", mock(PlaceEntity.class)),
+            Map.of(
+                    2101, createStudent(2, 2101, "김학생"),
+                    2102, createStudent(2, 2102, "이학생"),
+                    1101, createStudent(1, 1101, "박학생")
+            ),
+            Map.of(ReferenceDataCache.branchKey(2026, 1), mock(BranchEntity.class))
+    );
+
+    @Test
+    @DisplayName("모든 기준 데이터가 등록된 행은 통과한다")
+    void shouldPassValidRow() {
+        // Given
+        List<Object> row = createRow("1", "2101 김학생 2102 이학생");
+
+        // When & Then
+        assertThatCode(() -> validator.validate(row, 1, cache))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 분기의 행은 반영 전에 실패한다")
+    void shouldFailWhenBranchNotRegistered() {
+        // Given: 2026년 2분기는 등록되지 않았을 때
+        List<Object> row = createRow("2", "2101 김학생");
+
+        // When & Then
+        assertThatThrownBy(() -> validator.validate(row, 3, cache))
+                .isInstanceOf(BranchNotExistException.class)
+                .hasMessageContaining("3행");
+    }
+
+    @Test
+    @DisplayName("같은 학생이 한 행에 두 번 있으면 실패한다")
+    void shouldFailWhenStudentDuplicated() {
+        // Given
+        List<Object> row = createRow("1", "2101 김학생 2101 김학생");
+
+        // When & Then
+        assertThatThrownBy(() -> validator.validate(row, 1, cache))
+                .isInstanceOf(StudentDuplicatedException.class);
+    }
+
+    @Test
+    @DisplayName("학생의 학년이 방과후 대상 학년과 다르면 실패한다")
+    void shouldFailWhenStudentGradeMismatch() {
+        // Given: 2학년 방과후에 1학년 학생이 있을 때
+        List<Object> row = createRow("1", "2101 김학생 1101 박학생");
+
+        // When & Then
+        assertThatThrownBy(() -> validator.validate(row, 1, cache))
+                .isInstanceOf(StudentGradeMismatchException.class);
+    }
+
+    private List<Object> createRow(String branch, String students) {
+        return List.of("2026", branch, "월요일", "2", "8~9교시", "김선생(teacher@teachmon.com)", "컴퓨터실", "프로그래밍", students);
+    }
+
+    private static StudentEntity createStudent(int grade, int number, String name) {
+        return StudentEntity.builder()
+                .year(2026)
+                .grade(grade)
+                .classNumber(1)
+                .number(number)
+                .name(name)
+                .build();
+    }
+}
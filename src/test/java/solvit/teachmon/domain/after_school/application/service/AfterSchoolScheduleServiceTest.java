@@ -9,16 +9,20 @@ import solvit.teachmon.domain.after_school.domain.vo.StudentAssignmentResultVo;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AfterSchoolScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -31,6 +35,8 @@ class AfterSchoolScheduleServiceTest {
     private final AfterSchoolScheduleRepository afterSchoolScheduleRepository = mock(AfterSchoolScheduleRepository.class);
     private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
     private final StudentScheduleRepository studentScheduleRepository = mock(StudentScheduleRepository.class);
+    private final CurrentScheduleDomainService currentScheduleDomainService = mock(CurrentScheduleDomainService.class);
+    private final StackOrderAllocator stackOrderAllocator = new StackOrderAllocator(scheduleRepository);
 
     @Test
     @DisplayName("방과후 교시 종료 이후면 스케줄을 저장하지 않는다")
@@ -98,8 +104,7 @@ class AfterSchoolScheduleServiceTest {
 
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(anyList(), any(LocalDate.class), eq(SchoolPeriod.SEVEN_PERIOD)))
                 .willReturn(List.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(anyLong())).willReturn(0);
-        given(scheduleRepository.save(any(ScheduleEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(scheduleRepository.findLastStackOrdersByStudentScheduleIds(anyCollection())).willReturn(Map.of(1L, 2));
 
         LocalDateTime duringClass = LocalDateTime.of(2026, 2, 2, 15, 30); // 월요일 7교시 진행 중
         TestableService service = new TestableService(duringClass);
@@ -107,16 +112,18 @@ class AfterSchoolScheduleServiceTest {
         service.save(List.of(resultVo));
 
         verify(studentScheduleRepository).findAllByStudentsAndDayAndPeriod(anyList(), any(LocalDate.class), eq(SchoolPeriod.SEVEN_PERIOD));
-        verify(scheduleRepository).findLastStackOrderByStudentScheduleId(anyLong());
-        verify(scheduleRepository).save(argThat(schedule -> schedule.getType() == ScheduleType.AFTER_SCHOOL));
-        verify(afterSchoolScheduleRepository).save(any());
+        verify(scheduleRepository).findLastStackOrdersByStudentScheduleIds(List.of(1L));
+        verify(scheduleRepository).saveAll(argThat((List<ScheduleEntity> schedules) -> schedules.size() == 1
+                && schedules.get(0).getType() == ScheduleType.AFTER_SCHOOL
+                && schedules.get(0).getStackOrder() == 3));
+        verify(afterSchoolScheduleRepository).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     private class TestableService extends AfterSchoolScheduleService {
         private final LocalDateTime fixedNow;
 
         private TestableService(LocalDateTime fixedNow) {
-            super(afterSchoolScheduleRepository, scheduleRepository, studentScheduleRepository);
+            super(afterSchoolScheduleRepository, scheduleRepository, studentScheduleRepository, currentScheduleDomainService, stackOrderAllocator);
             this.fixedNow = fixedNow;
         }
 
@@ -25,6 +25,8 @@ import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
@@ -68,6 +70,10 @@ class AfterSchoolServiceBanDayTest {
     private ScheduleRepository scheduleRepository;
     @Mock
     private AfterSchoolScheduleRepository afterSchoolScheduleRepository;
+    @Mock
+    private CurrentScheduleDomainService currentScheduleDomainService;
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
 
     private AfterSchoolService afterSchoolService;
 
@@ -86,7 +92,9 @@ class AfterSchoolServiceBanDayTest {
                 studentScheduleRepository,
                 scheduleRepository,
                 afterSchoolScheduleService,
-                afterSchoolScheduleRepository
+                afterSchoolScheduleRepository,
+                currentScheduleDomainService,
+                stackOrderAllocator
         );
     }
 
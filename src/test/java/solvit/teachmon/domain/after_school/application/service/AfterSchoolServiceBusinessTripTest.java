@@ -26,6 +26,8 @@ import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEnti
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
@@ -71,6 +73,11 @@ class AfterSchoolServiceBusinessTripTest {
     private ScheduleRepository scheduleRepository;
     @Mock
     private AfterSchoolScheduleRepository afterSchoolScheduleRepository;
+    @Mock
+    private CurrentScheduleDomainService currentScheduleDomainService;
+
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
 
     private AfterSchoolService afterSchoolService;
     private AfterSchoolEntity afterSchool;
@@ -91,7 +98,9 @@ class AfterSchoolServiceBusinessTripTest {
                 studentScheduleRepository,
                 scheduleRepository,
                 afterSchoolScheduleService,
-                afterSchoolScheduleRepository
+                afterSchoolScheduleRepository,
+                currentScheduleDomainService,
+                stackOrderAllocator
         );
 
         // Mock을 사용해서 AfterSchoolEntity 생성
@@ -288,6 +297,7 @@ class AfterSchoolServiceBusinessTripTest {
         verify(scheduleRepository).findTopScheduleIdsByStudentScheduleIds(List.of(1L, 2L), ScheduleType.AFTER_SCHOOL);
         verify(afterSchoolScheduleRepository).deleteByScheduleIds(any());
         verify(scheduleRepository).deleteByIds(any());
+        verify(currentScheduleDomainService).markChanged(schedules);
     }
 
     @Test
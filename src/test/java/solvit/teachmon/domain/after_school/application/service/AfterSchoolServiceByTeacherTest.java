@@ -21,6 +21,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -60,7 +61,7 @@ class AfterSchoolServiceByTeacherTest {
         
         given(afterSchoolRepository.findByTeacherIdWithRelations(teacherId))
                 .willReturn(List.of(afterSchool));
-        given(afterSchoolReinforcementRepository.findAllByChangeDayBetween(any(LocalDate.class), any(LocalDate.class)))
+        given(afterSchoolReinforcementRepository.countByAfterSchoolIdsAndChangeDayBetween(anyList(), any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(List.of());
 
         // When
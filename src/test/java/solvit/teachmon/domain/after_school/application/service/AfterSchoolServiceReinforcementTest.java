@@ -25,6 +25,8 @@ import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
@@ -66,6 +68,11 @@ class AfterSchoolServiceReinforcementTest {
     private ScheduleRepository scheduleRepository;
     @Mock
     private AfterSchoolScheduleRepository afterSchoolScheduleRepository;
+    @Mock
+    private CurrentScheduleDomainService currentScheduleDomainService;
+
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
 
     private AfterSchoolService afterSchoolService;
     private AfterSchoolEntity afterSchool;
@@ -87,7 +94,9 @@ class AfterSchoolServiceReinforcementTest {
                 studentScheduleRepository,
                 scheduleRepository,
                 afterSchoolScheduleService,
-                afterSchoolScheduleRepository
+                afterSchoolScheduleRepository,
+                currentScheduleDomainService,
+                stackOrderAllocator
         );
 
         // Mock을 사용해서 Entity 생성
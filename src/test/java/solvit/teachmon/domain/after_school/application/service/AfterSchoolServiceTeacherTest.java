@@ -10,10 +10,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
-import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolReinforcementEntity;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolReinforcementRepository;
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolRepository;
 import solvit.teachmon.domain.after_school.domain.service.AfterSchoolStudentDomainService;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolReinforcementCountVo;
 import solvit.teachmon.domain.after_school.presentation.dto.response.AfterSchoolByTeacherResponseDto;
 import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
 import solvit.teachmon.domain.management.teacher.domain.repository.SupervisionBanDayRepository;
@@ -27,8 +27,11 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,7 +108,7 @@ class AfterSchoolServiceTeacherTest {
         List<AfterSchoolEntity> afterSchools = List.of(afterSchool1, afterSchool2);
         given(afterSchoolRepository.findByTeacherIdWithRelations(teacherId))
                 .willReturn(afterSchools);
-        given(afterSchoolReinforcementRepository.findAllByChangeDayBetween(any(LocalDate.class), any(LocalDate.class)))
+        given(afterSchoolReinforcementRepository.countByAfterSchoolIdsAndChangeDayBetween(anyList(), any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(List.of());
 
         // When
@@ -136,13 +139,11 @@ class AfterSchoolServiceTeacherTest {
     void shouldIncludeReinforcementCount() {
         // Given
         List<AfterSchoolEntity> afterSchools = List.of(afterSchool1);
-        AfterSchoolReinforcementEntity reinforcement1 = createReinforcement(afterSchool1, LocalDate.now().plusDays(5));
-        AfterSchoolReinforcementEntity reinforcement2 = createReinforcement(afterSchool1, LocalDate.now().plusDays(3));
         
         given(afterSchoolRepository.findByTeacherIdWithRelations(teacherId))
                 .willReturn(afterSchools);
-        given(afterSchoolReinforcementRepository.findAllByChangeDayBetween(any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(List.of(reinforcement1, reinforcement2));
+        given(afterSchoolReinforcementRepository.countByAfterSchoolIdsAndChangeDayBetween(eq(List.of(1L)), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(new AfterSchoolReinforcementCountVo(1L, 2L)));
 
         // When
         List<AfterSchoolByTeacherResponseDto> result = afterSchoolService.getAfterSchoolsByTeacherId(teacherId);
@@ -165,36 +166,26 @@ class AfterSchoolServiceTeacherTest {
 
         // Then
         assertThat(result).isEmpty();
+        verifyNoInteractions(afterSchoolReinforcementRepository);
     }
 
     @Test
     @DisplayName("다른 방과후의 보강은 카운트되지 않는다")
     void shouldNotCountReinforcementsFromOtherAfterSchools() {
         // Given
-        List<AfterSchoolEntity> afterSchools = List.of(afterSchool1);
-        AfterSchoolReinforcementEntity reinforcementForThis = createReinforcement(afterSchool1, LocalDate.now().plusDays(3));
-        AfterSchoolReinforcementEntity reinforcementForOther = createReinforcement(afterSchool2, LocalDate.now().plusDays(2));
+        List<AfterSchoolEntity> afterSchools = List.of(afterSchool1, afterSchool2);
         
         given(afterSchoolRepository.findByTeacherIdWithRelations(teacherId))
                 .willReturn(afterSchools);
-        given(afterSchoolReinforcementRepository.findAllByChangeDayBetween(any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(List.of(reinforcementForThis, reinforcementForOther));
+        given(afterSchoolReinforcementRepository.countByAfterSchoolIdsAndChangeDayBetween(eq(List.of(1L, 2L)), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(new AfterSchoolReinforcementCountVo(1L, 1L)));
 
         // When
         List<AfterSchoolByTeacherResponseDto> result = afterSchoolService.getAfterSchoolsByTeacherId(teacherId);
 
         // Then
-        assertThat(result).hasSize(1);
-        AfterSchoolByTeacherResponseDto dto = result.get(0);
-        assertThat(dto.reinforcementCount()).isEqualTo(1); // afterSchool1의 보강만 카운트
-    }
-
-    private AfterSchoolReinforcementEntity createReinforcement(AfterSchoolEntity afterSchool, LocalDate changeDay) {
-        return AfterSchoolReinforcementEntity.builder()
-                .afterSchool(afterSchool)
-                .changeDay(changeDay)
-                .place(place)
-                .changePeriod(SchoolPeriod.SEVEN_PERIOD)
-                .build();
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).reinforcementCount()).isEqualTo(1); // afterSchool1의 보강만 카운트
+        assertThat(result.get(1).reinforcementCount()).isEqualTo(0);
     }
 }
\ No newline at end of file
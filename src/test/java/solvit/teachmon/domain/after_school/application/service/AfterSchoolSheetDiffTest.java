@@ -0,0 +1,102 @@
+package solvit.teachmon.domain.after_school.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solvit.teachmon.domain.after_school.domain.vo.AfterSchoolSheetRowVo;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("방과후 스프레드 시트 변경분 계산 테스트")
+class AfterSchoolSheetDiffTest {
+
+    @Test
+    @DisplayName("바뀐 내용이 없으면 기록할 행이 없다")
+    void shouldBeEmptyWhenNothingChanged() {
+        // Given
+        List<AfterSchoolSheetRowVo> rows = List.of(createRow(1L, "a"), createRow(2L, "b"));
+
+        // When
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(List.of(1L, 2L), List.of("a", "b"), rows);
+
+        // Then
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.rowAfterSchoolIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 행과 추가된 행만 기록한다")
+    void shouldWriteChangedAndAddedRows() {
+        // Given: 2번 방과후의 내용이 바뀌고 4번 방과후가 추가되었을 때
+        List<AfterSchoolSheetRowVo> rows = List.of(
+                createRow(1L, "a"), createRow(2L, "b2"), createRow(3L, "c"), createRow(4L, "d")
+        );
+
+        // When
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(List.of(1L, 2L, 3L), List.of("a", "b", "c"), rows);
+
+        // Then
+        assertThat(diff.changedRows()).containsOnlyKeys(1, 3);
+        assertThat(diff.changedRows().get(1)).containsExactly("b2");
+        assertThat(diff.rowAfterSchoolIds()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(diff.rowFingerprints()).containsExactly("a", "b2", "c", "d");
+        assertThat(diff.clearedFrom()).isGreaterThanOrEqualTo(diff.clearedTo());
+    }
+
+    @Test
+    @DisplayName("삭제된 행 자리는 마지막 행으로 채우고 남는 마지막 행은 비운다")
+    void shouldMoveLastRowIntoRemovedRow() {
+        // Given: 4개 행 중 2번 방과후가 삭제되었을 때
+        List<AfterSchoolSheetRowVo> rows = List.of(createRow(1L, "a"), createRow(3L, "c"), createRow(4L, "d"));
+
+        // When
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(
+                List.of(1L, 2L, 3L, 4L), List.of("a", "b", "c", "d"), rows);
+
+        // Then: 4번 방과후가 1번 행으로 옮겨지고 3번 행은 비워진다
+        assertThat(diff.rowAfterSchoolIds()).containsExactly(1L, 4L, 3L);
+        assertThat(diff.changedRows()).containsOnlyKeys(1);
+        assertThat(diff.changedRows().get(1)).containsExactly("d");
+        assertThat(diff.clearedFrom()).isEqualTo(3);
+        assertThat(diff.clearedTo()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("옮겨올 마지막 행도 삭제된 경우 그 앞의 행을 옮겨온다")
+    void shouldSkipRemovedLastRows() {
+        // Given: 1번과 마지막 4번 방과후가 모두 삭제되었을 때
+        List<AfterSchoolSheetRowVo> rows = List.of(createRow(2L, "b"), createRow(3L, "c"));
+
+        // When
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(
+                List.of(1L, 2L, 3L, 4L), List.of("a", "b", "c", "d"), rows);
+
+        // Then
+        assertThat(diff.rowAfterSchoolIds()).containsExactly(3L, 2L);
+        assertThat(diff.changedRows()).containsOnlyKeys(0);
+        assertThat(diff.clearedFrom()).isEqualTo(2);
+        assertThat(diff.clearedTo()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("모든 행이 삭제되면 기존 행을 모두 비운다")
+    void shouldClearAllRowsWhenEverythingRemoved() {
+        // When
+        AfterSchoolSheetDiff diff = AfterSchoolSheetDiff.between(List.of(1L, 2L), List.of("a", "b"), List.of());
+
+        // Then
+        assertThat(diff.rowAfterSchoolIds()).isEmpty();
+        assertThat(diff.changedRows()).isEmpty();
+        assertThat(diff.clearedFrom()).isZero();
+        assertThat(diff.clearedTo()).isEqualTo(2);
+    }
+
+    private AfterSchoolSheetRowVo createRow(Long afterSchoolId, String fingerprint) {
+        return AfterSchoolSheetRowVo.builder()
+                .afterSchoolId(afterSchoolId)
+                .values(List.of(fingerprint))
+                .fingerprint(fingerprint)
+                .build();
+    }
+}
@@ -4,13 +4,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import solvit.teachmon.domain.leave_seat.application.mapper.FixedLeaveSeatMapper;
 import solvit.teachmon.domain.leave_seat.domain.entity.FixedLeaveSeatEntity;
 import solvit.teachmon.domain.leave_seat.domain.entity.FixedLeaveSeatStudentEntity;
+import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatEntity;
 import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatRepository;
 import solvit.teachmon.domain.leave_seat.domain.repository.FixedLeaveSeatStudentRepository;
+import solvit.teachmon.domain.leave_seat.domain.repository.LeaveSeatRepository;
 import solvit.teachmon.domain.leave_seat.exception.FixedLeaveSeatNotFoundException;
 import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatCreateRequest;
 import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatUpdateRequest;
@@ -23,15 +26,19 @@ import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
 import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
-import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleSettingService;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
+import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleRecomputeService;
 import solvit.teachmon.global.enums.SchoolPeriod;
 import solvit.teachmon.global.enums.WeekDay;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.lenient;
@@ -40,6 +47,8 @@ import static org.mockito.Mockito.lenient;
 @DisplayName("고정 이석 서비스 테스트")
 class FixedLeaveSeatFacadeServiceTest {
 
+    private static final Long TEACHER_ID = 10L;
+
     @Mock
     private PlaceRepository placeRepository;
     @Mock
@@ -47,11 +56,15 @@ class FixedLeaveSeatFacadeServiceTest {
     @Mock
     private FixedLeaveSeatStudentRepository fixedLeaveSeatStudentRepository;
     @Mock
+    private LeaveSeatRepository leaveSeatRepository;
+    @Mock
     private StudentRepository studentRepository;
     @Mock
+    private TeacherRepository teacherRepository;
+    @Mock
     private FixedLeaveSeatMapper fixedLeaveSeatMapper;
     @Mock
-    private StudentScheduleSettingService studentScheduleSettingService;
+    private StudentScheduleRecomputeService studentScheduleRecomputeService;
 
     private FixedLeaveSeatFacadeService fixedLeaveSeatFacadeService;
 
@@ -61,9 +74,11 @@ class FixedLeaveSeatFacadeServiceTest {
                 placeRepository,
                 fixedLeaveSeatRepository,
                 fixedLeaveSeatStudentRepository,
+                leaveSeatRepository,
                 studentRepository,
+                teacherRepository,
                 fixedLeaveSeatMapper,
-                studentScheduleSettingService
+                studentScheduleRecomputeService
         );
     }
 
@@ -82,6 +97,7 @@ class FixedLeaveSeatFacadeServiceTest {
         PlaceEntity place = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         given(teacher.hasStudentScheduleChangeAuthority()).willReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student1 = mock(StudentEntity.class);
         StudentEntity student2 = mock(StudentEntity.class);
@@ -94,13 +110,16 @@ class FixedLeaveSeatFacadeServiceTest {
         given(fixedLeaveSeatRepository.save(any(FixedLeaveSeatEntity.class))).willReturn(fixedLeaveSeat);
 
         // When: 고정 이석을 생성하면
-        fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, teacher);
+        fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, TEACHER_ID);
 
         // Then: 고정 이석과 학생 관계가 저장된다
         verify(placeRepository, times(1)).findById(1L);
         verify(studentRepository, times(1)).findAllById(List.of(1L, 2L));
         verify(fixedLeaveSeatRepository, times(1)).save(any(FixedLeaveSeatEntity.class));
         verify(fixedLeaveSeatStudentRepository, times(1)).saveAll(anyList());
+        // 전체 재세팅 대신 고정 이석 학생들의 해당 요일, 교시 스케줄만 재계산한다
+        verify(studentScheduleRecomputeService, times(1))
+                .recomputeStudents(eq(students), eq(WeekDay.MON), eq(SchoolPeriod.SEVEN_PERIOD), any(LocalDate.class));
     }
 
     @Test
@@ -114,12 +133,11 @@ class FixedLeaveSeatFacadeServiceTest {
                 "도서관 이용",
                 List.of(1L)
         );
-        TeacherEntity teacher = mock(TeacherEntity.class);
 
         given(placeRepository.findById(999L)).willReturn(Optional.empty());
 
         // When & Then: 고정 이석 생성 시 예외가 발생한다
-        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, teacher))
+        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, TEACHER_ID))
                 .isInstanceOf(PlaceNotFoundException.class);
 
         verify(placeRepository, times(1)).findById(999L);
@@ -138,14 +156,13 @@ class FixedLeaveSeatFacadeServiceTest {
                 List.of(1L, 999L)
         );
         PlaceEntity place = mock(PlaceEntity.class);
-        TeacherEntity teacher = mock(TeacherEntity.class);
         StudentEntity student1 = mock(StudentEntity.class);
 
         given(placeRepository.findById(1L)).willReturn(Optional.of(place));
         given(studentRepository.findAllById(List.of(1L, 999L))).willReturn(List.of(student1)); // 1개만 반환
 
         // When & Then: 고정 이석 생성 시 예외가 발생한다
-        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, teacher))
+        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.createStaticLeaveSeat(request, TEACHER_ID))
                 .isInstanceOf(StudentNotFoundException.class);
 
         verify(studentRepository, times(1)).findAllById(List.of(1L, 999L));
@@ -275,17 +292,23 @@ class FixedLeaveSeatFacadeServiceTest {
         PlaceEntity newPlace = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         lenient().when(teacher.hasStudentScheduleChangeAuthority()).thenReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student1 = mock(StudentEntity.class);
         StudentEntity student2 = mock(StudentEntity.class);
         List<StudentEntity> students = Arrays.asList(student1, student2);
+        // 수정 전에는 월요일 7교시에 다른 학생이 고정 이석되어 있었다
+        List<StudentEntity> previousStudents = List.of(mock(StudentEntity.class));
+        given(fixedLeaveSeat.getWeekDay()).willReturn(WeekDay.MON);
+        given(fixedLeaveSeat.getPeriod()).willReturn(SchoolPeriod.SEVEN_PERIOD);
+        given(fixedLeaveSeatStudentRepository.findAllByFixedLeaveSeat(fixedLeaveSeat)).willReturn(previousStudents);
 
         given(fixedLeaveSeatRepository.findById(fixedLeaveSeatId)).willReturn(Optional.of(fixedLeaveSeat));
         given(placeRepository.findById(2L)).willReturn(Optional.of(newPlace));
         given(studentRepository.findAllById(List.of(3L, 4L))).willReturn(students);
 
         // When: 고정 이석을 수정하면
-        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, teacher);
+        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, TEACHER_ID);
 
         // Then: 기존 학생 관계가 삭제되고 새로운 데이터가 저장된다
         verify(fixedLeaveSeatRepository, times(1)).findById(fixedLeaveSeatId);
@@ -295,6 +318,90 @@ class FixedLeaveSeatFacadeServiceTest {
                 teacher, newPlace, WeekDay.TUE, SchoolPeriod.EIGHT_AND_NINE_PERIOD, "변경된 사유"
         );
         verify(fixedLeaveSeatStudentRepository, times(1)).saveAll(anyList());
+        // 바뀌기 전 교시의 기존 학생과 바뀐 교시의 새 학생을 모두 다시 쌓는다
+        verify(studentScheduleRecomputeService, times(1))
+                .clearStudents(eq(previousStudents), eq(WeekDay.MON), eq(SchoolPeriod.SEVEN_PERIOD), any(LocalDate.class));
+        verify(studentScheduleRecomputeService, times(1)).restack(any(), any(LocalDate.class));
+        verify(studentScheduleRecomputeService, times(1))
+                .recomputeStudents(eq(students), eq(WeekDay.TUE), eq(SchoolPeriod.EIGHT_AND_NINE_PERIOD), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("요일과 교시가 그대로면 빠진 학생과 새 학생을 함께 다시 쌓는다")
+    void shouldRecomputeRemovedAndAddedStudentsWhenSlotUnchanged() {
+        // Given: 월요일 7교시 고정 이석의 학생을 student1, student2 -> student2, student3 로 바꿀 때
+        Long fixedLeaveSeatId = 1L;
+        FixedLeaveSeatUpdateRequest request = new FixedLeaveSeatUpdateRequest(
+                WeekDay.MON,
+                SchoolPeriod.SEVEN_PERIOD,
+                2L,
+                "사유",
+                List.of(2L, 3L)
+        );
+
+        FixedLeaveSeatEntity fixedLeaveSeat = mock(FixedLeaveSeatEntity.class);
+        StudentEntity student1 = mock(StudentEntity.class);
+        StudentEntity student2 = mock(StudentEntity.class);
+        StudentEntity student3 = mock(StudentEntity.class);
+
+        given(fixedLeaveSeatRepository.findById(fixedLeaveSeatId)).willReturn(Optional.of(fixedLeaveSeat));
+        given(placeRepository.findById(2L)).willReturn(Optional.of(mock(PlaceEntity.class)));
+        given(studentRepository.findAllById(List.of(2L, 3L))).willReturn(List.of(student2, student3));
+        given(fixedLeaveSeatStudentRepository.findAllByFixedLeaveSeat(fixedLeaveSeat)).willReturn(List.of(student1, student2));
+        given(fixedLeaveSeat.getWeekDay()).willReturn(WeekDay.MON);
+        given(fixedLeaveSeat.getPeriod()).willReturn(SchoolPeriod.SEVEN_PERIOD);
+
+        // When
+        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, TEACHER_ID);
+
+        // Then: 같은 교시를 한 번만, 빠진 학생까지 포함해 비우고 다시 쌓는다
+        verify(studentScheduleRecomputeService, times(1))
+                .clearStudents(eq(List.of(student1, student2, student3)), eq(WeekDay.MON), eq(SchoolPeriod.SEVEN_PERIOD), any(LocalDate.class));
+        verify(studentScheduleRecomputeService, times(1)).restack(any(), any(LocalDate.class));
+        verifyNoMoreInteractions(studentScheduleRecomputeService);
+    }
+
+    @Test
+    @DisplayName("이번 주 이석이 이미 만들어져 있으면 스택을 비운 뒤 지워서 고정 이석 전략이 다시 만들게 한다")
+    void shouldDeleteMaterializedLeaveSeatBeforeRestack() {
+        // Given: 오늘 요일 7교시 고정 이석으로 이번 주 이석이 이미 만들어져 있을 때
+        LocalDate today = LocalDate.now();
+        assumeTrue(today.getDayOfWeek() != DayOfWeek.SATURDAY && today.getDayOfWeek() != DayOfWeek.SUNDAY);
+        WeekDay weekDay = WeekDay.fromLocalDate(today);
+
+        Long fixedLeaveSeatId = 1L;
+        FixedLeaveSeatUpdateRequest request = new FixedLeaveSeatUpdateRequest(
+                weekDay,
+                SchoolPeriod.SEVEN_PERIOD,
+                2L,
+                "사유",
+                List.of(2L)
+        );
+
+        FixedLeaveSeatEntity fixedLeaveSeat = mock(FixedLeaveSeatEntity.class);
+        PlaceEntity place = mock(PlaceEntity.class);
+        LeaveSeatEntity leaveSeat = mock(LeaveSeatEntity.class);
+        StudentEntity student = mock(StudentEntity.class);
+
+        given(fixedLeaveSeatRepository.findById(fixedLeaveSeatId)).willReturn(Optional.of(fixedLeaveSeat));
+        given(placeRepository.findById(2L)).willReturn(Optional.of(place));
+        given(studentRepository.findAllById(List.of(2L))).willReturn(List.of(student));
+        given(fixedLeaveSeatStudentRepository.findAllByFixedLeaveSeat(fixedLeaveSeat)).willReturn(List.of(mock(StudentEntity.class)));
+        given(fixedLeaveSeat.getPlace()).willReturn(place);
+        given(fixedLeaveSeat.getWeekDay()).willReturn(weekDay);
+        given(fixedLeaveSeat.getPeriod()).willReturn(SchoolPeriod.SEVEN_PERIOD);
+        given(leaveSeatRepository.findByPlaceAndDayAndPeriod(place, today, SchoolPeriod.SEVEN_PERIOD))
+                .willReturn(Optional.of(leaveSeat));
+
+        // When
+        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, TEACHER_ID);
+
+        // Then: 스택 비우기 -> 이번 주 이석 삭제 -> 다시 쌓기 순서로 실행된다
+        InOrder inOrder = inOrder(studentScheduleRecomputeService, leaveSeatRepository);
+        inOrder.verify(studentScheduleRecomputeService)
+                .clearStudents(anyList(), eq(weekDay), eq(SchoolPeriod.SEVEN_PERIOD), eq(today));
+        inOrder.verify(leaveSeatRepository).delete(leaveSeat);
+        inOrder.verify(studentScheduleRecomputeService).restack(any(), eq(today));
     }
 
     @Test
@@ -309,12 +416,11 @@ class FixedLeaveSeatFacadeServiceTest {
                 "사유",
                 List.of(1L)
         );
-        TeacherEntity teacher = mock(TeacherEntity.class);
 
         given(fixedLeaveSeatRepository.findById(fixedLeaveSeatId)).willReturn(Optional.empty());
 
         // When & Then: 예외가 발생한다
-        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, teacher))
+        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, TEACHER_ID))
                 .isInstanceOf(FixedLeaveSeatNotFoundException.class);
 
         verify(fixedLeaveSeatRepository, times(1)).findById(fixedLeaveSeatId);
@@ -334,13 +440,12 @@ class FixedLeaveSeatFacadeServiceTest {
         );
 
         FixedLeaveSeatEntity fixedLeaveSeat = mock(FixedLeaveSeatEntity.class);
-        TeacherEntity teacher = mock(TeacherEntity.class);
 
         given(fixedLeaveSeatRepository.findById(fixedLeaveSeatId)).willReturn(Optional.of(fixedLeaveSeat));
         given(placeRepository.findById(999L)).willReturn(Optional.empty());
 
         // When & Then: 예외가 발생한다
-        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, teacher))
+        assertThatThrownBy(() -> fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, request, TEACHER_ID))
                 .isInstanceOf(PlaceNotFoundException.class);
 
         verify(placeRepository, times(1)).findById(999L);
@@ -402,6 +507,7 @@ class FixedLeaveSeatFacadeServiceTest {
         PlaceEntity place = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         given(teacher.hasStudentScheduleChangeAuthority()).willReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student = mock(StudentEntity.class);
         FixedLeaveSeatEntity fixedLeaveSeat = mock(FixedLeaveSeatEntity.class);
@@ -411,8 +517,8 @@ class FixedLeaveSeatFacadeServiceTest {
         given(fixedLeaveSeatRepository.save(any(FixedLeaveSeatEntity.class))).willReturn(fixedLeaveSeat);
 
         // When: 월요일과 화요일 고정 이석을 각각 생성하면
-        fixedLeaveSeatFacadeService.createStaticLeaveSeat(mondayRequest, teacher);
-        fixedLeaveSeatFacadeService.createStaticLeaveSeat(tuesdayRequest, teacher);
+        fixedLeaveSeatFacadeService.createStaticLeaveSeat(mondayRequest, TEACHER_ID);
+        fixedLeaveSeatFacadeService.createStaticLeaveSeat(tuesdayRequest, TEACHER_ID);
 
         // Then: 두 개의 고정 이석이 생성된다
         verify(fixedLeaveSeatRepository, times(2)).save(any(FixedLeaveSeatEntity.class));
@@ -0,0 +1,149 @@
+package solvit.teachmon.domain.leave_seat.application.facade;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
+import solvit.teachmon.domain.leave_seat.domain.entity.FixedLeaveSeatEntity;
+import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatCreateRequest;
+import solvit.teachmon.domain.leave_seat.presentation.dto.request.FixedLeaveSeatUpdateRequest;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 고정 이석 수정 후 이번 주 스케줄 재계산 테스트
+ * 이번 주 이석이 이미 만들어진 뒤에 학생을 바꿔도 빠진 학생은 이석이 사라지고 새 학생은 이석이 쌓이는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("고정 이석 수정 재계산 테스트")
+class FixedLeaveSeatRecomputeTest {
+
+    private static final SchoolPeriod PERIOD = SchoolPeriod.EIGHT_AND_NINE_PERIOD;
+
+    @Autowired
+    private FixedLeaveSeatFacadeService fixedLeaveSeatFacadeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    private TeacherEntity teacher;
+    private PlaceEntity place;
+    private StudentEntity removedStudent;
+    private StudentEntity keptStudent;
+    private StudentEntity addedStudent;
+
+    @BeforeEach
+    void setUp() {
+        // 재계산은 오늘 이후의 평일만 다루므로 주말에는 확인할 수 없다
+        assumeTrue(today.getDayOfWeek() != DayOfWeek.SATURDAY && today.getDayOfWeek() != DayOfWeek.SUNDAY);
+
+        entityManager.persist(BranchEntity.builder()
+                .startDay(today.minusDays(7))
+                .endDay(today.plusDays(7))
+                .afterSchoolEndDay(today.plusDays(7))
+                .year(today.getYear())
+                .branch(1)
+                .build());
+        teacher = TeacherEntity.builder()
+                .name("선생님")
+                .mail("teacher@bssm.hs.kr")
+                .providerId("provider")
+                .oAuth2Type(OAuth2Type.GOOGLE)
+                .build();
+        place = PlaceEntity.builder()
+                .floor(2)
+                .name("특별실")
+                .build();
+        entityManager.persist(teacher);
+        entityManager.persist(place);
+
+        removedStudent = createStudent(1, "빠지는학생");
+        keptStudent = createStudent(2, "남는학생");
+        addedStudent = createStudent(3, "추가되는학생");
+    }
+
+    @Test
+    @DisplayName("이번 주 이석이 만들어진 뒤 학생을 바꾸면 빠진 학생의 이석은 사라지고 새 학생에게 이석이 쌓인다")
+    void shouldRebuildLeaveSeatSchedulesWhenStudentsChange() {
+        // Given: 오늘 8~9교시에 빠지는 학생, 남는 학생이 고정 이석되어 이번 주 이석이 만들어진 상태
+        WeekDay weekDay = WeekDay.fromLocalDate(today);
+        fixedLeaveSeatFacadeService.createStaticLeaveSeat(new FixedLeaveSeatCreateRequest(
+                weekDay, PERIOD, place.getId(), "동아리 활동", List.of(removedStudent.getId(), keptStudent.getId())
+        ), teacher.getId());
+        flushAndClear();
+        assertThat(findScheduleTypes(removedStudent)).containsExactly(ScheduleType.LEAVE_SEAT);
+
+        // When: 학생을 남는 학생, 추가되는 학생으로 바꾸면
+        Long fixedLeaveSeatId = entityManager.createQuery("SELECT f.id FROM FixedLeaveSeatEntity f", Long.class)
+                .getSingleResult();
+        fixedLeaveSeatFacadeService.updateStaticLeaveSeat(fixedLeaveSeatId, new FixedLeaveSeatUpdateRequest(
+                weekDay, PERIOD, place.getId(), "동아리 활동", List.of(keptStudent.getId(), addedStudent.getId())
+        ), teacher.getId());
+        flushAndClear();
+
+        // Then: 빠진 학생은 이석이 없고, 남는 학생과 추가된 학생은 이석이 하나씩만 쌓여 있다
+        assertThat(findScheduleTypes(removedStudent)).isEmpty();
+        assertThat(findScheduleTypes(keptStudent)).containsExactly(ScheduleType.LEAVE_SEAT);
+        assertThat(findScheduleTypes(addedStudent)).containsExactly(ScheduleType.LEAVE_SEAT);
+        assertThat(entityManager.find(FixedLeaveSeatEntity.class, fixedLeaveSeatId)).isNotNull();
+        assertThat(entityManager.createQuery(
+                        "SELECT ls.student.id FROM LeaveSeatStudentEntity ls WHERE ls.leaveSeat.day = :day", Long.class)
+                .setParameter("day", today)
+                .getResultList())
+                .containsExactlyInAnyOrder(keptStudent.getId(), addedStudent.getId());
+    }
+
+    private StudentEntity createStudent(int number, String name) {
+        StudentEntity student = StudentEntity.builder()
+                .year(today.getYear())
+                .grade(1)
+                .classNumber(1)
+                .number(number)
+                .name(name)
+                .build();
+        entityManager.persist(student);
+        entityManager.persist(StudentScheduleEntity.builder()
+                .student(student)
+                .day(today)
+                .period(PERIOD)
+                .build());
+        return student;
+    }
+
+    private List<ScheduleType> findScheduleTypes(StudentEntity student) {
+        return entityManager.createQuery(
+                        "SELECT s.type FROM ScheduleEntity s " +
+                        "WHERE s.studentSchedule.student.id = :studentId AND s.studentSchedule.day = :day " +
+                        "ORDER BY s.stackOrder", ScheduleType.class)
+                .setParameter("studentId", student.getId())
+                .setParameter("day", today)
+                .getResultList();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
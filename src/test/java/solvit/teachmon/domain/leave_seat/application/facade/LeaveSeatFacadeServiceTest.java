@@ -25,15 +25,16 @@ import solvit.teachmon.domain.management.student.exception.StudentNotFoundExcept
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
 import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
-import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
-import solvit.teachmon.domain.student_schedule.domain.entity.schedules.LeaveSeatScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.LeaveSeatScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.domain.student_schedule.exception.StudentScheduleNotFoundException;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
@@ -51,6 +52,8 @@ import static org.mockito.Mockito.lenient;
 @DisplayName("이석 서비스 테스트")
 class LeaveSeatFacadeServiceTest {
 
+    private static final Long TEACHER_ID = 10L;
+
     @Mock
     private PlaceRepository placeRepository;
     @Mock
@@ -66,7 +69,11 @@ class LeaveSeatFacadeServiceTest {
     @Mock
     private StudentRepository studentRepository;
     @Mock
+    private TeacherRepository teacherRepository;
+    @Mock
     private LeaveSeatMapper leaveSeatMapper;
+    @Mock
+    private CurrentScheduleDomainService currentScheduleDomainService;
 
     private LeaveSeatFacadeService leaveSeatFacadeService;
 
@@ -76,11 +83,14 @@ class LeaveSeatFacadeServiceTest {
                 placeRepository,
                 leaveSeatRepository,
                 scheduleRepository,
+                new StackOrderAllocator(scheduleRepository),
                 studentScheduleRepository,
                 leaveSeatScheduleRepository,
                 leaveSeatStudentRepository,
                 studentRepository,
-                leaveSeatMapper
+                teacherRepository,
+                leaveSeatMapper,
+                currentScheduleDomainService
         );
     }
 
@@ -100,6 +110,7 @@ class LeaveSeatFacadeServiceTest {
         PlaceEntity place = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         given(teacher.hasStudentScheduleChangeAuthority()).willReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student1 = mock(StudentEntity.class);
         StudentEntity student2 = mock(StudentEntity.class);
@@ -120,11 +131,10 @@ class LeaveSeatFacadeServiceTest {
                 .willReturn(studentSchedules);
         given(schedule1.getId()).willReturn(1L);
         given(schedule2.getId()).willReturn(2L);
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(1L)).willReturn(0);
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(2L)).willReturn(0);
+        given(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(1L, 2L))).willReturn(Map.of());
 
         // When: 이석을 생성하면
-        leaveSeatFacadeService.createLeaveSeat(request, teacher);
+        leaveSeatFacadeService.createLeaveSeat(request, TEACHER_ID);
 
         // Then: 이석과 관련 데이터가 저장된다
         verify(placeRepository, times(1)).findById(1L);
@@ -149,8 +159,6 @@ class LeaveSeatFacadeServiceTest {
         );
 
         PlaceEntity place = mock(PlaceEntity.class);
-        TeacherEntity teacher = mock(TeacherEntity.class);
-        lenient().when(teacher.hasStudentScheduleChangeAuthority()).thenReturn(true);
 
         StudentEntity student = mock(StudentEntity.class);
         LeaveSeatEntity existingLeaveSeat = mock(LeaveSeatEntity.class);
@@ -163,13 +171,14 @@ class LeaveSeatFacadeServiceTest {
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(List.of(student), day, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(schedule));
         given(schedule.getId()).willReturn(3L);
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(3L)).willReturn(0);
+        given(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(3L))).willReturn(Map.of());
 
         // When: 이석을 생성하면
-        leaveSeatFacadeService.createLeaveSeat(request, teacher);
+        leaveSeatFacadeService.createLeaveSeat(request, TEACHER_ID);
 
         // Then: 새로운 LeaveSeat을 저장하지 않고 기존 것을 사용한다
         verify(leaveSeatRepository, never()).save(any(LeaveSeatEntity.class));
+        verify(teacherRepository, never()).getReferenceById(any());
         verify(leaveSeatStudentRepository, times(1)).saveAll(anyList());
         verify(scheduleRepository, times(1)).saveAll(anyList());
     }
@@ -185,12 +194,11 @@ class LeaveSeatFacadeServiceTest {
                 "도서관 이용",
                 List.of(1L)
         );
-        TeacherEntity teacher = mock(TeacherEntity.class);
 
         given(placeRepository.findById(999L)).willReturn(Optional.empty());
 
         // When & Then: 이석 생성 시 예외가 발생한다
-        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, teacher))
+        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, TEACHER_ID))
                 .isInstanceOf(PlaceNotFoundException.class);
 
         verify(placeRepository, times(1)).findById(999L);
@@ -209,14 +217,13 @@ class LeaveSeatFacadeServiceTest {
                 List.of(1L, 999L)
         );
         PlaceEntity place = mock(PlaceEntity.class);
-        TeacherEntity teacher = mock(TeacherEntity.class);
         StudentEntity student1 = mock(StudentEntity.class);
 
         given(placeRepository.findById(1L)).willReturn(Optional.of(place));
         given(studentRepository.findAllById(List.of(1L, 999L))).willReturn(List.of(student1)); // 1개만 반환
 
         // When & Then: 이석 생성 시 예외가 발생한다
-        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, teacher))
+        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, TEACHER_ID))
                 .isInstanceOf(StudentNotFoundException.class);
 
         verify(studentRepository, times(1)).findAllById(List.of(1L, 999L));
@@ -238,6 +245,7 @@ class LeaveSeatFacadeServiceTest {
         PlaceEntity place = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         given(teacher.hasStudentScheduleChangeAuthority()).willReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student1 = mock(StudentEntity.class);
         StudentEntity student2 = mock(StudentEntity.class);
@@ -253,10 +261,10 @@ class LeaveSeatFacadeServiceTest {
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(students, day, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(schedule1)); // 1개만 반환
         lenient().when(schedule1.getId()).thenReturn(1L);
-        lenient().when(scheduleRepository.findLastStackOrderByStudentScheduleId(1L)).thenReturn(0);
+        lenient().when(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(1L))).thenReturn(Map.of());
 
         // When & Then: 이석 생성 시 예외가 발생한다
-        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, teacher))
+        assertThatThrownBy(() -> leaveSeatFacadeService.createLeaveSeat(request, TEACHER_ID))
                 .isInstanceOf(StudentScheduleNotFoundException.class);
     }
 
@@ -269,32 +277,36 @@ class LeaveSeatFacadeServiceTest {
 
         LeaveSeatEntity leaveSeat1 = mock(LeaveSeatEntity.class);
         LeaveSeatEntity leaveSeat2 = mock(LeaveSeatEntity.class);
+        given(leaveSeat1.getId()).willReturn(1L);
+        given(leaveSeat2.getId()).willReturn(2L);
         List<LeaveSeatEntity> leaveSeats = Arrays.asList(leaveSeat1, leaveSeat2);
 
         LeaveSeatStudentEntity student1 = mock(LeaveSeatStudentEntity.class);
+        given(student1.getLeaveSeat()).willReturn(leaveSeat1);
         List<LeaveSeatStudentEntity> leaveSeatStudents1 = List.of(student1);
 
         LeaveSeatStudentEntity student2 = mock(LeaveSeatStudentEntity.class);
+        given(student2.getLeaveSeat()).willReturn(leaveSeat2);
         List<LeaveSeatStudentEntity> leaveSeatStudents2 = List.of(student2);
 
         LeaveSeatListResponse response1 = mock(LeaveSeatListResponse.class);
         LeaveSeatListResponse response2 = mock(LeaveSeatListResponse.class);
 
         given(leaveSeatRepository.findAllByDayAndPeriodWithFetch(day, period)).willReturn(leaveSeats);
-        given(leaveSeatStudentRepository.findAllByLeaveSeatWithFetch(leaveSeat1)).willReturn(leaveSeatStudents1);
-        given(leaveSeatStudentRepository.findAllByLeaveSeatWithFetch(leaveSeat2)).willReturn(leaveSeatStudents2);
+        given(leaveSeatStudentRepository.findAllByLeaveSeatsWithFetch(leaveSeats)).willReturn(List.of(student1, student2));
         given(leaveSeatMapper.toListResponse(leaveSeat1, leaveSeatStudents1)).willReturn(response1);
         given(leaveSeatMapper.toListResponse(leaveSeat2, leaveSeatStudents2)).willReturn(response2);
 
         // When: 이석 목록을 조회하면
         List<LeaveSeatListResponse> results = leaveSeatFacadeService.getLeaveSeatList(day, period);
 
-        // Then: 조회된 이석 목록이 반환된다
+        // Then: 조회된 이석 목록이 반환되고 학생은 한 번에 조회된다
         assertThat(results).hasSize(2);
         assertThat(results).containsExactly(response1, response2);
 
         verify(leaveSeatRepository, times(1)).findAllByDayAndPeriodWithFetch(day, period);
-        verify(leaveSeatStudentRepository, times(2)).findAllByLeaveSeatWithFetch(any());
+        verify(leaveSeatStudentRepository, times(1)).findAllByLeaveSeatsWithFetch(leaveSeats);
+        verify(leaveSeatStudentRepository, never()).findAllByLeaveSeatWithFetch(any());
         verify(leaveSeatMapper, times(2)).toListResponse(any(), anyList());
     }
 
@@ -378,6 +390,7 @@ class LeaveSeatFacadeServiceTest {
         PlaceEntity newPlace = mock(PlaceEntity.class);
         TeacherEntity teacher = mock(TeacherEntity.class);
         lenient().when(teacher.hasStudentScheduleChangeAuthority()).thenReturn(true);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         StudentEntity student1 = mock(StudentEntity.class);
         StudentEntity student2 = mock(StudentEntity.class);
@@ -394,11 +407,10 @@ class LeaveSeatFacadeServiceTest {
                 .willReturn(studentSchedules);
         lenient().when(schedule1.getId()).thenReturn(3L);
         lenient().when(schedule2.getId()).thenReturn(4L);
-        lenient().when(scheduleRepository.findLastStackOrderByStudentScheduleId(3L)).thenReturn(0);
-        lenient().when(scheduleRepository.findLastStackOrderByStudentScheduleId(4L)).thenReturn(0);
+        lenient().when(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(3L, 4L))).thenReturn(Map.of());
 
         // When: 이석을 수정하면
-        leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, teacher);
+        leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, TEACHER_ID);
 
         // Then: 기존 데이터가 삭제되고 새로운 데이터가 저장된다
         verify(leaveSeatRepository, times(1)).findById(leaveSeatId);
@@ -423,12 +435,11 @@ class LeaveSeatFacadeServiceTest {
                 "사유",
                 List.of(1L)
         );
-        TeacherEntity teacher = mock(TeacherEntity.class);
 
         given(leaveSeatRepository.findById(leaveSeatId)).willReturn(Optional.empty());
 
         // When & Then: 예외가 발생한다
-        assertThatThrownBy(() -> leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, teacher))
+        assertThatThrownBy(() -> leaveSeatFacadeService.updateLeaveSeat(leaveSeatId, request, TEACHER_ID))
                 .isInstanceOf(LeaveSeatValueInvalidException.class)
                 .hasMessageContaining("이석을 찾을 수 없습니다");
 
@@ -441,24 +452,23 @@ class LeaveSeatFacadeServiceTest {
         // Given: 삭제할 이석이 존재할 때
         Long leaveSeatId = 1L;
         LeaveSeatEntity leaveSeat = mock(LeaveSeatEntity.class);
-        given(leaveSeat.getId()).willReturn(leaveSeatId);
-
-        LeaveSeatScheduleEntity leaveSeatSchedule = mock(LeaveSeatScheduleEntity.class);
-        ScheduleEntity schedule = mock(ScheduleEntity.class);
-        given(leaveSeatSchedule.getLeaveSeat()).willReturn(leaveSeat);
-        given(leaveSeatSchedule.getSchedule()).willReturn(schedule);
+        List<Long> scheduleIds = List.of(10L, 11L);
+        List<StudentScheduleEntity> studentSchedules = List.of(mock(StudentScheduleEntity.class), mock(StudentScheduleEntity.class));
 
         given(leaveSeatRepository.findById(leaveSeatId)).willReturn(Optional.of(leaveSeat));
-        given(leaveSeatScheduleRepository.findAll()).willReturn(List.of(leaveSeatSchedule));
+        given(leaveSeatScheduleRepository.findScheduleIdsByLeaveSeatId(leaveSeatId)).willReturn(scheduleIds);
+        given(scheduleRepository.findStudentSchedulesByIds(scheduleIds)).willReturn(studentSchedules);
 
         // When: 이석을 삭제하면
         leaveSeatFacadeService.deleteLeaveSeat(leaveSeatId);
 
-        // Then: 이석과 관련 데이터가 삭제된다
+        // Then: 이석의 스케줄만 벌크 삭제되고 현재 스케줄 갱신 대상으로 등록된다
         verify(leaveSeatRepository, times(1)).findById(leaveSeatId);
-        verify(leaveSeatScheduleRepository, times(1)).deleteAll(anyList());
+        verify(leaveSeatScheduleRepository, never()).findAll();
+        verify(leaveSeatScheduleRepository, times(1)).deleteByScheduleIds(scheduleIds);
         verify(leaveSeatStudentRepository, times(1)).deleteAllByLeaveSeatId(leaveSeatId);
-        verify(scheduleRepository, times(1)).deleteAll(anyList());
+        verify(scheduleRepository, times(1)).deleteByIds(scheduleIds);
+        verify(currentScheduleDomainService, times(1)).markChanged(studentSchedules);
         verify(leaveSeatRepository, times(1)).delete(leaveSeat);
     }
 
@@ -0,0 +1,110 @@
+package solvit.teachmon.domain.leave_seat.presentation.controller;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatEntity;
+import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatStudentEntity;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.infra.sql.SqlBudget;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이석 목록 조회 SQL 예산 회귀 테스트
+ * 이석 N 개를 조회해도 이석, 이석 학생을 각각 한 번씩만 조회하는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("이석 목록 조회 SQL 예산 테스트")
+class LeaveSeatQueryBudgetTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    private static final SchoolPeriod PERIOD = SchoolPeriod.EIGHT_AND_NINE_PERIOD;
+    private static final int LEAVE_SEAT_COUNT = 5;
+
+    @Autowired
+    private LeaveSeatController leaveSeatController;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(leaveSeatController).build();
+
+        // 이석마다 다른 교사, 장소, 학생 2명
+        for (int i = 1; i <= LEAVE_SEAT_COUNT; i++) {
+            TeacherEntity teacher = TeacherEntity.builder()
+                    .name("선생님" + i)
+                    .mail("teacher" + i + "@bssm.hs.kr")
+                    .providerId("provider_" + i)
+                    .oAuth2Type(OAuth2Type.GOOGLE)
+                    .build();
+            PlaceEntity place = PlaceEntity.builder()
+                    .floor(2)
+                    .name("특별실" + i)
+                    .build();
+            LeaveSeatEntity leaveSeat = LeaveSeatEntity.builder()
+                    .teacher(teacher)
+                    .place(place)
+                    .day(DAY)
+                    .period(PERIOD)
+                    .cause("동아리 활동")
+                    .build();
+            entityManager.persist(teacher);
+            entityManager.persist(place);
+            entityManager.persist(leaveSeat);
+
+            for (int number = 1; number <= 2; number++) {
+                StudentEntity student = StudentEntity.builder()
+                        .year(2026)
+                        .grade(1)
+                        .classNumber(i)
+                        .number(number)
+                        .name("학생" + i + number)
+                        .build();
+                entityManager.persist(student);
+                entityManager.persist(LeaveSeatStudentEntity.builder()
+                        .leaveSeat(leaveSeat)
+                        .student(student)
+                        .build());
+            }
+        }
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리가 나가도록 한다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @SqlBudget(2)
+    @DisplayName("이석 N 개를 조회해도 SQL 은 두 번만 실행된다")
+    void shouldListLeaveSeatsWithinBudget() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/leaveseat")
+                        .param("day", DAY.toString())
+                        .param("period", PERIOD.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(LEAVE_SEAT_COUNT))
+                .andExpect(jsonPath("$[0].students.length()").value(2));
+    }
+}
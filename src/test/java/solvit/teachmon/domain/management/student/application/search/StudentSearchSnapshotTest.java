@@ -0,0 +1,85 @@
+package solvit.teachmon.domain.management.student.application.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("학생 검색 색인 스냅샷 테스트")
+class StudentSearchSnapshotTest {
+
+    private final StudentSearchSnapshot snapshot = StudentSearchSnapshot.from(List.of(
+            createStudent(1L, 2, 2, 3, "김동욱"),
+            createStudent(2L, 1, 1, 5, "김철수"),
+            createStudent(3L, 1, 3, 13, "박영희"),
+            createStudent(4L, 2, 1, 15, "허온"),
+            createStudent(5L, 3, 1, 2, "동욱")
+    ));
+
+    @Test
+    @DisplayName("이름 일부로 학생을 검색할 수 있다")
+    void shouldSearchByName() {
+        // When & Then
+        assertThat(snapshot.search("김")).containsExactly(2L, 1L);
+        assertThat(snapshot.search("철 수")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("1-1-3, 113, 1103 형태의 학번으로 검색할 수 있다")
+    void shouldSearchByStudentNumberFormats() {
+        // When & Then
+        assertThat(snapshot.search("2-2-3")).containsExactly(1L);
+        assertThat(snapshot.search("223")).containsExactly(1L);
+        assertThat(snapshot.search("2203")).containsExactly(1L);
+        assertThat(snapshot.search("1313")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("학번과 이름을 붙인 검색어로도 검색할 수 있다")
+    void shouldSearchByStudentNumberWithName() {
+        // When & Then
+        assertThat(snapshot.search("2115허온")).containsExactly(4L);
+        assertThat(snapshot.search("2115허")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("검색 키와 완전히 같은 학생, 검색 키로 시작하는 학생, 포함하는 학생 순으로 반환한다")
+    void shouldRankExactThenPrefixThenContains() {
+        // When: "동욱" 으로 검색하면
+        List<Long> result = snapshot.search("동욱");
+
+        // Then: 이름이 정확히 같은 학생이 먼저 나온다
+        assertThat(result).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("일치하는 학생이 없으면 빈 목록을 반환한다")
+    void shouldReturnEmptyWhenNoMatch() {
+        // When & Then
+        assertThat(snapshot.search("없는학생")).isEmpty();
+        assertThat(snapshot.search("220김")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 모든 학생을 학번 순으로 반환한다")
+    void shouldReturnAllStudentsWhenQueryIsBlank() {
+        // When & Then
+        assertThat(snapshot.search(" ")).containsExactly(2L, 3L, 4L, 1L, 5L);
+        assertThat(snapshot.search(null)).hasSize(5);
+    }
+
+    private StudentEntity createStudent(Long id, Integer grade, Integer classNumber, Integer number, String name) {
+        StudentEntity student = mock(StudentEntity.class);
+        given(student.getId()).willReturn(id);
+        given(student.getGrade()).willReturn(grade);
+        given(student.getClassNumber()).willReturn(classNumber);
+        given(student.getNumber()).willReturn(number);
+        given(student.getName()).willReturn(name);
+        return student;
+    }
+}
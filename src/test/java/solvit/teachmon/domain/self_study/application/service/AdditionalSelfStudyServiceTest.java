@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.self_study.application.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +11,10 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
-import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.self_study.application.mapper.AdditionalSelfStudyMapper;
 import solvit.teachmon.domain.self_study.domain.entity.AdditionalSelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.AdditionalSelfStudyRepository;
+import solvit.teachmon.domain.self_study.domain.service.SelfStudyPlacePlanner;
 import solvit.teachmon.domain.self_study.exception.AdditionalSelfStudyNotFoundException;
 import solvit.teachmon.domain.self_study.presentation.dto.request.AdditionalSelfStudySetRequest;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
@@ -24,10 +25,12 @@ import solvit.teachmon.domain.student_schedule.application.service.StudentSchedu
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AdditionalSelfStudyScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,11 +57,14 @@ class AdditionalSelfStudyServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
+
     @Mock
     private AdditionalSelfStudyScheduleRepository additionalSelfStudyScheduleRepository;
 
     @Mock
-    private PlaceRepository placeRepository;
+    private SelfStudyPlacePlanner selfStudyPlacePlanner;
 
     @Mock
     private StudentScheduleGenerator studentScheduleGenerator;
@@ -66,6 +72,19 @@ class AdditionalSelfStudyServiceTest {
     @InjectMocks
     private AdditionalSelfStudyService additionalSelfStudyService;
 
+    @BeforeEach
+    void setUp() {
+        // stackOrder 할당은 실제 ScheduleEntity 생성으로 대체
+        given(stackOrderAllocator.stackSchedules(anyCollection(), any(ScheduleType.class)))
+                .willAnswer(invocation -> {
+                    Collection<StudentScheduleEntity> studentSchedules = invocation.getArgument(0);
+                    ScheduleType type = invocation.getArgument(1);
+                    return studentSchedules.stream()
+                            .map(studentSchedule -> ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, type))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("현재 주의 날짜로 추가 자습을 설정하면 즉시 스케줄이 생성된다")
     void shouldApplySchedulesImmediatelyWhenSettingForCurrentWeek() {
@@ -92,19 +111,9 @@ class AdditionalSelfStudyServiceTest {
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, currentWeekDate, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule1, studentSchedule2));
 
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(anyLong()))
-                .willReturn(0);
-
-        ScheduleEntity mockSchedule = mock(ScheduleEntity.class);
-        given(mockSchedule.getType()).willReturn(ScheduleType.ADDITIONAL_SELF_STUDY);
-        given(scheduleRepository.save(any(ScheduleEntity.class)))
-                .willReturn(mockSchedule);
-
         PlaceEntity mockPlace = mock(PlaceEntity.class);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, mockPlace, 2, mockPlace));
-        given(placeRepository.checkPlaceAvailability(any(), any(), any()))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule1, studentSchedule2)))
+                .willReturn(Map.of(studentSchedule1, mockPlace, studentSchedule2, mockPlace));
 
         // When: 추가 자습을 설정하면
         additionalSelfStudyService.setAdditionalSelfStudy(request);
@@ -112,8 +121,8 @@ class AdditionalSelfStudyServiceTest {
         // Then: 추가 자습이 저장되고, 스케줄이 즉시 생성되어야 한다
         verify(additionalSelfStudyRepository).saveAll(List.of(additionalSelfStudy));
         verify(studentScheduleGenerator).findOrCreateStudentSchedules(1, currentWeekDate, SchoolPeriod.SEVEN_PERIOD);
-        verify(scheduleRepository, times(2)).save(any(ScheduleEntity.class));
-        verify(additionalSelfStudyScheduleRepository, times(2)).save(any(AdditionalSelfStudyScheduleEntity.class));
+        verify(scheduleRepository).saveAll(argThat((List<ScheduleEntity> schedules) -> schedules.size() == 2));
+        verify(additionalSelfStudyScheduleRepository).saveAll(argThat((List<AdditionalSelfStudyScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     @Test
@@ -139,8 +148,8 @@ class AdditionalSelfStudyServiceTest {
         // Then: 추가 자습만 저장되고, 스케줄은 즉시 생성되지 않아야 한다
         verify(additionalSelfStudyRepository).saveAll(List.of(additionalSelfStudy));
         verify(studentScheduleRepository, never()).findAllByGradeAndDayAndPeriod(any(), any(), any());
-        verify(scheduleRepository, never()).save(any(ScheduleEntity.class));
-        verify(additionalSelfStudyScheduleRepository, never()).save(any(AdditionalSelfStudyScheduleEntity.class));
+        verify(scheduleRepository, never()).saveAll(anyList());
+        verify(additionalSelfStudyScheduleRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -230,19 +239,11 @@ class AdditionalSelfStudyServiceTest {
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, currentWeekDate, SchoolPeriod.EIGHT_AND_NINE_PERIOD))
                 .willReturn(List.of(studentSchedule2));
 
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(anyLong()))
-                .willReturn(0);
-
-        ScheduleEntity mockSchedule = mock(ScheduleEntity.class);
-        given(mockSchedule.getType()).willReturn(ScheduleType.ADDITIONAL_SELF_STUDY);
-        given(scheduleRepository.save(any(ScheduleEntity.class)))
-                .willReturn(mockSchedule);
-
         PlaceEntity mockPlace = mock(PlaceEntity.class);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, mockPlace));
-        given(placeRepository.checkPlaceAvailability(any(), any(), any()))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule1)))
+                .willReturn(Map.of(studentSchedule1, mockPlace));
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule2)))
+                .willReturn(Map.of(studentSchedule2, mockPlace));
 
         // When: 추가 자습을 설정하면
         additionalSelfStudyService.setAdditionalSelfStudy(request);
@@ -251,8 +252,8 @@ class AdditionalSelfStudyServiceTest {
         verify(additionalSelfStudyRepository).saveAll(List.of(additionalSelfStudy1, additionalSelfStudy2));
         verify(studentScheduleGenerator).findOrCreateStudentSchedules(1, currentWeekDate, SchoolPeriod.SEVEN_PERIOD);
         verify(studentScheduleGenerator).findOrCreateStudentSchedules(1, currentWeekDate, SchoolPeriod.EIGHT_AND_NINE_PERIOD);
-        verify(scheduleRepository, times(2)).save(any(ScheduleEntity.class));
-        verify(additionalSelfStudyScheduleRepository, times(2)).save(any(AdditionalSelfStudyScheduleEntity.class));
+        verify(scheduleRepository, times(2)).saveAll(argThat((List<ScheduleEntity> schedules) -> schedules.size() == 1));
+        verify(additionalSelfStudyScheduleRepository, times(2)).saveAll(argThat((List<AdditionalSelfStudyScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     @Test
@@ -278,26 +279,16 @@ class AdditionalSelfStudyServiceTest {
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, currentMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule));
 
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(anyLong()))
-                .willReturn(0);
-
-        ScheduleEntity mockSchedule = mock(ScheduleEntity.class);
-        given(mockSchedule.getType()).willReturn(ScheduleType.ADDITIONAL_SELF_STUDY);
-        given(scheduleRepository.save(any(ScheduleEntity.class)))
-                .willReturn(mockSchedule);
-
         PlaceEntity mockPlace = mock(PlaceEntity.class);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, mockPlace));
-        given(placeRepository.checkPlaceAvailability(any(), any(), any()))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule)))
+                .willReturn(Map.of(studentSchedule, mockPlace));
 
         // When: 추가 자습을 설정하면
         additionalSelfStudyService.setAdditionalSelfStudy(request);
 
         // Then: 스케줄이 즉시 생성되어야 한다
         verify(studentScheduleGenerator).findOrCreateStudentSchedules(1, currentMonday, SchoolPeriod.SEVEN_PERIOD);
-        verify(scheduleRepository).save(any(ScheduleEntity.class));
+        verify(scheduleRepository).saveAll(argThat((List<ScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     @Test
@@ -323,26 +314,16 @@ class AdditionalSelfStudyServiceTest {
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, currentSunday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule));
 
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(anyLong()))
-                .willReturn(0);
-
-        ScheduleEntity mockSchedule = mock(ScheduleEntity.class);
-        given(mockSchedule.getType()).willReturn(ScheduleType.ADDITIONAL_SELF_STUDY);
-        given(scheduleRepository.save(any(ScheduleEntity.class)))
-                .willReturn(mockSchedule);
-
         PlaceEntity mockPlace = mock(PlaceEntity.class);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, mockPlace));
-        given(placeRepository.checkPlaceAvailability(any(), any(), any()))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule)))
+                .willReturn(Map.of(studentSchedule, mockPlace));
 
         // When: 추가 자습을 설정하면
         additionalSelfStudyService.setAdditionalSelfStudy(request);
 
         // Then: 스케줄이 즉시 생성되어야 한다
         verify(studentScheduleGenerator).findOrCreateStudentSchedules(1, currentSunday, SchoolPeriod.SEVEN_PERIOD);
-        verify(scheduleRepository).save(any(ScheduleEntity.class));
+        verify(scheduleRepository).saveAll(argThat((List<ScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     private AdditionalSelfStudyEntity createMockAdditionalSelfStudy(
@@ -0,0 +1,133 @@
+package solvit.teachmon.domain.self_study.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.exception.NoAvailablePlaceException;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SelfStudyPlacePlanner 테스트")
+class SelfStudyPlacePlannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+    private final SelfStudyPlacePlanner planner = new SelfStudyPlacePlanner(placeRepository);
+
+    @Test
+    @DisplayName("자기 반 교실이 비어 있으면 자기 반 교실을 배정한다")
+    void shouldAssignOwnClassroom() {
+        // Given: 1학년 1반 학생과 비어 있는 1반 교실이 있을 때
+        PlaceEntity place1 = createPlace(1L);
+        PlaceEntity place2 = createPlace(2L);
+        StudentScheduleEntity studentSchedule = createStudentSchedule(1, 1, SchoolPeriod.SEVEN_PERIOD);
+        given(placeRepository.findAllByGradePrefix(1)).willReturn(Map.of(1, place1, 2, place2));
+        given(placeRepository.findOccupiedPlaceIdsByDayAndPeriod(eq(DAY), eq(SchoolPeriod.SEVEN_PERIOD), anyCollection()))
+                .willReturn(Set.of());
+
+        // When: 장소를 배정하면
+        Map<StudentScheduleEntity, PlaceEntity> places = planner.plan(List.of(studentSchedule));
+
+        // Then: 1반 교실이 배정된다
+        assertThat(places).containsEntry(studentSchedule, place1);
+    }
+
+    @Test
+    @DisplayName("자기 반 교실이 사용 중이거나 없으면 다음 반 교실을 배정한다")
+    void shouldAssignNextClassroomWhenOccupiedOrMissing() {
+        // Given: 1반 교실은 사용 중이고 2반 교실은 없을 때
+        PlaceEntity place1 = createPlace(1L);
+        PlaceEntity place3 = createPlace(3L);
+        StudentScheduleEntity studentSchedule = createStudentSchedule(1, 1, SchoolPeriod.SEVEN_PERIOD);
+        given(placeRepository.findAllByGradePrefix(1)).willReturn(Map.of(1, place1, 3, place3));
+        given(placeRepository.findOccupiedPlaceIdsByDayAndPeriod(eq(DAY), eq(SchoolPeriod.SEVEN_PERIOD), anyCollection()))
+                .willReturn(Set.of(1L));
+
+        // When: 장소를 배정하면
+        Map<StudentScheduleEntity, PlaceEntity> places = planner.plan(List.of(studentSchedule));
+
+        // Then: 3반 교실이 배정된다
+        assertThat(places).containsEntry(studentSchedule, place3);
+    }
+
+    @Test
+    @DisplayName("점유 현황은 (날짜, 교시) 별로 한 번만 조회한다")
+    void shouldQueryOccupancyOncePerSlot() {
+        // Given: 두 교시에 걸쳐 여러 학생이 있을 때
+        PlaceEntity place1 = createPlace(1L);
+        PlaceEntity place2 = createPlace(2L);
+        given(placeRepository.findAllByGradePrefix(1)).willReturn(Map.of(1, place1, 2, place2));
+        given(placeRepository.findOccupiedPlaceIdsByDayAndPeriod(any(), any(), anyCollection()))
+                .willReturn(Set.of());
+
+        List<StudentScheduleEntity> studentSchedules = List.of(
+                createStudentSchedule(1, 1, SchoolPeriod.SEVEN_PERIOD),
+                createStudentSchedule(1, 1, SchoolPeriod.SEVEN_PERIOD),
+                createStudentSchedule(1, 2, SchoolPeriod.SEVEN_PERIOD),
+                createStudentSchedule(1, 1, SchoolPeriod.EIGHT_AND_NINE_PERIOD),
+                createStudentSchedule(1, 2, SchoolPeriod.EIGHT_AND_NINE_PERIOD)
+        );
+
+        // When: 장소를 배정하면
+        Map<StudentScheduleEntity, PlaceEntity> places = planner.plan(studentSchedules);
+
+        // Then: 교실 목록은 학년별로 한 번, 점유 현황은 교시별로 한 번만 조회한다
+        assertThat(places).hasSize(5);
+        verify(placeRepository, times(1)).findAllByGradePrefix(1);
+        verify(placeRepository, times(1)).findOccupiedPlaceIdsByDayAndPeriod(eq(DAY), eq(SchoolPeriod.SEVEN_PERIOD), anyCollection());
+        verify(placeRepository, times(1)).findOccupiedPlaceIdsByDayAndPeriod(eq(DAY), eq(SchoolPeriod.EIGHT_AND_NINE_PERIOD), anyCollection());
+    }
+
+    @Test
+    @DisplayName("모든 반 교실이 사용 중이면 예외가 발생한다")
+    void shouldThrowWhenNoPlaceAvailable() {
+        // Given: 1~4반 교실이 모두 사용 중일 때
+        given(placeRepository.findAllByGradePrefix(1)).willReturn(Map.of(
+                1, createPlace(1L), 2, createPlace(2L), 3, createPlace(3L), 4, createPlace(4L)
+        ));
+        given(placeRepository.findOccupiedPlaceIdsByDayAndPeriod(any(), any(), anyCollection()))
+                .willReturn(Set.of(1L, 2L, 3L, 4L));
+        StudentScheduleEntity studentSchedule = createStudentSchedule(1, 2, SchoolPeriod.SEVEN_PERIOD);
+
+        // When & Then: 예외가 발생한다
+        assertThatThrownBy(() -> planner.plan(List.of(studentSchedule)))
+                .isInstanceOf(NoAvailablePlaceException.class);
+    }
+
+    private PlaceEntity createPlace(Long id) {
+        PlaceEntity place = mock(PlaceEntity.class);
+        given(place.getId()).willReturn(id);
+        return place;
+    }
+
+    private StudentScheduleEntity createStudentSchedule(Integer grade, Integer classNumber, SchoolPeriod period) {
+        StudentScheduleEntity studentSchedule = mock(StudentScheduleEntity.class);
+        StudentEntity student = mock(StudentEntity.class);
+        given(student.getGrade()).willReturn(grade);
+        given(student.getClassNumber()).willReturn(classNumber);
+        given(studentSchedule.getStudent()).willReturn(student);
+        given(studentSchedule.getDay()).willReturn(DAY);
+        given(studentSchedule.getPeriod()).willReturn(period);
+        return studentSchedule;
+    }
+}
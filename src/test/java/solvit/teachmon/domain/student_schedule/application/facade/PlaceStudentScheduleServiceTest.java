@@ -9,13 +9,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import solvit.teachmon.domain.place.exception.PlaceNotFoundException;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
 import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
-import solvit.teachmon.domain.student_schedule.application.dto.PlaceScheduleDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
 import solvit.teachmon.domain.student_schedule.application.dto.StudentScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.mapper.PlaceStudentScheduleMapper;
 import solvit.teachmon.domain.student_schedule.application.mapper.StudentScheduleMapper;
-import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.application.occupancy.PlaceOccupancyEngine;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
-import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AdditionalSelfStudyScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.LeaveSeatScheduleRepository;
@@ -45,9 +44,6 @@ import static org.mockito.Mockito.lenient;
 @DisplayName("장소별 학생 스케줄 서비스 테스트")
 class PlaceStudentScheduleServiceTest {
 
-    @Mock
-    private StudentScheduleRepository studentScheduleRepository;
-
     @Mock
     private SelfStudyScheduleRepository selfStudyScheduleRepository;
 
@@ -69,6 +65,9 @@ class PlaceStudentScheduleServiceTest {
     @Mock
     private StudentScheduleMapper studentScheduleMapper;
 
+    @Mock
+    private PlaceOccupancyEngine placeOccupancyEngine;
+
     @InjectMocks
     private PlaceStudentScheduleService placeStudentScheduleService;
 
@@ -79,23 +78,7 @@ class PlaceStudentScheduleServiceTest {
         LocalDate day = LocalDate.of(2024, 1, 15);
         SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
 
-        ScheduleEntity selfStudySchedule = mock(ScheduleEntity.class);
-        ScheduleEntity additionalSelfStudySchedule = mock(ScheduleEntity.class);
-        ScheduleEntity leaveSeatSchedule = mock(ScheduleEntity.class);
-        ScheduleEntity afterSchoolSchedule = mock(ScheduleEntity.class);
-
-        Map<ScheduleType, List<ScheduleEntity>> placeFillScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(selfStudySchedule),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(additionalSelfStudySchedule),
-                ScheduleType.LEAVE_SEAT, List.of(leaveSeatSchedule),
-                ScheduleType.AFTER_SCHOOL, List.of(afterSchoolSchedule)
-        );
-
-        Map<Integer, Long> selfStudyCountMap = Map.of(1, 5L, 2, 3L);
-        Map<Integer, Long> additionalSelfStudyCountMap = Map.of(2, 2L, 3, 4L);
-        Map<Integer, Long> leaveSeatCountMap = Map.of(1, 1L);
-        Map<Integer, Long> afterSchoolCountMap = Map.of(3, 2L);
-        Map<Integer, Long> afterSchoolReinforcementCountMap = Map.of(1, 2L, 3, 1L);
+        Map<Integer, Long> floorCountMap = Map.of(1, 8L, 2, 5L, 3, 7L);
 
         FloorStateResponse floor1Response = FloorStateResponse.builder()
                 .floor(1).count(8L).build();
@@ -104,43 +87,22 @@ class PlaceStudentScheduleServiceTest {
         FloorStateResponse floor3Response = FloorStateResponse.builder()
                 .floor(3).count(7L).build();
 
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(placeFillScheduleMap);
-        given(selfStudyScheduleRepository.getSelfStudyPlaceCount(List.of(selfStudySchedule)))
-                .willReturn(selfStudyCountMap);
-        given(additionalSelfStudyScheduleRepository.getAdditionalSelfStudyPlaceCount(List.of(additionalSelfStudySchedule)))
-                .willReturn(additionalSelfStudyCountMap);
-        given(leaveSeatScheduleRepository.getLeaveSeatPlaceCount(List.of(leaveSeatSchedule)))
-                .willReturn(leaveSeatCountMap);
-        given(afterSchoolScheduleRepository.getAfterSchoolPlaceCount(List.of(afterSchoolSchedule)))
-                .willReturn(afterSchoolCountMap);
-        given(afterSchoolScheduleRepository.getAfterSchoolReinforcementPlaceCount(List.of()))
-                .willReturn(afterSchoolReinforcementCountMap);
-        given(placeStudentScheduleMapper.toFloorStateResponses(anyMap()))
+        given(placeOccupancyEngine.getFloorCounts(day, period)).willReturn(floorCountMap);
+        given(placeStudentScheduleMapper.toFloorStateResponses(floorCountMap))
                 .willReturn(List.of(floor1Response, floor2Response, floor3Response));
 
         // When: 모든 층의 장소 사용 인원을 조회하면
         List<FloorStateResponse> result = placeStudentScheduleService.getAllFloorsPlaceCount(day, period);
 
-        // Then: 각 층별로 집계된 인원 수가 반환된다
+        // Then: 메모리의 장소 사용 현황으로 층별 인원 수가 반환된다
         assertThat(result).hasSize(3);
         assertThat(result).extracting(FloorStateResponse::floor)
                 .containsExactlyInAnyOrder(1, 2, 3);
 
-        verify(studentScheduleRepository, times(1))
-                .findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList());
-        verify(selfStudyScheduleRepository, times(1))
-                .getSelfStudyPlaceCount(List.of(selfStudySchedule));
-        verify(additionalSelfStudyScheduleRepository, times(1))
-                .getAdditionalSelfStudyPlaceCount(List.of(additionalSelfStudySchedule));
-        verify(leaveSeatScheduleRepository, times(1))
-                .getLeaveSeatPlaceCount(List.of(leaveSeatSchedule));
-        verify(afterSchoolScheduleRepository, times(1))
-                .getAfterSchoolPlaceCount(List.of(afterSchoolSchedule));
-        verify(afterSchoolScheduleRepository, times(1))
-                .getAfterSchoolReinforcementPlaceCount(List.of());
-        verify(placeStudentScheduleMapper, times(1))
-                .toFloorStateResponses(anyMap());
+        verify(placeOccupancyEngine, times(1)).getFloorCounts(day, period);
+        verify(placeStudentScheduleMapper, times(1)).toFloorStateResponses(floorCountMap);
+        verifyNoInteractions(selfStudyScheduleRepository, additionalSelfStudyScheduleRepository,
+                leaveSeatScheduleRepository, afterSchoolScheduleRepository);
     }
 
     @Test
@@ -150,20 +112,7 @@ class PlaceStudentScheduleServiceTest {
         LocalDate day = LocalDate.of(2024, 1, 15);
         SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
 
-        Map<ScheduleType, List<ScheduleEntity>> emptyScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(),
-                ScheduleType.LEAVE_SEAT, List.of(),
-                ScheduleType.AFTER_SCHOOL, List.of()
-        );
-
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(emptyScheduleMap);
-        given(selfStudyScheduleRepository.getSelfStudyPlaceCount(List.of())).willReturn(Map.of());
-        given(additionalSelfStudyScheduleRepository.getAdditionalSelfStudyPlaceCount(List.of())).willReturn(Map.of());
-        given(leaveSeatScheduleRepository.getLeaveSeatPlaceCount(List.of())).willReturn(Map.of());
-        given(afterSchoolScheduleRepository.getAfterSchoolPlaceCount(List.of())).willReturn(Map.of());
-        given(afterSchoolScheduleRepository.getAfterSchoolReinforcementPlaceCount(List.of())).willReturn(Map.of());
+        given(placeOccupancyEngine.getFloorCounts(day, period)).willReturn(Map.of());
         given(placeStudentScheduleMapper.toFloorStateResponses(anyMap())).willReturn(List.of());
 
         // When: 모든 층의 장소 사용 인원을 조회하면
@@ -172,8 +121,7 @@ class PlaceStudentScheduleServiceTest {
         // Then: 빈 목록이 반환된다
         assertThat(result).isEmpty();
 
-        verify(studentScheduleRepository, times(1))
-                .findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList());
+        verify(placeOccupancyEngine, times(1)).getFloorCounts(day, period);
     }
 
     @Test
@@ -184,40 +132,18 @@ class PlaceStudentScheduleServiceTest {
         LocalDate day = LocalDate.of(2024, 1, 15);
         SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
 
-        ScheduleEntity selfStudySchedule = mock(ScheduleEntity.class);
-        ScheduleEntity additionalSelfStudySchedule = mock(ScheduleEntity.class);
-
-        Map<ScheduleType, List<ScheduleEntity>> placeFillScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(selfStudySchedule),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(additionalSelfStudySchedule),
-                ScheduleType.LEAVE_SEAT, List.of(),
-                ScheduleType.AFTER_SCHOOL, List.of()
+        List<PlaceOccupancyDto> placeOccupancies = List.of(
+                new PlaceOccupancyDto(1L, "2층 자습실1", floor, ScheduleType.SELF_STUDY, 12L),
+                new PlaceOccupancyDto(2L, "2층 자습실2", floor, ScheduleType.ADDITIONAL_SELF_STUDY, 4L)
         );
 
-        PlaceEntity place1 = mock(PlaceEntity.class);
-        PlaceEntity place2 = mock(PlaceEntity.class);
-
-        PlaceScheduleDto placeSchedule1 = new PlaceScheduleDto(place1, ScheduleType.SELF_STUDY);
-        PlaceScheduleDto placeSchedule2 = new PlaceScheduleDto(place2, ScheduleType.ADDITIONAL_SELF_STUDY);
-
         PlaceStateResponse placeState1 = PlaceStateResponse.builder()
                 .placeId(1L).placeName("2층 자습실1").state(ScheduleType.SELF_STUDY).build();
         PlaceStateResponse placeState2 = PlaceStateResponse.builder()
                 .placeId(2L).placeName("2층 자습실2").state(ScheduleType.ADDITIONAL_SELF_STUDY).build();
 
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(placeFillScheduleMap);
-        given(selfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(selfStudySchedule), floor))
-                .willReturn(List.of(placeSchedule1));
-        given(additionalSelfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(additionalSelfStudySchedule), floor))
-                .willReturn(List.of(placeSchedule2));
-        given(leaveSeatScheduleRepository.getPlaceScheduleByFloor(List.of(), floor))
-                .willReturn(List.of());
-        given(afterSchoolScheduleRepository.getPlaceScheduleByFloor(List.of(), floor))
-                .willReturn(List.of());
-        given(afterSchoolScheduleRepository.getReinforcementPlaceScheduleByFloor(List.of(), floor))
-                .willReturn(List.of());
-        given(placeStudentScheduleMapper.toPlaceStateResponses(anyList()))
+        given(placeOccupancyEngine.getPlaces(floor, day, period)).willReturn(placeOccupancies);
+        given(placeStudentScheduleMapper.toPlaceStateResponsesFromOccupancies(placeOccupancies))
                 .willReturn(List.of(placeState1, placeState2));
 
         // When: 특정 층의 장소 상태를 조회하면
@@ -228,14 +154,10 @@ class PlaceStudentScheduleServiceTest {
         assertThat(result).extracting(PlaceStateResponse::state)
                 .containsExactlyInAnyOrder(ScheduleType.SELF_STUDY, ScheduleType.ADDITIONAL_SELF_STUDY);
 
-        verify(studentScheduleRepository, times(1))
-                .findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList());
-        verify(selfStudyScheduleRepository, times(1))
-                .getPlaceScheduleByFloor(List.of(selfStudySchedule), floor);
-        verify(additionalSelfStudyScheduleRepository, times(1))
-                .getPlaceScheduleByFloor(List.of(additionalSelfStudySchedule), floor);
-        verify(placeStudentScheduleMapper, times(1))
-                .toPlaceStateResponses(anyList());
+        verify(placeOccupancyEngine, times(1)).getPlaces(floor, day, period);
+        verify(placeStudentScheduleMapper, times(1)).toPlaceStateResponsesFromOccupancies(placeOccupancies);
+        verifyNoInteractions(selfStudyScheduleRepository, additionalSelfStudyScheduleRepository,
+                leaveSeatScheduleRepository, afterSchoolScheduleRepository);
     }
 
     @Test
@@ -246,21 +168,8 @@ class PlaceStudentScheduleServiceTest {
         LocalDate day = LocalDate.of(2024, 1, 15);
         SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
 
-        Map<ScheduleType, List<ScheduleEntity>> emptyScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(),
-                ScheduleType.LEAVE_SEAT, List.of(),
-                ScheduleType.AFTER_SCHOOL, List.of()
-        );
-
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(emptyScheduleMap);
-        given(selfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(additionalSelfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(leaveSeatScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(afterSchoolScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(afterSchoolScheduleRepository.getReinforcementPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(placeStudentScheduleMapper.toPlaceStateResponses(anyList())).willReturn(List.of());
+        given(placeOccupancyEngine.getPlaces(floor, day, period)).willReturn(List.of());
+        given(placeStudentScheduleMapper.toPlaceStateResponsesFromOccupancies(List.of())).willReturn(List.of());
 
         // When: 특정 층의 장소 상태를 조회하면
         List<PlaceStateResponse> result = placeStudentScheduleService.getPlaceStatesByFloor(floor, day, period);
@@ -268,8 +177,7 @@ class PlaceStudentScheduleServiceTest {
         // Then: 빈 목록이 반환된다
         assertThat(result).isEmpty();
 
-        verify(studentScheduleRepository, times(1))
-                .findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList());
+        verify(placeOccupancyEngine, times(1)).getPlaces(floor, day, period);
     }
 
     @Test
@@ -496,51 +404,6 @@ class PlaceStudentScheduleServiceTest {
                 .getReinforcementStudentScheduleByPlaceAndDayAndPeriod(placeId, day, period);
     }
 
-    @Test
-    @DisplayName("방과후 보강 스케줄이 층별 장소 사용 인원에 포함된다")
-    void shouldIncludeReinforcementScheduleInFloorCount() {
-        // Given: 방과후 보강 스케줄이 있는 날짜와 교시가 주어졌을 때
-        LocalDate day = LocalDate.of(2024, 1, 15);
-        SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
-
-        ScheduleEntity reinforcementSchedule = mock(ScheduleEntity.class);
-
-        Map<ScheduleType, List<ScheduleEntity>> placeFillScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(),
-                ScheduleType.LEAVE_SEAT, List.of(),
-                ScheduleType.AFTER_SCHOOL, List.of(),
-                ScheduleType.AFTER_SCHOOL_REINFORCEMENT, List.of(reinforcementSchedule)
-        );
-
-        Map<Integer, Long> reinforcementCountMap = Map.of(2, 3L, 3, 2L);
-
-        FloorStateResponse floor2Response = FloorStateResponse.builder()
-                .floor(2).count(3L).build();
-        FloorStateResponse floor3Response = FloorStateResponse.builder()
-                .floor(3).count(2L).build();
-
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(placeFillScheduleMap);
-        given(selfStudyScheduleRepository.getSelfStudyPlaceCount(List.of())).willReturn(Map.of());
-        given(additionalSelfStudyScheduleRepository.getAdditionalSelfStudyPlaceCount(List.of())).willReturn(Map.of());
-        given(leaveSeatScheduleRepository.getLeaveSeatPlaceCount(List.of())).willReturn(Map.of());
-        given(afterSchoolScheduleRepository.getAfterSchoolPlaceCount(List.of())).willReturn(Map.of());
-        given(afterSchoolScheduleRepository.getAfterSchoolReinforcementPlaceCount(List.of(reinforcementSchedule)))
-                .willReturn(reinforcementCountMap);
-        given(placeStudentScheduleMapper.toFloorStateResponses(anyMap()))
-                .willReturn(List.of(floor2Response, floor3Response));
-
-        // When: 모든 층의 장소 사용 인원을 조회하면
-        List<FloorStateResponse> result = placeStudentScheduleService.getAllFloorsPlaceCount(day, period);
-
-        // Then: 방과후 보강 스케줄이 포함된 결과가 반환된다
-        assertThat(result).hasSize(2);
-
-        verify(afterSchoolScheduleRepository, times(1))
-                .getAfterSchoolReinforcementPlaceCount(List.of(reinforcementSchedule));
-    }
-
     @Test
     @DisplayName("방과후 보강 장소가 특정 층의 장소 상태 조회에 포함된다")
     void shouldIncludeReinforcementPlaceInFloorState() {
@@ -549,31 +412,15 @@ class PlaceStudentScheduleServiceTest {
         LocalDate day = LocalDate.of(2024, 1, 15);
         SchoolPeriod period = SchoolPeriod.ONE_PERIOD;
 
-        ScheduleEntity reinforcementSchedule = mock(ScheduleEntity.class);
-
-        Map<ScheduleType, List<ScheduleEntity>> placeFillScheduleMap = Map.of(
-                ScheduleType.SELF_STUDY, List.of(),
-                ScheduleType.ADDITIONAL_SELF_STUDY, List.of(),
-                ScheduleType.LEAVE_SEAT, List.of(),
-                ScheduleType.AFTER_SCHOOL, List.of(),
-                ScheduleType.AFTER_SCHOOL_REINFORCEMENT, List.of(reinforcementSchedule)
+        List<PlaceOccupancyDto> placeOccupancies = List.of(
+                new PlaceOccupancyDto(1L, "2층 보강실", floor, ScheduleType.AFTER_SCHOOL_REINFORCEMENT, 3L)
         );
 
-        PlaceEntity reinforcementPlace = mock(PlaceEntity.class);
-        PlaceScheduleDto reinforcementPlaceSchedule = new PlaceScheduleDto(reinforcementPlace, ScheduleType.AFTER_SCHOOL_REINFORCEMENT);
-
         PlaceStateResponse placeState = PlaceStateResponse.builder()
-                .placeId(1L).placeName("2층 보강실").state(ScheduleType.AFTER_SCHOOL_REINFORCEMENT).build();
-
-        given(studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(eq(day), eq(period), anyList()))
-                .willReturn(placeFillScheduleMap);
-        given(selfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(additionalSelfStudyScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(leaveSeatScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(afterSchoolScheduleRepository.getPlaceScheduleByFloor(List.of(), floor)).willReturn(List.of());
-        given(afterSchoolScheduleRepository.getReinforcementPlaceScheduleByFloor(List.of(reinforcementSchedule), floor))
-                .willReturn(List.of(reinforcementPlaceSchedule));
-        given(placeStudentScheduleMapper.toPlaceStateResponses(anyList()))
+                .placeId(1L).placeName("2층 보강실").state(ScheduleType.AFTER_SCHOOL).build();
+
+        given(placeOccupancyEngine.getPlaces(floor, day, period)).willReturn(placeOccupancies);
+        given(placeStudentScheduleMapper.toPlaceStateResponsesFromOccupancies(placeOccupancies))
                 .willReturn(List.of(placeState));
 
         // When: 특정 층의 장소 상태를 조회하면
@@ -581,10 +428,9 @@ class PlaceStudentScheduleServiceTest {
 
         // Then: 방과후 보강 장소가 포함된 결과가 반환된다
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).state()).isEqualTo(ScheduleType.AFTER_SCHOOL_REINFORCEMENT);
+        assertThat(result.get(0).placeName()).isEqualTo("2층 보강실");
 
-        verify(afterSchoolScheduleRepository, times(1))
-                .getReinforcementPlaceScheduleByFloor(List.of(reinforcementSchedule), floor);
+        verify(placeStudentScheduleMapper, times(1)).toPlaceStateResponsesFromOccupancies(placeOccupancies);
     }
 
     @Test
@@ -0,0 +1,158 @@
+package solvit.teachmon.domain.student_schedule.application.occupancy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import solvit.teachmon.domain.student_schedule.application.dto.PlaceOccupancyDto;
+import solvit.teachmon.domain.student_schedule.application.dto.PlacePlacementDto;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleChangeVo;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("장소 사용 현황 엔진 테스트")
+class PlaceOccupancyEngineTest {
+
+    @Mock
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @InjectMocks
+    private PlaceOccupancyEngine placeOccupancyEngine;
+
+    private final LocalDate day = LocalDate.now().plusDays(1);
+    private final SchoolPeriod period = SchoolPeriod.EIGHT_AND_NINE_PERIOD;
+
+    @Test
+    @DisplayName("같은 날짜와 교시는 한 번만 DB 에서 불러오고 이후에는 메모리에서 조회한다")
+    void shouldLoadOnceAndServeFromMemory() {
+        // Given
+        given(studentScheduleRepository.findPlacePlacementsByDayAndPeriod(day, period)).willReturn(List.of(
+                placement(1L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY)
+        ));
+
+        // When
+        placeOccupancyEngine.getFloorCounts(day, period);
+        placeOccupancyEngine.getPlaces(2, day, period);
+        placeOccupancyEngine.getFloorCounts(day, period);
+
+        // Then
+        verify(studentScheduleRepository, times(1)).findPlacePlacementsByDayAndPeriod(day, period);
+    }
+
+    @Test
+    @DisplayName("층별 인원은 스케줄 타입별 사용 장소 수를 합산하고 방과후 보강도 포함한다")
+    void shouldSumPlacesPerTypeByFloor() {
+        // Given: 같은 장소를 자습 2명과 추가 자습 1명이 함께 사용하고, 3층에 보강이 있는 경우
+        given(studentScheduleRepository.findPlacePlacementsByDayAndPeriod(day, period)).willReturn(List.of(
+                placement(1L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY),
+                placement(2L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY),
+                placement(3L, 1L, "2층 자습실1", 2, ScheduleType.ADDITIONAL_SELF_STUDY),
+                placement(4L, 2L, "2층 자습실2", 2, ScheduleType.LEAVE_SEAT),
+                placement(5L, 3L, "3층 보강실", 3, ScheduleType.AFTER_SCHOOL_REINFORCEMENT)
+        ));
+
+        // When
+        Map<Integer, Long> floorCounts = placeOccupancyEngine.getFloorCounts(day, period);
+
+        // Then
+        assertThat(floorCounts).containsExactlyInAnyOrderEntriesOf(Map.of(2, 3L, 3, 1L));
+        assertThat(placeOccupancyEngine.getPlaces(2, day, period)).containsExactly(
+                new PlaceOccupancyDto(1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY, 2L),
+                new PlaceOccupancyDto(2L, "2층 자습실2", 2, ScheduleType.LEAVE_SEAT, 1L),
+                new PlaceOccupancyDto(1L, "2층 자습실1", 2, ScheduleType.ADDITIONAL_SELF_STUDY, 1L)
+        );
+        assertThat(placeOccupancyEngine.getPlaces(3, day, period))
+                .extracting(PlaceOccupancyDto::scheduleType)
+                .containsExactly(ScheduleType.AFTER_SCHOOL_REINFORCEMENT);
+        assertThat(placeOccupancyEngine.getPlaces(4, day, period)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경분이 있는 이벤트는 바뀐 학생의 장소만 조회해 이전 장소에서 빼고 새 장소에 더한다")
+    void shouldApplyDeltasWithoutReloadingSlot() {
+        // Given: 자습실1 에 학생 2명이 자습 중일 때
+        given(studentScheduleRepository.findPlacePlacementsByDayAndPeriod(day, period)).willReturn(List.of(
+                placement(1L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY),
+                placement(2L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY)
+        ));
+        placeOccupancyEngine.getFloorCounts(day, period);
+
+        // 1번 학생은 3층 이석 장소로 옮기고, 2번 학생은 장소 기반 스케줄이 모두 사라졌을 때
+        given(studentScheduleRepository.findPlacePlacementsByStudentScheduleIds(Set.of(1L, 2L))).willReturn(List.of(
+                placement(1L, 4L, "3층 동아리실", 3, ScheduleType.LEAVE_SEAT)
+        ));
+
+        // When
+        placeOccupancyEngine.onStudentScheduleChanged(new StudentScheduleChangedEvent(
+                Set.of(new ScheduleSlotVo(day, period)),
+                List.of(
+                        new ScheduleChangeVo(1L, 1, day, period, ScheduleType.LEAVE_SEAT),
+                        new ScheduleChangeVo(2L, 1, day, period, null)
+                ),
+                Set.of(1L, 2L)
+        ));
+
+        // Then: (날짜, 교시) 전체를 다시 불러오지 않고 인원만 옮겨진다
+        assertThat(placeOccupancyEngine.getFloorCounts(day, period)).containsExactlyInAnyOrderEntriesOf(Map.of(3, 1L));
+        assertThat(placeOccupancyEngine.getPlaces(2, day, period)).isEmpty();
+        assertThat(placeOccupancyEngine.getPlaces(3, day, period)).containsExactly(
+                new PlaceOccupancyDto(4L, "3층 동아리실", 3, ScheduleType.LEAVE_SEAT, 1L)
+        );
+        verify(studentScheduleRepository, times(1)).findPlacePlacementsByDayAndPeriod(day, period);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 날짜와 교시의 변경분은 조회하지 않는다")
+    void shouldIgnoreDeltasForNotCachedSlots() {
+        // When
+        placeOccupancyEngine.onStudentScheduleChanged(new StudentScheduleChangedEvent(
+                Set.of(new ScheduleSlotVo(day, period)), List.of(), Set.of(1L)
+        ));
+
+        // Then
+        verifyNoInteractions(studentScheduleRepository);
+    }
+
+    @Test
+    @DisplayName("변경분이 없는 일괄 변경 이벤트는 메모리에 있는 날짜와 교시만 다시 불러온다")
+    void shouldReloadOnlyCachedSlotsOnBulkChange() {
+        // Given
+        given(studentScheduleRepository.findPlacePlacementsByDayAndPeriod(day, period))
+                .willReturn(List.of(placement(1L, 1L, "2층 자습실1", 2, ScheduleType.SELF_STUDY)))
+                .willReturn(List.of());
+        placeOccupancyEngine.getFloorCounts(day, period);
+
+        ScheduleSlotVo notCachedSlot = new ScheduleSlotVo(day, SchoolPeriod.TEN_AND_ELEVEN_PERIOD);
+
+        // When
+        placeOccupancyEngine.onStudentScheduleChanged(new StudentScheduleChangedEvent(
+                Set.of(new ScheduleSlotVo(day, period), notCachedSlot)
+        ));
+
+        // Then
+        assertThat(placeOccupancyEngine.getFloorCounts(day, period)).isEmpty();
+        verify(studentScheduleRepository, times(2)).findPlacePlacementsByDayAndPeriod(day, period);
+        verify(studentScheduleRepository, never()).findPlacePlacementsByDayAndPeriod(any(), eq(SchoolPeriod.TEN_AND_ELEVEN_PERIOD));
+        verify(studentScheduleRepository, never()).findPlacePlacementsByStudentScheduleIds(any());
+    }
+
+    private PlacePlacementDto placement(Long studentScheduleId, Long placeId, String placeName, Integer floor, ScheduleType type) {
+        return new PlacePlacementDto(studentScheduleId, day, period, placeId, placeName, floor, type);
+    }
+}
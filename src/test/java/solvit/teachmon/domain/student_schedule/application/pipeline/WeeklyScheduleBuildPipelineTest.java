@@ -0,0 +1,268 @@
+package solvit.teachmon.domain.student_schedule.application.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleGenerator;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategyComposite;
+import solvit.teachmon.domain.student_schedule.domain.entity.WeeklyScheduleBuildCheckpointEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.WeeklyScheduleBuildCheckpointRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("주간 스케줄 빌드 파이프라인 테스트")
+class WeeklyScheduleBuildPipelineTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 3, 2);
+    private static final LocalDate TUESDAY = BASE_DATE.plusDays(1);
+
+    private final StudentScheduleSettingStrategyComposite composite = mock(StudentScheduleSettingStrategyComposite.class);
+    private final StudentScheduleGenerator studentScheduleGenerator = mock(StudentScheduleGenerator.class);
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final WeeklyScheduleBuildCheckpointRepository checkpointRepository = mock(WeeklyScheduleBuildCheckpointRepository.class);
+    private final WeeklyScheduleBuildLock buildLock = mock(WeeklyScheduleBuildLock.class);
+    private final WeeklyScheduleBuildLock.Heartbeat heartbeat = mock(WeeklyScheduleBuildLock.Heartbeat.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StudentScheduleSettingStrategy selfStudyStrategy = createStrategy(ScheduleType.SELF_STUDY);
+    private final StudentScheduleSettingStrategy afterSchoolStrategy = createStrategy(ScheduleType.AFTER_SCHOOL);
+
+    private final StudentEntity firstGradeStudent = createStudent(1);
+    private final StudentEntity secondGradeStudent = createStudent(2);
+
+    private WeeklyScheduleBuildPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        pipeline = new WeeklyScheduleBuildPipeline(
+                composite, studentScheduleGenerator, studentRepository, checkpointRepository, buildLock, transactionTemplate, meterRegistry
+        );
+
+        given(composite.getAllStrategies()).willReturn(List.of(selfStudyStrategy, afterSchoolStrategy));
+        given(studentScheduleGenerator.getWeekDays(BASE_DATE)).willReturn(List.of(BASE_DATE, TUESDAY));
+        given(studentRepository.findByYear(2026)).willReturn(List.of(firstGradeStudent, secondGradeStudent));
+        given(buildLock.tryAcquire(any())).willReturn(Optional.of("owner"));
+        given(buildLock.keepAlive(any(), any())).willReturn(heartbeat);
+    }
+
+    @Test
+    @DisplayName("빌드하면 삭제, (날짜, 학년) 청크 생성, 전략 순서대로 실행한다")
+    void shouldRunAllStagesInOrder() {
+        // When: 주간 스케줄을 빌드하면
+        pipeline.build(BASE_DATE);
+
+        // Then: (날짜, 학년) 청크마다 학생 스케줄이 생성된다
+        verify(studentScheduleGenerator).bulkDeleteFutureStudentSchedules(BASE_DATE);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(firstGradeStudent), BASE_DATE);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(secondGradeStudent), BASE_DATE);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(firstGradeStudent), TUESDAY);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(secondGradeStudent), TUESDAY);
+
+        // 전략은 getAllStrategies 순서대로 실행된다
+        InOrder inOrder = inOrder(studentScheduleGenerator, selfStudyStrategy, afterSchoolStrategy);
+        inOrder.verify(studentScheduleGenerator).bulkDeleteFutureStudentSchedules(BASE_DATE);
+        inOrder.verify(selfStudyStrategy).settingSchedule(BASE_DATE);
+        inOrder.verify(afterSchoolStrategy).settingSchedule(BASE_DATE);
+
+        // 청크별 타이머가 기록된다 (삭제 1 + 청크 4 + 전략 2)
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build").timers()).hasSize(7);
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build.chunks")
+                .tag("result", "success").counters())
+                .extracting(counter -> counter.count())
+                .containsExactlyInAnyOrder(1.0, 4.0, 2.0);
+    }
+
+    @Test
+    @DisplayName("삭제/생성 단계의 처리 행 수와 초당 처리량을 기록한다")
+    void shouldReportRowsPerSecond() {
+        // Given: 삭제 10건, 청크마다 3건이 생성될 때
+        given(studentScheduleGenerator.bulkDeleteFutureStudentSchedules(BASE_DATE)).willReturn(10L);
+        given(studentScheduleGenerator.createStudentSchedulesByDay(anyList(), any())).willReturn(3L);
+
+        // When: 주간 스케줄을 빌드하면
+        pipeline.build(BASE_DATE);
+
+        // Then: 단계별 처리 행 수와 초당 처리량이 기록된다
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build.rows").tag("stage", "reset").counter().count())
+                .isEqualTo(10.0);
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build.rows").tag("stage", "student_schedule").counter().count())
+                .isEqualTo(12.0);
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build.rows-per-second").tag("stage", "student_schedule").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빌드가 끝나면 체크포인트를 완료 상태로 저장한다")
+    void shouldFinishCheckpointAfterBuild() {
+        // When: 주간 스케줄을 빌드하면
+        pipeline.build(BASE_DATE);
+
+        // Then: 완료된 체크포인트가 저장된다
+        ArgumentCaptor<WeeklyScheduleBuildCheckpointEntity> captor = ArgumentCaptor.forClass(WeeklyScheduleBuildCheckpointEntity.class);
+        verify(checkpointRepository, atLeastOnce()).save(captor.capture());
+
+        WeeklyScheduleBuildCheckpointEntity checkpoint = captor.getValue();
+        assertThat(checkpoint.getBaseDate()).isEqualTo("2026-03-02");
+        assertThat(checkpoint.getFinished()).isTrue();
+        assertThat(checkpoint.getCompletedStages()).contains(
+                "reset:2026-03-02", "student_schedule:MONDAY:1", "student_schedule:TUESDAY:2", "strategy:AFTER_SCHOOL"
+        );
+    }
+
+    @Test
+    @DisplayName("전략이 실패하면 예외를 던지고 이전 단계까지만 완료로 기록한다")
+    void shouldKeepCompletedStagesWhenStrategyFails() {
+        // Given: 방과후 전략이 실패할 때
+        willThrow(new IllegalStateException("boom")).given(afterSchoolStrategy).settingSchedule(BASE_DATE);
+
+        // When & Then: 예외가 전파된다
+        ArgumentCaptor<WeeklyScheduleBuildCheckpointEntity> captor = ArgumentCaptor.forClass(WeeklyScheduleBuildCheckpointEntity.class);
+        assertThatThrownBy(() -> pipeline.build(BASE_DATE))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(checkpointRepository, atLeastOnce()).save(captor.capture());
+        WeeklyScheduleBuildCheckpointEntity checkpoint = captor.getValue();
+        assertThat(checkpoint.getFinished()).isFalse();
+        assertThat(checkpoint.isCompleted("strategy:SELF_STUDY")).isTrue();
+        assertThat(checkpoint.isCompleted("strategy:AFTER_SCHOOL")).isFalse();
+        assertThat(meterRegistry.get("teachmon.schedule.weekly-build.chunks")
+                .tag("result", "failure").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재개하면 완료된 단계는 건너뛰고 나머지만 실행한다")
+    void shouldSkipCompletedStagesWhenResume() {
+        // Given: 삭제, 월요일 1학년 청크, 자습 전략까지 완료된 체크포인트가 있을 때
+        WeeklyScheduleBuildCheckpointEntity checkpoint = WeeklyScheduleBuildCheckpointEntity.builder()
+                .baseDate("2026-03-02")
+                .completedStages(Set.of("reset:2026-03-02", "student_schedule:MONDAY:1", "strategy:SELF_STUDY"))
+                .build();
+        given(checkpointRepository.findById("2026-03-02")).willReturn(Optional.of(checkpoint));
+
+        // When: 빌드를 재개하면
+        pipeline.resume(BASE_DATE);
+
+        // Then: 완료되지 않은 단계만 실행된다
+        verify(studentScheduleGenerator, never()).bulkDeleteFutureStudentSchedules(any());
+        verify(studentScheduleGenerator, never()).createStudentSchedulesByDay(List.of(firstGradeStudent), BASE_DATE);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(secondGradeStudent), BASE_DATE);
+        verify(studentScheduleGenerator).createStudentSchedulesByDay(List.of(firstGradeStudent), TUESDAY);
+        verify(selfStudyStrategy, never()).settingSchedule(any());
+        verify(afterSchoolStrategy).settingSchedule(BASE_DATE);
+        assertThat(checkpoint.getFinished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 완료되었거나 진행 기록이 없으면 재개하지 않는다")
+    void shouldNotResumeWhenFinishedOrMissing() {
+        // Given: 완료된 체크포인트만 있을 때
+        WeeklyScheduleBuildCheckpointEntity finished = WeeklyScheduleBuildCheckpointEntity.builder()
+                .baseDate("2026-03-02")
+                .finished(true)
+                .build();
+        given(checkpointRepository.findById("2026-03-02")).willReturn(Optional.of(finished));
+        given(checkpointRepository.findById("2026-03-09")).willReturn(Optional.empty());
+
+        // When: 빌드를 재개하면
+        pipeline.resume(BASE_DATE);
+        pipeline.resume(BASE_DATE.plusWeeks(1));
+
+        // Then: 아무 단계도 실행되지 않는다
+        verifyNoInteractions(studentScheduleGenerator, selfStudyStrategy, afterSchoolStrategy);
+    }
+
+    @Test
+    @DisplayName("같은 날짜의 빌드가 실행 중이면 재개하지 않는다")
+    void shouldNotResumeWhileBuildIsRunning() {
+        // Given: 완료되지 않은 체크포인트가 있지만 다른 빌드가 실행 중일 때
+        WeeklyScheduleBuildCheckpointEntity checkpoint = WeeklyScheduleBuildCheckpointEntity.builder()
+                .baseDate("2026-03-02")
+                .completedStages(Set.of("reset:2026-03-02"))
+                .build();
+        given(checkpointRepository.findById("2026-03-02")).willReturn(Optional.of(checkpoint));
+        given(buildLock.tryAcquire(BASE_DATE)).willReturn(Optional.empty());
+
+        // When: 빌드를 재개하면
+        pipeline.resume(BASE_DATE);
+
+        // Then: 아무 단계도 실행되지 않고 락도 해제하지 않는다
+        verifyNoInteractions(studentScheduleGenerator, selfStudyStrategy, afterSchoolStrategy);
+        verify(buildLock, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("빌드가 실패해도 실행 중 표시를 해제한다")
+    void shouldReleaseLockWhenBuildFails() {
+        // Given: 방과후 전략이 실패할 때
+        willThrow(new IllegalStateException("boom")).given(afterSchoolStrategy).settingSchedule(BASE_DATE);
+
+        // When & Then
+        assertThatThrownBy(() -> pipeline.build(BASE_DATE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(buildLock).release(BASE_DATE, "owner");
+    }
+
+    @Test
+    @DisplayName("전략 단계가 실행되는 동안 실행 중 표시를 계속 연장하고, 끝나면 연장을 멈춘 뒤 해제한다")
+    void shouldKeepLockAliveWhileStagesRun() {
+        // When: 주간 스케줄을 빌드하면
+        pipeline.build(BASE_DATE);
+
+        // Then: 모든 단계가 heartbeat 안에서 실행되고, heartbeat 를 닫은 뒤 실행 중 표시를 해제한다
+        InOrder inOrder = inOrder(buildLock, heartbeat, selfStudyStrategy, afterSchoolStrategy);
+        inOrder.verify(buildLock).keepAlive(BASE_DATE, "owner");
+        inOrder.verify(selfStudyStrategy).settingSchedule(BASE_DATE);
+        inOrder.verify(afterSchoolStrategy).settingSchedule(BASE_DATE);
+        inOrder.verify(heartbeat).close();
+        inOrder.verify(buildLock).release(BASE_DATE, "owner");
+    }
+
+    @Test
+    @DisplayName("빌드가 실패해도 실행 중 표시 연장을 멈춘다")
+    void shouldStopHeartbeatWhenBuildFails() {
+        // Given: 방과후 전략이 실패할 때
+        willThrow(new IllegalStateException("boom")).given(afterSchoolStrategy).settingSchedule(BASE_DATE);
+
+        // When & Then
+        assertThatThrownBy(() -> pipeline.build(BASE_DATE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(heartbeat).close();
+    }
+
+    private StudentScheduleSettingStrategy createStrategy(ScheduleType scheduleType) {
+        StudentScheduleSettingStrategy strategy = mock(StudentScheduleSettingStrategy.class);
+        given(strategy.getScheduleType()).willReturn(scheduleType);
+        return strategy;
+    }
+
+    private StudentEntity createStudent(Integer grade) {
+        StudentEntity student = mock(StudentEntity.class);
+        given(student.getGrade()).willReturn(grade);
+        return student;
+    }
+}
@@ -8,8 +8,9 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleSettingService;
+import solvit.teachmon.domain.student_schedule.application.pipeline.WeeklyScheduleBuildPipeline;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,37 +21,39 @@ import static org.mockito.Mockito.*;
 class StudentScheduleSettingSchedulerTest {
 
     @Mock
-    private StudentScheduleSettingService studentScheduleSettingService;
+    private WeeklyScheduleBuildPipeline weeklyScheduleBuildPipeline;
 
     @InjectMocks
     private StudentScheduleSettingScheduler scheduler;
 
     @Test
-    @DisplayName("스케줄러가 실행되면 새로운 학생 스케줄을 생성하고 모든 타입의 스케줄을 설정한다")
-    void shouldCreateAndSettingScheduleWhenSchedulerRuns() {
+    @DisplayName("스케줄러가 실행되면 다음 주 월요일 기준으로 주간 스케줄 빌드를 실행한다")
+    void shouldBuildWeeklyScheduleWhenSchedulerRuns() {
         // When: 스케줄러가 실행되면
         scheduler.settingStudentSchedule();
 
-        // Then: 학생 스케줄을 생성하고, 모든 타입의 스케줄을 설정해야 한다
+        // Then: 다음 주 월요일을 기준으로 빌드해야 한다
         ArgumentCaptor<LocalDate> captor = ArgumentCaptor.forClass(LocalDate.class);
-        verify(studentScheduleSettingService, times(1)).createNewStudentSchedule(captor.capture());
-        verify(studentScheduleSettingService, times(1)).settingAllTypeSchedule(captor.capture());
+        verify(weeklyScheduleBuildPipeline, times(1)).build(captor.capture());
+        verify(weeklyScheduleBuildPipeline, never()).resume(any());
 
-        // 동일한 날짜를 사용해야 한다
-        assertThat(captor.getAllValues().get(0)).isEqualTo(captor.getAllValues().get(1));
+        assertThat(captor.getValue()).isEqualTo(LocalDate.now().with(DayOfWeek.MONDAY).plusWeeks(1));
     }
 
     @Test
-    @DisplayName("스케줄러는 학생 스케줄 생성 후에 타입별 스케줄을 설정해야 한다")
-    void shouldSettingScheduleAfterCreatingStudentSchedule() {
-        // When: 스케줄러가 실행되면
+    @DisplayName("재개 스케줄러는 같은 기준 날짜로 중단된 빌드를 이어서 실행한다")
+    void shouldResumeWeeklyScheduleWithSameBaseDate() {
+        // When: 빌드 후 재개 스케줄러가 실행되면
         scheduler.settingStudentSchedule();
+        scheduler.resumeStudentSchedule();
 
-        // Then: 학생 스케줄 생성이 먼저 실행되고, 그 다음 타입별 스케줄이 설정되어야 한다
+        // Then: 빌드와 재개는 동일한 날짜를 사용해야 한다
         ArgumentCaptor<LocalDate> captor = ArgumentCaptor.forClass(LocalDate.class);
-        InOrder inOrder = inOrder(studentScheduleSettingService);
-        inOrder.verify(studentScheduleSettingService).createNewStudentSchedule(captor.capture());
-        inOrder.verify(studentScheduleSettingService).settingAllTypeSchedule(captor.capture());
+        InOrder inOrder = inOrder(weeklyScheduleBuildPipeline);
+        inOrder.verify(weeklyScheduleBuildPipeline).build(captor.capture());
+        inOrder.verify(weeklyScheduleBuildPipeline).resume(captor.capture());
+
+        assertThat(captor.getAllValues().get(0)).isEqualTo(captor.getAllValues().get(1));
     }
 
     @Test
@@ -79,13 +82,16 @@ class StudentScheduleSettingSchedulerTest {
     void schedulerWorkflow() {
         // 이 테스트는 스케줄러의 전체 동작 플로우를 문서화합니다.
         //
-        // 1단계: createNewStudentSchedule() 실행
+        // WeeklyScheduleBuildPipeline 이 단계별로 자체 트랜잭션에서 실행하고,
+        // 완료된 단계는 체크포인트에 기록되어 실패 후 재개 시 건너뛴다.
+        //
+        // 1단계: 기존 스케줄 삭제 후 (날짜, 학년) 청크별 학생 스케줄 생성 (가상 스레드 병렬)
         //    - 다음 주(월~일)의 기존 스케줄 삭제
         //    - 현재 연도 학생들 조회
         //    - 각 학생별로 다음 주 월~목, 7/8-9/10-11교시 스케줄 생성
         //    - 총 생성 개수: 학생 수 × 4일 × 3교시
         //
-        // 2단계: settingAllTypeSchedule() 실행
+        // 2단계: getAllStrategies() 순서대로 타입별 스케줄 설정
         //    - SelfStudyScheduleSettingStrategy 실행
         //      → 분기별 자습 정보를 기반으로 자습 스케줄 생성
         //      → 각 학생에게 장소 배정
@@ -0,0 +1,63 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("현재 스케줄 초기화 테스트")
+class CurrentScheduleInitializerTest {
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final CurrentScheduleDomainService currentScheduleDomainService = mock(CurrentScheduleDomainService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final CurrentScheduleInitializer currentScheduleInitializer = new CurrentScheduleInitializer(
+            scheduleRepository, currentScheduleDomainService, transactionTemplate
+    );
+
+    @Test
+    @DisplayName("current_schedule 행이 없는 학생 스케줄을 청크로 나눠 갱신한다")
+    void shouldBackfillInChunksWhenMissing() {
+        // Given: 프로젝션 행이 없는 학생 스케줄이 2500개일 때
+        List<Long> studentScheduleIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+        given(scheduleRepository.findStudentScheduleIdsWithoutCurrentSchedule()).willReturn(studentScheduleIds);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        currentScheduleInitializer.initialize();
+
+        // Then: 1000개씩 3번 갱신한다
+        verify(currentScheduleDomainService).refresh(studentScheduleIds.subList(0, 1000));
+        verify(currentScheduleDomainService).refresh(studentScheduleIds.subList(1000, 2000));
+        verify(currentScheduleDomainService).refresh(studentScheduleIds.subList(2000, 2500));
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("모든 학생 스케줄에 current_schedule 행이 있으면 아무것도 하지 않는다")
+    void shouldSkipWhenNothingMissing() {
+        // Given
+        given(scheduleRepository.findStudentScheduleIdsWithoutCurrentSchedule()).willReturn(List.of());
+
+        // When
+        currentScheduleInitializer.initialize();
+
+        // Then
+        verifyNoInteractions(currentScheduleDomainService, transactionTemplate);
+    }
+}
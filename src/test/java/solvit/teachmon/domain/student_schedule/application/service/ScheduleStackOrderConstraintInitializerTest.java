@@ -0,0 +1,144 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.CurrentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 제약 추가(DDL)는 트랜잭션으로 되돌릴 수 없으므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("스케줄 스택 순서 유니크 제약 적용 테스트")
+class ScheduleStackOrderConstraintInitializerTest {
+
+    @Autowired
+    private ScheduleStackOrderConstraintInitializer scheduleStackOrderConstraintInitializer;
+
+    @Autowired
+    private CurrentScheduleInitializer currentScheduleInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CurrentScheduleRepository currentScheduleRepository;
+
+    private StudentEntity student;
+    private StudentScheduleEntity studentSchedule;
+    private StudentScheduleEntity otherStudentSchedule;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(StudentEntity.builder()
+                .year(2026)
+                .grade(2)
+                .classNumber(3)
+                .number(7)
+                .name("중복학생")
+                .build());
+        studentSchedule = studentScheduleRepository.save(StudentScheduleEntity.builder()
+                .student(student)
+                .day(LocalDate.of(2026, 3, 3))
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .build());
+        otherStudentSchedule = studentScheduleRepository.save(StudentScheduleEntity.builder()
+                .student(student)
+                .day(LocalDate.of(2026, 3, 3))
+                .period(SchoolPeriod.EIGHT_AND_NINE_PERIOD)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (StudentScheduleEntity target : List.of(studentSchedule, otherStudentSchedule)) {
+            jdbcTemplate.update("DELETE FROM current_schedule WHERE student_schedule_id = ?", target.getId());
+            jdbcTemplate.update("DELETE FROM schedule WHERE student_schedule_id = ?", target.getId());
+            studentScheduleRepository.deleteById(target.getId());
+        }
+        studentRepository.deleteById(student.getId());
+    }
+
+    @Test
+    @DisplayName("제약이 없으면 중복된 스택 순서를 다시 매기고 제약을 추가한다")
+    void shouldRenumberDuplicatesAndAddConstraint() {
+        // Given: 제약이 없는 상태에서 자습, 이석이 같은 순서(1)로 쌓이고 그 위에 이탈(2)이 쌓였을 때
+        jdbcTemplate.execute("ALTER TABLE schedule DROP CONSTRAINT " + ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT);
+        ScheduleEntity selfStudy = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.SELF_STUDY));
+        ScheduleEntity leaveSeat = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.LEAVE_SEAT));
+        ScheduleEntity exit = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 1, ScheduleType.EXIT));
+
+        // When
+        scheduleStackOrderConstraintInitializer.afterSingletonsInstantiated();
+
+        // Then: (stack_order, id) 순서대로 1, 2, 3 이 된다
+        List<Integer> stackOrders = jdbcTemplate.queryForList(
+                "SELECT stack_order FROM schedule WHERE id IN (?, ?, ?) ORDER BY id",
+                Integer.class, selfStudy.getId(), leaveSeat.getId(), exit.getId());
+        assertThat(stackOrders).containsExactly(1, 2, 3);
+        assertThat(currentScheduleRepository.findById(studentSchedule.getId()))
+                .hasValueSatisfying(currentSchedule -> {
+                    assertThat(currentSchedule.getScheduleId()).isEqualTo(exit.getId());
+                    assertThat(currentSchedule.getStackOrder()).isEqualTo(3);
+                });
+
+        // 제약이 다시 생겨 같은 순서로 쌓을 수 없다
+        assertThatThrownBy(() -> scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 2, ScheduleType.AWAY)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("중복 스택을 고친 뒤에도 current_schedule 이 없는 나머지 학생 스케줄을 채운다")
+    void shouldBackfillRemainingStudentSchedulesAfterRenumbering() {
+        // Given: 제약이 없고 current_schedule 이 비어 있는 상태에서, 한 학생 스케줄은 스택 순서가 겹치고 다른 하나는 정상일 때
+        jdbcTemplate.execute("ALTER TABLE schedule DROP CONSTRAINT " + ScheduleEntity.STACK_ORDER_UNIQUE_CONSTRAINT);
+        scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.SELF_STUDY));
+        ScheduleEntity duplicated = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.LEAVE_SEAT));
+        ScheduleEntity other = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(otherStudentSchedule, 0, ScheduleType.AFTER_SCHOOL));
+        jdbcTemplate.update("DELETE FROM current_schedule WHERE student_schedule_id IN (?, ?)",
+                studentSchedule.getId(), otherStudentSchedule.getId());
+
+        // When: 기동 순서대로 제약 적용 후 백필하면
+        scheduleStackOrderConstraintInitializer.afterSingletonsInstantiated();
+        currentScheduleInitializer.initialize();
+
+        // Then: 제약 적용이 채운 학생 스케줄뿐 아니라 나머지 학생 스케줄도 현재 스케줄을 가진다
+        assertThat(currentScheduleRepository.findById(studentSchedule.getId()))
+                .hasValueSatisfying(currentSchedule -> assertThat(currentSchedule.getScheduleId()).isEqualTo(duplicated.getId()));
+        assertThat(currentScheduleRepository.findById(otherStudentSchedule.getId()))
+                .hasValueSatisfying(currentSchedule -> {
+                    assertThat(currentSchedule.getScheduleId()).isEqualTo(other.getId());
+                    assertThat(currentSchedule.getType()).isEqualTo(ScheduleType.AFTER_SCHOOL);
+                });
+    }
+}
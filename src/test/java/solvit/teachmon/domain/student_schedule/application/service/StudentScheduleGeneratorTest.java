@@ -4,20 +4,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -34,6 +39,9 @@ class StudentScheduleGeneratorTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StudentScheduleGenerator studentScheduleGenerator;
 
@@ -152,15 +160,62 @@ class StudentScheduleGeneratorTest {
 
         StudentScheduleEntity schedule1 = mock(StudentScheduleEntity.class);
         StudentScheduleEntity schedule2 = mock(StudentScheduleEntity.class);
+        given(schedule1.getId()).willReturn(1L);
+        given(schedule2.getId()).willReturn(2L);
         given(studentScheduleRepository.findAllByDayBetween(nextMonday, nextSunday))
                 .willReturn(List.of(schedule1, schedule2));
 
         // When
         studentScheduleGenerator.deleteFutureStudentSchedules(nextMonday);
 
-        // Then: 조회 후 삭제
+        // Then: 조회 후 하위 스케줄을 먼저 삭제하고 학생 스케줄을 삭제
         verify(studentScheduleRepository).findAllByDayBetween(nextMonday, nextSunday);
-        verify(studentScheduleRepository).deleteAll(List.of(schedule1, schedule2));
+        InOrder inOrder = inOrder(studentScheduleRepository);
+        inOrder.verify(studentScheduleRepository).bulkDeleteSchedulePayloadsByStudentScheduleIdIn(List.of(1L, 2L));
+        inOrder.verify(studentScheduleRepository).deleteAll(List.of(schedule1, schedule2));
+    }
+
+    @Test
+    @DisplayName("createStudentSchedulesByDay는 하루치 방과후 교시 스케줄을 일괄 저장한다")
+    void shouldBulkInsertDaySchedules() {
+        // Given: 2명의 학생
+        LocalDate nextMonday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+        StudentEntity student1 = createMockStudent(1L);
+        StudentEntity student2 = createMockStudent(2L);
+        given(studentScheduleRepository.bulkInsert(anyList())).willReturn(6L);
+
+        // When
+        long inserted = studentScheduleGenerator.createStudentSchedulesByDay(List.of(student1, student2), nextMonday);
+
+        // Then: 2명 * 3교시 = 6개를 saveAll 없이 일괄 저장
+        ArgumentCaptor<List<StudentScheduleEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentScheduleRepository).bulkInsert(captor.capture());
+        verify(studentScheduleRepository, never()).saveAll(anyList());
+
+        assertThat(inserted).isEqualTo(6L);
+        assertThat(captor.getValue())
+                .hasSize(6)
+                .extracting(StudentScheduleEntity::getDay)
+                .containsOnly(nextMonday);
+    }
+
+    @Test
+    @DisplayName("bulkDeleteFutureStudentSchedules는 엔티티 로딩 없이 삭제하고 바뀐 시간대를 이벤트로 발행한다")
+    void shouldBulkDeleteAndPublishChangedSlots() {
+        // Given: baseDate = 월요일, 삭제 대상 시간대가 있을 때
+        LocalDate nextMonday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+        LocalDate nextSunday = nextMonday.with(DayOfWeek.SUNDAY);
+        Set<ScheduleSlotVo> slots = Set.of(new ScheduleSlotVo(nextMonday, SchoolPeriod.SEVEN_PERIOD));
+        given(studentScheduleRepository.findSlotsByDayBetween(nextMonday, nextSunday)).willReturn(slots);
+        given(studentScheduleRepository.bulkDeleteAllByDayBetween(nextMonday, nextSunday)).willReturn(42L);
+
+        // When
+        long deleted = studentScheduleGenerator.bulkDeleteFutureStudentSchedules(nextMonday);
+
+        // Then: 엔티티 조회 없이 삭제하고 점유 현황 갱신 이벤트를 발행한다
+        assertThat(deleted).isEqualTo(42L);
+        verify(studentScheduleRepository, never()).findAllByDayBetween(any(), any());
+        verify(eventPublisher).publishEvent(new StudentScheduleChangedEvent(slots));
     }
 
     private StudentEntity createMockStudent(Long id) {
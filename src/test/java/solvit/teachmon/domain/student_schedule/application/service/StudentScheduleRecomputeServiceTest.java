@@ -0,0 +1,151 @@
+package solvit.teachmon.domain.student_schedule.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategy;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingStrategyComposite;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.CurrentScheduleDomainService;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("학생 스케줄 증분 재계산 서비스 테스트")
+class StudentScheduleRecomputeServiceTest {
+
+    // 2026-03-04 수요일
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 3, 4);
+
+    private final StudentScheduleSettingStrategyComposite studentScheduleSettingStrategyComposite = mock(StudentScheduleSettingStrategyComposite.class);
+    private final StudentScheduleRepository studentScheduleRepository = mock(StudentScheduleRepository.class);
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final CurrentScheduleDomainService currentScheduleDomainService = mock(CurrentScheduleDomainService.class);
+
+    private final StudentScheduleSettingStrategy selfStudyStrategy = mock(StudentScheduleSettingStrategy.class);
+    private final StudentScheduleSettingStrategy leaveSeatStrategy = mock(StudentScheduleSettingStrategy.class);
+
+    private final StudentScheduleRecomputeService studentScheduleRecomputeService = new StudentScheduleRecomputeService(
+            studentScheduleSettingStrategyComposite, studentScheduleRepository, scheduleRepository, currentScheduleDomainService
+    );
+
+    @BeforeEach
+    void setUp() {
+        given(studentScheduleSettingStrategyComposite.getAllStrategies()).willReturn(List.of(selfStudyStrategy, leaveSeatStrategy));
+    }
+
+    @Test
+    @DisplayName("학생들의 해당 요일, 교시 스케줄 스택만 비우고 모든 전략을 범위 안에서 다시 실행한다")
+    void shouldRecomputeOnlyTouchedStudentSchedules() {
+        // Given: 금요일 7교시 고정 이석 학생 2명
+        LocalDate friday = LocalDate.of(2026, 3, 6);
+        StudentEntity student1 = createStudent(1L);
+        StudentEntity student2 = createStudent(2L);
+        StudentScheduleEntity studentSchedule1 = createStudentSchedule(10L, student1, friday, SchoolPeriod.SEVEN_PERIOD);
+        StudentScheduleEntity studentSchedule2 = createStudentSchedule(20L, student2, friday, SchoolPeriod.SEVEN_PERIOD);
+        given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(List.of(student1, student2), friday, SchoolPeriod.SEVEN_PERIOD))
+                .willReturn(List.of(studentSchedule1, studentSchedule2));
+
+        // When: 재계산하면
+        studentScheduleRecomputeService.recomputeStudents(List.of(student1, student2), WeekDay.FRI, SchoolPeriod.SEVEN_PERIOD, BASE_DATE);
+
+        // Then: 두 학생 스케줄의 스택만 비우고 현재 스케줄 갱신 대상으로 등록한다
+        InOrder inOrder = inOrder(studentScheduleRepository, scheduleRepository, selfStudyStrategy, leaveSeatStrategy);
+        inOrder.verify(studentScheduleRepository).bulkDeleteSchedulePayloadsByStudentScheduleIdIn(List.of(10L, 20L));
+        inOrder.verify(scheduleRepository).deleteByStudentScheduleIds(List.of(10L, 20L));
+        verify(currentScheduleDomainService).markChanged(List.of(studentSchedule1, studentSchedule2));
+
+        // 전체 세팅과 같은 순서로 범위 안에서만 다시 쌓는다
+        ArgumentCaptor<StudentScheduleSettingScope> captor = ArgumentCaptor.forClass(StudentScheduleSettingScope.class);
+        inOrder.verify(selfStudyStrategy).settingSchedule(eq(BASE_DATE), captor.capture());
+        inOrder.verify(leaveSeatStrategy).settingSchedule(eq(BASE_DATE), eq(captor.getValue()));
+
+        StudentScheduleSettingScope scope = captor.getValue();
+        assertThat(scope.covers(friday, SchoolPeriod.SEVEN_PERIOD)).isTrue();
+        assertThat(scope.covers(friday, SchoolPeriod.EIGHT_AND_NINE_PERIOD)).isFalse();
+        assertThat(scope.covers(student1, friday, SchoolPeriod.SEVEN_PERIOD)).isTrue();
+        assertThat(scope.covers(createStudent(3L), friday, SchoolPeriod.SEVEN_PERIOD)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일이 이미 지났다면 아무것도 하지 않는다")
+    void shouldDoNothingWhenWeekDayPassed() {
+        // Given: 기준일이 수요일이고 월요일 고정 이석일 때
+        StudentEntity student = createStudent(1L);
+
+        // When: 재계산하면
+        studentScheduleRecomputeService.recomputeStudents(List.of(student), WeekDay.MON, SchoolPeriod.SEVEN_PERIOD, BASE_DATE);
+
+        // Then: 조회, 삭제, 세팅 모두 일어나지 않는다
+        verifyNoInteractions(studentScheduleRepository, scheduleRepository, selfStudyStrategy, leaveSeatStrategy);
+    }
+
+    @Test
+    @DisplayName("학년 스케줄 중 바뀐 (날짜, 교시) 의 스케줄 스택만 비운다")
+    void shouldClearOnlyTouchedGradeSlots() {
+        // Given: 1학년의 목요일 7교시, 8~9교시 스케줄 중 7교시만 바뀌었을 때
+        LocalDate thursday = LocalDate.of(2026, 3, 5);
+        StudentEntity student = createStudent(1L);
+        StudentScheduleEntity touched = createStudentSchedule(10L, student, thursday, SchoolPeriod.SEVEN_PERIOD);
+        StudentScheduleEntity untouched = createStudentSchedule(11L, student, thursday, SchoolPeriod.EIGHT_AND_NINE_PERIOD);
+        given(studentScheduleRepository.findAllByGradeAndDayBetween(1, BASE_DATE, LocalDate.of(2026, 3, 8)))
+                .willReturn(List.of(touched, untouched));
+
+        // When: 바뀐 (날짜, 교시) 만 비우면
+        StudentScheduleSettingScope scope = studentScheduleRecomputeService.clearGradeSlots(
+                1, Set.of(new ScheduleSlotVo(thursday, SchoolPeriod.SEVEN_PERIOD)), BASE_DATE
+        );
+
+        // Then: 7교시 스케줄만 삭제되고 범위에 담긴다
+        verify(studentScheduleRepository).bulkDeleteSchedulePayloadsByStudentScheduleIdIn(List.of(10L));
+        verify(scheduleRepository).deleteByStudentScheduleIds(List.of(10L));
+        assertThat(scope.filter(List.of(touched, untouched))).containsExactly(touched);
+    }
+
+    @Test
+    @DisplayName("비운 스케줄이 없으면 다시 쌓지 않는다")
+    void shouldNotRestackEmptyScope() {
+        // When: 빈 범위로 다시 쌓으면
+        studentScheduleRecomputeService.restack(StudentScheduleSettingScope.empty(), BASE_DATE);
+
+        // Then: 어떤 전략도 실행되지 않는다
+        verify(selfStudyStrategy, never()).settingSchedule(any(), any());
+        verify(leaveSeatStrategy, never()).settingSchedule(any(), any());
+    }
+
+    private StudentEntity createStudent(Long id) {
+        StudentEntity student = mock(StudentEntity.class);
+        given(student.getId()).willReturn(id);
+        return student;
+    }
+
+    private StudentScheduleEntity createStudentSchedule(Long id, StudentEntity student, LocalDate day, SchoolPeriod period) {
+        StudentScheduleEntity studentSchedule = mock(StudentScheduleEntity.class);
+        given(studentSchedule.getId()).willReturn(id);
+        given(studentSchedule.getStudent()).willReturn(student);
+        given(studentSchedule.getDay()).willReturn(day);
+        given(studentSchedule.getPeriod()).willReturn(period);
+        return studentSchedule;
+    }
+}
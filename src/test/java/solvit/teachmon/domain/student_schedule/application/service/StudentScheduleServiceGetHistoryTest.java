@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import solvit.teachmon.domain.management.student.application.search.StudentSearchIndex;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.student_schedule.application.dto.PeriodScheduleDto;
 import solvit.teachmon.domain.student_schedule.application.mapper.StudentScheduleMapper;
@@ -27,12 +28,17 @@ import static org.mockito.Mockito.*;
 @DisplayName("학생 스케줄 서비스 - 학생 스케줄 히스토리 조회 테스트")
 class StudentScheduleServiceGetHistoryTest {
 
+    private static final List<Long> STUDENT_IDS = List.of(1L, 2L);
+
     @Mock
     private StudentScheduleMapper studentScheduleMapper;
 
     @Mock
     private StudentScheduleRepository studentScheduleRepository;
 
+    @Mock
+    private StudentSearchIndex studentSearchIndex;
+
     @InjectMocks
     private StudentScheduleService studentScheduleService;
 
@@ -72,7 +78,8 @@ class StudentScheduleServiceGetHistoryTest {
                 .tenAndElevenPeriod(PeriodScheduleResponse.builder().scheduleId(3L).state(ScheduleType.AFTER_SCHOOL).build())
                 .build();
 
-        given(studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day))
+        given(studentSearchIndex.search(2026, query)).willReturn(STUDENT_IDS);
+        given(studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day))
                 .willReturn(mockRepositoryResult);
         given(studentScheduleMapper.toHistoryResponse(student, schedules))
                 .willReturn(expectedResponse);
@@ -94,7 +101,7 @@ class StudentScheduleServiceGetHistoryTest {
         assertThat(response.tenAndElevenPeriod().state()).isEqualTo(ScheduleType.AFTER_SCHOOL);
 
         verify(studentScheduleRepository, times(1))
-                .findByQueryAndDayGroupByStudent(query, day);
+                .findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day);
         verify(studentScheduleMapper, times(1))
                 .toHistoryResponse(student, schedules);
     }
@@ -130,7 +137,8 @@ class StudentScheduleServiceGetHistoryTest {
                 .studentNumber(2116).name("허준")
                 .eightAndNinePeriod(PeriodScheduleResponse.builder().scheduleId(2L).state(ScheduleType.AWAY).build()).build();
 
-        given(studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day))
+        given(studentSearchIndex.search(2026, query)).willReturn(STUDENT_IDS);
+        given(studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day))
                 .willReturn(mockRepositoryResult);
         given(studentScheduleMapper.toHistoryResponse(student1, schedules1)).willReturn(response1);
         given(studentScheduleMapper.toHistoryResponse(student2, schedules2)).willReturn(response2);
@@ -144,7 +152,7 @@ class StudentScheduleServiceGetHistoryTest {
                 .containsExactlyInAnyOrder("허온", "허준");
 
         verify(studentScheduleRepository, times(1))
-                .findByQueryAndDayGroupByStudent(query, day);
+                .findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day);
     }
 
     @Test
@@ -154,7 +162,8 @@ class StudentScheduleServiceGetHistoryTest {
         String query = "3105";
         LocalDate day = LocalDate.of(2026, 1, 1);
 
-        given(studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day))
+        given(studentSearchIndex.search(2026, query)).willReturn(STUDENT_IDS);
+        given(studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day))
                 .willReturn(Map.of());
 
         // When: 학생 스케줄 히스토리를 조회하면
@@ -164,7 +173,7 @@ class StudentScheduleServiceGetHistoryTest {
         assertThat(results).isEmpty();
 
         verify(studentScheduleRepository, times(1))
-                .findByQueryAndDayGroupByStudent(query, day);
+                .findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day);
         verify(studentScheduleMapper, never()).toHistoryResponse(any(), any());
     }
 
@@ -198,7 +207,8 @@ class StudentScheduleServiceGetHistoryTest {
                 .tenAndElevenPeriod(null)
                 .build();
 
-        given(studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day))
+        given(studentSearchIndex.search(2026, query)).willReturn(STUDENT_IDS);
+        given(studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day))
                 .willReturn(mockRepositoryResult);
         given(studentScheduleMapper.toHistoryResponse(student, schedules))
                 .willReturn(expectedResponse);
@@ -218,7 +228,7 @@ class StudentScheduleServiceGetHistoryTest {
         assertThat(response.tenAndElevenPeriod()).isNull();
 
         verify(studentScheduleRepository, times(1))
-                .findByQueryAndDayGroupByStudent(query, day);
+                .findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day);
         verify(studentScheduleMapper, times(1))
                 .toHistoryResponse(student, schedules);
     }
@@ -254,7 +264,8 @@ class StudentScheduleServiceGetHistoryTest {
                 .studentNumber(1102).name("학생2")
                 .onePeriod(PeriodScheduleResponse.builder().scheduleId(2L).state(ScheduleType.AWAY).build()).build();
 
-        given(studentScheduleRepository.findByQueryAndDayGroupByStudent(query, day))
+        given(studentSearchIndex.search(2026, query)).willReturn(STUDENT_IDS);
+        given(studentScheduleRepository.findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day))
                 .willReturn(mockRepositoryResult);
         given(studentScheduleMapper.toHistoryResponse(student1, schedules1)).willReturn(response1);
         given(studentScheduleMapper.toHistoryResponse(student2, schedules2)).willReturn(response2);
@@ -266,6 +277,23 @@ class StudentScheduleServiceGetHistoryTest {
         assertThat(results).hasSize(2);
 
         verify(studentScheduleRepository, times(1))
-                .findByQueryAndDayGroupByStudent(query, day);
+                .findByStudentIdsAndDayGroupByStudent(STUDENT_IDS, day);
+    }
+
+    @Test
+    @DisplayName("검색 색인에서 일치하는 학생이 없으면 스케줄을 조회하지 않는다")
+    void shouldNotQuerySchedulesWhenNoStudentMatched() {
+        // Given: 검색어와 일치하는 학생이 없을 때
+        String query = "없는학생";
+        LocalDate day = LocalDate.of(2026, 1, 1);
+
+        given(studentSearchIndex.search(2026, query)).willReturn(List.of());
+
+        // When: 학생 스케줄 히스토리를 조회하면
+        List<HistoryStudentScheduleResponse> results = studentScheduleService.getStudentScheduleHistory(query, day);
+
+        // Then: 빈 리스트가 반환되고 스케줄은 조회하지 않는다
+        assertThat(results).isEmpty();
+        verify(studentScheduleRepository, never()).findByStudentIdsAndDayGroupByStudent(any(), any());
     }
 }
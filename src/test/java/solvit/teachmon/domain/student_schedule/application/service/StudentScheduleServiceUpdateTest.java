@@ -5,15 +5,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import solvit.teachmon.domain.student_schedule.application.strategy.change.StudentScheduleChangeStrategy;
 import solvit.teachmon.domain.student_schedule.application.strategy.change.StudentScheduleChangeStrategyComposite;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderConflictRetrier;
 import solvit.teachmon.domain.student_schedule.exception.StudentScheduleNotFoundException;
 import solvit.teachmon.domain.student_schedule.presentation.dto.request.StudentScheduleUpdateRequest;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 
 import java.util.Optional;
 
@@ -24,12 +29,21 @@ import static org.mockito.BDDMockito.*;
 @DisplayName("학생 스케줄 서비스 - 학생 상태 변경 테스트")
 class StudentScheduleServiceUpdateTest {
 
+    private static final Long TEACHER_ID = 10L;
+
     @Mock
     private StudentScheduleRepository studentScheduleRepository;
 
     @Mock
     private StudentScheduleChangeStrategyComposite studentScheduleChangeStrategyComposite;
 
+    @Spy
+    private StackOrderConflictRetrier stackOrderConflictRetrier =
+            new StackOrderConflictRetrier(new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
     @InjectMocks
     private StudentScheduleService studentScheduleService;
 
@@ -45,9 +59,10 @@ class StudentScheduleServiceUpdateTest {
 
         given(studentScheduleRepository.findById(scheduleId)).willReturn(Optional.of(studentSchedule));
         given(studentScheduleChangeStrategyComposite.getStrategy(ScheduleType.AWAY)).willReturn(awayStrategy);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         // When: 학생 상태를 조퇴로 변경하면
-        studentScheduleService.updateStudentSchedule(scheduleId, request, teacher);
+        studentScheduleService.updateStudentSchedule(scheduleId, request, TEACHER_ID);
 
         // Then: Strategy의 change 메서드가 호출된다
         verify(studentScheduleRepository, times(1)).findById(scheduleId);
@@ -67,9 +82,10 @@ class StudentScheduleServiceUpdateTest {
 
         given(studentScheduleRepository.findById(scheduleId)).willReturn(Optional.of(studentSchedule));
         given(studentScheduleChangeStrategyComposite.getStrategy(ScheduleType.EXIT)).willReturn(exitStrategy);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         // When: 학생 상태를 이탈로 변경하면
-        studentScheduleService.updateStudentSchedule(scheduleId, request, teacher);
+        studentScheduleService.updateStudentSchedule(scheduleId, request, TEACHER_ID);
 
         // Then: Strategy의 change 메서드가 호출된다
         verify(studentScheduleRepository, times(1)).findById(scheduleId);
@@ -82,13 +98,12 @@ class StudentScheduleServiceUpdateTest {
     void shouldThrowExceptionWhenStudentScheduleNotFound() {
         // Given: 존재하지 않는 학생 스케줄 ID가 있을 때
         Long nonExistentId = 999L;
-        TeacherEntity teacher = mock(TeacherEntity.class);
         StudentScheduleUpdateRequest request = new StudentScheduleUpdateRequest(ScheduleType.AWAY);
 
         given(studentScheduleRepository.findById(nonExistentId)).willReturn(Optional.empty());
 
         // When & Then: 변경을 시도하면 예외가 발생한다
-        assertThatThrownBy(() -> studentScheduleService.updateStudentSchedule(nonExistentId, request, teacher))
+        assertThatThrownBy(() -> studentScheduleService.updateStudentSchedule(nonExistentId, request, TEACHER_ID))
                 .isInstanceOf(StudentScheduleNotFoundException.class);
 
         verify(studentScheduleRepository, times(1)).findById(nonExistentId);
@@ -107,9 +122,10 @@ class StudentScheduleServiceUpdateTest {
 
         given(studentScheduleRepository.findById(scheduleId)).willReturn(Optional.of(studentSchedule));
         given(studentScheduleChangeStrategyComposite.getStrategy(ScheduleType.SELF_STUDY)).willReturn(selfStudyStrategy);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         // When: 학생 상태를 자습으로 변경하면
-        studentScheduleService.updateStudentSchedule(scheduleId, request, teacher);
+        studentScheduleService.updateStudentSchedule(scheduleId, request, TEACHER_ID);
 
         // Then: Strategy의 change 메서드가 호출된다
         verify(studentScheduleRepository, times(1)).findById(scheduleId);
@@ -129,9 +145,10 @@ class StudentScheduleServiceUpdateTest {
 
         given(studentScheduleRepository.findById(scheduleId)).willReturn(Optional.of(studentSchedule));
         given(studentScheduleChangeStrategyComposite.getStrategy(ScheduleType.AFTER_SCHOOL)).willReturn(afterSchoolStrategy);
+        given(teacherRepository.getReferenceById(TEACHER_ID)).willReturn(teacher);
 
         // When: 학생 상태를 방과후로 변경하면
-        studentScheduleService.updateStudentSchedule(scheduleId, request, teacher);
+        studentScheduleService.updateStudentSchedule(scheduleId, request, TEACHER_ID);
 
         // Then: Strategy의 change 메서드가 호출된다
         verify(studentScheduleRepository, times(1)).findById(scheduleId);
@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.student_schedule.application.strategy.setting.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,9 +12,9 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
-import solvit.teachmon.domain.place.domain.repository.PlaceRepository;
 import solvit.teachmon.domain.self_study.domain.entity.AdditionalSelfStudyEntity;
 import solvit.teachmon.domain.self_study.domain.repository.AdditionalSelfStudyRepository;
+import solvit.teachmon.domain.self_study.domain.service.SelfStudyPlacePlanner;
 import solvit.teachmon.domain.student_schedule.application.service.StudentScheduleGenerator;
 import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
@@ -21,10 +22,12 @@ import solvit.teachmon.domain.student_schedule.domain.entity.schedules.Additiona
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AdditionalSelfStudyScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,15 +50,31 @@ class AdditionalSelfStudyScheduleSettingStrategyTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
+
     @Mock
     private AdditionalSelfStudyScheduleRepository additionalSelfStudyScheduleRepository;
 
     @Mock
-    private PlaceRepository placeRepository;
+    private SelfStudyPlacePlanner selfStudyPlacePlanner;
 
     @InjectMocks
     private AdditionalSelfStudyScheduleSettingStrategy strategy;
 
+    @BeforeEach
+    void setUp() {
+        // stackOrder 할당은 실제 ScheduleEntity 생성으로 대체
+        given(stackOrderAllocator.stackSchedules(anyCollection(), any(ScheduleType.class)))
+                .willAnswer(invocation -> {
+                    Collection<StudentScheduleEntity> studentSchedules = invocation.getArgument(0);
+                    ScheduleType type = invocation.getArgument(1);
+                    return studentSchedules.stream()
+                            .map(studentSchedule -> ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, type))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("전략의 스케줄 타입은 ADDITIONAL_SELF_STUDY여야 한다")
     void shouldReturnAdditionalSelfStudyScheduleType() {
@@ -84,18 +103,14 @@ class AdditionalSelfStudyScheduleSettingStrategyTest {
                 .willReturn(List.of(additionalSelfStudy));
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, nextMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(1L))
-                .willReturn(0);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, place));
-        given(placeRepository.checkPlaceAvailability(nextMonday, SchoolPeriod.SEVEN_PERIOD, place))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule)))
+                .willReturn(Map.of(studentSchedule, place));
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 추가 자습 스케줄이 생성되어야 한다
-        verify(additionalSelfStudyScheduleRepository, times(1)).save(any(AdditionalSelfStudyScheduleEntity.class));
+        verify(additionalSelfStudyScheduleRepository).saveAll(argThat((List<AdditionalSelfStudyScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     @Test
@@ -116,21 +131,17 @@ class AdditionalSelfStudyScheduleSettingStrategyTest {
                 .willReturn(List.of(additionalSelfStudy));
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, nextMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(1L))
-                .willReturn(0);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, place));
-        given(placeRepository.checkPlaceAvailability(nextMonday, SchoolPeriod.SEVEN_PERIOD, place))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule)))
+                .willReturn(Map.of(studentSchedule, place));
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 저장된 Schedule의 타입을 검증한다
-        ArgumentCaptor<ScheduleEntity> scheduleCaptor = ArgumentCaptor.forClass(ScheduleEntity.class);
-        verify(scheduleRepository).save(scheduleCaptor.capture());
+        ArgumentCaptor<List<ScheduleEntity>> scheduleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).saveAll(scheduleCaptor.capture());
 
-        ScheduleEntity savedSchedule = scheduleCaptor.getValue();
+        ScheduleEntity savedSchedule = scheduleCaptor.getValue().get(0);
 
         // 🐛 BUG: 현재 코드는 ScheduleType.SELF_STUDY를 사용하지만,
         // ADDITIONAL_SELF_STUDY를 사용해야 합니다!
@@ -163,18 +174,14 @@ class AdditionalSelfStudyScheduleSettingStrategyTest {
                 .willReturn(List.of(additionalSelfStudy));
         given(studentScheduleGenerator.findOrCreateStudentSchedules(1, nextMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule1, studentSchedule2));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any()))
-                .willReturn(0);
-        given(placeRepository.findAllByGradePrefix(1))
-                .willReturn(Map.of(1, place1, 2, place2));
-        given(placeRepository.checkPlaceAvailability(any(), any(), any()))
-                .willReturn(false);
+        given(selfStudyPlacePlanner.plan(List.of(studentSchedule1, studentSchedule2)))
+                .willReturn(Map.of(studentSchedule1, place1, studentSchedule2, place2));
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 2개의 추가 자습 스케줄이 생성되어야 한다
-        verify(additionalSelfStudyScheduleRepository, times(2)).save(any(AdditionalSelfStudyScheduleEntity.class));
+        verify(additionalSelfStudyScheduleRepository).saveAll(argThat((List<AdditionalSelfStudyScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     private AdditionalSelfStudyEntity createMockAdditionalSelfStudy(Long id, Integer grade, LocalDate day, SchoolPeriod period) {
@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.student_schedule.application.strategy.setting.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,16 +14,19 @@ import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolReinforcemen
 import solvit.teachmon.domain.after_school.domain.repository.AfterSchoolReinforcementRepository;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AfterSchoolScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AfterSchoolScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +42,9 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
+
     @Mock
     private AfterSchoolReinforcementRepository afterSchoolReinforcementRepository;
 
@@ -50,6 +57,19 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
     @InjectMocks
     private AfterSchoolReinforcementScheduleSettingStrategy strategy;
 
+    @BeforeEach
+    void setUp() {
+        // stackOrder 할당은 실제 ScheduleEntity 생성으로 대체
+        given(stackOrderAllocator.stackSchedules(anyCollection(), any(ScheduleType.class)))
+                .willAnswer(invocation -> {
+                    Collection<StudentScheduleEntity> studentSchedules = invocation.getArgument(0);
+                    ScheduleType type = invocation.getArgument(1);
+                    return studentSchedules.stream()
+                            .map(studentSchedule -> ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, type))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("전략의 스케줄 타입은 AFTER_SCHOOL_REINFORCEMENT여야 한다")
     void shouldReturnAfterSchoolReinforcementScheduleType() {
@@ -82,14 +102,12 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
                 .willReturn(List.of(reinforcement));
         given(studentScheduleRepository.findAllByAfterSchoolAndDayAndPeriod(afterSchool, nextMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(1L))
-                .willReturn(0);
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 일반 방과후 스케줄이 생성되어야 한다 (보강용 별도 엔티티가 아님)
-        verify(afterSchoolScheduleRepository, times(1)).save(any(AfterSchoolScheduleEntity.class));
+        verify(afterSchoolScheduleRepository).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     @Test
@@ -118,14 +136,12 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
                 .willReturn(List.of(reinforcement));
         given(studentScheduleRepository.findAllByAfterSchoolAndDayAndPeriod(afterSchool, nextMonday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule1, studentSchedule2, studentSchedule3));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any()))
-                .willReturn(0);
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 3개의 방과후 스케줄이 생성되어야 한다
-        verify(afterSchoolScheduleRepository, times(3)).save(any(AfterSchoolScheduleEntity.class));
+        verify(afterSchoolScheduleRepository).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> schedules.size() == 3));
     }
 
     @Test
@@ -162,14 +178,12 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
                 .willReturn(List.of(studentSchedule1));
         given(studentScheduleRepository.findAllByAfterSchoolAndDayAndPeriod(afterSchool2, nextTuesday, SchoolPeriod.EIGHT_AND_NINE_PERIOD))
                 .willReturn(List.of(studentSchedule2));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any()))
-                .willReturn(0);
 
         // When: 스케줄을 설정하면 (nextMonday를 baseDate로 사용하여 isBefore 체크 통과)
         strategy.settingSchedule(nextMonday);
 
         // Then: 2개의 방과후 스케줄이 생성되어야 한다
-        verify(afterSchoolScheduleRepository, times(2)).save(any(AfterSchoolScheduleEntity.class));
+        verify(afterSchoolScheduleRepository).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     @Test
@@ -188,7 +202,7 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
         strategy.settingSchedule(nextWeek);
 
         // Then: 아무것도 생성되지 않아야 한다
-        verify(afterSchoolScheduleRepository, never()).save(any());
+        verify(afterSchoolScheduleRepository, never()).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> !schedules.isEmpty()));
     }
 
     @Test
@@ -219,8 +233,6 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
         given(studentScheduleRepository.findAllByAfterSchoolAndDayAndPeriod(
                 afterSchool, nextWednesday, SchoolPeriod.EIGHT_AND_NINE_PERIOD))
                 .willReturn(List.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(1L))
-                .willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(nextMonday);
@@ -229,7 +241,7 @@ class AfterSchoolReinforcementScheduleSettingStrategyTest {
         verify(studentScheduleRepository).findAllByAfterSchoolAndDayAndPeriod(
                 afterSchool, nextWednesday, SchoolPeriod.EIGHT_AND_NINE_PERIOD
         );
-        verify(afterSchoolScheduleRepository, times(1)).save(any(AfterSchoolScheduleEntity.class));
+        verify(afterSchoolScheduleRepository).saveAll(argThat((List<AfterSchoolScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     private AfterSchoolEntity createMockAfterSchool(Long id, String name) {
@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.student_schedule.application.strategy.setting.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.AwayEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AwayScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
@@ -17,9 +19,11 @@ import solvit.teachmon.domain.student_schedule.domain.repository.AwayRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AwayScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +40,9 @@ class AwayScheduleSettingStrategyTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
+
     @Mock
     private StudentScheduleRepository studentScheduleRepository;
 
@@ -48,6 +55,19 @@ class AwayScheduleSettingStrategyTest {
     @InjectMocks
     private AwayScheduleSettingStrategy strategy;
 
+    @BeforeEach
+    void setUp() {
+        // stackOrder 할당은 실제 ScheduleEntity 생성으로 대체
+        given(stackOrderAllocator.stackSchedules(anyCollection(), any(ScheduleType.class)))
+                .willAnswer(invocation -> {
+                    Collection<StudentScheduleEntity> studentSchedules = invocation.getArgument(0);
+                    ScheduleType type = invocation.getArgument(1);
+                    return studentSchedules.stream()
+                            .map(studentSchedule -> ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, type))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("전략의 스케줄 타입은 AWAY여야 한다")
     void shouldReturnAwayScheduleType() {
@@ -71,13 +91,12 @@ class AwayScheduleSettingStrategyTest {
         given(awayRepository.findAllFromDate(baseDate)).willReturn(List.of(away));
         given(studentScheduleRepository.findByStudentAndDayAndPeriod(student, baseDate, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(Optional.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 조퇴 스케줄이 1개 생성되어야 한다
-        verify(awayScheduleRepository, times(1)).save(any(AwayScheduleEntity.class));
+        verify(awayScheduleRepository).saveAll(argThat((List<AwayScheduleEntity> schedules) -> schedules.size() == 1));
     }
 
     @Test
@@ -92,8 +111,8 @@ class AwayScheduleSettingStrategyTest {
         strategy.settingSchedule(baseDate);
 
         // Then: 아무것도 생성되지 않아야 한다
-        verify(awayScheduleRepository, never()).save(any());
-        verify(scheduleRepository, never()).save(any());
+        verify(awayScheduleRepository, never()).saveAll(argThat((List<AwayScheduleEntity> schedules) -> !schedules.isEmpty()));
+        verify(scheduleRepository, never()).saveAll(argThat((List<ScheduleEntity> schedules) -> !schedules.isEmpty()));
     }
 
     @Test
@@ -113,8 +132,8 @@ class AwayScheduleSettingStrategyTest {
         strategy.settingSchedule(baseDate);
 
         // Then: 조퇴 스케줄이 생성되지 않아야 한다
-        verify(awayScheduleRepository, never()).save(any());
-        verify(scheduleRepository, never()).save(any());
+        verify(awayScheduleRepository, never()).saveAll(argThat((List<AwayScheduleEntity> schedules) -> !schedules.isEmpty()));
+        verify(scheduleRepository, never()).saveAll(argThat((List<ScheduleEntity> schedules) -> !schedules.isEmpty()));
     }
 
     @Test
@@ -137,13 +156,12 @@ class AwayScheduleSettingStrategyTest {
                 .willReturn(Optional.of(ss1));
         given(studentScheduleRepository.findByStudentAndDayAndPeriod(student2, nextTuesday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(Optional.of(ss2));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 조퇴 스케줄이 2개 생성되어야 한다
-        verify(awayScheduleRepository, times(2)).save(any(AwayScheduleEntity.class));
+        verify(awayScheduleRepository).saveAll(argThat((List<AwayScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     @Test
@@ -159,17 +177,17 @@ class AwayScheduleSettingStrategyTest {
         given(awayRepository.findAllFromDate(baseDate)).willReturn(List.of(away));
         given(studentScheduleRepository.findByStudentAndDayAndPeriod(student, baseDate, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(Optional.of(studentSchedule));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 저장된 조퇴 스케줄이 기존 조퇴 레코드를 참조해야 한다
-        org.mockito.ArgumentCaptor<AwayScheduleEntity> captor =
-                org.mockito.ArgumentCaptor.forClass(AwayScheduleEntity.class);
-        verify(awayScheduleRepository).save(captor.capture());
+        org.mockito.ArgumentCaptor<List<AwayScheduleEntity>> captor =
+                org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(awayScheduleRepository).saveAll(captor.capture());
 
-        assertThat(captor.getValue().getAway()).isEqualTo(away);
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getAway()).isEqualTo(away);
     }
 
     // ── helpers ──────────────────────────────────────────────────────────────
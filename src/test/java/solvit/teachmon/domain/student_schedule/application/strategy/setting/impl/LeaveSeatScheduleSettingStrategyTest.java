@@ -1,5 +1,6 @@
 package solvit.teachmon.domain.student_schedule.application.strategy.setting.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,15 +13,19 @@ import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatEntity;
 import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatStudentEntity;
 import solvit.teachmon.domain.leave_seat.domain.repository.LeaveSeatRepository;
 import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.student_schedule.application.strategy.setting.StudentScheduleSettingScope;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.entity.schedules.LeaveSeatScheduleEntity;
 import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
 import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
 import solvit.teachmon.domain.student_schedule.domain.repository.schedules.LeaveSeatScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.service.StackOrderAllocator;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +41,9 @@ class LeaveSeatScheduleSettingStrategyTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private StackOrderAllocator stackOrderAllocator;
+
     @Mock
     private StudentScheduleRepository studentScheduleRepository;
 
@@ -48,6 +56,19 @@ class LeaveSeatScheduleSettingStrategyTest {
     @InjectMocks
     private LeaveSeatScheduleSettingStrategy strategy;
 
+    @BeforeEach
+    void setUp() {
+        // stackOrder 할당은 실제 ScheduleEntity 생성으로 대체
+        given(stackOrderAllocator.stackSchedules(anyCollection(), any(ScheduleType.class)))
+                .willAnswer(invocation -> {
+                    Collection<StudentScheduleEntity> studentSchedules = invocation.getArgument(0);
+                    ScheduleType type = invocation.getArgument(1);
+                    return studentSchedules.stream()
+                            .map(studentSchedule -> ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, type))
+                            .toList();
+                });
+    }
+
     @Test
     @DisplayName("전략의 스케줄 타입은 LEAVE_SEAT여야 한다")
     void shouldReturnLeaveSeatScheduleType() {
@@ -80,13 +101,12 @@ class LeaveSeatScheduleSettingStrategyTest {
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(
                 List.of(student1, student2), baseDate, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule1, studentSchedule2));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 이석 스케줄 링크가 학생 수만큼 생성되어야 한다
-        verify(leaveSeatScheduleRepository, times(2)).save(any(LeaveSeatScheduleEntity.class));
+        verify(leaveSeatScheduleRepository).saveAll(argThat((List<LeaveSeatScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     @Test
@@ -101,8 +121,8 @@ class LeaveSeatScheduleSettingStrategyTest {
         strategy.settingSchedule(baseDate);
 
         // Then: 아무것도 생성되지 않아야 한다
-        verify(leaveSeatScheduleRepository, never()).save(any());
-        verify(scheduleRepository, never()).save(any());
+        verify(leaveSeatScheduleRepository, never()).saveAll(argThat((List<LeaveSeatScheduleEntity> schedules) -> !schedules.isEmpty()));
+        verify(scheduleRepository, never()).saveAll(argThat((List<ScheduleEntity> schedules) -> !schedules.isEmpty()));
     }
 
     @Test
@@ -125,7 +145,7 @@ class LeaveSeatScheduleSettingStrategyTest {
         strategy.settingSchedule(baseDate);
 
         // Then: 스케줄 링크가 생성되지 않아야 한다
-        verify(leaveSeatScheduleRepository, never()).save(any());
+        verify(leaveSeatScheduleRepository, never()).saveAll(argThat((List<LeaveSeatScheduleEntity> schedules) -> !schedules.isEmpty()));
     }
 
     @Test
@@ -156,13 +176,12 @@ class LeaveSeatScheduleSettingStrategyTest {
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(
                 List.of(student2), nextTuesday, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(studentSchedule2));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 각 이석 레코드별로 스케줄 링크가 생성되어야 한다
-        verify(leaveSeatScheduleRepository, times(2)).save(any(LeaveSeatScheduleEntity.class));
+        verify(leaveSeatScheduleRepository).saveAll(argThat((List<LeaveSeatScheduleEntity> schedules) -> schedules.size() == 2));
     }
 
     @Test
@@ -190,22 +209,56 @@ class LeaveSeatScheduleSettingStrategyTest {
         given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(
                 List.of(student1, student2, student3), baseDate, SchoolPeriod.SEVEN_PERIOD))
                 .willReturn(List.of(ss1, ss2, ss3));
-        given(scheduleRepository.findLastStackOrderByStudentScheduleId(any())).willReturn(0);
 
         // When: 스케줄을 설정하면
         strategy.settingSchedule(baseDate);
 
         // Then: 3개의 LeaveSeatSchedule이 동일한 LeaveSeat을 참조해야 한다
-        org.mockito.ArgumentCaptor<LeaveSeatScheduleEntity> captor =
-                org.mockito.ArgumentCaptor.forClass(LeaveSeatScheduleEntity.class);
-        verify(leaveSeatScheduleRepository, times(3)).save(captor.capture());
+        org.mockito.ArgumentCaptor<List<LeaveSeatScheduleEntity>> captor =
+                org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(leaveSeatScheduleRepository).saveAll(captor.capture());
 
-        List<LeaveSeatScheduleEntity> savedSchedules = captor.getAllValues();
+        List<LeaveSeatScheduleEntity> savedSchedules = captor.getValue();
         assertThat(savedSchedules)
+                .hasSize(3)
                 .extracting(LeaveSeatScheduleEntity::getLeaveSeat)
                 .containsOnly(leaveSeat);
     }
 
+    @Test
+    @DisplayName("재계산 범위가 주어지면 범위 안의 학생 스케줄에만 이석 스케줄을 쌓는다")
+    void shouldSettingOnlyScopedStudentSchedules() {
+        // Given: 월요일, 화요일 이석이 있고 재계산 범위는 월요일 1번 학생뿐일 때
+        LocalDate baseDate = LocalDate.now().plusWeeks(1).with(java.time.DayOfWeek.MONDAY);
+        LocalDate nextTuesday = baseDate.plusDays(1);
+
+        StudentEntity student1 = createMockStudent(1L, 1, 1);
+        StudentEntity student2 = createMockStudent(2L, 1, 2);
+
+        LeaveSeatEntity mondayLeaveSeat = createMockLeaveSeat(1L, baseDate, SchoolPeriod.SEVEN_PERIOD,
+                List.of(createMockLeaveSeatStudent(student1), createMockLeaveSeatStudent(student2)));
+        LeaveSeatEntity tuesdayLeaveSeat = createMockLeaveSeat(2L, nextTuesday, SchoolPeriod.SEVEN_PERIOD,
+                List.of(createMockLeaveSeatStudent(student1)));
+
+        StudentScheduleEntity studentSchedule1 = createMockStudentSchedule(1L, student1, baseDate, SchoolPeriod.SEVEN_PERIOD);
+        StudentScheduleEntity studentSchedule2 = createMockStudentSchedule(2L, student2, baseDate, SchoolPeriod.SEVEN_PERIOD);
+
+        given(leaveSeatRepository.findAllFromDate(baseDate)).willReturn(List.of(mondayLeaveSeat, tuesdayLeaveSeat));
+        given(studentScheduleRepository.findAllByStudentsAndDayAndPeriod(
+                List.of(student1, student2), baseDate, SchoolPeriod.SEVEN_PERIOD))
+                .willReturn(List.of(studentSchedule1, studentSchedule2));
+
+        StudentScheduleSettingScope scope = StudentScheduleSettingScope.of(List.of(studentSchedule1));
+
+        // When: 범위를 지정해 스케줄을 설정하면
+        strategy.settingSchedule(baseDate, scope);
+
+        // Then: 범위 밖 화요일 이석은 조회하지 않고, 1번 학생에게만 이석 스케줄이 쌓인다
+        verify(studentScheduleRepository, never()).findAllByStudentsAndDayAndPeriod(anyList(), eq(nextTuesday), any());
+        verify(stackOrderAllocator).stackSchedules(List.of(studentSchedule1), ScheduleType.LEAVE_SEAT);
+        verify(leaveSeatScheduleRepository).saveAll(argThat((List<LeaveSeatScheduleEntity> schedules) -> schedules.size() == 1));
+    }
+
     // ── helpers ──────────────────────────────────────────────────────────────
 
     private StudentEntity createMockStudent(Long id, Integer grade, Integer classNumber) {
@@ -0,0 +1,105 @@
+package solvit.teachmon.domain.student_schedule.application.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.student_schedule.application.facade.PlaceStudentScheduleService;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.event.StudentScheduleChangedEvent;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleChangeVo;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("학생 상태 실시간 전송 테스트")
+class StudentScheduleStreamServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    private static final SchoolPeriod PERIOD = SchoolPeriod.SEVEN_PERIOD;
+
+    private final PlaceStudentScheduleService placeStudentScheduleService = mock(PlaceStudentScheduleService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StudentScheduleStreamService streamService = new StudentScheduleStreamService(placeStudentScheduleService, meterRegistry);
+
+    @Test
+    @DisplayName("구독 중인 연결 수를 채널별로 기록한다")
+    void shouldExportConnectionCounts() {
+        // When: 반별 2개, 층별 1개 채널을 구독하면
+        streamService.subscribeGrade(1, DAY, PERIOD);
+        streamService.subscribeGrade(2, DAY, PERIOD);
+        streamService.subscribeFloor(2, DAY, PERIOD);
+
+        // Then: 채널별 연결 수가 기록된다
+        assertThat(meterRegistry.get("teachmon.student-schedule.stream.connections").tag("channel", "grade").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("teachmon.student-schedule.stream.connections").tag("channel", "floor").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("변경분은 해당 (학년, 날짜, 교시) 구독자에게만, 장소 현황은 바뀐 시간의 층 구독자에게만 보낸다")
+    void shouldFanOutOnlyToMatchingChannels() {
+        // Given: 1, 2학년 반별 현황과 두 시간의 층별 현황을 구독 중일 때
+        streamService.subscribeGrade(1, DAY, PERIOD);
+        streamService.subscribeGrade(2, DAY, PERIOD);
+        streamService.subscribeFloor(2, DAY, PERIOD);
+        streamService.subscribeFloor(3, DAY, SchoolPeriod.EIGHT_AND_NINE_PERIOD);
+
+        // When: 1학년 학생의 스케줄이 이석으로 바뀌면
+        streamService.onStudentScheduleChanged(new StudentScheduleChangedEvent(
+                Set.of(new ScheduleSlotVo(DAY, PERIOD)),
+                List.of(new ScheduleChangeVo(10L, 1, DAY, PERIOD, ScheduleType.LEAVE_SEAT))
+        ));
+
+        // Then: 바뀐 시간의 층 현황만 다시 만든다
+        verify(placeStudentScheduleService, timeout(1000)).getPlaceStatesByFloor(2, DAY, PERIOD);
+        verify(placeStudentScheduleService, never()).getPlaceStatesByFloor(eq(3), any(), any());
+
+        // 반별 변경분은 1학년 구독자 한 명에게만 전송된다
+        assertThat(meterRegistry.get("teachmon.student-schedule.stream.events")
+                .tag("channel", "grade").tag("result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("teachmon.student-schedule.stream.fanout").tag("channel", "grade").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경분이 없는 일괄 변경은 해당 시간의 반별 구독자 전체에 다시 조회하라고 알린다")
+    void shouldSendReloadWhenChangesAreUnknown() {
+        // Given: 같은 시간의 1, 2학년 반별 현황과 층별 현황을 구독 중일 때
+        streamService.subscribeGrade(1, DAY, PERIOD);
+        streamService.subscribeGrade(2, DAY, PERIOD);
+        streamService.subscribeFloor(2, DAY, PERIOD);
+
+        // When: 변경분 없이 시간만 담긴 이벤트가 발행되면
+        streamService.onStudentScheduleChanged(new StudentScheduleChangedEvent(Set.of(new ScheduleSlotVo(DAY, PERIOD))));
+
+        // Then: 두 구독자 모두에게 전송된다
+        verify(placeStudentScheduleService, timeout(1000)).getPlaceStatesByFloor(2, DAY, PERIOD);
+        assertThat(meterRegistry.get("teachmon.student-schedule.stream.events")
+                .tag("channel", "grade").tag("result", "success").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 아무것도 만들지 않는다")
+    void shouldSkipWhenNoSubscribers() {
+        // When: 구독자가 없을 때 스케줄이 바뀌면
+        streamService.onStudentScheduleChanged(new StudentScheduleChangedEvent(Set.of(new ScheduleSlotVo(DAY, PERIOD))));
+
+        // Then: 장소 현황을 만들지 않는다
+        verifyNoInteractions(placeStudentScheduleService);
+    }
+}
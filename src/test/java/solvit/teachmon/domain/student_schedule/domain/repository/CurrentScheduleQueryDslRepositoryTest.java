@@ -0,0 +1,107 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("현재 스케줄 프로젝션 저장소 테스트")
+class CurrentScheduleQueryDslRepositoryTest {
+
+    @Autowired
+    private CurrentScheduleRepository currentScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private StudentScheduleEntity studentSchedule;
+
+    @BeforeEach
+    void setUp() {
+        StudentEntity student = studentRepository.save(StudentEntity.builder()
+                .year(2026)
+                .grade(1)
+                .classNumber(1)
+                .number(3)
+                .name("김학생")
+                .build());
+
+        studentSchedule = studentScheduleRepository.save(StudentScheduleEntity.builder()
+                .student(student)
+                .day(LocalDate.of(2026, 3, 2))
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .build());
+    }
+
+    @Test
+    @DisplayName("최상단 스케줄과 EXIT/AWAY 아래의 장소 기반 스케줄을 계산한다")
+    void shouldCalculateTopAndPlaceBasedSchedule() {
+        // Given: 자습 -> 이석 -> 이탈 순으로 쌓인 스케줄
+        scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.SELF_STUDY));
+        ScheduleEntity leaveSeat = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 1, ScheduleType.LEAVE_SEAT));
+        ScheduleEntity exit = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 2, ScheduleType.EXIT));
+
+        // When
+        List<CurrentScheduleEntity> result = currentScheduleRepository.calculateByStudentScheduleIds(List.of(studentSchedule.getId()));
+
+        // Then
+        assertThat(result).hasSize(1);
+        CurrentScheduleEntity currentSchedule = result.getFirst();
+        assertThat(currentSchedule.getStudentScheduleId()).isEqualTo(studentSchedule.getId());
+        assertThat(currentSchedule.getScheduleId()).isEqualTo(exit.getId());
+        assertThat(currentSchedule.getType()).isEqualTo(ScheduleType.EXIT);
+        assertThat(currentSchedule.getStackOrder()).isEqualTo(3);
+        assertThat(currentSchedule.getPlaceScheduleId()).isEqualTo(leaveSeat.getId());
+        assertThat(currentSchedule.getPlaceScheduleType()).isEqualTo(ScheduleType.LEAVE_SEAT);
+    }
+
+    @Test
+    @DisplayName("최상단 스케줄이 장소 기반이면 장소 기반 스케줄도 최상단 스케줄이다")
+    void shouldUseTopScheduleAsPlaceBasedSchedule() {
+        // Given
+        scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.SELF_STUDY));
+        ScheduleEntity afterSchool = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 1, ScheduleType.AFTER_SCHOOL));
+
+        // When
+        List<CurrentScheduleEntity> result = currentScheduleRepository.calculateByStudentScheduleIds(List.of(studentSchedule.getId()));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getScheduleId()).isEqualTo(afterSchool.getId());
+        assertThat(result.getFirst().getPlaceScheduleId()).isEqualTo(afterSchool.getId());
+    }
+
+    @Test
+    @DisplayName("스케줄이 없는 student_schedule 은 결과에 포함되지 않는다")
+    void shouldSkipStudentScheduleWithoutSchedules() {
+        // When
+        List<CurrentScheduleEntity> result = currentScheduleRepository.calculateByStudentScheduleIds(List.of(studentSchedule.getId()));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+}
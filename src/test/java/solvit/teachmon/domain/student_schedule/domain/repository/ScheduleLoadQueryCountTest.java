@@ -0,0 +1,143 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄 엔티티 조회 쿼리 수 회귀 테스트
+ * 스케줄 N 개를 읽을 때 하위 스케줄 테이블을 스케줄마다 추가 조회하지 않는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("스케줄 조회 쿼리 수 테스트")
+class ScheduleLoadQueryCountTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    private static final SchoolPeriod PERIOD = SchoolPeriod.SEVEN_PERIOD;
+    private static final int STUDENT_COUNT = 10;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CurrentScheduleRepository currentScheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long firstStudentScheduleId;
+
+    @BeforeEach
+    void setUp() {
+        // 학생마다 자습 위에 이탈이 쌓인 학생 스케줄
+        for (int number = 1; number <= STUDENT_COUNT; number++) {
+            StudentEntity student = studentRepository.save(StudentEntity.builder()
+                    .year(2026)
+                    .grade(1)
+                    .classNumber(1)
+                    .number(number)
+                    .name("학생" + number)
+                    .build());
+            StudentScheduleEntity studentSchedule = studentScheduleRepository.save(StudentScheduleEntity.builder()
+                    .student(student)
+                    .day(DAY)
+                    .period(PERIOD)
+                    .build());
+            ScheduleEntity selfStudy = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.SELF_STUDY));
+            ScheduleEntity exit = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 1, ScheduleType.EXIT));
+            currentScheduleRepository.save(CurrentScheduleEntity.builder()
+                    .studentScheduleId(studentSchedule.getId())
+                    .day(DAY)
+                    .period(PERIOD)
+                    .scheduleId(exit.getId())
+                    .type(ScheduleType.EXIT)
+                    .stackOrder(2)
+                    .placeScheduleId(selfStudy.getId())
+                    .placeScheduleType(ScheduleType.SELF_STUDY)
+                    .build());
+
+            if (firstStudentScheduleId == null) {
+                firstStudentScheduleId = studentSchedule.getId();
+            }
+        }
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리가 나가도록 한다
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("현재 스케줄 N 개를 조회해도 쿼리는 한 번만 실행된다")
+    void shouldLoadCurrentSchedulesWithSingleQuery() {
+        // When
+        Map<ScheduleType, List<ScheduleEntity>> schedules = studentScheduleRepository.findAllByDayAndPeriodAndTypeIn(
+                DAY, PERIOD, List.of(ScheduleType.EXIT)
+        );
+
+        // Then
+        assertThat(schedules.get(ScheduleType.EXIT)).hasSize(STUDENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장소 기반 스케줄 N 개를 조회해도 쿼리는 한 번만 실행된다")
+    void shouldLoadPlaceBasedSchedulesWithSingleQuery() {
+        // When
+        Map<ScheduleType, List<ScheduleEntity>> schedules = studentScheduleRepository.findPlaceBasedSchedulesByDayAndPeriodAndTypeIn(
+                DAY, PERIOD, List.of(ScheduleType.SELF_STUDY)
+        );
+
+        // Then
+        assertThat(schedules.get(ScheduleType.SELF_STUDY)).hasSize(STUDENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스케줄 하나를 조회할 때 하위 스케줄 테이블은 조회하지 않는다")
+    void shouldNotLoadPayloadsWhenLoadingSchedule() {
+        // When
+        ScheduleEntity schedule = scheduleRepository.findByStudentScheduleIdAndType(firstStudentScheduleId, ScheduleType.EXIT)
+                .orElseThrow();
+
+        // Then
+        assertThat(schedule.getType()).isEqualTo(ScheduleType.EXIT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,188 @@
+package solvit.teachmon.domain.student_schedule.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.AwayEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.CurrentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AwayScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.schedules.AwayScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.vo.ScheduleSlotVo;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("학생 스케줄 일괄 처리 저장소 테스트")
+class StudentScheduleBulkRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 3, 8);
+
+    @Autowired
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CurrentScheduleRepository currentScheduleRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private AwayRepository awayRepository;
+
+    @Autowired
+    private AwayScheduleRepository awayScheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StudentEntity student;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(StudentEntity.builder()
+                .year(2026)
+                .grade(1)
+                .classNumber(1)
+                .number(3)
+                .name("김학생")
+                .build());
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 저장한 학생 스케줄은 id 가 생성되어 조회된다")
+    void shouldBulkInsertStudentSchedules() {
+        // Given
+        List<StudentScheduleEntity> studentSchedules = List.of(
+                createStudentSchedule(MONDAY, SchoolPeriod.SEVEN_PERIOD),
+                createStudentSchedule(MONDAY, SchoolPeriod.EIGHT_AND_NINE_PERIOD)
+        );
+
+        // When
+        long inserted = studentScheduleRepository.bulkInsert(studentSchedules);
+
+        // Then
+        List<StudentScheduleEntity> saved = studentScheduleRepository.findAllByDayBetween(MONDAY, SUNDAY);
+        assertThat(inserted).isEqualTo(2);
+        assertThat(saved).hasSize(2);
+        assertThat(saved).extracting(StudentScheduleEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved).extracting(StudentScheduleEntity::getPeriod)
+                .containsExactlyInAnyOrder(SchoolPeriod.SEVEN_PERIOD, SchoolPeriod.EIGHT_AND_NINE_PERIOD);
+    }
+
+    @Test
+    @DisplayName("기간 내 학생 스케줄과 스케줄, current_schedule 을 한 번에 삭제하고 기간 밖은 남긴다")
+    void shouldBulkDeleteWithinRange() {
+        // Given: 기간 내 학생 스케줄 1개(스케줄 2개, 프로젝션 1개)와 기간 밖 학생 스케줄 1개
+        StudentScheduleEntity inRange = studentScheduleRepository.save(createStudentSchedule(MONDAY, SchoolPeriod.SEVEN_PERIOD));
+        StudentScheduleEntity outOfRange = studentScheduleRepository.save(createStudentSchedule(MONDAY.minusDays(1), SchoolPeriod.SEVEN_PERIOD));
+        scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(inRange, 0, ScheduleType.SELF_STUDY));
+        ScheduleEntity top = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(inRange, 1, ScheduleType.LEAVE_SEAT));
+        currentScheduleRepository.save(CurrentScheduleEntity.builder()
+                .studentScheduleId(inRange.getId())
+                .day(MONDAY)
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .scheduleId(top.getId())
+                .type(ScheduleType.LEAVE_SEAT)
+                .stackOrder(2)
+                .placeScheduleId(top.getId())
+                .placeScheduleType(ScheduleType.LEAVE_SEAT)
+                .build());
+
+        // When
+        long deleted = studentScheduleRepository.bulkDeleteAllByDayBetween(MONDAY, SUNDAY);
+
+        // Then: 스케줄 2 + 프로젝션 1 + 학생 스케줄 1
+        assertThat(deleted).isEqualTo(4);
+        assertThat(studentScheduleRepository.findAllByDayBetween(MONDAY, SUNDAY)).isEmpty();
+        assertThat(studentScheduleRepository.findById(outOfRange.getId())).isPresent();
+        assertThat(currentScheduleRepository.findById(inRange.getId())).isEmpty();
+        assertThat(scheduleRepository.findAll()).noneMatch(schedule -> schedule.getStudentSchedule().getId().equals(inRange.getId()));
+    }
+
+    @Test
+    @DisplayName("기간 내 학생 스케줄의 (날짜, 교시) 목록을 중복 없이 조회한다")
+    void shouldFindDistinctSlots() {
+        // Given
+        studentScheduleRepository.save(createStudentSchedule(MONDAY, SchoolPeriod.SEVEN_PERIOD));
+        studentScheduleRepository.save(createStudentSchedule(MONDAY, SchoolPeriod.SEVEN_PERIOD));
+        studentScheduleRepository.save(createStudentSchedule(MONDAY.plusDays(1), SchoolPeriod.TEN_AND_ELEVEN_PERIOD));
+
+        // When & Then
+        assertThat(studentScheduleRepository.findSlotsByDayBetween(MONDAY, SUNDAY)).containsExactlyInAnyOrder(
+                new ScheduleSlotVo(MONDAY, SchoolPeriod.SEVEN_PERIOD),
+                new ScheduleSlotVo(MONDAY.plusDays(1), SchoolPeriod.TEN_AND_ELEVEN_PERIOD)
+        );
+    }
+
+    @Test
+    @DisplayName("학생의 하위 스케줄을 먼저 삭제하면 학생을 엔티티로 삭제할 수 있다")
+    void shouldDeleteStudentAfterDeletingSchedulePayloads() {
+        // Given: 외출 스케줄이 쌓인 학생
+        TeacherEntity teacher = teacherRepository.save(TeacherEntity.builder()
+                .name("김선생")
+                .mail("kim@teacher.com")
+                .profile("수학 선생님")
+                .providerId("google-12345")
+                .oAuth2Type(OAuth2Type.GOOGLE)
+                .build());
+        StudentScheduleEntity studentSchedule = studentScheduleRepository.save(createStudentSchedule(MONDAY, SchoolPeriod.SEVEN_PERIOD));
+        ScheduleEntity schedule = scheduleRepository.save(ScheduleEntity.createNewStudentSchedule(studentSchedule, 0, ScheduleType.AWAY));
+        AwayEntity away = awayRepository.save(AwayEntity.builder()
+                .student(student)
+                .teacher(teacher)
+                .day(MONDAY)
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .build());
+        awayScheduleRepository.save(AwayScheduleEntity.builder()
+                .schedule(schedule)
+                .away(away)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        long deleted = studentScheduleRepository.bulkDeleteSchedulePayloadsByStudentId(student.getId());
+        studentRepository.deleteById(student.getId());
+        entityManager.flush();
+
+        // Then: 하위 스케줄이 삭제되어 스케줄까지 cascade 로 삭제된다
+        assertThat(deleted).isEqualTo(1);
+        assertThat(awayScheduleRepository.findAll()).isEmpty();
+        assertThat(scheduleRepository.findById(schedule.getId())).isEmpty();
+        assertThat(studentScheduleRepository.findById(studentSchedule.getId())).isEmpty();
+    }
+
+    private StudentScheduleEntity createStudentSchedule(LocalDate day, SchoolPeriod period) {
+        return StudentScheduleEntity.builder()
+                .student(student)
+                .day(day)
+                .period(period)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StackOrderAllocator 테스트")
+class StackOrderAllocatorTest {
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final StackOrderAllocator allocator = new StackOrderAllocator(scheduleRepository);
+
+    @Test
+    @DisplayName("마지막 stackOrder 를 한 번에 조회해 다음 값을 할당한다")
+    void shouldAllocateNextStackOrdersWithSingleQuery() {
+        // Given: 스케줄이 쌓여 있는 학생 스케줄과 비어 있는 학생 스케줄이 있을 때
+        StudentScheduleEntity stacked = createStudentSchedule(1L);
+        StudentScheduleEntity empty = createStudentSchedule(2L);
+        given(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, 3));
+
+        // When: 새 스케줄을 쌓으면
+        List<ScheduleEntity> schedules = allocator.stackSchedules(List.of(stacked, empty), ScheduleType.LEAVE_SEAT);
+
+        // Then: 조회는 한 번만 일어나고 각자 마지막 stackOrder 다음 값을 받는다
+        verify(scheduleRepository, times(1)).findLastStackOrdersByStudentScheduleIds(anyCollection());
+        assertThat(schedules).extracting(ScheduleEntity::getStackOrder).containsExactly(4, 1);
+        assertThat(schedules).extracting(ScheduleEntity::getType).containsOnly(ScheduleType.LEAVE_SEAT);
+        assertThat(schedules).extracting(ScheduleEntity::getStudentSchedule).containsExactly(stacked, empty);
+    }
+
+    @Test
+    @DisplayName("같은 학생 스케줄이 여러 번 들어오면 순서대로 쌓인다")
+    void shouldIncreaseStackOrderForDuplicatedStudentSchedule() {
+        // Given: 같은 학생 스케줄이 두 번 들어올 때
+        StudentScheduleEntity studentSchedule = createStudentSchedule(1L);
+        given(scheduleRepository.findLastStackOrdersByStudentScheduleIds(List.of(1L)))
+                .willReturn(Map.of(1L, 1));
+
+        // When: 새 스케줄을 쌓으면
+        List<ScheduleEntity> schedules = allocator.stackSchedules(List.of(studentSchedule, studentSchedule), ScheduleType.EXIT);
+
+        // Then: stackOrder 가 겹치지 않아야 한다
+        assertThat(schedules).extracting(ScheduleEntity::getStackOrder).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("학생 스케줄이 없으면 조회하지 않는다")
+    void shouldNotQueryWhenEmpty() {
+        // When: 빈 목록으로 스케줄을 쌓으면
+        List<ScheduleEntity> schedules = allocator.stackSchedules(List.of(), ScheduleType.SELF_STUDY);
+
+        // Then: 조회 없이 빈 목록을 반환한다
+        assertThat(schedules).isEmpty();
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    private StudentScheduleEntity createStudentSchedule(Long id) {
+        StudentScheduleEntity studentSchedule = mock(StudentScheduleEntity.class);
+        given(studentSchedule.getId()).willReturn(id);
+        return studentSchedule;
+    }
+}
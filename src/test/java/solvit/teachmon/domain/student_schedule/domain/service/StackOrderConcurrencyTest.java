@@ -0,0 +1,195 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.management.student.domain.repository.StudentRepository;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.student_schedule.domain.repository.CurrentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.ScheduleRepository;
+import solvit.teachmon.domain.student_schedule.domain.repository.StudentScheduleRepository;
+import solvit.teachmon.domain.student_schedule.exception.StackOrderConflictException;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 동시에 스케줄을 쌓을 때 stackOrder 가 겹치거나 빠지지 않는지 검증
+ * 트랜잭션 커밋 시점의 충돌을 봐야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("스케줄 쌓기 동시성 테스트")
+class StackOrderConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int PUSHES_PER_THREAD = 5;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private StackOrderConflictRetrier stackOrderConflictRetrier;
+
+    @Autowired
+    private StackOrderAllocator stackOrderAllocator;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentScheduleRepository studentScheduleRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CurrentScheduleRepository currentScheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> studentScheduleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 교시마다 자습 스케줄이 하나씩 쌓여 있는 학생 스케줄 THREADS 개
+        stackOrderConflictRetrier.execute(() -> {
+            StudentEntity student = studentRepository.save(StudentEntity.builder()
+                    .year(2026)
+                    .grade(1)
+                    .classNumber(1)
+                    .number(3)
+                    .name("김학생")
+                    .build());
+
+            for (int i = 0; i < THREADS; i++) {
+                StudentScheduleEntity studentSchedule = studentScheduleRepository.save(StudentScheduleEntity.builder()
+                        .student(student)
+                        .day(DAY.plusDays(i))
+                        .period(SchoolPeriod.SEVEN_PERIOD)
+                        .build());
+                scheduleRepository.save(stackOrderAllocator.stackSchedule(studentSchedule, ScheduleType.SELF_STUDY));
+                studentScheduleIds.add(studentSchedule.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM current_schedule");
+        jdbcTemplate.update("DELETE FROM schedule");
+        jdbcTemplate.update("DELETE FROM student_schedule");
+        jdbcTemplate.update("DELETE FROM student");
+    }
+
+    @Test
+    @DisplayName("여러 선생님이 같은 학생 스케줄에 동시에 쌓아도 순서가 겹치거나 빠지지 않는다")
+    void shouldStackWithoutDuplicateOrLostPushesUnderContention() throws Exception {
+        // Given: 모든 스레드가 두 학생 스케줄에 번갈아 쌓을 때
+        List<Long> contended = studentScheduleIds.subList(0, 2);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        // When
+        runConcurrently(pushIndex -> contended.get(pushIndex % contended.size()), succeeded, conflicted);
+
+        // Then: 성공한 쌓기는 모두 남아 있고, 실패는 충돌 예외로 드러난다
+        assertThat(succeeded.get() + conflicted.get()).isEqualTo(THREADS * PUSHES_PER_THREAD);
+        assertThat(succeeded.get()).isPositive();
+
+        int stacked = 0;
+        for (Long studentScheduleId : contended) {
+            List<Integer> stackOrders = findStackOrders(studentScheduleId);
+
+            // 1 부터 빈틈 없이 한 번씩만 쌓여 있다
+            assertThat(stackOrders).containsExactlyElementsOf(IntStream.rangeClosed(1, stackOrders.size()).boxed().toList());
+            assertThat(currentScheduleRepository.findById(studentScheduleId))
+                    .hasValueSatisfying(current -> assertThat(current.getStackOrder()).isEqualTo(stackOrders.size()));
+            stacked += stackOrders.size() - 1;
+        }
+        assertThat(stacked).isEqualTo(succeeded.get());
+    }
+
+    @Test
+    @DisplayName("서로 다른 학생 스케줄에 쌓는 변경은 서로 충돌하지 않는다")
+    void shouldNotConflictAcrossStudentSchedules() throws Exception {
+        // Given: 스레드마다 자기 학생 스케줄에만 쌓을 때
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        // When
+        runConcurrently(null, succeeded, conflicted);
+
+        // Then: 모든 쌓기가 충돌 없이 성공한다
+        assertThat(conflicted.get()).isZero();
+        assertThat(succeeded.get()).isEqualTo(THREADS * PUSHES_PER_THREAD);
+        for (Long studentScheduleId : studentScheduleIds) {
+            assertThat(findStackOrders(studentScheduleId))
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, PUSHES_PER_THREAD + 1).boxed().toList());
+        }
+    }
+
+    /**
+     * THREADS 개 스레드가 동시에 PUSHES_PER_THREAD 번씩 AWAY 를 쌓습니다.
+     * target 이 null 이면 스레드마다 자기 학생 스케줄에 쌓습니다.
+     */
+    private void runConcurrently(IntFunction<Long> target, AtomicInteger succeeded, AtomicInteger conflicted) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadIndex = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int push = 0; push < PUSHES_PER_THREAD; push++) {
+                    Long studentScheduleId = target == null
+                            ? studentScheduleIds.get(threadIndex)
+                            : target.apply(threadIndex * PUSHES_PER_THREAD + push);
+                    try {
+                        stackOrderConflictRetrier.execute(() -> {
+                            StudentScheduleEntity studentSchedule = studentScheduleRepository.findById(studentScheduleId).orElseThrow();
+                            scheduleRepository.save(stackOrderAllocator.stackSchedule(studentSchedule, ScheduleType.AWAY));
+                        });
+                        succeeded.incrementAndGet();
+                    } catch (StackOrderConflictException e) {
+                        conflicted.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private List<Integer> findStackOrders(Long studentScheduleId) {
+        return jdbcTemplate.queryForList(
+                "SELECT stack_order FROM schedule WHERE student_schedule_id = ? ORDER BY stack_order",
+                Integer.class,
+                studentScheduleId
+        );
+    }
+}
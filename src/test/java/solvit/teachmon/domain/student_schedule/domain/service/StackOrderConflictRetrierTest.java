@@ -0,0 +1,74 @@
+package solvit.teachmon.domain.student_schedule.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.student_schedule.exception.StackOrderConflictException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("스케줄 쌓기 충돌 재시도 테스트")
+class StackOrderConflictRetrierTest {
+
+    private final StackOrderConflictRetrier retrier =
+            new StackOrderConflictRetrier(new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    @DisplayName("stackOrder 유니크 제약에 걸리면 다시 실행한다")
+    void shouldRetryOnStackOrderConflict() {
+        // Given: 처음 두 번은 stackOrder 가 충돌할 때
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When: 실행하면
+        String result = retrier.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw stackOrderConflict();
+            }
+            return "done";
+        });
+
+        // Then: 세 번째 시도에서 성공한다
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 무결성 제약 위반은 재시도하지 않는다")
+    void shouldNotRetryOtherIntegrityViolation() {
+        // Given: stackOrder 와 관계없는 제약 위반일 때
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then: 바로 예외가 전파된다
+        assertThatThrownBy(() -> retrier.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("NULL not allowed for column \"type\"");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 충돌 예외가 발생한다")
+    void shouldThrowConflictWhenRetriesExhausted() {
+        // Given: 계속 stackOrder 가 충돌할 때
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then: 5번 시도 후 충돌 예외가 발생한다
+        assertThatThrownBy(() -> retrier.execute(() -> {
+            attempts.incrementAndGet();
+            throw stackOrderConflict();
+        })).isInstanceOf(StackOrderConflictException.class);
+        assertThat(attempts.get()).isEqualTo(5);
+    }
+
+    private DataIntegrityViolationException stackOrderConflict() {
+        return new DataIntegrityViolationException(
+                "Duplicate entry '1-2' for key 'schedule.UK_SCHEDULE_STUDENT_SCHEDULE_STACK_ORDER'"
+        );
+    }
+}
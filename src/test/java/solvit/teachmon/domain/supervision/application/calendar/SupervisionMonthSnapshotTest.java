@@ -0,0 +1,55 @@
+package solvit.teachmon.domain.supervision.application.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionCalendarVo;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("감독 달력 스냅샷 테스트")
+class SupervisionMonthSnapshotTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2025, 3, 4);
+
+    private final SupervisionMonthSnapshot snapshot = SupervisionMonthSnapshot.from(List.of(
+            new SupervisionCalendarVo(1L, 10L, "김선생", FIRST_DAY, SchoolPeriod.SEVEN_PERIOD, SupervisionType.SEVENTH_PERIOD_SUPERVISION),
+            new SupervisionCalendarVo(2L, 10L, "김선생", FIRST_DAY, SchoolPeriod.EIGHT_AND_NINE_PERIOD, SupervisionType.SELF_STUDY_SUPERVISION),
+            new SupervisionCalendarVo(3L, 10L, "김선생", FIRST_DAY, SchoolPeriod.TEN_AND_ELEVEN_PERIOD, SupervisionType.SELF_STUDY_SUPERVISION),
+            new SupervisionCalendarVo(4L, 20L, "이선생", SECOND_DAY, SchoolPeriod.EIGHT_AND_NINE_PERIOD, SupervisionType.LEAVE_SEAT_SUPERVISION)
+    ));
+
+    @Test
+    @DisplayName("선생님 이름으로 대소문자 구분 없이 필터링한다")
+    void shouldFilterSchedulesByTeacherName() {
+        // When
+        List<SupervisionCalendarVo> all = snapshot.getSchedules(" ");
+        List<SupervisionCalendarVo> filtered = snapshot.getSchedules("이");
+
+        // Then
+        assertThat(all).hasSize(4);
+        assertThat(filtered).extracting(SupervisionCalendarVo::scheduleId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("선생님의 감독 날짜를 중복 없이 정렬해서 반환한다")
+    void shouldReturnDistinctSortedTeacherDays() {
+        // When & Then
+        assertThat(snapshot.getTeacherDays(10L)).containsExactly(FIRST_DAY);
+        assertThat(snapshot.getTeacherDays(30L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선생님의 특정 날짜 감독 타입을 중복 없이 반환한다")
+    void shouldReturnDistinctTeacherTypesOfDay() {
+        // When & Then
+        assertThat(snapshot.getTeacherTypes(10L, FIRST_DAY))
+                .containsExactlyInAnyOrder(SupervisionType.SEVENTH_PERIOD_SUPERVISION, SupervisionType.SELF_STUDY_SUPERVISION);
+        assertThat(snapshot.getTeacherTypes(10L, SECOND_DAY)).isEmpty();
+    }
+}
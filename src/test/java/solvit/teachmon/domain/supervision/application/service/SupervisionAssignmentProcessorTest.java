@@ -0,0 +1,223 @@
+package solvit.teachmon.domain.supervision.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.supervision.application.mapper.SupervisionAssignmentMapper;
+import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.repository.SupervisionAutoAssignQueryDslRepository;
+import solvit.teachmon.domain.supervision.domain.strategy.DefaultPriorityStrategy;
+import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
+import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
+import solvit.teachmon.domain.supervision.exception.InsufficientTeachersException;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
+import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("감독 배정 처리기 테스트")
+class SupervisionAssignmentProcessorTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private final SupervisionAutoAssignQueryDslRepository autoAssignRepository = mock(SupervisionAutoAssignQueryDslRepository.class);
+    private final TeacherRepository teacherRepository = mock(TeacherRepository.class);
+    private final SupervisionAssignmentProcessor processor = new SupervisionAssignmentProcessor(
+            autoAssignRepository, teacherRepository, new DefaultPriorityStrategy(), new SupervisionAssignmentMapper() {}
+    );
+
+    @BeforeEach
+    void setUp() {
+        given(autoAssignRepository.findScheduledDaysBetween(any(), any())).willReturn(Set.of());
+        given(teacherRepository.findAllById(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::createTeacherEntity).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("우선순위 상위 2명을 자습/이석 감독으로 배정하고 배정된 교사는 다음 날 우선순위가 낮아진다")
+    void shouldAssignTopTwoTeachersAndUpdateState() {
+        // Given: 감독 이력이 없는 교사 1명과 마지막 감독일이 다른 교사 2명
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, MONDAY.minusDays(20), 1, Set.of()),
+                createTeacherInfo(2L, null, 0, Set.of()),
+                createTeacherInfo(3L, MONDAY.minusDays(30), 1, Set.of())
+        );
+
+        // When: 월, 화 이틀을 배정하면
+        List<SupervisionScheduleEntity> schedules = processor.processDateAssignments(List.of(MONDAY, TUESDAY), teacherInfos);
+
+        // Then: 월요일은 2번(자습), 3번(이석), 화요일은 아직 배정되지 않은 1번이 포함된다
+        assertThat(schedules).hasSize(8);
+        assertThat(findTeacherId(schedules, MONDAY, SupervisionType.SELF_STUDY_SUPERVISION)).isEqualTo(2L);
+        assertThat(findTeacherId(schedules, MONDAY, SupervisionType.LEAVE_SEAT_SUPERVISION)).isEqualTo(3L);
+        assertThat(findTeacherId(schedules, TUESDAY, SupervisionType.SELF_STUDY_SUPERVISION)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기존 스케줄과 교사 엔티티는 배정 시작 전에 한 번만 조회한다")
+    void shouldPreloadScheduledDaysAndTeachersOnce() {
+        // Given: 화요일은 이미 스케줄이 존재할 때
+        given(autoAssignRepository.findScheduledDaysBetween(MONDAY, MONDAY.plusDays(3))).willReturn(Set.of(TUESDAY));
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, null, 0, Set.of()),
+                createTeacherInfo(2L, null, 0, Set.of()),
+                createTeacherInfo(3L, null, 0, Set.of())
+        );
+
+        // When: 월~목 4일을 배정하면
+        List<SupervisionScheduleEntity> schedules = processor.processDateAssignments(
+                List.of(MONDAY, TUESDAY, MONDAY.plusDays(2), MONDAY.plusDays(3)), teacherInfos);
+
+        // Then: 화요일을 제외한 3일이 배정되고 조회는 각각 한 번만 일어난다
+        assertThat(schedules).hasSize(12);
+        assertThat(schedules).noneMatch(schedule -> schedule.getDay().equals(TUESDAY));
+        verify(autoAssignRepository, times(1)).findScheduledDaysBetween(MONDAY, MONDAY.plusDays(3));
+        verify(teacherRepository, times(1)).findAllById(anyCollection());
+        verify(teacherRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("배정안을 만든 뒤 스케줄이 생긴 날짜는 제외한다")
+    void shouldExcludeDaysScheduledAfterPlanning() {
+        // Given: 월, 화 배정안을 만든 사이 화요일에 다른 요청이 먼저 배정했을 때
+        List<DailySupervisionAssignment> assignments = List.of(
+                DailySupervisionAssignment.builder().date(MONDAY).build(),
+                DailySupervisionAssignment.builder().date(TUESDAY).build()
+        );
+        given(autoAssignRepository.findScheduledDaysBetween(MONDAY, TUESDAY)).willReturn(Set.of(TUESDAY));
+
+        // When
+        List<DailySupervisionAssignment> result = processor.excludeScheduledDays(assignments);
+
+        // Then: 월요일 배정만 남는다
+        assertThat(result).extracting(DailySupervisionAssignment::date).containsExactly(MONDAY);
+    }
+
+    @Test
+    @DisplayName("금지 요일인 교사는 해당 요일에 배정되지 않는다")
+    void shouldExcludeBanDayTeachers() {
+        // Given: 우선순위가 가장 높은 1번 교사가 월요일 금지일 때
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, null, 0, Set.of(WeekDay.MON)),
+                createTeacherInfo(2L, MONDAY.minusDays(10), 1, Set.of()),
+                createTeacherInfo(3L, MONDAY.minusDays(20), 1, Set.of())
+        );
+
+        // When: 월요일을 배정하면
+        List<SupervisionScheduleEntity> schedules = processor.processDateAssignments(List.of(MONDAY), teacherInfos);
+
+        // Then: 1번 교사는 배정되지 않는다
+        assertThat(schedules).extracting(schedule -> schedule.getTeacher().getId())
+                .containsOnly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("배정 가능한 교사가 2명 미만이면 예외가 발생한다")
+    void shouldThrowWhenInsufficientTeachers() {
+        // Given: 2명 중 1명이 월요일 금지일 때
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, null, 0, Set.of(WeekDay.MON)),
+                createTeacherInfo(2L, null, 0, Set.of())
+        );
+
+        // When & Then: 예외가 발생한다
+        assertThatThrownBy(() -> processor.processDateAssignments(List.of(MONDAY), teacherInfos))
+                .isInstanceOf(InsufficientTeachersException.class)
+                .hasMessageContaining("가능한 교사 수: 1");
+    }
+
+    @Test
+    @DisplayName("교사 엔티티가 존재하지 않으면 예외가 발생한다")
+    void shouldThrowWhenTeacherEntityMissing() {
+        // Given: 조회되는 교사 엔티티가 없을 때
+        given(teacherRepository.findAllById(anyCollection())).willReturn(List.of());
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, null, 0, Set.of()),
+                createTeacherInfo(2L, null, 0, Set.of())
+        );
+
+        // When & Then: 예외가 발생한다
+        assertThatThrownBy(() -> processor.processDateAssignments(List.of(MONDAY), teacherInfos))
+                .isInstanceOf(TeacherNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("교사 수백 명의 한 학기 배정도 빠르게 끝나고 매일 서로 다른 교사가 배정된다")
+    void shouldAssignSemesterWithManyTeachers() {
+        // Given: 교사 300명, 평일 약 100일
+        List<TeacherSupervisionInfo> teacherInfos = IntStream.rangeClosed(1, 300)
+                .mapToObj(id -> createTeacherInfo((long) id, null, 0, id % 5 == 0 ? Set.of(WeekDay.FRI) : Set.of()))
+                .toList();
+        List<LocalDate> targetDates = new ArrayList<>();
+        for (LocalDate date = MONDAY; targetDates.size() < 100; date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() <= 5) {
+                targetDates.add(date);
+            }
+        }
+
+        // When: 배정하면
+        List<SupervisionScheduleEntity> schedules = assertTimeout(Duration.ofSeconds(2),
+                () -> processor.processDateAssignments(targetDates, teacherInfos));
+
+        // Then: 날짜마다 4개 스케줄이 만들어지고, 감독 이력이 없는 교사부터 한 번씩 배정된다
+        assertThat(schedules).hasSize(400);
+        assertThat(schedules).extracting(schedule -> schedule.getTeacher().getId())
+                .doesNotContainNull()
+                .hasSize(400);
+        assertThat(schedules.stream().map(schedule -> schedule.getTeacher().getId()).distinct().count())
+                .isEqualTo(200);
+    }
+
+    private Long findTeacherId(List<SupervisionScheduleEntity> schedules, LocalDate day, SupervisionType type) {
+        return schedules.stream()
+                .filter(schedule -> schedule.getDay().equals(day) && schedule.getType() == type)
+                .map(schedule -> schedule.getTeacher().getId())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private TeacherSupervisionInfo createTeacherInfo(Long teacherId, LocalDate lastSupervisionDate,
+                                                     int totalSupervisionCount, Set<WeekDay> banDays) {
+        return TeacherSupervisionInfo.builder()
+                .teacherId(teacherId)
+                .teacherName("교사" + teacherId)
+                .banDayMask(TeacherSupervisionInfo.toBanDayMask(banDays))
+                .lastSupervisionDate(lastSupervisionDate)
+                .totalSupervisionCount(totalSupervisionCount)
+                .supervisionCounts(Map.of())
+                .build();
+    }
+
+    private TeacherEntity createTeacherEntity(Long id) {
+        TeacherEntity teacher = mock(TeacherEntity.class);
+        given(teacher.getId()).willReturn(id);
+        return teacher;
+    }
+}
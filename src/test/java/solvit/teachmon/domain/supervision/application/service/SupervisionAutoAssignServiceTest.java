@@ -4,14 +4,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionResponseMapper;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionAssignMode;
+import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionPlan;
+import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("감독 자동 배정 서비스 테스트")
@@ -26,12 +40,21 @@ class SupervisionAutoAssignServiceTest {
     @Mock
     private SupervisionAssignmentProcessor assignmentProcessor;
     
+    @Mock
+    private SupervisionFairnessPlanner fairnessPlanner;
+
     @Mock
     private SupervisionDateExtractor dateExtractor;
     
     @Mock
     private SupervisionResponseMapper responseMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private SupervisionAutoAssignService autoAssignService;
     
     // 테스트 데이터
@@ -41,7 +64,8 @@ class SupervisionAutoAssignServiceTest {
     @BeforeEach
     void setUp() {
         autoAssignService = new SupervisionAutoAssignService(
-                scheduleRepository, teacherSupervisionInfoService, assignmentProcessor, dateExtractor, responseMapper);
+                scheduleRepository, teacherSupervisionInfoService, assignmentProcessor, fairnessPlanner, dateExtractor, responseMapper, eventPublisher,
+                new TransactionTemplate(transactionManager));
         
         // 테스트 기간 설정 (다음달)
         LocalDate now = LocalDate.now();
@@ -59,6 +83,38 @@ class SupervisionAutoAssignServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("공정성 모드로 자동 배정하면 우선순위 배정안을 개선한 배정안으로 저장한다")
+    void shouldSaveFairnessPlanWhenFairnessMode() {
+        // Given: 우선순위 배정안과 이를 개선한 공정성 배정안
+        List<TeacherSupervisionInfo> teacherInfos = List.of();
+        List<LocalDate> targetDates = List.of(startDate);
+        List<DailySupervisionAssignment> greedyAssignments = List.of(
+                DailySupervisionAssignment.builder().date(startDate).build());
+        List<DailySupervisionAssignment> fairnessAssignments = List.of(
+                DailySupervisionAssignment.builder().date(startDate.plusDays(1)).build());
+        given(teacherSupervisionInfoService.getTeacherSupervisionInfos()).willReturn(teacherInfos);
+        given(dateExtractor.extractWeekdays(startDate, endDate)).willReturn(targetDates);
+        given(assignmentProcessor.planDateAssignments(targetDates, teacherInfos)).willReturn(greedyAssignments);
+        given(fairnessPlanner.plan(greedyAssignments, teacherInfos)).willReturn(new SupervisionPlan(fairnessAssignments, null));
+        given(assignmentProcessor.excludeScheduledDays(fairnessAssignments)).willReturn(fairnessAssignments);
+
+        // When: 공정성 모드로 자동 배정하면
+        autoAssignService.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.FAIRNESS);
+
+        // Then: 공정성 배정안이 스케줄로 변환된다
+        verify(assignmentProcessor).toScheduleEntities(fairnessAssignments, teacherInfos);
+        verify(assignmentProcessor, never()).processDateAssignments(any(), any());
+
+        // 배정안 탐색이 끝난 뒤에 저장 트랜잭션을 연다
+        InOrder inOrder = inOrder(fairnessPlanner, transactionManager, assignmentProcessor, scheduleRepository);
+        inOrder.verify(fairnessPlanner).plan(greedyAssignments, teacherInfos);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(assignmentProcessor).excludeScheduledDays(fairnessAssignments);
+        inOrder.verify(scheduleRepository).saveAll(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
     @Test
     @DisplayName("교사 정보가 없을 때 예외가 전파된다")
     void shouldPropagateExceptionWhenNoTeachersAvailable() {
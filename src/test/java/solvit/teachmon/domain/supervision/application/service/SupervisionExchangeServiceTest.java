@@ -8,10 +8,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionExchangeEntity;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionExchangeType;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.event.SupervisionScheduleChangedEvent;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionExchangeRepository;
 import solvit.teachmon.domain.supervision.domain.repository.SupervisionScheduleRepository;
 import solvit.teachmon.domain.supervision.exception.SupervisionExchangeNotFoundException;
@@ -27,8 +29,10 @@ import solvit.teachmon.domain.user.exception.TeacherNotFoundException;
 import solvit.teachmon.domain.supervision.application.mapper.SupervisionExchangeResponseMapper;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +56,9 @@ class SupervisionExchangeServiceTest {
     @Mock
     private SupervisionExchangeResponseMapper supervisionExchangeResponseMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SupervisionExchangeService supervisionExchangeService;
 
     @BeforeEach
@@ -60,7 +67,8 @@ class SupervisionExchangeServiceTest {
                 supervisionExchangeRepository,
                 supervisionScheduleRepository,
                 teacherRepository,
-                supervisionExchangeResponseMapper
+                supervisionExchangeResponseMapper,
+                eventPublisher
         );
     }
 
@@ -213,6 +221,7 @@ class SupervisionExchangeServiceTest {
         // Then
         verify(supervisionExchangeRepository).findById(1L);
         verify(exchangeEntity).accept();
+        verify(eventPublisher).publishEvent(new SupervisionScheduleChangedEvent(Set.of(YearMonth.of(2025, 3))));
     }
 
     @Test
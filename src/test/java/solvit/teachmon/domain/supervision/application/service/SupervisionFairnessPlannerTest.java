@@ -0,0 +1,191 @@
+package solvit.teachmon.domain.supervision.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solvit.teachmon.domain.supervision.domain.vo.DailySupervisionAssignment;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionFairnessMetrics;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionPlan;
+import solvit.teachmon.domain.supervision.domain.vo.TeacherSupervisionInfo;
+import solvit.teachmon.global.enums.WeekDay;
+import solvit.teachmon.global.properties.SupervisionPlannerProperties;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+@DisplayName("공정성 감독 배정 테스트")
+class SupervisionFairnessPlannerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private final SupervisionFairnessPlanner planner = new SupervisionFairnessPlanner(
+            new SupervisionPlannerProperties(Duration.ofMillis(200), 2)
+    );
+
+    @Test
+    @DisplayName("두 교사에게 몰린 배정안을 여러 교사에게 고르게 나눈다")
+    void shouldSpreadConcentratedPlan() {
+        // Given: 교사 6명 중 1, 2번 교사가 2주 동안 매일 감독하는 배정안
+        List<TeacherSupervisionInfo> teacherInfos = createTeachers(6, Set.of());
+        List<DailySupervisionAssignment> concentrated = createTwoWeekAssignments(teacherInfos.get(0), teacherInfos.get(1));
+        SupervisionFairnessMetrics before = planner.evaluate(concentrated, teacherInfos);
+
+        // When: 공정성 배정안을 찾으면
+        SupervisionPlan plan = assertTimeout(Duration.ofSeconds(2), () -> planner.plan(concentrated, teacherInfos));
+
+        // Then: 같은 날짜를 유지하면서 감독 횟수 편차가 줄어든다
+        assertThat(plan.assignments()).extracting(DailySupervisionAssignment::date)
+                .containsExactlyElementsOf(concentrated.stream().map(DailySupervisionAssignment::date).toList());
+        assertThat(before.loadSpread()).isEqualTo(8);
+        assertThat(plan.metrics().loadSpread()).isLessThanOrEqualTo(2);
+        assertThat(plan.metrics().objective()).isLessThan(before.objective());
+    }
+
+    @Test
+    @DisplayName("금지 요일과 하루에 서로 다른 두 교사 배정 조건을 지킨다")
+    void shouldKeepBanDaysAndDifferentTeachers() {
+        // Given: 교사 6명 중 3명이 월요일 금지
+        List<TeacherSupervisionInfo> teacherInfos = new ArrayList<>(createTeachers(3, Set.of()));
+        teacherInfos.addAll(LongStream.rangeClosed(4, 6)
+                .mapToObj(id -> createTeacherInfo(id, 0, null, Set.of(WeekDay.MON)))
+                .toList());
+        List<DailySupervisionAssignment> initial = createTwoWeekAssignments(teacherInfos.get(0), teacherInfos.get(1));
+
+        // When: 공정성 배정안을 찾으면
+        SupervisionPlan plan = planner.plan(initial, teacherInfos);
+
+        // Then: 월요일 금지 교사는 월요일에 배정되지 않고, 자습/이석 감독 교사는 서로 다르다
+        assertThat(plan.assignments()).allSatisfy(assignment -> {
+            assertThat(assignment.selfStudyTeacher().teacherId()).isNotEqualTo(assignment.leaveSeatTeacher().teacherId());
+            if (assignment.date().getDayOfWeek() == MONDAY.getDayOfWeek()) {
+                assertThat(assignment.selfStudyTeacher().teacherId()).isLessThanOrEqualTo(3L);
+                assertThat(assignment.leaveSeatTeacher().teacherId()).isLessThanOrEqualTo(3L);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("기존 감독 이력을 포함해 분산, 편차, 감독 간격을 계산한다")
+    void shouldEvaluateMetricsWithHistory() {
+        // Given: 7교시 감독 이력이 1회 있는 1번 교사가 월, 목요일에 자습 감독을 맡는 배정안
+        TeacherSupervisionInfo first = createTeacherInfo(1L, 1, null, Set.of());
+        TeacherSupervisionInfo second = createTeacherInfo(2L, 0, null, Set.of());
+        TeacherSupervisionInfo third = createTeacherInfo(3L, 0, null, Set.of());
+        List<DailySupervisionAssignment> assignments = List.of(
+                createAssignment(MONDAY, first, second),
+                createAssignment(MONDAY.plusDays(3), first, third)
+        );
+
+        // When: 지표를 계산하면
+        SupervisionFairnessMetrics metrics = planner.evaluate(assignments, List.of(first, second, third));
+
+        // Then: 8~11교시 감독 횟수 (2, 1, 1), 7교시와의 차이 (1, 1, 1), 1번 교사의 감독 간격 3일 기준으로 계산된다
+        assertThat(metrics.loadVariance()).isCloseTo(2.0 / 9, within(1e-9));
+        assertThat(metrics.loadSpread()).isEqualTo(1);
+        assertThat(metrics.periodSkew()).isCloseTo(0.0, within(1e-9));
+        assertThat(metrics.minSpacingDays()).isEqualTo(3);
+        assertThat(metrics.spacingPenalty()).isCloseTo(1.0 / 9, within(1e-9));
+        assertThat(metrics.objective()).isCloseTo(1.0 / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("7교시 감독 이력이 많은 교사에게 새 8~11교시 감독을 몰아준다")
+    void shouldMoveEightElevenDutiesToTeachersSkewedTowardSevenPeriod() {
+        // Given: 1, 2번 교사는 7교시만 6회, 3, 4번 교사는 8~11교시만 2회 감독했고
+        //        3, 4번 교사가 이번 주 4일을 모두 감독하는 배정안
+        List<TeacherSupervisionInfo> teacherInfos = List.of(
+                createTeacherInfo(1L, 6, 0),
+                createTeacherInfo(2L, 6, 0),
+                createTeacherInfo(3L, 0, 2),
+                createTeacherInfo(4L, 0, 2)
+        );
+        List<DailySupervisionAssignment> initial = LongStream.range(0, 4)
+                .mapToObj(day -> createAssignment(MONDAY.plusDays(day), teacherInfos.get(2), teacherInfos.get(3)))
+                .toList();
+        SupervisionFairnessMetrics before = planner.evaluate(initial, teacherInfos);
+
+        // When: 공정성 배정안을 찾으면
+        SupervisionPlan plan = planner.plan(initial, teacherInfos);
+
+        // Then: 8~11교시 감독이 적은 1, 2번 교사가 새 감독 대부분을 맡고 교시 쏠림이 줄어든다
+        long skewedTeacherDuties = plan.assignments().stream()
+                .flatMap(assignment -> Stream.of(assignment.selfStudyTeacher(), assignment.leaveSeatTeacher()))
+                .filter(teacher -> teacher.teacherId() <= 2L)
+                .count();
+        assertThat(skewedTeacherDuties).isGreaterThanOrEqualTo(6);
+        assertThat(plan.metrics().periodSkew()).isLessThan(before.periodSkew());
+        assertThat(plan.metrics().objective()).isLessThan(before.objective());
+    }
+
+    @Test
+    @DisplayName("배정할 날짜가 없으면 탐색하지 않고 빈 배정안을 반환한다")
+    void shouldReturnEmptyPlanWhenNoAssignments() {
+        // When: 빈 배정안으로 공정성 배정안을 찾으면
+        SupervisionPlan plan = planner.plan(List.of(), createTeachers(2, Set.of()));
+
+        // Then: 빈 배정안이 반환된다
+        assertThat(plan.assignments()).isEmpty();
+        assertThat(plan.metrics().minSpacingDays()).isNull();
+    }
+
+    private List<DailySupervisionAssignment> createTwoWeekAssignments(TeacherSupervisionInfo selfStudyTeacher,
+                                                                      TeacherSupervisionInfo leaveSeatTeacher) {
+        List<DailySupervisionAssignment> assignments = new ArrayList<>();
+        for (int week = 0; week < 2; week++) {
+            for (int day = 0; day < 4; day++) {
+                assignments.add(createAssignment(MONDAY.plusWeeks(week).plusDays(day), selfStudyTeacher, leaveSeatTeacher));
+            }
+        }
+        return assignments;
+    }
+
+    private DailySupervisionAssignment createAssignment(LocalDate date, TeacherSupervisionInfo selfStudyTeacher,
+                                                        TeacherSupervisionInfo leaveSeatTeacher) {
+        return DailySupervisionAssignment.builder()
+                .date(date)
+                .selfStudyTeacher(selfStudyTeacher)
+                .leaveSeatTeacher(leaveSeatTeacher)
+                .build();
+    }
+
+    private List<TeacherSupervisionInfo> createTeachers(int count, Set<WeekDay> banDays) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> createTeacherInfo(id, 0, null, banDays))
+                .toList();
+    }
+
+    private TeacherSupervisionInfo createTeacherInfo(Long teacherId, int sevenPeriodCount, int eightElevenPeriodCount) {
+        return TeacherSupervisionInfo.builder()
+                .teacherId(teacherId)
+                .teacherName("교사" + teacherId)
+                .banDayMask(TeacherSupervisionInfo.toBanDayMask(Set.of()))
+                .totalSupervisionCount(sevenPeriodCount + eightElevenPeriodCount)
+                .sevenPeriodCount(sevenPeriodCount)
+                .eightElevenPeriodCount(eightElevenPeriodCount)
+                .supervisionCounts(Map.of())
+                .build();
+    }
+
+    private TeacherSupervisionInfo createTeacherInfo(Long teacherId, int sevenPeriodCount,
+                                                     LocalDate lastSupervisionDate, Set<WeekDay> banDays) {
+        return TeacherSupervisionInfo.builder()
+                .teacherId(teacherId)
+                .teacherName("교사" + teacherId)
+                .banDayMask(TeacherSupervisionInfo.toBanDayMask(banDays))
+                .lastSupervisionDate(lastSupervisionDate)
+                .totalSupervisionCount(sevenPeriodCount)
+                .sevenPeriodCount(sevenPeriodCount)
+                .eightElevenPeriodCount(0)
+                .supervisionCounts(Map.of())
+                .build();
+    }
+}
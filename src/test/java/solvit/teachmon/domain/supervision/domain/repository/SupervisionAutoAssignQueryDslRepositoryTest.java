@@ -11,6 +11,7 @@ import solvit.teachmon.domain.management.teacher.domain.entity.SupervisionBanDay
 import solvit.teachmon.domain.management.teacher.domain.repository.SupervisionBanDayRepository;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
 import solvit.teachmon.domain.user.domain.enums.Role;
@@ -22,6 +23,7 @@ import solvit.teachmon.domain.supervision.domain.vo.SupervisionBanDayVo;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -43,6 +45,9 @@ class SupervisionAutoAssignQueryDslRepositoryTest {
     @Autowired
     private SupervisionBanDayRepository banDayRepository;
 
+    @Autowired
+    private TeacherSupervisionStatsDomainService teacherSupervisionStatsDomainService;
+
     private TeacherEntity teacher1;
     private TeacherEntity teacher2;
     private TeacherEntity teacher3;
@@ -56,6 +61,7 @@ class SupervisionAutoAssignQueryDslRepositoryTest {
         
         // 기존 감독 이력 생성
         createSupervisionHistory();
+        refreshStats();
         
         // 금지요일 설정 (김선생은 화요일 금지)
         createBanDays();
@@ -146,25 +152,35 @@ class SupervisionAutoAssignQueryDslRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 날짜에 스케줄이 존재하는지 확인할 수 있다")
-    void shouldCheckIfScheduleExistsByDate() {
-        // Given: 특정 날짜에 스케줄 생성
+    @DisplayName("기간 내 스케줄이 존재하는 날짜를 한 번에 조회할 수 있다")
+    void shouldFindScheduledDaysBetween() {
+        // Given: 같은 날짜에 스케줄 2개, 기간 밖 날짜에 스케줄 1개 생성
         LocalDate targetDate = LocalDate.of(2025, 2, 10);
-        SupervisionScheduleEntity schedule = SupervisionScheduleEntity.builder()
+        scheduleRepository.save(SupervisionScheduleEntity.builder()
                 .teacher(teacher1)
                 .day(targetDate)
                 .period(SchoolPeriod.SEVEN_PERIOD)
                 .type(SupervisionType.SELF_STUDY_SUPERVISION)
-                .build();
-        scheduleRepository.save(schedule);
+                .build());
+        scheduleRepository.save(SupervisionScheduleEntity.builder()
+                .teacher(teacher2)
+                .day(targetDate)
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .type(SupervisionType.LEAVE_SEAT_SUPERVISION)
+                .build());
+        scheduleRepository.save(SupervisionScheduleEntity.builder()
+                .teacher(teacher1)
+                .day(LocalDate.of(2025, 3, 10))
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .type(SupervisionType.SELF_STUDY_SUPERVISION)
+                .build());
 
-        // When: 해당 날짜 스케줄 존재 확인
-        boolean exists = autoAssignRepository.existsScheduleByDate(targetDate);
-        boolean notExists = autoAssignRepository.existsScheduleByDate(LocalDate.of(2025, 2, 11));
+        // When: 기간 내 스케줄 존재 날짜 조회
+        Set<LocalDate> scheduledDays = autoAssignRepository.findScheduledDaysBetween(
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
 
-        // Then: 존재하는 날짜는 true, 없는 날짜는 false
-        assertThat(exists).isTrue();
-        assertThat(notExists).isFalse();
+        // Then: 기간 내 날짜만 중복 없이 조회된다
+        assertThat(scheduledDays).containsExactly(targetDate);
     }
 
     @Test
@@ -233,6 +249,7 @@ class SupervisionAutoAssignQueryDslRepositoryTest {
                 .build();
         
         scheduleRepository.saveAll(List.of(eightNine, tenEleven));
+        refreshStats();
 
         // When: 교사 감독 정보 조회
         List<TeacherSupervisionInfoVo> result = 
@@ -297,4 +314,9 @@ class SupervisionAutoAssignQueryDslRepositoryTest {
         
         banDayRepository.save(kimBanDay);
     }
+
+    // 테스트 트랜잭션은 커밋되지 않으므로 커밋 직전에 일어나는 감독 통계 갱신을 직접 실행
+    private void refreshStats() {
+        teacherSupervisionStatsDomainService.refresh(scheduleRepository.findAllTeacherIds());
+    }
 }
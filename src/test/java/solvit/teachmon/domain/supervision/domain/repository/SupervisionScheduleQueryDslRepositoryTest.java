@@ -10,6 +10,8 @@ import org.springframework.transaction.annotation.Transactional;
 import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionSortOrder;
 import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
+import solvit.teachmon.domain.supervision.domain.vo.SupervisionCalendarVo;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionRankResponseDto;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
@@ -17,6 +19,7 @@ import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
 import solvit.teachmon.global.enums.SchoolPeriod;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,6 +39,9 @@ class SupervisionScheduleQueryDslRepositoryTest {
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private TeacherSupervisionStatsDomainService teacherSupervisionStatsDomainService;
+
     private TeacherEntity teacher1;
     private TeacherEntity teacher2;
 
@@ -46,6 +52,7 @@ class SupervisionScheduleQueryDslRepositoryTest {
         createAndSaveTeacher("박선생", "park@test.com"); // 감독 이력 없는 선생님 (테스트용)
         
         createTestSupervisionSchedules();
+        refreshStats();
     }
 
     @Test
@@ -163,6 +170,28 @@ class SupervisionScheduleQueryDslRepositoryTest {
         assertThat(kimResult.totalSupervisionCount()).isEqualTo(4); // 자습2 + 이석1 + 7교시1 = 4일
     }
 
+    @Test
+    @DisplayName("달력 조회는 같은 달이라도 다른 연도의 감독 일정은 포함하지 않는다")
+    void shouldFindCalendarOnlyInGivenYearMonth() {
+        // Given: 작년 같은 달의 김선생 감독 일정
+        scheduleRepository.save(SupervisionScheduleEntity.builder()
+                .teacher(teacher1).day(LocalDate.of(2024, 1, 3))
+                .period(SchoolPeriod.SEVEN_PERIOD).type(SupervisionType.SEVENTH_PERIOD_SUPERVISION)
+                .build());
+
+        // When: 2025년 1월 감독 달력 조회
+        List<SupervisionCalendarVo> calendar = supervisionScheduleQueryDslRepository.findCalendarByDayBetween(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        List<SupervisionScheduleEntity> schedules = supervisionScheduleQueryDslRepository.findByMonthAndQuery(
+                YearMonth.of(2025, 1), "김");
+
+        // Then: 2025년 1월 일정만 조회된다
+        assertThat(calendar).hasSize(16);
+        assertThat(calendar).allMatch(schedule -> schedule.day().getYear() == 2025);
+        assertThat(schedules).hasSize(10);
+        assertThat(schedules).allMatch(schedule -> schedule.getDay().getYear() == 2025);
+    }
+
     private TeacherEntity createAndSaveTeacher(String name, String email) {
         TeacherEntity teacher = TeacherEntity.builder()
                 .name(name)
@@ -272,4 +301,9 @@ class SupervisionScheduleQueryDslRepositoryTest {
         
         // 박선생은 감독 이력 없음 (0일)
     }
-}
\ No newline at end of file
+
+    // 롤백되는 테스트 트랜잭션에서는 커밋 직전 통계 갱신이 일어나지 않으므로 직접 갱신
+    private void refreshStats() {
+        teacherSupervisionStatsDomainService.refresh(scheduleRepository.findAllTeacherIds());
+    }
+}
@@ -0,0 +1,109 @@
+package solvit.teachmon.domain.supervision.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.entity.TeacherSupervisionStatsEntity;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.supervision.domain.service.TeacherSupervisionStatsDomainService;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.domain.user.domain.repository.TeacherRepository;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("교사 감독 통계 저장소 테스트")
+class TeacherSupervisionStatsQueryDslRepositoryTest {
+
+    @Autowired
+    private TeacherSupervisionStatsRepository teacherSupervisionStatsRepository;
+
+    @Autowired
+    private TeacherSupervisionStatsDomainService teacherSupervisionStatsDomainService;
+
+    @Autowired
+    private SupervisionScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    private TeacherEntity teacher;
+
+    @BeforeEach
+    void setUp() {
+        teacher = teacherRepository.save(TeacherEntity.builder()
+                .name("김선생")
+                .mail("kim@bssm.hs.kr")
+                .providerId("provider_kim")
+                .oAuth2Type(OAuth2Type.GOOGLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("감독 타입별 날짜 수, 교시별 횟수, 최근 감독일을 계산한다")
+    void shouldCalculateTeacherSupervisionStats() {
+        // Given: 1/10 자습감독(8~11교시), 1/15 7교시 감독 + 이석감독(8~9교시)
+        LocalDate firstDay = LocalDate.of(2025, 1, 10);
+        LocalDate secondDay = LocalDate.of(2025, 1, 15);
+        scheduleRepository.saveAll(List.of(
+                createSchedule(firstDay, SchoolPeriod.EIGHT_AND_NINE_PERIOD, SupervisionType.SELF_STUDY_SUPERVISION),
+                createSchedule(firstDay, SchoolPeriod.TEN_AND_ELEVEN_PERIOD, SupervisionType.SELF_STUDY_SUPERVISION),
+                createSchedule(secondDay, SchoolPeriod.SEVEN_PERIOD, SupervisionType.SEVENTH_PERIOD_SUPERVISION),
+                createSchedule(secondDay, SchoolPeriod.EIGHT_AND_NINE_PERIOD, SupervisionType.LEAVE_SEAT_SUPERVISION)
+        ));
+
+        // When
+        List<TeacherSupervisionStatsEntity> result = teacherSupervisionStatsRepository.calculateByTeacherIds(List.of(teacher.getId()));
+
+        // Then
+        assertThat(result).hasSize(1);
+        TeacherSupervisionStatsEntity stats = result.getFirst();
+        assertThat(stats.getTeacherId()).isEqualTo(teacher.getId());
+        assertThat(stats.getSelfStudyCount()).isEqualTo(1);
+        assertThat(stats.getLeaveSeatCount()).isEqualTo(1);
+        assertThat(stats.getSeventhPeriodCount()).isEqualTo(1);
+        assertThat(stats.getSupervisionDayCount()).isEqualTo(2);
+        assertThat(stats.getScheduleCount()).isEqualTo(4);
+        assertThat(stats.getSevenPeriodScheduleCount()).isEqualTo(1);
+        assertThat(stats.getEightElevenPeriodCount()).isEqualTo(1); // (3개 레코드 / 2) = 1회
+        assertThat(stats.getLastSupervisionDate()).isEqualTo(secondDay);
+    }
+
+    @Test
+    @DisplayName("감독 스케줄이 모두 삭제된 교사의 통계는 삭제된다")
+    void shouldDeleteStatsWhenNoScheduleLeft() {
+        // Given: 감독 스케줄 1개로 통계가 만들어진 교사
+        LocalDate day = LocalDate.of(2025, 1, 10);
+        scheduleRepository.save(createSchedule(day, SchoolPeriod.SEVEN_PERIOD, SupervisionType.SEVENTH_PERIOD_SUPERVISION));
+        teacherSupervisionStatsDomainService.refresh(List.of(teacher.getId()));
+        assertThat(teacherSupervisionStatsRepository.findById(teacher.getId())).isPresent();
+
+        // When: 감독 스케줄을 삭제하고 통계를 갱신하면
+        scheduleRepository.deleteByDay(day);
+        teacherSupervisionStatsDomainService.refresh(List.of(teacher.getId()));
+
+        // Then
+        assertThat(teacherSupervisionStatsRepository.findById(teacher.getId())).isEmpty();
+    }
+
+    private SupervisionScheduleEntity createSchedule(LocalDate day, SchoolPeriod period, SupervisionType type) {
+        return SupervisionScheduleEntity.builder()
+                .teacher(teacher)
+                .day(day)
+                .period(period)
+                .type(type)
+                .build();
+    }
+}
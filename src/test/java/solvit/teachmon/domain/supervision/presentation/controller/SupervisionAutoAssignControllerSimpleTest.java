@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import solvit.teachmon.domain.supervision.application.service.SupervisionAutoAssignService;
 import solvit.teachmon.domain.supervision.application.service.SupervisionScheduleService;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionAssignMode;
 import solvit.teachmon.domain.supervision.exception.InsufficientTeachersException;
 import solvit.teachmon.domain.supervision.exception.InvalidDateRangeException;
 import solvit.teachmon.domain.supervision.presentation.dto.response.SupervisionScheduleResponseDto;
@@ -42,12 +43,12 @@ class SupervisionAutoAssignControllerSimpleTest {
         
         List<SupervisionScheduleResponseDto> expectedResponse = createMockScheduleResponse();
         
-        given(autoAssignService.autoAssignSupervisionSchedules(startDate, endDate))
+        given(autoAssignService.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY))
                 .willReturn(expectedResponse);
 
         // When: API 호출
         ResponseEntity<List<SupervisionScheduleResponseDto>> response = 
-                controller.autoAssignSupervisionSchedules(startDate, endDate);
+                controller.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY);
 
         // Then: 응답 검증
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -55,7 +56,7 @@ class SupervisionAutoAssignControllerSimpleTest {
         assertThat(response.getBody()).hasSize(2);
 
         // 서비스 호출 검증
-        verify(autoAssignService).autoAssignSupervisionSchedules(startDate, endDate);
+        verify(autoAssignService).autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY);
     }
 
     @Test
@@ -65,11 +66,11 @@ class SupervisionAutoAssignControllerSimpleTest {
         LocalDate startDate = LocalDate.of(2025, 2, 3);
         LocalDate endDate = LocalDate.of(2025, 2, 6);
         
-        given(autoAssignService.autoAssignSupervisionSchedules(startDate, endDate))
+        given(autoAssignService.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY))
                 .willThrow(new InsufficientTeachersException("감독 배정 가능한 교사가 없습니다."));
 
         // When & Then: 예외 발생 확인
-        assertThatThrownBy(() -> controller.autoAssignSupervisionSchedules(startDate, endDate))
+        assertThatThrownBy(() -> controller.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY))
                 .isInstanceOf(InsufficientTeachersException.class)
                 .hasMessage("감독 배정 가능한 교사가 없습니다.");
     }
@@ -82,7 +83,7 @@ class SupervisionAutoAssignControllerSimpleTest {
         LocalDate endDate = LocalDate.of(2025, 2, 5);
 
         // When & Then: 예외 발생 확인 (Controller의 validation에서)
-        assertThatThrownBy(() -> controller.autoAssignSupervisionSchedules(startDate, endDate))
+        assertThatThrownBy(() -> controller.autoAssignSupervisionSchedules(startDate, endDate, SupervisionAssignMode.GREEDY))
                 .isInstanceOf(InvalidDateRangeException.class);
     }
 
@@ -1,5 +1,6 @@
 package solvit.teachmon.global.aspect;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,7 +8,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
 import solvit.teachmon.global.annotation.Trace;
+import solvit.teachmon.global.properties.TraceProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -15,13 +19,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @ExtendWith(OutputCaptureExtension.class)
 class LoggingAspectTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private TraceTarget proxy;
 
     @BeforeEach
     void setUp() {
-        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TraceTarget());
-        proxyFactory.addAspect(new LoggingAspect());
-        proxy = proxyFactory.getProxy();
+        meterRegistry = new SimpleMeterRegistry();
+        proxy = createProxy(1.0, 200);
     }
 
     @Test
@@ -54,6 +58,68 @@ class LoggingAspectTest {
                 .contains("exMessage=" + exceptionMessage);
     }
 
+    @Test
+    @DisplayName("호출 결과별로 메서드 타이머를 기록한다")
+    void recordsTimerWithOutcome() {
+        proxy.echo("hi");
+        proxy.echo("hello");
+        assertThatThrownBy(proxy::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("teachmon.trace")
+                .tags("class", "TraceTarget", "method", "echo", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("teachmon.trace")
+                .tags("method", "fail", "outcome", "error", "exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샘플링이 꺼져 있으면 인자/결과 로그 없이 타이머만 기록한다")
+    void skipsLogsWhenSamplingDisabled(CapturedOutput output) {
+        proxy = createProxy(0, 200);
+
+        proxy.echo("quiet");
+
+        assertThat(logs(output)).doesNotContain("[TRACE][echo]");
+        assertThat(meterRegistry.get("teachmon.trace").tag("method", "echo").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔티티 인자는 연관관계를 건드리지 않고 타입과 id 만 남긴다")
+    void rendersEntityWithIdOnly(CapturedOutput output) {
+        TeacherEntity teacher = TeacherEntity.builder()
+                .name("김선생")
+                .mail("kim@teacher.com")
+                .profile("수학 선생님")
+                .providerId("google-12345")
+                .oAuth2Type(OAuth2Type.GOOGLE)
+                .build();
+
+        proxy.greet(teacher);
+
+        assertThat(logs(output))
+                .contains("arguments=[TeacherEntity(id=null)]")
+                .doesNotContain("kim@teacher.com");
+    }
+
+    @Test
+    @DisplayName("긴 인자는 최대 길이까지만 남긴다")
+    void capsLongValues(CapturedOutput output) {
+        proxy = createProxy(1.0, 10);
+
+        proxy.echo("a".repeat(50));
+
+        assertThat(logs(output))
+                .contains("arguments=[" + "a".repeat(10) + "...(50)]")
+                .doesNotContain("a".repeat(11));
+    }
+
+    private TraceTarget createProxy(double sampleRate, int maxValueLength) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TraceTarget());
+        proxyFactory.addAspect(new LoggingAspect(meterRegistry, new TraceProperties(sampleRate, maxValueLength)));
+        return proxyFactory.getProxy();
+    }
+
     private String logs(CapturedOutput output) {
         return output.getOut();
     }
@@ -67,5 +133,9 @@ class LoggingAspectTest {
         void fail() {
             throw new IllegalStateException("boom");
         }
+
+        String greet(TeacherEntity teacher) {
+            return "hello";
+        }
     }
 }
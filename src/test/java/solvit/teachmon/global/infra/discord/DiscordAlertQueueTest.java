@@ -0,0 +1,148 @@
+package solvit.teachmon.global.infra.discord;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import solvit.teachmon.global.properties.DiscordProperties;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("디스코드 알림 대기열 테스트")
+class DiscordAlertQueueTest {
+
+    private static final String WEBHOOK = "https://discord.test/webhook";
+
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private DiscordAlertQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new DiscordAlertQueue(builder.build(), new DiscordProperties(WEBHOOK), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("알림을 넣기만 하면 웹훅을 호출하지 않는다")
+    void shouldNotCallWebhookWhenOffered() {
+        // When: 알림을 넣으면
+        queue.offer(createAlert("/student", IllegalStateException.class));
+
+        // Then: 전송 없이 대기열에만 쌓인다
+        server.verify();
+        assertThat(meterRegistry.get("teachmon.discord.alert.queue.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 URI, 같은 예외 알림은 발생 횟수와 함께 하나의 embed 로 합친다")
+    void shouldCoalesceDuplicateAlerts() {
+        // Given: 같은 알림 3번과 다른 알림 1번
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        queue.offer(createAlert("/student", NullPointerException.class));
+
+        server.expect(once(), requestTo(WEBHOOK))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.embeds.length()").value(2))
+                .andExpect(jsonPath("$.embeds[0].title").value(containsString("x3")))
+                .andExpect(jsonPath("$.embeds[1].title").value(not(containsString("x"))))
+                .andRespond(withSuccess());
+
+        // When: 대기열을 비우면
+        queue.flush();
+
+        // Then: 알림 2건이 한 메시지로 전송되고 대기열은 비워진다
+        server.verify();
+        assertThat(queue.size()).isZero();
+        assertThat(meterRegistry.get("teachmon.discord.alert.coalesced").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 가장 오래된 알림을 버린다")
+    void shouldDropOldestWhenFull() {
+        // Given: 서로 다른 알림을 용량보다 하나 더 넣으면
+        for (int i = 0; i <= DiscordAlertQueue.CAPACITY; i++) {
+            queue.offer(createAlert("/uri/" + i, IllegalStateException.class));
+        }
+
+        // Then: 가장 오래된 알림 하나가 버려진다
+        assertThat(queue.size()).isEqualTo(DiscordAlertQueue.CAPACITY);
+        assertThat(meterRegistry.get("teachmon.discord.alert.dropped").counter().count()).isEqualTo(1.0);
+
+        // 메시지당 최대 embed 개수만큼 묶어 두 번에 나눠 보낸다
+        server.expect(once(), requestTo(WEBHOOK))
+                .andExpect(jsonPath("$.embeds.length()").value(DiscordAlertQueue.MAX_EMBEDS_PER_MESSAGE))
+                .andExpect(content().string(not(containsString("/uri/0 "))))
+                .andRespond(withSuccess());
+        server.expect(once(), requestTo(WEBHOOK))
+                .andExpect(jsonPath("$.embeds.length()").value(DiscordAlertQueue.CAPACITY - DiscordAlertQueue.MAX_EMBEDS_PER_MESSAGE))
+                .andRespond(withSuccess());
+        queue.flush();
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("전송 제한(429)을 받으면 알림을 버리지 않고 retry_after 동안 전송을 미룬다")
+    void shouldRequeueAlertsWhenRateLimited() {
+        // Given: 알림 2건이 있고 웹훅이 429 를 응답할 때
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        queue.offer(createAlert("/team", IllegalStateException.class));
+        server.expect(once(), requestTo(WEBHOOK))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"message\": \"You are being rate limited.\", \"retry_after\": 60.0, \"global\": false}"));
+
+        // When: 대기열을 비운 뒤 retry_after 가 지나기 전에 다시 비우면
+        queue.flush();
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        queue.flush();
+
+        // Then: 두 번째 전송은 시도하지 않고, 알림은 발생 횟수를 합쳐 대기열에 남는다
+        server.verify();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("teachmon.discord.alert.sent").tag("result", "rate_limited").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("teachmon.discord.alert.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("웹훅 전송이 실패해도 예외를 던지지 않고 실패를 기록한다")
+    void shouldRecordFailureWhenWebhookFails() {
+        // Given
+        queue.offer(createAlert("/student", IllegalStateException.class));
+        server.expect(once(), requestTo(WEBHOOK)).andRespond(withServerError());
+
+        // When & Then
+        assertThatCode(() -> queue.flush()).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("teachmon.discord.alert.sent").tag("result", "failure").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private DiscordAlert createAlert(String uri, Class<? extends Throwable> exceptionType) {
+        String fingerprint = uri + " " + exceptionType.getName();
+        return new DiscordAlert(fingerprint, List.of(Map.of("name", "요청 URI", "value", fingerprint, "inline", false)));
+    }
+}
@@ -0,0 +1,19 @@
+package solvit.teachmon.global.infra.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행할 수 있는 SQL 문 수의 상한
+ * @BeforeEach 는 측정하지 않으므로 준비 데이터는 @BeforeEach 에서 flush 까지 마쳐 둔다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+    int value();
+}
@@ -0,0 +1,41 @@
+package solvit.teachmon.global.infra.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @SqlBudget 이 붙은 테스트 메서드 본문에서 실행된 SQL 문 수가 예산을 넘으면 실패시킨다
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(SqlBudget.class)) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementRecorder.start());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementStats.class);
+        if (stats == null) {
+            return;
+        }
+        SqlStatementRecorder.stop(stats);
+
+        int budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class).value();
+        if (stats.getStatementCount() > budget) {
+            Map<String, Integer> shapes = stats.getRepeatedShapes(1);
+            throw new AssertionError(String.format("SQL 예산 초과: %d개 실행 (예산 %d개)%n%s",
+                    stats.getStatementCount(), budget,
+                    shapes.entrySet().stream()
+                            .map(entry -> entry.getValue() + "x " + entry.getKey())
+                            .collect(Collectors.joining(System.lineSeparator()))));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package solvit.teachmon.global.infra.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 측정 구간 테스트")
+class SqlStatementStatsTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이만 다른 SQL 은 같은 모양으로 묶어 반복 횟수를 센다")
+    void shouldGroupRepeatedShapes() {
+        // Given
+        SqlStatementStats stats = SqlStatementRecorder.start();
+
+        // When: 학생별 조회 3번과 IN 목록 길이가 다른 조회 2번, 단건 조회 1번
+        inspector.inspect("select s1_0.id from student s1_0 where s1_0.id=1");
+        inspector.inspect("select s1_0.id from student s1_0 where s1_0.id=2");
+        inspector.inspect("select s1_0.id from student s1_0 where s1_0.id=3");
+        inspector.inspect("select p1_0.id from place p1_0 where p1_0.id in (?,?)");
+        inspector.inspect("select p1_0.id from place p1_0 where p1_0.id in (?, ?, ?)");
+        inspector.inspect("select t1_0.id from teacher t1_0 where t1_0.mail='kim@teacher.com'");
+        SqlStatementRecorder.stop(stats);
+
+        // Then
+        assertThat(stats.getStatementCount()).isEqualTo(6);
+        Map<String, Integer> repeatedShapes = stats.getRepeatedShapes(2);
+        assertThat(repeatedShapes).containsExactly(
+                Map.entry("select s1_0.id from student s1_0 where s1_0.id=?", 3),
+                Map.entry("select p1_0.id from place p1_0 where p1_0.id in (?)", 2)
+        );
+    }
+
+    @Test
+    @DisplayName("중첩된 측정 구간에는 모두 기록하고, 끝난 구간에는 기록하지 않는다")
+    void shouldRecordIntoAllActiveScopes() {
+        // Given: 테스트 구간 안에서 요청 구간이 열린 경우
+        SqlStatementStats outer = SqlStatementRecorder.start();
+        SqlStatementStats inner = SqlStatementRecorder.start();
+
+        // When
+        inspector.inspect("select 1");
+        SqlStatementRecorder.stop(inner);
+        inspector.inspect("select 2");
+        SqlStatementRecorder.stop(outer);
+        inspector.inspect("select 3");
+
+        // Then
+        assertThat(inner.getStatementCount()).isEqualTo(1);
+        assertThat(outer.getStatementCount()).isEqualTo(2);
+    }
+}
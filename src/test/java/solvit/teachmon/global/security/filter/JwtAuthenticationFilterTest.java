@@ -16,8 +16,8 @@ import org.springframework.util.PathMatcher;
 import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
 import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
 import solvit.teachmon.global.security.jwt.JwtValidator;
+import solvit.teachmon.global.security.user.TeachmonPrincipalCache;
 import solvit.teachmon.global.security.user.TeachmonUserDetails;
-import solvit.teachmon.global.security.user.TeachmonUserDetailsService;
 
 import java.util.Objects;
 
@@ -32,7 +32,7 @@ class JwtAuthenticationFilterTest {
     private JwtValidator jwtValidator;
 
     @Mock
-    private TeachmonUserDetailsService teachmonUserDetailsService;
+    private TeachmonPrincipalCache teachmonPrincipalCache;
 
     @Mock
     private HttpServletRequest request;
@@ -51,7 +51,7 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.clearContext();
         PathMatcher pathMatcher = new AntPathMatcher();
         String[] excludedPaths = new String[]{"/test"};
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtValidator, teachmonUserDetailsService, pathMatcher, excludedPaths);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtValidator, teachmonPrincipalCache, pathMatcher, excludedPaths);
 
         TeacherEntity teacher = TeacherEntity.builder()
                 .name("김선생")
@@ -65,8 +65,8 @@ class JwtAuthenticationFilterTest {
 
     private void setupValidTokenMocks() {
         given(jwtValidator.isInvalidAuthorizationHeader("Bearer valid-token")).willReturn(false);
-        given(jwtValidator.getMailFromAuthorizationHeader("Bearer valid-token")).willReturn("kim@teacher.com");
-        given(teachmonUserDetailsService.loadUserByUsername("kim@teacher.com")).willReturn(userDetails);
+        given(jwtValidator.getTokenFromAuthorizationHeader("Bearer valid-token")).willReturn("valid-token");
+        given(teachmonPrincipalCache.getUserDetails("valid-token")).willReturn(userDetails);
     }
 
     private void verifySuccessfulAuthentication() {
@@ -99,7 +99,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtValidator, never()).getMailFromAuthorizationHeader(any());
+        verify(teachmonPrincipalCache, never()).getUserDetails(any());
     }
 
     @Test
@@ -113,6 +113,6 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtValidator, never()).getMailFromAuthorizationHeader(any());
+        verify(teachmonPrincipalCache, never()).getUserDetails(any());
     }
 }
@@ -1,5 +1,6 @@
 package solvit.teachmon.global.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -126,4 +127,26 @@ class JwtValidatorTest {
         assertThat(mail).isNotNull();
         assertThat(mail).contains("@");
     }
+
+    @Test
+    @DisplayName("토큰을 한 번 파싱해 검증된 claims를 얻을 수 있다")
+    void shouldParseClaimsFromToken() {
+        Claims claims = jwtValidator.parseClaims(validToken);
+
+        assertThat(claims.getSubject()).isEqualTo("kim@teacher.com");
+        assertThat(claims.getExpiration()).isAfter(new Date());
+    }
+
+    @Test
+    @DisplayName("발급자 claim이 없는 토큰이면 예외가 발생한다")
+    void shouldThrowExceptionWhenTokenHasNoIssuer() {
+        String tokenWithoutIssuer = Jwts.builder()
+                .subject("kim@teacher.com")
+                .expiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(secretKey)
+                .compact();
+
+        assertThatThrownBy(() -> jwtValidator.parseClaims(tokenWithoutIssuer))
+                .isInstanceOf(InvalidJsonWebTokenException.class);
+    }
 }
@@ -0,0 +1,116 @@
+package solvit.teachmon.global.security.user;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.event.TeacherChangedEvent;
+import solvit.teachmon.global.security.jwt.JwtValidator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("인증 주체 캐시 테스트")
+class TeachmonPrincipalCacheTest {
+
+    private static final String TOKEN = "valid-token";
+    private static final String MAIL = "teacher@example.com";
+
+    private final JwtValidator jwtValidator = mock(JwtValidator.class);
+    private final TeachmonUserDetailsService teachmonUserDetailsService = mock(TeachmonUserDetailsService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TeachmonPrincipalCache teachmonPrincipalCache =
+            new TeachmonPrincipalCache(jwtValidator, teachmonUserDetailsService, meterRegistry);
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 인증하면 서명 검증과 DB 조회 없이 캐시에서 반환한다")
+    void shouldReturnCachedPrincipal() {
+        // Given: 유효한 토큰과 선생님이 있을 때
+        TeachmonUserDetails userDetails = givenPrincipal(TOKEN, Instant.now().plus(Duration.ofHours(1)));
+
+        // When: 같은 토큰으로 두 번 인증하면
+        TeachmonUserDetails first = teachmonPrincipalCache.getUserDetails(TOKEN);
+        TeachmonUserDetails second = teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // Then: 토큰 파싱과 선생님 조회는 한 번만 일어난다
+        assertThat(first).isSameAs(userDetails);
+        assertThat(second).isSameAs(userDetails);
+        verify(jwtValidator, times(1)).parseClaims(TOKEN);
+        verify(teachmonUserDetailsService, times(1)).loadUserByUsername(MAIL);
+
+        // 캐시 적중/실패 횟수가 메트릭으로 기록된다
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("선생님 정보가 변경되면 해당 선생님의 캐시 항목을 제거한다")
+    void shouldEvictWhenTeacherChanged() {
+        // Given: 캐시에 적재된 인증 주체가 있을 때
+        givenPrincipal(TOKEN, Instant.now().plus(Duration.ofHours(1)));
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // When: 선생님 정보 변경 이벤트가 발생하면
+        teachmonPrincipalCache.onTeacherChanged(new TeacherChangedEvent(1L));
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // Then: 다음 인증에서 다시 조회한다
+        verify(teachmonUserDetailsService, times(2)).loadUserByUsername(MAIL);
+    }
+
+    @Test
+    @DisplayName("다른 선생님의 변경 이벤트는 캐시 항목을 제거하지 않는다")
+    void shouldNotEvictOtherTeacher() {
+        // Given: 캐시에 적재된 인증 주체가 있을 때
+        givenPrincipal(TOKEN, Instant.now().plus(Duration.ofHours(1)));
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // When: 다른 선생님의 변경 이벤트가 발생하면
+        teachmonPrincipalCache.onTeacherChanged(new TeacherChangedEvent(2L));
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // Then: 캐시에서 반환한다
+        verify(teachmonUserDetailsService, times(1)).loadUserByUsername(MAIL);
+    }
+
+    @Test
+    @DisplayName("이미 만료 시각이 지난 토큰은 캐시에 남기지 않는다")
+    void shouldNotKeepExpiredToken() {
+        // Given: 만료 시각이 지난 클레임일 때
+        givenPrincipal(TOKEN, Instant.now().minus(Duration.ofSeconds(1)));
+
+        // When: 같은 토큰으로 두 번 인증하면
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+        teachmonPrincipalCache.getUserDetails(TOKEN);
+
+        // Then: 매번 다시 파싱한다
+        verify(jwtValidator, times(2)).parseClaims(TOKEN);
+    }
+
+    private TeachmonUserDetails givenPrincipal(String token, Instant expiration) {
+        Claims claims = mock(Claims.class);
+        given(claims.getSubject()).willReturn(MAIL);
+        given(claims.getExpiration()).willReturn(Date.from(expiration));
+        given(jwtValidator.parseClaims(token)).willReturn(claims);
+
+        TeacherEntity teacher = mock(TeacherEntity.class);
+        given(teacher.getId()).willReturn(1L);
+        TeachmonUserDetails userDetails = new TeachmonUserDetails(teacher);
+        given(teachmonUserDetailsService.loadUserByUsername(MAIL)).willReturn(userDetails);
+        return userDetails;
+    }
+}
@@ -49,7 +49,7 @@ class TeachmonUserDetailsServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getUsername()).isEqualTo("김선생");
-        assertThat(result.teacherEntity()).isEqualTo(teacher);
+        assertThat(result.mail()).isEqualTo("kim@teacher.com");
     }
 
     @Test
@@ -0,0 +1,186 @@
+package solvit.teachmon.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import solvit.teachmon.domain.auth.infrastructure.jwt.JwtManager;
+import solvit.teachmon.global.constants.JwtConstants;
+import solvit.teachmon.global.enums.SchoolPeriod;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저녁 자습 시간대 교사 트래픽 재현 부하 테스트
+ * 생성한 학교 데이터 위에서 교사 concurrency 명이 실제 화면 호출 비율대로 요청을 보내고 엔드포인트별 p50/p95/p99 를 보고한다.
+ * 일반 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+@Import(LoadTestConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("저녁 시간대 부하 테스트")
+class EveningTrafficLoadTest {
+    private static final List<SchoolPeriod> EVENING_PERIODS = SchoolPeriod.getAfterActivityPeriod();
+    private static final List<SchoolPeriod> LEAVE_SEAT_PERIODS = List.of(SchoolPeriod.EIGHT_AND_NINE_PERIOD, SchoolPeriod.TEN_AND_ELEVEN_PERIOD);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private SchoolDatasetGenerator schoolDatasetGenerator;
+
+    @Autowired
+    private SchoolDatasetProperties schoolDatasetProperties;
+
+    @Autowired
+    private LoadScenarioProperties loadScenarioProperties;
+
+    @Autowired
+    private JwtManager jwtManager;
+
+    private SchoolDataset dataset;
+    private List<Endpoint> endpoints;
+    private int totalWeight;
+
+    @BeforeAll
+    void setUp() {
+        dataset = schoolDatasetGenerator.generate(LocalDate.now());
+        endpoints = createEndpoints();
+        totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    @Test
+    @DisplayName("저녁 시간대 교사 요청을 재현하고 엔드포인트별 응답 시간 백분위를 보고한다")
+    void shouldReplayEveningTraffic() throws Exception {
+        // Given: 교사마다 다른 토큰과 시드
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient httpClient = HttpClient.newHttpClient();
+        int concurrency = loadScenarioProperties.getConcurrency();
+
+        // When: concurrency 명이 동시에 requestsPerUser 번씩 요청하면
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> users = new ArrayList<>();
+            for (int user = 0; user < concurrency; user++) {
+                String token = jwtManager.createAccessToken(dataset.teacherMails().get(user % dataset.teacherMails().size()));
+                Random random = new Random(schoolDatasetProperties.getSeed() + user);
+                users.add(executor.submit(() -> runUser(httpClient, token, random, recorder)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // Then: 보고서를 남기고 서버 오류가 없어야 한다
+        String report = String.format("학생 %d명, %s ~ %s, student_schedule %d건, 동시 사용자 %d명, %.1f초%n%s",
+                dataset.studentCount(), dataset.firstDay(), dataset.lastDay(), dataset.studentScheduleCount(), concurrency, elapsedNanos / 1_000_000_000.0,
+                recorder.format(recorder.summarize()));
+        log.info("[LOAD TEST] {}", report);
+        Path reportPath = Path.of(loadScenarioProperties.getReportPath());
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, report);
+
+        assertThat(recorder.errorCount()).isZero();
+    }
+
+    private void runUser(HttpClient httpClient, String token, Random random, LatencyRecorder recorder) {
+        int warmup = loadScenarioProperties.getWarmupRequestsPerUser();
+        for (int i = 0; i < warmup + loadScenarioProperties.getRequestsPerUser(); i++) {
+            Endpoint endpoint = pickEndpoint(random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint.path().apply(random)))
+                    .header(JwtConstants.AUTHORIZATION_HEADER, JwtConstants.AUTHORIZATION_HEADER_PREFIX + token)
+                    .GET()
+                    .build();
+
+            long startedAt = System.nanoTime();
+            int status = send(httpClient, request);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            if (i >= warmup) {
+                recorder.record(endpoint.name(), elapsedNanos, status);
+            }
+        }
+    }
+
+    private int send(HttpClient httpClient, HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 599;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 599;
+        }
+    }
+
+    private Endpoint pickEndpoint(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            value -= endpoint.weight();
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.getLast();
+    }
+
+    // 저녁 자습 시간 교사 화면의 호출 비율 (학년별 학생 현황과 층별 장소 현황이 대부분)
+    private List<Endpoint> createEndpoints() {
+        LocalDate day = dataset.lastDay();
+        return List.of(
+                new Endpoint("GET /student-schedule", 30, random -> "/student-schedule?grade=" + (random.nextInt(dataset.grades()) + 1)
+                        + "&day=" + day + "&period=" + pick(EVENING_PERIODS, random)),
+                new Endpoint("GET /student-schedule/place", 15, random -> "/student-schedule/place?floor=" + pick(dataset.floors(), random)
+                        + "&day=" + day + "&period=" + pick(EVENING_PERIODS, random)),
+                new Endpoint("GET /student-schedule/place/state", 10, random -> "/student-schedule/place/state?day=" + day
+                        + "&period=" + pick(EVENING_PERIODS, random)),
+                new Endpoint("GET /student-schedule/place/{placeId}", 10, random -> "/student-schedule/place/" + pick(dataset.placeIds(), random)
+                        + "?day=" + day + "&period=" + pick(EVENING_PERIODS, random)),
+                new Endpoint("GET /leaveseat", 10, random -> "/leaveseat?day=" + day + "&period=" + pick(LEAVE_SEAT_PERIODS, random)),
+                new Endpoint("GET /student/search", 10, random -> "/student/search?query=" + encode(pick(dataset.studentNames(), random).substring(0, 2))),
+                new Endpoint("GET /student-schedule/history", 5, random -> "/student-schedule/history?day=" + day
+                        + "&query=" + encode(pick(dataset.studentNames(), random))),
+                new Endpoint("GET /supervision/today", 5, random -> "/supervision/today"),
+                new Endpoint("GET /afterschool/me/today", 5, random -> "/afterschool/me/today")
+        );
+    }
+
+    private <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Endpoint(String name, int weight, Function<Random, String> path) {
+    }
+}
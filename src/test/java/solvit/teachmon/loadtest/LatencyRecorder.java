@@ -0,0 +1,78 @@
+package solvit.teachmon.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간을 모아 p50/p95/p99 를 계산한다
+ * 여러 가상 사용자 스레드가 동시에 기록한다.
+ */
+public class LatencyRecorder {
+    private final Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, int status) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+        if (status >= 500) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public long errorCount() {
+        return errors.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    public List<LatencySummary> summarize() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        latencies.forEach((endpoint, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            LongAdder endpointErrors = errors.get(endpoint);
+            summaries.add(new LatencySummary(
+                    endpoint,
+                    sorted.length,
+                    endpointErrors == null ? 0 : endpointErrors.sum(),
+                    percentile(sorted, 50),
+                    percentile(sorted, 95),
+                    percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1]
+            ));
+        });
+        summaries.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return summaries;
+    }
+
+    public String format(List<LatencySummary> summaries) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-45s %8s %6s %10s %10s %10s %10s%n", "endpoint", "count", "5xx", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (LatencySummary summary : summaries) {
+            report.append(String.format("%-45s %8d %6d %10.2f %10.2f %10.2f %10.2f%n",
+                    summary.endpoint(), summary.count(), summary.errors(),
+                    toMillis(summary.p50()), toMillis(summary.p95()), toMillis(summary.p99()), toMillis(summary.max())));
+        }
+        return report.toString();
+    }
+
+    // nearest-rank 방식
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record LatencySummary(String endpoint, int count, long errors, long p50, long p95, long p99, long max) {
+    }
+}
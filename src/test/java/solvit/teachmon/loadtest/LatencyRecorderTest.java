@@ -0,0 +1,50 @@
+package solvit.teachmon.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("응답 시간 기록기 테스트")
+class LatencyRecorderTest {
+
+    @Test
+    @DisplayName("엔드포인트별로 nearest-rank 백분위를 계산한다")
+    void shouldSummarizePercentilesPerEndpoint() {
+        // Given: 1 ~ 100ns 응답 100개와 다른 엔드포인트 응답 1개
+        LatencyRecorder recorder = new LatencyRecorder();
+        LongStream.rangeClosed(1, 100).forEach(nanos -> recorder.record("GET /a", nanos, 200));
+        recorder.record("GET /b", 7, 200);
+
+        // When
+        List<LatencyRecorder.LatencySummary> summaries = recorder.summarize();
+
+        // Then
+        assertThat(summaries).extracting(LatencyRecorder.LatencySummary::endpoint).containsExactly("GET /a", "GET /b");
+        LatencyRecorder.LatencySummary summary = summaries.getFirst();
+        assertThat(summary.count()).isEqualTo(100);
+        assertThat(summary.p50()).isEqualTo(50);
+        assertThat(summary.p95()).isEqualTo(95);
+        assertThat(summary.p99()).isEqualTo(99);
+        assertThat(summary.max()).isEqualTo(100);
+        assertThat(summaries.get(1).p99()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("5xx 응답만 오류로 센다")
+    void shouldCountOnlyServerErrors() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record("GET /a", 10, 200);
+        recorder.record("GET /a", 10, 404);
+        recorder.record("GET /a", 10, 500);
+        recorder.record("GET /b", 10, 503);
+
+        // When & Then
+        assertThat(recorder.errorCount()).isEqualTo(2);
+        assertThat(recorder.summarize().getFirst().errors()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,25 @@
+package solvit.teachmon.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "loadtest.scenario")
+public class LoadScenarioProperties {
+    // 동시에 요청을 보내는 교사 수
+    private final int concurrency;
+    private final int requestsPerUser;
+    // 집계에서 빼는 교사별 첫 요청 수 (JIT, 캐시 워밍업)
+    private final int warmupRequestsPerUser;
+    private final String reportPath;
+
+    public LoadScenarioProperties(@DefaultValue("20") int concurrency, @DefaultValue("200") int requestsPerUser,
+                                  @DefaultValue("10") int warmupRequestsPerUser,
+                                  @DefaultValue("build/reports/loadtest/evening-traffic.txt") String reportPath) {
+        this.concurrency = concurrency;
+        this.requestsPerUser = requestsPerUser;
+        this.warmupRequestsPerUser = warmupRequestsPerUser;
+        this.reportPath = reportPath;
+    }
+}
@@ -0,0 +1,11 @@
+package solvit.teachmon.loadtest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+@TestConfiguration
+@EnableConfigurationProperties({SchoolDatasetProperties.class, LoadScenarioProperties.class})
+@Import(SchoolDatasetGenerator.class)
+public class LoadTestConfiguration {
+}
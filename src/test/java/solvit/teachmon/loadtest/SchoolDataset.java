@@ -0,0 +1,20 @@
+package solvit.teachmon.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 생성된 학교 데이터 중 부하 시나리오가 요청 파라미터로 쓰는 값
+ */
+public record SchoolDataset(
+        LocalDate firstDay,
+        LocalDate lastDay,
+        int grades,
+        List<Integer> floors,
+        List<Long> placeIds,
+        List<String> teacherMails,
+        int studentCount,
+        List<String> studentNames,
+        int studentScheduleCount
+) {
+}
@@ -0,0 +1,366 @@
+package solvit.teachmon.loadtest;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolEntity;
+import solvit.teachmon.domain.after_school.domain.entity.AfterSchoolStudentEntity;
+import solvit.teachmon.domain.branch.domain.entity.BranchEntity;
+import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatEntity;
+import solvit.teachmon.domain.leave_seat.domain.entity.LeaveSeatStudentEntity;
+import solvit.teachmon.domain.management.student.domain.entity.StudentEntity;
+import solvit.teachmon.domain.place.domain.entity.PlaceEntity;
+import solvit.teachmon.domain.self_study.domain.entity.SelfStudyEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.ScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.StudentScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.AfterSchoolScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.LeaveSeatScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.entity.schedules.SelfStudyScheduleEntity;
+import solvit.teachmon.domain.student_schedule.domain.enums.ScheduleType;
+import solvit.teachmon.domain.supervision.domain.entity.SupervisionScheduleEntity;
+import solvit.teachmon.domain.supervision.domain.enums.SupervisionType;
+import solvit.teachmon.domain.user.domain.entity.TeacherEntity;
+import solvit.teachmon.domain.user.domain.enums.OAuth2Type;
+import solvit.teachmon.global.enums.SchoolPeriod;
+import solvit.teachmon.global.enums.WeekDay;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 학교 데이터 생성기
+ * 엔티티 빌더로 교사, 장소, 학생, 자습, 방과후를 만들고 lastDay 가 속한 주까지 weeks 주 동안
+ * 월~목 저녁(7교시, 8~9교시, 10~11교시) 의 student_schedule, schedule 스택과 이석, 감독 스케줄을 쌓는다.
+ * 엔티티 리스너가 그대로 동작하므로 current_schedule, 교사 감독 통계도 함께 채워진다.
+ */
+@RequiredArgsConstructor
+public class SchoolDatasetGenerator {
+    private static final int FLUSH_SIZE = 1000;
+    private static final int SPECIAL_ROOM_COUNT = 40;
+    private static final int LEAVE_SEAT_STUDENT_COUNT = 4;
+    private static final List<WeekDay> SCHOOL_DAYS = List.of(WeekDay.MON, WeekDay.TUE, WeekDay.WED, WeekDay.THU);
+    private static final List<SchoolPeriod> AFTER_SCHOOL_PERIODS = List.of(SchoolPeriod.EIGHT_AND_NINE_PERIOD, SchoolPeriod.TEN_AND_ELEVEN_PERIOD);
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오"};
+    private static final String[] FIRST_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "지민", "예준", "하은", "주원", "수아"};
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final SchoolDatasetProperties properties;
+
+    private int persistCount;
+
+    public SchoolDataset generate(LocalDate today) {
+        LocalDate lastDay = lastSchoolDay(today);
+        LocalDate firstDay = lastDay.with(DayOfWeek.MONDAY).minusWeeks(properties.getWeeks() - 1L);
+        Random random = new Random(properties.getSeed());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        School school = transactionTemplate.execute(status -> createSchool(firstDay, lastDay, random));
+
+        // 하루치씩 커밋해서 current_schedule, 감독 통계 갱신 범위를 하루로 제한
+        int studentScheduleCount = 0;
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (!isSchoolDay(day)) {
+                continue;
+            }
+            LocalDate targetDay = day;
+            studentScheduleCount += transactionTemplate.execute(status -> createDay(school, targetDay, random));
+        }
+
+        return new SchoolDataset(
+                firstDay,
+                lastDay,
+                properties.getGrades(),
+                school.places().stream().map(PlaceEntity::getFloor).distinct().sorted().toList(),
+                school.places().stream().map(PlaceEntity::getId).toList(),
+                school.teachers().stream().map(TeacherEntity::getMail).toList(),
+                school.students().size(),
+                school.students().stream().map(StudentEntity::getName).distinct().toList(),
+                studentScheduleCount
+        );
+    }
+
+    private School createSchool(LocalDate firstDay, LocalDate lastDay, Random random) {
+        int year = lastDay.getYear();
+
+        List<TeacherEntity> teachers = new ArrayList<>();
+        for (int i = 1; i <= properties.getTeachers(); i++) {
+            teachers.add(persist(TeacherEntity.builder()
+                    .mail("teacher" + i + "@loadtest.teachmon.kr")
+                    .name(createName(random))
+                    .providerId("loadtest-" + i)
+                    .oAuth2Type(OAuth2Type.GOOGLE)
+                    .build()));
+        }
+
+        // 교실은 학년 + 1 층, 특별실은 1 ~ 4 층
+        List<PlaceEntity> places = new ArrayList<>();
+        Map<ClassKey, PlaceEntity> classrooms = new HashMap<>();
+        for (int grade = 1; grade <= properties.getGrades(); grade++) {
+            for (int classNumber = 1; classNumber <= properties.getClassesPerGrade(); classNumber++) {
+                PlaceEntity classroom = persist(PlaceEntity.builder()
+                        .floor(grade + 1)
+                        .name(grade + "-" + classNumber)
+                        .build());
+                classrooms.put(new ClassKey(grade, classNumber), classroom);
+                places.add(classroom);
+            }
+        }
+        List<PlaceEntity> specialRooms = new ArrayList<>();
+        for (int i = 0; i < SPECIAL_ROOM_COUNT; i++) {
+            specialRooms.add(persist(PlaceEntity.builder()
+                    .floor(i % 4 + 1)
+                    .name("특별실" + (i + 1))
+                    .build()));
+        }
+        places.addAll(specialRooms);
+
+        BranchEntity branch = persist(BranchEntity.builder()
+                .startDay(firstDay)
+                .endDay(lastDay.plusMonths(1))
+                .afterSchoolEndDay(lastDay.plusWeeks(2))
+                .year(year)
+                .branch(1)
+                .build());
+
+        List<StudentEntity> students = new ArrayList<>();
+        for (int grade = 1; grade <= properties.getGrades(); grade++) {
+            for (int classNumber = 1; classNumber <= properties.getClassesPerGrade(); classNumber++) {
+                for (int number = 1; number <= properties.getStudentsPerClass(); number++) {
+                    students.add(persist(StudentEntity.builder()
+                            .year(year)
+                            .grade(grade)
+                            .classNumber(classNumber)
+                            .number(number)
+                            .name(createName(random))
+                            .build()));
+                }
+            }
+        }
+
+        Map<SlotKey, SelfStudyEntity> selfStudies = new HashMap<>();
+        for (int grade = 1; grade <= properties.getGrades(); grade++) {
+            for (WeekDay weekDay : SCHOOL_DAYS) {
+                for (SchoolPeriod period : SchoolPeriod.getAfterActivityPeriod()) {
+                    selfStudies.put(new SlotKey(grade, weekDay, period), persist(SelfStudyEntity.builder()
+                            .branch(branch)
+                            .weekDay(weekDay)
+                            .period(period)
+                            .grade(grade)
+                            .build()));
+                }
+            }
+        }
+
+        Map<StudentSlotKey, AfterSchoolEntity> afterSchoolsByStudent = createAfterSchools(teachers, specialRooms, branch, students, year, random);
+
+        entityManager.flush();
+        entityManager.clear();
+        return new School(teachers, places, specialRooms, classrooms, students, selfStudies, afterSchoolsByStudent);
+    }
+
+    // 같은 학년, 요일, 교시의 방과후끼리는 수강생이 겹치지 않도록 학년별 학생을 섞어 차례로 나눠준다
+    private Map<StudentSlotKey, AfterSchoolEntity> createAfterSchools(List<TeacherEntity> teachers, List<PlaceEntity> specialRooms,
+                                                                      BranchEntity branch, List<StudentEntity> students,
+                                                                      int year, Random random) {
+        Map<SlotKey, Deque<StudentEntity>> studentPools = new HashMap<>();
+        Map<StudentSlotKey, AfterSchoolEntity> afterSchoolsByStudent = new HashMap<>();
+        int slotCount = SCHOOL_DAYS.size() * AFTER_SCHOOL_PERIODS.size();
+
+        for (int i = 0; i < properties.getAfterSchools(); i++) {
+            int grade = i % properties.getGrades() + 1;
+            int slot = (i / properties.getGrades()) % slotCount;
+            WeekDay weekDay = SCHOOL_DAYS.get(slot / AFTER_SCHOOL_PERIODS.size());
+            SchoolPeriod period = AFTER_SCHOOL_PERIODS.get(slot % AFTER_SCHOOL_PERIODS.size());
+
+            AfterSchoolEntity afterSchool = persist(AfterSchoolEntity.builder()
+                    .teacher(teachers.get(i % teachers.size()))
+                    .branch(branch)
+                    .place(specialRooms.get(i % specialRooms.size()))
+                    .weekDay(weekDay)
+                    .period(period)
+                    .year(year)
+                    .name("방과후" + (i + 1))
+                    .grade(grade)
+                    .build());
+
+            Deque<StudentEntity> pool = studentPools.computeIfAbsent(new SlotKey(grade, weekDay, period), key -> {
+                List<StudentEntity> gradeStudents = new ArrayList<>(students.stream()
+                        .filter(student -> student.getGrade() == key.grade())
+                        .toList());
+                Collections.shuffle(gradeStudents, random);
+                return new ArrayDeque<>(gradeStudents);
+            });
+            for (int j = 0; j < properties.getAfterSchoolStudents() && !pool.isEmpty(); j++) {
+                StudentEntity student = pool.poll();
+                persist(AfterSchoolStudentEntity.builder()
+                        .afterSchool(afterSchool)
+                        .student(student)
+                        .build());
+                afterSchoolsByStudent.put(new StudentSlotKey(student.getId(), weekDay, period), afterSchool);
+            }
+        }
+
+        return afterSchoolsByStudent;
+    }
+
+    private int createDay(School school, LocalDate day, Random random) {
+        WeekDay weekDay = WeekDay.fromLocalDate(day);
+        List<StudentEntity> students = school.students();
+
+        for (SchoolPeriod period : SchoolPeriod.getAfterActivityPeriod()) {
+            StudentScheduleEntity[] studentSchedules = new StudentScheduleEntity[students.size()];
+            int[] stackOrders = new int[students.size()];
+
+            // 자습 -> 방과후 순서로 스택을 쌓는다
+            for (int i = 0; i < students.size(); i++) {
+                StudentEntity student = students.get(i);
+                StudentScheduleEntity studentSchedule = persist(StudentScheduleEntity.builder()
+                        .student(student)
+                        .day(day)
+                        .period(period)
+                        .build());
+                studentSchedules[i] = studentSchedule;
+
+                ScheduleEntity selfStudySchedule = persist(ScheduleEntity.createNewStudentSchedule(studentSchedule, stackOrders[i]++, ScheduleType.SELF_STUDY));
+                persist(SelfStudyScheduleEntity.builder()
+                        .schedule(selfStudySchedule)
+                        .place(school.classrooms().get(new ClassKey(student.getGrade(), student.getClassNumber())))
+                        .selfStudy(school.selfStudies().get(new SlotKey(student.getGrade(), weekDay, period)))
+                        .build());
+
+                AfterSchoolEntity afterSchool = school.afterSchoolsByStudent().get(new StudentSlotKey(student.getId(), weekDay, period));
+                if (afterSchool != null) {
+                    ScheduleEntity afterSchoolSchedule = persist(ScheduleEntity.createNewStudentSchedule(studentSchedule, stackOrders[i]++, ScheduleType.AFTER_SCHOOL));
+                    persist(AfterSchoolScheduleEntity.builder()
+                            .schedule(afterSchoolSchedule)
+                            .afterSchool(afterSchool)
+                            .build());
+                }
+            }
+
+            if (AFTER_SCHOOL_PERIODS.contains(period)) {
+                createLeaveSeats(school, day, period, studentSchedules, stackOrders, random);
+            }
+        }
+
+        createSupervisionSchedules(school, day, random);
+
+        entityManager.flush();
+        entityManager.clear();
+        return students.size() * SchoolPeriod.getAfterActivityPeriod().size();
+    }
+
+    private void createLeaveSeats(School school, LocalDate day, SchoolPeriod period,
+                                  StudentScheduleEntity[] studentSchedules, int[] stackOrders, Random random) {
+        for (int i = 0; i < properties.getLeaveSeatsPerPeriod(); i++) {
+            LeaveSeatEntity leaveSeat = persist(LeaveSeatEntity.builder()
+                    .teacher(pick(school.teachers(), random))
+                    .place(pick(school.specialRooms(), random))
+                    .day(day)
+                    .period(period)
+                    .cause("동아리 활동")
+                    .build());
+
+            Set<Integer> studentIndexes = new LinkedHashSet<>();
+            while (studentIndexes.size() < Math.min(LEAVE_SEAT_STUDENT_COUNT, studentSchedules.length)) {
+                studentIndexes.add(random.nextInt(studentSchedules.length));
+            }
+            for (int index : studentIndexes) {
+                StudentScheduleEntity studentSchedule = studentSchedules[index];
+                persist(LeaveSeatStudentEntity.builder()
+                        .leaveSeat(leaveSeat)
+                        .student(studentSchedule.getStudent())
+                        .build());
+                ScheduleEntity schedule = persist(ScheduleEntity.createNewStudentSchedule(studentSchedule, stackOrders[index]++, ScheduleType.LEAVE_SEAT));
+                persist(LeaveSeatScheduleEntity.builder()
+                        .schedule(schedule)
+                        .leaveSeat(leaveSeat)
+                        .build());
+            }
+        }
+    }
+
+    // 7교시 감독 1명, 자습/이석 감독은 8~9교시와 10~11교시를 한 교사가 이어서 맡는다
+    private void createSupervisionSchedules(School school, LocalDate day, Random random) {
+        persist(SupervisionScheduleEntity.builder()
+                .teacher(pick(school.teachers(), random))
+                .day(day)
+                .period(SchoolPeriod.SEVEN_PERIOD)
+                .type(SupervisionType.SEVENTH_PERIOD_SUPERVISION)
+                .build());
+
+        for (SupervisionType type : List.of(SupervisionType.SELF_STUDY_SUPERVISION, SupervisionType.LEAVE_SEAT_SUPERVISION)) {
+            TeacherEntity teacher = pick(school.teachers(), random);
+            for (SchoolPeriod period : AFTER_SCHOOL_PERIODS) {
+                persist(SupervisionScheduleEntity.builder()
+                        .teacher(teacher)
+                        .day(day)
+                        .period(period)
+                        .type(type)
+                        .build());
+            }
+        }
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        if (++persistCount % FLUSH_SIZE == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return entity;
+    }
+
+    private String createName(Random random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)] + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    private <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private boolean isSchoolDay(LocalDate day) {
+        return day.getDayOfWeek().compareTo(DayOfWeek.THURSDAY) <= 0;
+    }
+
+    private LocalDate lastSchoolDay(LocalDate today) {
+        return IntStream.range(0, 7)
+                .mapToObj(today::minusDays)
+                .filter(this::isSchoolDay)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private record School(
+            List<TeacherEntity> teachers,
+            List<PlaceEntity> places,
+            List<PlaceEntity> specialRooms,
+            Map<ClassKey, PlaceEntity> classrooms,
+            List<StudentEntity> students,
+            Map<SlotKey, SelfStudyEntity> selfStudies,
+            Map<StudentSlotKey, AfterSchoolEntity> afterSchoolsByStudent
+    ) {
+    }
+
+    private record ClassKey(int grade, int classNumber) {
+    }
+
+    private record SlotKey(int grade, WeekDay weekDay, SchoolPeriod period) {
+    }
+
+    private record StudentSlotKey(Long studentId, WeekDay weekDay, SchoolPeriod period) {
+    }
+}
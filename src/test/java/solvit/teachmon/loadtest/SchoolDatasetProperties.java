@@ -0,0 +1,39 @@
+package solvit.teachmon.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "loadtest.school")
+public class SchoolDatasetProperties {
+    // 같은 seed 면 같은 데이터가 만들어진다
+    private final long seed;
+    private final int grades;
+    private final int classesPerGrade;
+    private final int studentsPerClass;
+    private final int teachers;
+    private final int afterSchools;
+    // 방과후 하나의 수강생 수
+    private final int afterSchoolStudents;
+    // 8~9교시, 10~11교시마다 만드는 이석 수
+    private final int leaveSeatsPerPeriod;
+    // 오늘이 속한 주까지 쌓는 스케줄 이력 주 수
+    private final int weeks;
+
+    public SchoolDatasetProperties(@DefaultValue("20260302") long seed, @DefaultValue("3") int grades,
+                                   @DefaultValue("10") int classesPerGrade, @DefaultValue("35") int studentsPerClass,
+                                   @DefaultValue("80") int teachers, @DefaultValue("150") int afterSchools,
+                                   @DefaultValue("15") int afterSchoolStudents, @DefaultValue("10") int leaveSeatsPerPeriod,
+                                   @DefaultValue("18") int weeks) {
+        this.seed = seed;
+        this.grades = grades;
+        this.classesPerGrade = classesPerGrade;
+        this.studentsPerClass = studentsPerClass;
+        this.teachers = teachers;
+        this.afterSchools = afterSchools;
+        this.afterSchoolStudents = afterSchoolStudents;
+        this.leaveSeatsPerPeriod = leaveSeatsPerPeriod;
+        this.weeks = weeks;
+    }
+}